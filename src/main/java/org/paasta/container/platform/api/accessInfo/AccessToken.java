@@ -2,6 +2,8 @@ package org.paasta.container.platform.api.accessInfo;
 
 import lombok.Data;
 
+import org.paasta.container.platform.api.common.model.CommonResultModel;
+
 /**
  * Access Token Model 클래스
  *
@@ -10,7 +12,7 @@ import lombok.Data;
  * @since 2020.09.29
  */
 @Data
-public class AccessToken {
+public class AccessToken implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -2,6 +2,8 @@ package org.paasta.container.platform.api.adminToken;
 
 import lombok.Data;
 
+import org.paasta.container.platform.api.common.model.CommonResultModel;
+
 /**
  * Admin Token Model 클래스
  *
@@ -10,7 +12,7 @@ import lombok.Data;
  * @since 2020.08.31
  */
 @Data
-public class AdminToken {
+public class AdminToken implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
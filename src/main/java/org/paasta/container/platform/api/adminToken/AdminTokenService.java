@@ -40,6 +40,9 @@ public class AdminTokenService {
         adminToken.setTokenName(Constants.TOKEN_KEY);
         adminToken.setTokenValue(bearerToken);
 
-        return restTemplateService.send(Constants.TARGET_COMMON_API, "/adminToken", HttpMethod.POST, adminToken, AdminToken.class);
+        AdminToken resultAdminToken = restTemplateService.send(Constants.TARGET_COMMON_API, "/adminToken", HttpMethod.POST, adminToken, AdminToken.class);
+        restTemplateService.invalidateAdminToken();
+
+        return resultAdminToken;
     }
 }
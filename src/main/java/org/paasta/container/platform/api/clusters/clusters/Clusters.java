@@ -2,6 +2,8 @@ package org.paasta.container.platform.api.clusters.clusters;
 
 import lombok.Data;
 
+import org.paasta.container.platform.api.common.model.CommonResultModel;
+
 /**
  * Clusters Model 클래스
  *
@@ -10,7 +12,7 @@ import lombok.Data;
  * @since 2020.11.04
  **/
 @Data
-public class Clusters {
+public class Clusters implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
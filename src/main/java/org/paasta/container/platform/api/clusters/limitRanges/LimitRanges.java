@@ -4,6 +4,8 @@ import lombok.Data;
 
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonNextActionModel;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 /**
  * LimitRanges Model 클래스
@@ -13,7 +15,7 @@ import org.paasta.container.platform.api.common.model.CommonMetaData;
  * @since 2020.10.22
  */
 @Data
-public class LimitRanges {
+public class LimitRanges implements CommonResultModel, CommonNextActionModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
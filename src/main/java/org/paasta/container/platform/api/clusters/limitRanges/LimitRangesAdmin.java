@@ -3,6 +3,7 @@ package org.paasta.container.platform.api.clusters.limitRanges;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.paasta.container.platform.api.clusters.limitRanges.support.LimitRangesItem;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonSpec;
 import java.util.List;
 
@@ -13,7 +14,7 @@ import java.util.List;
  * @version 1.0
  * @since 2020.10.22
  */
-public class LimitRangesAdmin {
+public class LimitRangesAdmin implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
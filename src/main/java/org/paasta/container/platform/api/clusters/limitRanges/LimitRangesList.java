@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import org.paasta.container.platform.api.clusters.limitRanges.support.LimitRangesItem;
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonSpec;
 
 import java.util.List;
@@ -16,7 +17,7 @@ import java.util.List;
  * @since 2020.10.26
  **/
 @Data
-public class LimitRangesList {
+public class LimitRangesList implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonSpec;
 
 import java.util.List;
@@ -17,7 +18,7 @@ import java.util.Map;
  * @since 2020.10.22
  */
 @Data
-public class LimitRangesListAdmin {
+public class LimitRangesListAdmin implements CommonResultModel {
 
     private String resultCode;
     private String resultMessage;
@@ -6,6 +6,8 @@ import lombok.Data;
 
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonNextActionModel;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonSpec;
 import org.paasta.container.platform.api.common.model.CommonStatus;
 
@@ -17,7 +19,7 @@ import org.paasta.container.platform.api.common.model.CommonStatus;
  * @since 2020.09.02
  */
 @Data
-public class Namespaces {
+public class Namespaces implements CommonResultModel, CommonNextActionModel {
 
     private String resultCode;
     private String resultMessage;
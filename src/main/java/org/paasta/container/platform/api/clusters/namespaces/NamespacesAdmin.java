@@ -7,6 +7,7 @@ import lombok.Data;
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonAnnotations;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonSpec;
 import org.paasta.container.platform.api.common.model.CommonStatus;
 
@@ -20,7 +21,7 @@ import java.util.List;
  * @since 2020.09.02
  */
 @Data
-public class NamespacesAdmin {
+public class NamespacesAdmin implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
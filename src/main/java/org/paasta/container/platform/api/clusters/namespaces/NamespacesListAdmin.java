@@ -9,6 +9,7 @@ import lombok.Data;
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonSpec;
 import org.paasta.container.platform.api.common.model.CommonStatus;
 
@@ -20,7 +21,7 @@ import org.paasta.container.platform.api.common.model.CommonStatus;
  * @since 2020.10.14
  */
 @Data
-public class NamespacesListAdmin {
+public class NamespacesListAdmin implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -125,19 +125,14 @@ public class NamespacesService {
      * @return the namespaces admin list
      */
     public Object getNamespacesListAdmin(int offset, int limit, String orderBy, String order, String searchName) {
-        HashMap responseMap = null;
+        Object response = restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API,
+                propertyService.getCpMasterApiListNamespacesListUrl() + commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_CLUSTER), NamespacesListAdmin.class);
 
-        Object response = restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API,
-                propertyService.getCpMasterApiListNamespacesListUrl() + commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_CLUSTER)
-                , HttpMethod.GET, null, Map.class);
-
-        try {
-            responseMap = (HashMap) response;
-        } catch (Exception e) {
+        if (!(response instanceof NamespacesListAdmin)) {
             return response;
         }
 
-        NamespacesListAdmin namespacesListAdmin = commonService.setResultObject(responseMap, NamespacesListAdmin.class);
+        NamespacesListAdmin namespacesListAdmin = (NamespacesListAdmin) response;
         namespacesListAdmin = commonService.resourceListProcessing(namespacesListAdmin, offset, limit, orderBy, order, searchName, NamespacesListAdmin.class);
 
         return commonService.setResultModel(namespacesListAdmin, Constants.RESULT_STATUS_SUCCESS);
@@ -2,6 +2,7 @@ package org.paasta.container.platform.api.clusters.namespaces;
 
 import lombok.Data;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonSpec;
 import org.paasta.container.platform.api.common.model.CommonStatus;
 
@@ -15,7 +16,7 @@ import java.util.Map;
  * @since 2020.09.02
  */
 @Data
-public class NamespacesYaml {
+public class NamespacesYaml implements CommonResultModel {
 
     private String resultCode;
     private String resultMessage;
@@ -7,6 +7,8 @@ import lombok.Data;
 import org.paasta.container.platform.api.clusters.nodes.support.NodesStatus;
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonNextActionModel;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonSpec;
 
 /**
@@ -17,7 +19,7 @@ import org.paasta.container.platform.api.common.model.CommonSpec;
  * @since 2020.09.01
  */
 @Data
-public class Nodes {
+public class Nodes implements CommonResultModel, CommonNextActionModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -12,6 +12,7 @@ import org.paasta.container.platform.api.clusters.nodes.support.NodesSystemInfo;
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonAnnotations;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonSpec;
 
 /**
@@ -22,7 +23,7 @@ import org.paasta.container.platform.api.common.model.CommonSpec;
  * @since 2020.09.01
  */
 @Data
-public class NodesAdmin {
+public class NodesAdmin implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -4,6 +4,7 @@ import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiImplicitParam;
 import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
+import org.paasta.container.platform.api.common.Constants;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 import springfox.documentation.annotations.ApiIgnore;
@@ -70,6 +71,28 @@ public class NodesController {
     }
 
 
+    /**
+     * Nodes 사용량, 할당량 요약 조회(Get Nodes usage and allocation summary)
+     *
+     * @param cluster the cluster
+     * @param isAdmin the isAdmin
+     * @return the nodes summary list
+     */
+    @ApiOperation(value = "Nodes 사용량, 할당량 요약 조회(Get Nodes usage and allocation summary)", nickname = "getNodesSummary")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "cluster", value = "클러스터 명", required = true, dataType = "string", paramType = "path")
+    })
+    @GetMapping(value = "/summary")
+    public Object getNodesSummary(@PathVariable(value = "cluster") String cluster,
+                                  @ApiIgnore @RequestParam(required = false, name = "isAdmin") boolean isAdmin) {
+        if (isAdmin) {
+            return nodesService.getNodesSummaryAdmin();
+        }
+
+        return Constants.FORBIDDEN_ACCESS_RESULT_STATUS;
+    }
+
+
     /**
      * Nodes 상세 조회(Get Nodes detail)
      *
@@ -2,6 +2,7 @@ package org.paasta.container.platform.api.clusters.nodes;
 
 import lombok.Data;
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,7 +15,7 @@ import java.util.List;
  * @since 2020.09.01
  */
 @Data
-public class NodesList {
+public class NodesList implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
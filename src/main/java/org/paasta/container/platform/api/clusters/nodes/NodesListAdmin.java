@@ -11,6 +11,7 @@ import org.paasta.container.platform.api.common.Constants;
 import org.paasta.container.platform.api.common.model.CommonCondition;
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonStatus;
 
 /**
@@ -21,7 +22,7 @@ import org.paasta.container.platform.api.common.model.CommonStatus;
  * @since 2020.09.01
  */
 @Data
-public class NodesListAdmin {
+public class NodesListAdmin implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -1,15 +1,20 @@
 package org.paasta.container.platform.api.clusters.nodes;
 
+import com.google.gson.Gson;
 import org.paasta.container.platform.api.common.CommonService;
 import org.paasta.container.platform.api.common.Constants;
 import org.paasta.container.platform.api.common.PropertyService;
 import org.paasta.container.platform.api.common.RestTemplateService;
+import org.paasta.container.platform.api.common.cache.RefreshAheadCache;
+import org.paasta.container.platform.api.metrics.NodesMetric;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Nodes Service 클래스
@@ -20,9 +25,15 @@ import java.util.Map;
  */
 @Service
 public class NodesService {
+    private static final String NODES_SUMMARY_KEY = "all";
+    private static final String NODES_READY_KEY = "all";
+
     private final RestTemplateService restTemplateService;
     private final CommonService commonService;
     private final PropertyService propertyService;
+    private final Gson gson;
+    private final RefreshAheadCache<String, NodesSummaryList> nodesSummaryCache;
+    private final RefreshAheadCache<String, Map<String, String>> nodesReadyCache;
 
     /**
      * Instantiates a new Nodes service
@@ -30,13 +41,20 @@ public class NodesService {
      * @param restTemplateService the rest template service
      * @param commonService       the common service
      * @param propertyService     the property service
+     * @param gson                the gson
+     * @param nodesSummaryCache   the nodes summary cache
+     * @param nodesReadyCache     the nodes ready cache
      */
     @Autowired
     public NodesService(RestTemplateService restTemplateService, CommonService commonService,
-                        PropertyService propertyService) {
+                        PropertyService propertyService, Gson gson, RefreshAheadCache<String, NodesSummaryList> nodesSummaryCache,
+                        RefreshAheadCache<String, Map<String, String>> nodesReadyCache) {
         this.restTemplateService = restTemplateService;
         this.commonService = commonService;
         this.propertyService = propertyService;
+        this.gson = gson;
+        this.nodesSummaryCache = nodesSummaryCache;
+        this.nodesReadyCache = nodesReadyCache;
     }
 
 
@@ -132,4 +150,57 @@ public class NodesService {
         return commonService.setResultModel(nodesAdmin,Constants.RESULT_STATUS_SUCCESS);
     }
 
+    /**
+     * Nodes 사용량, 할당량 요약 조회(Get Nodes usage and allocation summary)
+     * (Admin Portal)
+     *
+     * @return the nodes summary list
+     */
+    public Object getNodesSummaryAdmin() {
+        return commonService.setResultModel(nodesSummaryCache.get(NODES_SUMMARY_KEY, key -> loadNodesSummary()), Constants.RESULT_STATUS_SUCCESS);
+    }
+
+    /**
+     * Node 명별 "Ready" 상태 조회(Get the "Ready" condition status by node name)
+     * (Admin Portal)
+     *
+     * Node 목록 1회로 전체 Node 의 상태를 구하며, 요청 간에 짧은 TTL 로 공유한다.
+     * (Resolved for every node from one node list and shared across requests for a short TTL.)
+     *
+     * @return the map of node name to "Ready" status
+     */
+    public Map<String, String> getNodesReadyAdmin() {
+        return nodesReadyCache.get(NODES_READY_KEY, key -> loadNodesReady());
+    }
+
+    private Map<String, String> loadNodesReady() {
+        NodesSummaryCalculator calculator = new NodesSummaryCalculator(gson);
+        restTemplateService.sendAdminForReader(Constants.TARGET_CP_MASTER_API, propertyService.getCpMasterApiListNodesListUrl(), calculator::addNodes);
+
+        return calculator.getSummaries().stream()
+                .filter(summary -> summary.getReady() != null)
+                .collect(Collectors.toMap(NodesSummary::getName, NodesSummary::getReady));
+    }
+
+    /**
+     * Node 목록, 전체 Pod 목록, Node metrics 로 요약 계산(Compute the summary from the node list, all pods and node metrics)
+     *
+     * @return the nodes summary list
+     */
+    private NodesSummaryList loadNodesSummary() {
+        NodesSummaryCalculator calculator = new NodesSummaryCalculator(gson);
+
+        restTemplateService.sendAdminForReader(Constants.TARGET_CP_MASTER_API, propertyService.getCpMasterApiListNodesListUrl(), calculator::addNodes);
+        restTemplateService.sendAdminForReader(Constants.TARGET_CP_MASTER_API, propertyService.getCpMasterApiListPodsListAllNamespacesUrl(), calculator::addPods);
+
+        Object nodesMetric = restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, Constants.URI_METRIC_API_NODES, NodesMetric.class);
+        if (nodesMetric instanceof NodesMetric) {
+            calculator.addNodesMetric((NodesMetric) nodesMetric);
+        }
+
+        NodesSummaryList nodesSummaryList = new NodesSummaryList();
+        nodesSummaryList.setGeneratedAt(Instant.now().toString());
+        nodesSummaryList.setItems(calculator.getSummaries());
+        return nodesSummaryList;
+    }
 }
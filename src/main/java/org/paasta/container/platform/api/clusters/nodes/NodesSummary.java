@@ -0,0 +1,36 @@
+package org.paasta.container.platform.api.clusters.nodes;
+
+import lombok.Data;
+
+/**
+ * Nodes Summary Model 클래스
+ *
+ * CPU 는 millicore, Memory 는 byte 단위이며 사용률(%)은 allocatable 대비 값이다. metrics 가 없으면 사용량은 null 이다.
+ * (CPU in millicores, memory in bytes, percentages against allocatable. Usage is null when there are no metrics.)
+ *
+ * @version 1.0
+ */
+@Data
+public class NodesSummary {
+    private String name;
+    private String ready;
+
+    private int podCount;
+    private long podCapacity;
+
+    private long cpuAllocatable;
+    private long cpuRequests;
+    private long cpuLimits;
+    private Long cpuUsage;
+    private Integer cpuRequestsPercent;
+    private Integer cpuLimitsPercent;
+    private Integer cpuUsagePercent;
+
+    private long memoryAllocatable;
+    private long memoryRequests;
+    private long memoryLimits;
+    private Long memoryUsage;
+    private Integer memoryRequestsPercent;
+    private Integer memoryLimitsPercent;
+    private Integer memoryUsagePercent;
+}
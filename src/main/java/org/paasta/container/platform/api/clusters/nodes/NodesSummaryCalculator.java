@@ -0,0 +1,316 @@
+package org.paasta.container.platform.api.clusters.nodes;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import org.paasta.container.platform.api.metrics.MetricsQuantity;
+import org.paasta.container.platform.api.metrics.NodesMetric;
+import org.paasta.container.platform.api.metrics.NodesUsage;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Nodes Summary Calculator 클래스
+ *
+ * Node, Pod 목록 응답을 항목 단위로 한 번씩 순회하며 필요한 필드만 읽어 Node 별 requests/limits 합계, Pod 수,
+ * metrics 사용량을 allocatable 과 함께 집계한다. 목록 전체를 모델로 변환하지 않는다.
+ * (Walks the node and pod list responses once, item by item, reading only the fields it needs, and sums
+ * requests/limits, pod counts and metrics usage per node against allocatable. The lists are never decoded whole.)
+ *
+ * Pod 의 유효 requests/limits 는 kubectl describe node 와 같이 max(container 합계, init container 최대값)이며
+ * 종료된(Succeeded, Failed) Pod 는 제외한다.
+ * (A pod's effective requests/limits are max(sum of containers, largest init container), as in kubectl describe node;
+ * terminated pods are skipped.)
+ *
+ * @version 1.0
+ */
+final class NodesSummaryCalculator {
+
+    private static final String ITEMS = "items";
+    private static final String CPU = "cpu";
+    private static final String MEMORY = "memory";
+    private static final String PODS = "pods";
+    private static final String CONDITION_READY = "Ready";
+    private static final String PHASE_SUCCEEDED = "Succeeded";
+    private static final String PHASE_FAILED = "Failed";
+    private static final long MICRO_PER_MILLI = 1000L;
+    private static final long BYTES_PER_KIB = 1024L;
+
+    private final Gson gson;
+    private final Map<String, NodeTotals> totals = new TreeMap<>();
+
+    NodesSummaryCalculator(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * Node 목록 응답 반영(Read a node list response)
+     *
+     * @param reader the reader
+     * @return this calculator
+     */
+    NodesSummaryCalculator addNodes(Reader reader) {
+        forEachItem(reader, NodeSource.class, node -> {
+            if (node.metadata == null || node.metadata.name == null) {
+                return;
+            }
+            NodeTotals nodeTotals = totalsOf(node.metadata.name);
+            nodeTotals.listed = true;
+
+            if (node.status != null) {
+                if (node.status.allocatable != null) {
+                    nodeTotals.cpuAllocatable = quantity(node.status.allocatable.get(CPU), true);
+                    nodeTotals.memoryAllocatable = quantity(node.status.allocatable.get(MEMORY), false);
+                    nodeTotals.podCapacity = parseLong(node.status.allocatable.get(PODS));
+                }
+                if (node.status.conditions != null) {
+                    for (ConditionSource condition : node.status.conditions) {
+                        if (CONDITION_READY.equals(condition.type)) {
+                            nodeTotals.ready = condition.status;
+                        }
+                    }
+                }
+            }
+        });
+        return this;
+    }
+
+    /**
+     * 전체 Pod 목록 응답 반영(Read an all-namespaces pod list response)
+     *
+     * @param reader the reader
+     * @return this calculator
+     */
+    NodesSummaryCalculator addPods(Reader reader) {
+        forEachItem(reader, PodSource.class, pod -> {
+            if (pod.spec == null || pod.spec.nodeName == null || pod.spec.nodeName.isEmpty()) {
+                return;
+            }
+            if (pod.status != null && (PHASE_SUCCEEDED.equals(pod.status.phase) || PHASE_FAILED.equals(pod.status.phase))) {
+                return;
+            }
+
+            NodeTotals nodeTotals = totalsOf(pod.spec.nodeName);
+            nodeTotals.podCount++;
+            nodeTotals.cpuRequests += effective(pod.spec, true, true);
+            nodeTotals.cpuLimits += effective(pod.spec, false, true);
+            nodeTotals.memoryRequests += effective(pod.spec, true, false);
+            nodeTotals.memoryLimits += effective(pod.spec, false, false);
+        });
+        return this;
+    }
+
+    /**
+     * Node metrics 반영(Add node metrics usage)
+     *
+     * @param nodesMetric the nodes metric
+     * @return this calculator
+     */
+    NodesSummaryCalculator addNodesMetric(NodesMetric nodesMetric) {
+        if (nodesMetric == null || nodesMetric.getItems() == null) {
+            return this;
+        }
+
+        for (NodesUsage nodesUsage : nodesMetric.getItems()) {
+            if (nodesUsage.getMetadata() == null || nodesUsage.getUsage() == null) {
+                continue;
+            }
+            NodeTotals nodeTotals = totals.get(nodesUsage.getMetadata().getName());
+            if (nodeTotals == null) {
+                continue;
+            }
+
+            long cpu = MetricsQuantity.parseCpuMicroCoresLong(nodesUsage.getUsage().getCpu());
+            long memory = MetricsQuantity.parseMemoryKiBLong(nodesUsage.getUsage().getMemory());
+            nodeTotals.cpuUsage = cpu == MetricsQuantity.UNKNOWN ? null : cpu;
+            nodeTotals.memoryUsage = memory == MetricsQuantity.UNKNOWN ? null : memory;
+        }
+        return this;
+    }
+
+    /**
+     * Node 목록에 있는 Node 의 요약, 이름 순(Summaries of the listed nodes, by name)
+     *
+     * @return the list
+     */
+    List<NodesSummary> getSummaries() {
+        List<NodesSummary> summaries = new ArrayList<>(totals.size());
+
+        for (Map.Entry<String, NodeTotals> entry : totals.entrySet()) {
+            NodeTotals nodeTotals = entry.getValue();
+            if (!nodeTotals.listed) {
+                continue;
+            }
+
+            NodesSummary summary = new NodesSummary();
+            summary.setName(entry.getKey());
+            summary.setReady(nodeTotals.ready);
+            summary.setPodCount(nodeTotals.podCount);
+            summary.setPodCapacity(nodeTotals.podCapacity);
+
+            summary.setCpuAllocatable(nodeTotals.cpuAllocatable / MICRO_PER_MILLI);
+            summary.setCpuRequests(nodeTotals.cpuRequests / MICRO_PER_MILLI);
+            summary.setCpuLimits(nodeTotals.cpuLimits / MICRO_PER_MILLI);
+            summary.setCpuUsage(nodeTotals.cpuUsage == null ? null : nodeTotals.cpuUsage / MICRO_PER_MILLI);
+            summary.setCpuRequestsPercent(percent(nodeTotals.cpuRequests, nodeTotals.cpuAllocatable));
+            summary.setCpuLimitsPercent(percent(nodeTotals.cpuLimits, nodeTotals.cpuAllocatable));
+            summary.setCpuUsagePercent(nodeTotals.cpuUsage == null ? null : percent(nodeTotals.cpuUsage, nodeTotals.cpuAllocatable));
+
+            summary.setMemoryAllocatable(nodeTotals.memoryAllocatable * BYTES_PER_KIB);
+            summary.setMemoryRequests(nodeTotals.memoryRequests * BYTES_PER_KIB);
+            summary.setMemoryLimits(nodeTotals.memoryLimits * BYTES_PER_KIB);
+            summary.setMemoryUsage(nodeTotals.memoryUsage == null ? null : nodeTotals.memoryUsage * BYTES_PER_KIB);
+            summary.setMemoryRequestsPercent(percent(nodeTotals.memoryRequests, nodeTotals.memoryAllocatable));
+            summary.setMemoryLimitsPercent(percent(nodeTotals.memoryLimits, nodeTotals.memoryAllocatable));
+            summary.setMemoryUsagePercent(nodeTotals.memoryUsage == null ? null : percent(nodeTotals.memoryUsage, nodeTotals.memoryAllocatable));
+
+            summaries.add(summary);
+        }
+
+        return summaries;
+    }
+
+    /**
+     * 목록 응답의 items 배열을 항목 단위로 변환(Decode the items array of a list response one item at a time)
+     */
+    private <T> void forEachItem(Reader reader, Class<T> itemType, Consumer<T> consumer) {
+        try {
+            JsonReader jsonReader = gson.newJsonReader(reader);
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                if (!ITEMS.equals(jsonReader.nextName())) {
+                    jsonReader.skipValue();
+                    continue;
+                }
+                jsonReader.beginArray();
+                while (jsonReader.hasNext()) {
+                    consumer.accept(gson.fromJson(jsonReader, itemType));
+                }
+                jsonReader.endArray();
+            }
+            jsonReader.endObject();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private NodeTotals totalsOf(String nodeName) {
+        return totals.computeIfAbsent(nodeName, k -> new NodeTotals());
+    }
+
+    /**
+     * Pod 유효 requests/limits (micro core 또는 KiB)(Effective pod requests or limits in micro cores or KiB)
+     */
+    private static long effective(PodSpecSource spec, boolean requests, boolean cpu) {
+        long sum = 0;
+        if (spec.containers != null) {
+            for (ContainerSource container : spec.containers) {
+                sum += resource(container, requests, cpu);
+            }
+        }
+
+        long initMax = 0;
+        if (spec.initContainers != null) {
+            for (ContainerSource container : spec.initContainers) {
+                initMax = Math.max(initMax, resource(container, requests, cpu));
+            }
+        }
+
+        return Math.max(sum, initMax);
+    }
+
+    private static long resource(ContainerSource container, boolean requests, boolean cpu) {
+        if (container.resources == null) {
+            return 0;
+        }
+        Map<String, String> values = requests ? container.resources.requests : container.resources.limits;
+        return values == null ? 0 : quantity(values.get(cpu ? CPU : MEMORY), cpu);
+    }
+
+    private static long quantity(String value, boolean cpu) {
+        long parsed = cpu ? MetricsQuantity.parseCpuMicroCoresLong(value) : MetricsQuantity.parseMemoryKiBLong(value);
+        return parsed == MetricsQuantity.UNKNOWN ? 0 : parsed;
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return value == null ? 0 : Long.parseLong(value);
+        } catch (NumberFormatException exception) {
+            return 0;
+        }
+    }
+
+    private static Integer percent(long value, long allocatable) {
+        return allocatable <= 0 ? null : (int) Math.round(value * 100.0 / allocatable);
+    }
+
+
+    /**
+     * Node 별 합계(Totals of one node)
+     */
+    private static final class NodeTotals {
+        private boolean listed;
+        private String ready;
+        private int podCount;
+        private long podCapacity;
+        private long cpuAllocatable;
+        private long cpuRequests;
+        private long cpuLimits;
+        private Long cpuUsage;
+        private long memoryAllocatable;
+        private long memoryRequests;
+        private long memoryLimits;
+        private Long memoryUsage;
+    }
+
+    // 목록 항목에서 읽는 필드만 정의(only the fields read from the list items)
+
+    private static final class NodeSource {
+        private MetadataSource metadata;
+        private NodeStatusSource status;
+    }
+
+    private static final class MetadataSource {
+        private String name;
+    }
+
+    private static final class NodeStatusSource {
+        private Map<String, String> allocatable;
+        private List<ConditionSource> conditions;
+    }
+
+    private static final class ConditionSource {
+        private String type;
+        private String status;
+    }
+
+    private static final class PodSource {
+        private PodSpecSource spec;
+        private PodStatusSource status;
+    }
+
+    private static final class PodSpecSource {
+        private String nodeName;
+        private List<ContainerSource> containers;
+        private List<ContainerSource> initContainers;
+    }
+
+    private static final class PodStatusSource {
+        private String phase;
+    }
+
+    private static final class ContainerSource {
+        private ResourcesSource resources;
+    }
+
+    private static final class ResourcesSource {
+        private Map<String, String> requests;
+        private Map<String, String> limits;
+    }
+}
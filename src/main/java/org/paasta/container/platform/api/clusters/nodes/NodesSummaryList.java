@@ -0,0 +1,22 @@
+package org.paasta.container.platform.api.clusters.nodes;
+
+import lombok.Data;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
+
+import java.util.List;
+
+/**
+ * Nodes Summary List Model 클래스
+ *
+ * @version 1.0
+ */
+@Data
+public class NodesSummaryList implements CommonResultModel {
+    private String resultCode;
+    private String resultMessage;
+    private Integer httpStatusCode;
+    private String detailMessage;
+
+    private String generatedAt;
+    private List<NodesSummary> items;
+}
@@ -7,6 +7,8 @@ import org.paasta.container.platform.api.clusters.resourceQuotas.support.Resourc
 import org.paasta.container.platform.api.clusters.resourceQuotas.support.ResourceQuotasStatus;
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonNextActionModel;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 import java.util.Map;
 
@@ -18,7 +20,7 @@ import java.util.Map;
  * @since 2020.09.03
  */
 @Data
-public class ResourceQuotas {
+public class ResourceQuotas implements CommonResultModel, CommonNextActionModel {
   private String resultCode;
   private String resultMessage;
   private Integer httpStatusCode;
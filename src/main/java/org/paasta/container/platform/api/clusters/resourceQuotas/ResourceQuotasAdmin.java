@@ -12,6 +12,7 @@ import org.paasta.container.platform.api.clusters.resourceQuotas.support.Resourc
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.Constants;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 /**
  * ResourceQuotas Admin Model 클래스
@@ -21,7 +22,7 @@ import org.paasta.container.platform.api.common.model.CommonMetaData;
  * @since 2020.09.03
  */
 @Data
-public class ResourceQuotasAdmin {
+public class ResourceQuotasAdmin implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -7,6 +7,7 @@ import java.util.List;
 import lombok.Data;
 
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonSpec;
 
 /**
@@ -17,7 +18,7 @@ import org.paasta.container.platform.api.common.model.CommonSpec;
  * @since 2020.10.26
  **/
 @Data
-public class ResourceQuotasDefaultList {
+public class ResourceQuotasDefaultList implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -15,6 +15,7 @@ import org.paasta.container.platform.api.clusters.resourceQuotas.support.Resourc
 import org.paasta.container.platform.api.common.Constants;
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 /**
  * ResourceQuotas List Admin Model 클래스
@@ -24,7 +25,7 @@ import org.paasta.container.platform.api.common.model.CommonMetaData;
  * @since 2020.09.03
  */
 @Data
-public class ResourceQuotasListAdmin {
+public class ResourceQuotasListAdmin implements CommonResultModel {
 
     private String resultCode;
     private String resultMessage;
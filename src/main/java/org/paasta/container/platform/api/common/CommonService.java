@@ -1,25 +1,30 @@
 package org.paasta.container.platform.api.common;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
-import lombok.SneakyThrows;
 import org.paasta.container.platform.api.common.model.CommonAnnotations;
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonNextActionModel;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonStatusCode;
+import org.paasta.container.platform.api.common.util.FieldAccessor;
+import org.paasta.container.platform.api.common.util.KeywordMatcher;
+import org.paasta.container.platform.api.common.util.ListCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriUtils;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.stream.Collectors;
 
 /**
@@ -33,6 +38,13 @@ import java.util.stream.Collectors;
 public class CommonService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CommonService.class);
+
+    // offset, limit 기준 마지막 항목 위치가 전체의 1/4 이내이면 부분 선택 사용(use partial selection while the requested page ends within the first quarter)
+    private static final int PARTIAL_SORT_MAX_FRACTION = 4;
+    private static final String API_SERVER_LIMIT_PARAM = "limit=";
+    private static final String API_SERVER_CONTINUE_PARAM = "&continue=";
+    private static final String API_SERVER_CONTINUE = "continue";
+    private static final String API_SERVER_REMAINING_ITEM_COUNT = "remainingItemCount";
     private final Gson gson;
     private final PropertyService propertyService;
 
@@ -61,31 +73,20 @@ public class CommonService {
      * @return the result model
      */
     public Object setResultModel(Object reqObject, String resultCode) {
-        try {
-            Class<?> aClass = reqObject.getClass();
-            ObjectMapper oMapper = new ObjectMapper();
-            Map map = oMapper.convertValue(reqObject, Map.class);
-
-            Method methodSetResultCode = aClass.getMethod("setResultCode", String.class);
-            Method methodSetResultMessage = aClass.getMethod("setResultMessage", String.class);
-            Method methodSetHttpStatusCode = aClass.getMethod("setHttpStatusCode", Integer.class);
-            Method methodSetDetailMessage = aClass.getMethod("setDetailMessage", String.class);
-
-            if (Constants.RESULT_STATUS_FAIL.equals(map.get("resultCode"))) {
-                methodSetResultCode.invoke(reqObject, map.get("resultCode"));
-            } else {
-                methodSetResultCode.invoke(reqObject, resultCode);
-                methodSetResultMessage.invoke(reqObject, CommonStatusCode.OK.getMsg());
-                methodSetHttpStatusCode.invoke(reqObject, CommonStatusCode.OK.getCode());
-                methodSetDetailMessage.invoke(reqObject, CommonStatusCode.OK.getMsg());
-            }
+        if (!(reqObject instanceof CommonResultModel)) {
+            LOGGER.error("Result model is not supported :: {}", reqObject == null ? null : reqObject.getClass().getName());
+            return reqObject;
+        }
 
-        } catch (NoSuchMethodException e) {
-            LOGGER.error("NoSuchMethodException :: {}", e);
-        } catch (IllegalAccessException e1) {
-            LOGGER.error("IllegalAccessException :: {}", e1);
-        } catch (InvocationTargetException e2) {
-            LOGGER.error("InvocationTargetException :: {}", e2);
+        CommonResultModel resultModel = (CommonResultModel) reqObject;
+
+        if (Constants.RESULT_STATUS_FAIL.equals(resultModel.getResultCode())) {
+            resultModel.setResultCode(Constants.RESULT_STATUS_FAIL);
+        } else {
+            resultModel.setResultCode(resultCode);
+            resultModel.setResultMessage(CommonStatusCode.OK.getMsg());
+            resultModel.setHttpStatusCode(CommonStatusCode.OK.getCode());
+            resultModel.setDetailMessage(CommonStatusCode.OK.getMsg());
         }
 
         return reqObject;
@@ -100,30 +101,19 @@ public class CommonService {
      * @return the object
      */
     public Object setResultModelWithNextUrl(Object reqObject, String resultCode, String nextActionUrl) {
-        try {
-            Class<?> aClass = reqObject.getClass();
-            ObjectMapper oMapper = new ObjectMapper();
-            Map map = oMapper.convertValue(reqObject, Map.class);
-
-            Method methodSetResultCode = aClass.getMethod("setResultCode", String.class);
-            Method methodSetNextActionUrl = aClass.getMethod("setNextActionUrl", String.class);
-
-            if (Constants.RESULT_STATUS_FAIL.equals(map.get("resultCode"))) {
-                methodSetResultCode.invoke(reqObject, map.get("resultCode"));
-            } else {
-                methodSetResultCode.invoke(reqObject, resultCode);
-            }
+        if (!(reqObject instanceof CommonNextActionModel)) {
+            LOGGER.error("Result model is not supported :: {}", reqObject == null ? null : reqObject.getClass().getName());
+            return reqObject;
+        }
 
-            if (nextActionUrl != null) {
-                methodSetNextActionUrl.invoke(reqObject, nextActionUrl);
-            }
+        CommonNextActionModel resultModel = (CommonNextActionModel) reqObject;
+
+        if (!Constants.RESULT_STATUS_FAIL.equals(resultModel.getResultCode())) {
+            resultModel.setResultCode(resultCode);
+        }
 
-        } catch (NoSuchMethodException e) {
-            LOGGER.error("NoSuchMethodException :: {}", e);
-        } catch (IllegalAccessException e1) {
-            LOGGER.error("IllegalAccessException :: {}", e1);
-        } catch (InvocationTargetException e2) {
-            LOGGER.error("InvocationTargetException :: {}", e2);
+        if (nextActionUrl != null) {
+            resultModel.setNextActionUrl(nextActionUrl);
         }
 
         return reqObject;
@@ -198,13 +188,8 @@ public class CommonService {
      * @param obj the obj
      * @return the t
      */
-    @SneakyThrows
     public <T> T getField(String fieldName, Object obj) {
-        Field field = obj.getClass().getDeclaredField(fieldName);
-        field.setAccessible(true);
-        Object result = field.get(obj);
-        field.setAccessible(false);
-        return (T) result;
+        return FieldAccessor.get(fieldName, obj);
     }
 
     /**
@@ -215,12 +200,8 @@ public class CommonService {
      * @param value the value
      * @return the object
      */
-    @SneakyThrows
     public Object setField(String fieldName, Object obj, Object value) {
-        Field field = obj.getClass().getDeclaredField(fieldName);
-        field.setAccessible(true);
-        field.set(obj, value);
-        field.setAccessible(false);
+        FieldAccessor.set(fieldName, obj, value);
         return obj;
     }
 
@@ -228,17 +209,36 @@ public class CommonService {
     /**
      * 리소스 명 기준, 키워드가 포함된 리스트 반환 처리(return the list including keywords)
      *
+     * 검색어 형식은 KeywordMatcher 참고(see KeywordMatcher for the keyword syntax : contains, prefix, glob, label:)
+     *
      * @param commonList the commonList
      * @param keyword the keyword
      * @return the list
      */
     public <T> List<T> searchKeywordForResourceName(List<T> commonList, String keyword) {
-        List filterList = commonList.stream()
-                .filter(x -> this.<String>getField(Constants.RESOURCE_NAME,
-                        getField(Constants.RESOURCE_METADATA, x)).matches("(?i).*" + keyword + ".*"))
+        KeywordMatcher keywordMatcher = KeywordMatcher.compile(keyword);
+
+        return commonList.stream()
+                .filter(x -> matchesKeyword(keywordMatcher, x))
                 .collect(Collectors.toList());
+    }
 
-        return filterList;
+
+    /**
+     * 리소스 이름 또는 label 의 키워드 일치 여부(Whether the resource's name or labels match the keyword)
+     *
+     * @param keywordMatcher the keywordMatcher
+     * @param item the item
+     * @return the boolean
+     */
+    private boolean matchesKeyword(KeywordMatcher keywordMatcher, Object item) {
+        Object metadata = FieldAccessor.get(Constants.RESOURCE_METADATA, item);
+
+        if (keywordMatcher.isMatchLabels()) {
+            return keywordMatcher.matchesLabels(FieldAccessor.get(Constants.RESOURCE_LABELS, metadata));
+        }
+
+        return keywordMatcher.matches(FieldAccessor.get(Constants.RESOURCE_NAME, metadata));
     }
 
 
@@ -251,53 +251,148 @@ public class CommonService {
      * @return the list
      */
     public <T> List<T> sortingListByCondition(List<T> commonList, String orderBy, String order) {
+        return sortingPageByCondition(commonList, orderBy, order, 0, 0);
+    }
+
+
+    /**
+     * 리소스 생성날짜 또는 이름으로 정렬한 뒤 offset, limit 에 해당하는 page 반환 처리(order by creation time or name and return the requested page)
+     *
+     * 정렬 key 는 항목별로 한 번만 추출한다. 앞쪽 page 요청 시에는 전체 정렬 대신 필요한 개수만 bounded heap 으로 선택한다.
+     * (The sort key is extracted once per item. For the first pages only the needed items are selected
+     * with a bounded heap instead of sorting the whole list; deep pages fall back to a full sort.)
+     *
+     * @param commonList the commonList
+     * @param orderBy the orderBy
+     * @param order the order
+     * @param offset the offset
+     * @param limit the limit
+     * @return the list
+     */
+    public <T> List<T> sortingPageByCondition(List<T> commonList, String orderBy, String order, int offset, int limit) {
+
+        int fromIndex = (limit > 0) ? offset * limit : 0;
+
+        return sortingRangeByCondition(commonList, orderBy, order, fromIndex, limit);
+    }
+
 
-        List sortList = null;
+    /**
+     * 정렬 후 fromIndex 부터 limit 개 반환 처리(order and return limit items from fromIndex)
+     *
+     * @param commonList the commonList
+     * @param orderBy the orderBy
+     * @param order the order
+     * @param fromIndex the from index
+     * @param limit the limit (0 = all)
+     * @return the list
+     */
+    private <T> List<T> sortingRangeByCondition(List<T> commonList, String orderBy, String order, int fromIndex, int limit) {
+
+        String sortKeyField;
 
         orderBy = orderBy.toLowerCase();
         order = order.toLowerCase();
 
         if (orderBy.equals(Constants.RESOURCE_NAME)) {
             //리소스명 기준
+            sortKeyField = Constants.RESOURCE_NAME;
             order = (order.equals("")) ? "asc" : order;
-            if (order.equals("asc")) {
-                sortList = commonList.stream().sorted(Comparator.comparing(x -> this.<String>getField(Constants.RESOURCE_NAME,
-                        getField(Constants.RESOURCE_METADATA, x)))).collect(Collectors.toList());
-            } else {
-                sortList = commonList.stream().sorted(Comparator.comparing(x -> this.<String>getField(Constants.RESOURCE_NAME,
-                        getField(Constants.RESOURCE_METADATA, x))).reversed()).collect(Collectors.toList());
-            }
         }
-
         else if (orderBy.equals(Constants.RESOURCE_NS)) {
             // 네임스페이스명 기준
+            sortKeyField = Constants.RESOURCE_NS;
             order = (order.equals("")) ? "asc" : order;
-            if (order.equals("asc")) {
-                sortList = commonList.stream().sorted(Comparator.comparing(x -> this.<String>getField(Constants.RESOURCE_NS,
-                        getField(Constants.RESOURCE_METADATA, x)))).collect(Collectors.toList());
-            } else {
-                sortList = commonList.stream().sorted(Comparator.comparing(x -> this.<String>getField(Constants.RESOURCE_NS,
-                        getField(Constants.RESOURCE_METADATA, x))).reversed()).collect(Collectors.toList());
-            }
         }
         else {
             // 생성날짜 기준
+            sortKeyField = Constants.RESOURCE_CREATIONTIMESTAMP;
             order = (order.equals("")) ? "desc" : order;
+        }
+
+        Comparator<SortEntry<T>> keyComparator = Comparator.comparing(entry -> entry.key);
+        if (!order.equals("asc")) {
+            keyComparator = keyComparator.reversed();
+        }
+
+        // 같은 key 는 원래 순서 유지(ties keep their original order, as the stable full sort does)
+        Comparator<SortEntry<T>> comparator = keyComparator.thenComparingInt(entry -> entry.index);
 
-            if (order.equals("asc")) {
+        int size = commonList.size();
+        int toIndex = (limit > 0) ? Math.min(fromIndex + limit, size) : size;
 
-                sortList = commonList.stream().sorted(Comparator.comparing(x -> this.<String>getField(Constants.RESOURCE_CREATIONTIMESTAMP,
-                        getField(Constants.RESOURCE_METADATA, x)))).collect(Collectors.toList());
-            } else {
-                sortList = commonList.stream().sorted(Comparator.comparing(x -> this.<String>getField(Constants.RESOURCE_CREATIONTIMESTAMP,
-                        getField(Constants.RESOURCE_METADATA, x))).reversed()).collect(Collectors.toList());
+        if (fromIndex >= size) {
+            return new ArrayList<>();
+        }
+
+        List<SortEntry<T>> sortedEntries;
+
+        if (limit > 0 && (long) toIndex * PARTIAL_SORT_MAX_FRACTION <= size) {
+            sortedEntries = selectFirstEntries(commonList, sortKeyField, comparator, toIndex);
+        } else {
+            sortedEntries = new ArrayList<>(size);
+            int index = 0;
+            for (T item : commonList) {
+                sortedEntries.add(new SortEntry<>(getMetadataField(sortKeyField, item), item, index++));
             }
+            sortedEntries.sort(comparator);
+        }
+
+        List<T> sortList = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            sortList.add(sortedEntries.get(i).item);
         }
 
         return sortList;
     }
 
 
+    /**
+     * 정렬 순서상 앞쪽 count 개 항목 선택(Select the first count entries in sort order with a bounded heap)
+     *
+     * @param commonList the commonList
+     * @param sortKeyField the sortKeyField
+     * @param comparator the comparator
+     * @param count the count
+     * @return the list
+     */
+    private <T> List<SortEntry<T>> selectFirstEntries(List<T> commonList, String sortKeyField, Comparator<SortEntry<T>> comparator, int count) {
+        // 가장 뒤에 올 항목이 head 에 오도록 역순 heap 사용(the head is the entry that sorts last)
+        PriorityQueue<SortEntry<T>> heap = new PriorityQueue<>(count + 1, comparator.reversed());
+
+        int index = 0;
+        for (T item : commonList) {
+            SortEntry<T> entry = new SortEntry<>(getMetadataField(sortKeyField, item), item, index++);
+
+            if (heap.size() < count) {
+                heap.add(entry);
+            } else if (comparator.compare(entry, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+
+        List<SortEntry<T>> firstEntries = new ArrayList<>(Collections.nCopies(heap.size(), null));
+        for (int i = heap.size() - 1; i >= 0; i--) {
+            firstEntries.set(i, heap.poll());
+        }
+
+        return firstEntries;
+    }
+
+
+    /**
+     * 리소스 metadata 의 필드 값 조회(Get a field of the resource's metadata)
+     *
+     * @param fieldName the fieldName
+     * @param item the item
+     * @return the string
+     */
+    private String getMetadataField(String fieldName, Object item) {
+        return FieldAccessor.get(fieldName, FieldAccessor.get(Constants.RESOURCE_METADATA, item));
+    }
+
+
     /**
      * offset & limit 을 통한 리스트 가공 처리(sublist using offset and limit)
      *
@@ -381,22 +476,148 @@ public class CommonService {
             resourceItemList = searchKeywordForResourceName(resourceItemList, searchName);
         }
 
-        // 2. 조건에 따른 리스트 정렬
-        resourceItemList = sortingListByCondition(resourceItemList, orderBy, order);
-
-        // 3. commonItemMetaData 추가
+        // 2. commonItemMetaData 추가
         CommonItemMetaData commonItemMetaData = setCommonItemMetaData(resourceItemList, offset, limit);
         resourceReturnList = setField("itemMetaData", resourceList, commonItemMetaData);
 
 
-        // 4. offset, limit에 따른 리스트 subLIst
-        resourceItemList = subListforLimit(resourceItemList, offset, limit);
+        // 3. 조건에 따른 리스트 정렬 및 offset, limit에 따른 page 추출
+        resourceItemList = sortingPageByCondition(resourceItemList, orderBy, order, offset, limit);
         resourceReturnList = setField("items", resourceReturnList, resourceItemList);
 
         return (T) resourceReturnList;
     }
 
 
+    /**
+     * cursor 방식 paging 의 API 서버 요청 URL 생성(Add the API server paging parameters for cursor based paging)
+     *
+     * 검색어가 없고 정렬 조건이 API 서버 목록 순서(namespace, name)와 같으면 limit, continue 를 API 서버로 전달하여
+     * 요청한 page 만 조회한다. 그 외 정렬, 검색은 전체 목록이 필요하므로 URL 을 그대로 반환한다.
+     * (Without a search keyword and with a sort that equals the API server's namespace/name order, limit and continue
+     * are passed through so only the requested page is fetched. Any other sort or search needs the full list,
+     * so the url is returned unchanged.)
+     *
+     * @param reqUrl the req url
+     * @param limit the limit
+     * @param orderBy the orderBy
+     * @param order the order
+     * @param searchName the searchName
+     * @param continueToken the continue cursor, null when offset paging is used
+     * @param allNamespaces whether the list spans all namespaces
+     * @return the req url
+     */
+    public String setCursorParams(String reqUrl, int limit, String orderBy, String order, String searchName, String continueToken, boolean allNamespaces) {
+        if (continueToken == null || limit <= 0 || !isApiServerOrder(orderBy, order, searchName, allNamespaces)) {
+            return reqUrl;
+        }
+
+        ListCursor cursor = ListCursor.decode(continueToken);
+        if (cursor.getPosition() > 0 && !cursor.isApiServer()) {
+            throw new IllegalArgumentException(MessageConstant.CONTINUE_ILLEGALARGUMENT);
+        }
+
+        String pagedUrl = reqUrl + (reqUrl.indexOf('?') < 0 ? "?" : "&") + API_SERVER_LIMIT_PARAM + limit;
+        return cursor.isApiServer() ? pagedUrl + API_SERVER_CONTINUE_PARAM + UriUtils.encodeQueryParam(cursor.getApiServerContinue(), StandardCharsets.UTF_8) : pagedUrl;
+    }
+
+
+    /**
+     * Resource 목록 cursor 방식 paging 처리(Cursor based paging of a resource list)
+     *
+     * continueToken 이 null 이면 기존 offset 방식으로 처리한다. setCursorParams 로 API 서버에서 page 를 받은 경우 그대로 사용하고
+     * 다음 cursor 에 API 서버 continue token 을 담는다. 그 외에는 전체 목록을 검색, 정렬한 뒤 cursor 위치부터 limit 개를 반환한다.
+     * (A null continueToken keeps offset paging. When setCursorParams let the API server page the list, the page is used as is and
+     * the next cursor wraps the API server's continue token; otherwise the full list is searched and sorted and limit items are
+     * returned from the cursor position.)
+     *
+     * @param resourceList the resourceList
+     * @param offset the offset
+     * @param limit the limit
+     * @param orderBy the orderBy
+     * @param order the order
+     * @param searchName the searchName
+     * @param continueToken the continue cursor, null when offset paging is used
+     * @param allNamespaces whether the list spans all namespaces
+     * @param requestClass the requestClass
+     *
+     * @return the T
+     */
+    public <T> T resourceListProcessing(Object resourceList, int offset, int limit, String orderBy, String order, String searchName,
+                                        String continueToken, boolean allNamespaces, Class<T> requestClass) {
+        if (continueToken == null) {
+            return resourceListProcessing(resourceList, offset, limit, orderBy, order, searchName, requestClass);
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException(MessageConstant.CONTINUE_REQUIRES_LIMIT_ILLEGALARGUMENT);
+        }
+
+        ListCursor cursor = ListCursor.decode(continueToken);
+        List resourceItemList = getField("items", resourceList);
+        CommonItemMetaData commonItemMetaData;
+
+        if (isApiServerOrder(orderBy, order, searchName, allNamespaces)) {
+            // API 서버가 나눈 page (page already cut by the API server)
+            Object listMetadata = getField(Constants.RESOURCE_METADATA, resourceList);
+            Object apiServerContinue = (listMetadata instanceof Map) ? ((Map) listMetadata).get(API_SERVER_CONTINUE) : null;
+            Object apiServerRemaining = (listMetadata instanceof Map) ? ((Map) listMetadata).get(API_SERVER_REMAINING_ITEM_COUNT) : null;
+
+            int position = cursor.getPosition() + resourceItemList.size();
+            Integer remainingItemCount = (apiServerRemaining instanceof Number) ? ((Number) apiServerRemaining).intValue() : null;
+
+            commonItemMetaData = new CommonItemMetaData(remainingItemCount == null ? null : position + remainingItemCount, remainingItemCount);
+            if (apiServerContinue instanceof String && !((String) apiServerContinue).isEmpty()) {
+                commonItemMetaData.setContinue(ListCursor.ofApiServer(position, (String) apiServerContinue).encode());
+            }
+        } else {
+            if (cursor.isApiServer()) {
+                throw new IllegalArgumentException(MessageConstant.CONTINUE_ILLEGALARGUMENT);
+            }
+            if (searchName != null && !searchName.trim().isEmpty()) {
+                resourceItemList = searchKeywordForResourceName(resourceItemList, searchName.trim());
+            }
+
+            int allItemCount = resourceItemList.size();
+            resourceItemList = sortingRangeByCondition(resourceItemList, orderBy, order, cursor.getPosition(), limit);
+
+            int position = cursor.getPosition() + resourceItemList.size();
+            int remainingItemCount = Math.max(allItemCount - position, 0);
+
+            commonItemMetaData = new CommonItemMetaData(allItemCount, remainingItemCount);
+            if (remainingItemCount > 0) {
+                commonItemMetaData.setContinue(ListCursor.ofPosition(position).encode());
+            }
+        }
+
+        Object resourceReturnList = setField("itemMetaData", resourceList, commonItemMetaData);
+        return (T) setField("items", resourceReturnList, resourceItemList);
+    }
+
+
+    /**
+     * 요청 정렬이 API 서버 목록 순서와 같은지 확인(Whether the requested order equals the API server's namespace/name order)
+     *
+     * @param orderBy the orderBy
+     * @param order the order
+     * @param searchName the searchName
+     * @param allNamespaces whether the list spans all namespaces
+     * @return the boolean
+     */
+    private boolean isApiServerOrder(String orderBy, String order, String searchName, boolean allNamespaces) {
+        if (searchName != null && !searchName.trim().isEmpty()) {
+            return false;
+        }
+
+        String sortOrder = order.toLowerCase();
+        if (!sortOrder.equals("") && !sortOrder.equals("asc")) {
+            return false;
+        }
+
+        String sortKey = orderBy.toLowerCase();
+        return allNamespaces ? sortKey.equals(Constants.RESOURCE_NS) : sortKey.equals(Constants.RESOURCE_NAME);
+    }
+
+
     /**
      * selector 에 의한 리스트 조회 commonItemMetaData 설정(config common Item Meta Data)
      *
@@ -572,4 +793,20 @@ public class CommonService {
     public String procSetAnnotations(String value) {
       return value.replace("\\\"","\"");
     }
-}
\ No newline at end of file
+
+
+    /**
+     * 정렬 key 와 항목(Sort key paired with its item)
+     */
+    private static final class SortEntry<T> {
+        private final String key;
+        private final T item;
+        private final int index;
+
+        SortEntry(String key, T item, int index) {
+            this.key = key;
+            this.item = item;
+            this.index = index;
+        }
+    }
+}
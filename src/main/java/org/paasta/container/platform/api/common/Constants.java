@@ -95,6 +95,10 @@ public class Constants {
     static final String STRING_TIME_ZONE_ID = "Asia/Seoul";
 
     static final String ACCEPT_TYPE_JSON = MediaType.APPLICATION_JSON_VALUE;
+    static final String ACCEPT_TYPE_ALL = MediaType.ALL_VALUE;
+    // 서버가 지원하지 않으면 일반 JSON 으로 응답(the API server falls back to plain JSON when it does not support the projection)
+    static final String ACCEPT_TYPE_TABLE = "application/json;as=Table;v=v1;g=meta.k8s.io,application/json;as=Table;v=v1beta1;g=meta.k8s.io,application/json";
+    static final String ACCEPT_TYPE_METADATA_LIST = "application/json;as=PartialObjectMetadataList;v=v1;g=meta.k8s.io,application/json;as=PartialObjectMetadataList;v=v1beta1;g=meta.k8s.io,application/json";
 
     public static final String URI_SIGN_UP = "/signUp";
     public static final String CLUSTER_ROLE_URI = "users/resources";
@@ -104,6 +108,8 @@ public class Constants {
 
     // KUBERNETES METRIC API URI
     public static final String URI_METRIC_API_BASIC = "/apis/metrics.k8s.io/v1beta1/namespaces/{namespace}/pods";
+    public static final String URI_METRIC_API_PODS = "/apis/metrics.k8s.io/v1beta1/pods";
+    public static final String URI_METRIC_API_NODES = "/apis/metrics.k8s.io/v1beta1/nodes";
 
     // COMMON API CALL URI
     public static final String URI_COMMON_API_ADMIN_TOKEN_DETAIL = "/adminToken/{tokenName:.+}";
@@ -195,6 +201,7 @@ public class Constants {
     public static final String RESOURCE_METADATA = "metadata";
     public static final String RESOURCE_NS = "namespace";
     public static final String RESOURCE_ANNOTATIONS = "annotations";
+    public static final String RESOURCE_LABELS = "labels";
 
 
 
@@ -247,6 +254,9 @@ public class Constants {
     public static final ResultStatus NOT_FOUND_RESULT_STATUS = new ResultStatus(Constants.RESULT_STATUS_FAIL,
             CommonStatusCode.NOT_FOUND.getMsg(), CommonStatusCode.NOT_FOUND.getCode(),CommonStatusCode.NOT_FOUND.getMsg());
 
+    public static final ResultStatus TOO_MANY_REQUESTS_RESULT_STATUS = new ResultStatus(Constants.RESULT_STATUS_FAIL,
+            CommonStatusCode.TOO_MANY_REQUESTS.getMsg(), CommonStatusCode.TOO_MANY_REQUESTS.getCode(),CommonStatusCode.TOO_MANY_REQUESTS.getMsg());
+
     public static final ResultStatus NOT_MATCH_NAMESPACES = new ResultStatus(Constants.RESULT_STATUS_FAIL, MessageConstant.NOT_MATCH_NAMESPACES,
             CommonStatusCode.BAD_REQUEST.getCode(),CommonStatusCode.BAD_REQUEST.getMsg(), null );
 
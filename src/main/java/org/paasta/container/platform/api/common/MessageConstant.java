@@ -59,6 +59,8 @@ public class MessageConstant {
     public static final String LIMIT_ILLEGALARGUMENT = "limit(한 페이지에 가져올 리소스 최대 수) 는 반드시 0 이상이여아 합니다. limit >=0 ";
     public static final String OFFSET_ILLEGALARGUMENT = "offset(목록 시작지점) 은 반드시 0 이상이여아 합니다. offset >=0 ";
     public static final String OFFSET_REQUIRES_LIMIT_ILLEGALARGUMENT = "offset(목록 시작지점) 사용 시 limit(한 페이지에 가져올 리소스 최대 수) 값이 필요합니다.";
+    public static final String CONTINUE_REQUIRES_LIMIT_ILLEGALARGUMENT = "continue(다음 목록 cursor) 사용 시 limit(한 페이지에 가져올 리소스 최대 수) 값이 필요합니다.";
+    public static final String CONTINUE_ILLEGALARGUMENT = "continue(다음 목록 cursor) 값이 올바르지 않거나 정렬, 검색 조건이 이전 요청과 다릅니다.";
 
 
     // searching
@@ -9,6 +9,7 @@ import org.aspectj.lang.reflect.CodeSignature;
 import org.paasta.container.platform.api.common.model.CommonStatusCode;
 import org.paasta.container.platform.api.common.model.ResultStatus;
 import org.paasta.container.platform.api.common.util.InspectionUtil;
+import org.paasta.container.platform.api.common.util.YamlManifest;
 import org.paasta.container.platform.api.common.util.YamlUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,7 +18,7 @@ import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import javax.servlet.http.HttpServletRequest;
 import java.util.Arrays;
-import java.util.Map;
+import java.util.List;
 
 import static org.paasta.container.platform.api.common.Constants.NOT_ALLOWED_POD_NAME_LIST;
 
@@ -38,9 +39,6 @@ public class MethodHandler {
     private static final String IS_ADMIN_KEY = "isAdmin";
     private static final String YAML_KEY = "yaml";
     private static final String NAMESPACE_KEY = "namespace";
-    private static final String KIND_KEY = "kind";
-    private static final String METADATA_KEY = "metadata";
-    private static final String METADATA_NAME_KEY = "name";
 
     private final HttpServletRequest request;
     private final PropertyService propertyService;
@@ -103,19 +101,13 @@ public class MethodHandler {
 
         LOGGER.info("Creating Request Resource :: " + CommonUtils.loggerReplace(requestResource));
 
-        String[] yamlArray = YamlUtil.splitYaml(yaml);
+        // 문서별로 한 번만 파싱(parse each document once)
+        List<YamlManifest> manifests = YamlUtil.parseManifests(yaml);
         boolean isExistResource = false;
 
-        for (String temp : yamlArray) {
-            Map YamlMetadata = YamlUtil.parsingYamlMap(temp, METADATA_KEY);
-            String createYamlResourceName = YamlMetadata.get(METADATA_NAME_KEY).toString();
-            String createYamlResourceNamespace;
-
-            if (YamlMetadata.get(NAMESPACE_KEY) != null) {
-                createYamlResourceNamespace = YamlMetadata.get(NAMESPACE_KEY).toString();
-            } else {
-                createYamlResourceNamespace = null;
-            }
+        for (YamlManifest manifest : manifests) {
+            String createYamlResourceName = manifest.getName();
+            String createYamlResourceNamespace = manifest.getNamespace();
 
             if (StringUtils.isNotEmpty(createYamlResourceName) && StringUtils.isNotEmpty(createYamlResourceNamespace)) {
                 if (createYamlResourceName.startsWith("kube") || createYamlResourceNamespace.startsWith("kube")) {
@@ -132,13 +124,10 @@ public class MethodHandler {
             }
         }
 
-        for (String temp : yamlArray) {
-            String YamlKind = YamlUtil.parsingYaml(temp, KIND_KEY);
-            Map YamlMetadata = YamlUtil.parsingYamlMap(temp, METADATA_KEY);
+        for (YamlManifest manifest : manifests) {
+            String createYamlResourceName = manifest.getName();
 
-            String createYamlResourceName = YamlMetadata.get(METADATA_NAME_KEY).toString();
-
-            if (YamlKind.equals(Constants.RESOURCE_POD)) {
+            if (manifest.getKind().equals(Constants.RESOURCE_POD)) {
                 for (String na : NOT_ALLOWED_POD_NAME_LIST) {
                     if (createYamlResourceName.equals(na)) {
                         return new ResultStatus(Constants.RESULT_STATUS_FAIL, MessageConstant.NOT_ALLOWED_POD_NAME, CommonStatusCode.UNPROCESSABLE_ENTITY.getCode(), MessageConstant.NOT_ALLOWED_POD_NAME);
@@ -149,12 +138,10 @@ public class MethodHandler {
             }
         }
 
-        for (String temp : yamlArray) {
-            Map YamlMetadata = YamlUtil.parsingYamlMap(temp, METADATA_KEY);
-            String createYamlResourceNamespace;
+        for (YamlManifest manifest : manifests) {
+            String createYamlResourceNamespace = manifest.getNamespace();
 
-            if (YamlMetadata.get(NAMESPACE_KEY) != null) {
-                createYamlResourceNamespace = YamlMetadata.get(NAMESPACE_KEY).toString();
+            if (createYamlResourceNamespace != null) {
 
                 if (namespace.equals(createYamlResourceNamespace)) {
                     break;
@@ -169,10 +156,8 @@ public class MethodHandler {
 
         }
 
-        for (String temp : yamlArray) {
-            String kind = YamlUtil.parsingYaml(temp, KIND_KEY);
-
-            String resourceKind = YamlUtil.makeResourceNameYAML(kind);
+        for (YamlManifest manifest : manifests) {
+            String resourceKind = YamlUtil.makeResourceNameYAML(manifest.getKind());
 
             if (resourceKind.equals(requestResource)) {
                 isExistResource = true;
@@ -185,8 +170,8 @@ public class MethodHandler {
                     requestResource + MessageConstant.NOT_EXIST);
         }
 
-        for (String temp : yamlArray) {
-            String resourceKind = YamlUtil.parsingYaml(temp, KIND_KEY);
+        for (YamlManifest manifest : manifests) {
+            String resourceKind = manifest.getKind();
 
             //isAdmin check
             if(!isAdmin){
@@ -196,7 +181,7 @@ public class MethodHandler {
                 }
             }
 
-            Object dryRunResult = InspectionUtil.resourceDryRunCheck("CreateUrl", namespace, resourceKind, temp, null);
+            Object dryRunResult = InspectionUtil.resourceDryRunCheck("CreateUrl", namespace, resourceKind, manifest.getSource(), null);
             ObjectMapper oMapper = new ObjectMapper();
             ResultStatus createdRs = oMapper.convertValue(dryRunResult, ResultStatus.class);
 
@@ -257,20 +242,18 @@ public class MethodHandler {
 
         requestResource = InspectionUtil.makeResourceName(requestResource);
 
-        String resourceKind = YamlUtil.parsingYaml(yaml, KIND_KEY);
-        resourceKind = YamlUtil.makeResourceNameYAML(resourceKind);
+        // 문서별로 한 번만 파싱(parse each document once)
+        List<YamlManifest> manifests = YamlUtil.parseManifests(yaml);
+        if (manifests.isEmpty()) {
+            return new ResultStatus(Constants.RESULT_STATUS_FAIL, MessageConstant.INVALID_YAML_FORMAT, CommonStatusCode.UNPROCESSABLE_ENTITY.getCode(), MessageConstant.INVALID_YAML_FORMAT);
+        }
 
-        String[] yamlArray = YamlUtil.splitYaml(yaml);
-        for (String temp : yamlArray) {
-            Map YamlMetadata = YamlUtil.parsingYamlMap(temp, METADATA_KEY);
-            String updateYamlResourceName = YamlMetadata.get(METADATA_NAME_KEY).toString();
-            String updateYamlResourceNamespace;
+        YamlManifest updateManifest = manifests.get(0);
+        String resourceKind = YamlUtil.makeResourceNameYAML(updateManifest.getKind());
 
-            if (YamlMetadata.get(NAMESPACE_KEY) != null) {
-                updateYamlResourceNamespace = YamlMetadata.get(NAMESPACE_KEY).toString();
-            } else {
-                updateYamlResourceNamespace = null;
-            }
+        for (YamlManifest manifest : manifests) {
+            String updateYamlResourceName = manifest.getName();
+            String updateYamlResourceNamespace = manifest.getNamespace();
 
             if (StringUtils.isNotEmpty(updateYamlResourceName) && StringUtils.isNotEmpty(updateYamlResourceNamespace)) {
                 if (updateYamlResourceName.startsWith("kube") || updateYamlResourceNamespace.startsWith("kube")) {
@@ -287,13 +270,10 @@ public class MethodHandler {
             }
         }
 
-        for (String temp : yamlArray) {
-            String YamlKind = YamlUtil.parsingYaml(temp, KIND_KEY);
-            Map YamlMetadata = YamlUtil.parsingYamlMap(temp, METADATA_KEY);
-
-            String createYamlResourceName = YamlMetadata.get(METADATA_NAME_KEY).toString();
+        for (YamlManifest manifest : manifests) {
+            String createYamlResourceName = manifest.getName();
 
-            if (YamlKind.equals(Constants.RESOURCE_POD)) {
+            if (manifest.getKind().equals(Constants.RESOURCE_POD)) {
                 for (String na : NOT_ALLOWED_POD_NAME_LIST) {
                     if (createYamlResourceName.equals(na)) {
                         return new ResultStatus(Constants.RESULT_STATUS_FAIL, MessageConstant.NOT_ALLOWED_POD_NAME, CommonStatusCode.UNPROCESSABLE_ENTITY.getCode(), MessageConstant.NOT_ALLOWED_POD_NAME);
@@ -304,12 +284,10 @@ public class MethodHandler {
             }
         }
 
-        for (String temp : yamlArray) {
-            Map YamlMetadata = YamlUtil.parsingYamlMap(temp, METADATA_KEY);
-            String createYamlResourceNamespace;
+        for (YamlManifest manifest : manifests) {
+            String createYamlResourceNamespace = manifest.getNamespace();
 
-            if (YamlMetadata.get(NAMESPACE_KEY) != null) {
-                createYamlResourceNamespace = YamlMetadata.get(NAMESPACE_KEY).toString();
+            if (createYamlResourceNamespace != null) {
 
                 if (namespace.equals(createYamlResourceNamespace)) {
                     break;
@@ -323,7 +301,7 @@ public class MethodHandler {
 
         }
 
-        String updateYamlResourceName = YamlUtil.parsingYaml(yaml, METADATA_KEY);
+        String updateYamlResourceName = updateManifest.getName();
 
         if (!requestResource.equals(resourceKind) ) {
             return new ResultStatus(Constants.RESULT_STATUS_FAIL, MessageConstant.NOT_EXIST_RESOURCE, CommonStatusCode.BAD_REQUEST.getCode(), requestResource + MessageConstant.NOT_EXIST);
@@ -334,7 +312,7 @@ public class MethodHandler {
                     MessageConstant.NOT_ALLOWED_RESOURCE_NAME, CommonStatusCode.BAD_REQUEST.getCode(), resourceName + MessageConstant.RESOURCE_NAMED + requestResource + MessageConstant.NOT_UPDATE_YAML);
         }
 
-        resourceKind = YamlUtil.parsingYaml(yaml, KIND_KEY);
+        resourceKind = updateManifest.getKind();
 
         if (StringUtils.isNotEmpty(resourceKind) && StringUtils.isNotEmpty(yaml)) {
             Object dryRunResult = InspectionUtil.resourceDryRunCheck("UpdateUrl", namespace, resourceKind, yaml, resourceName);
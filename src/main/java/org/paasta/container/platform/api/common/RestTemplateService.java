@@ -1,30 +1,47 @@
 package org.paasta.container.platform.api.common;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import org.paasta.container.platform.api.adminToken.AdminToken;
+import org.paasta.container.platform.api.common.cache.RefreshAheadCache;
+import org.paasta.container.platform.api.common.cache.UserTokenKey;
 import org.paasta.container.platform.api.common.model.CommonStatusCode;
+import org.paasta.container.platform.api.common.model.CommonTable;
 import org.paasta.container.platform.api.common.model.ResultStatus;
+import org.paasta.container.platform.api.common.watch.ResourceWatchCacheManager;
 import org.paasta.container.platform.api.exception.CpCommonAPIException;
 import org.paasta.container.platform.api.login.JwtUtil;
 import org.paasta.container.platform.api.users.Users;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Base64Utils;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
 import static org.paasta.container.platform.api.common.Constants.TARGET_COMMON_API;
 
@@ -41,29 +58,62 @@ public class RestTemplateService {
     private static final Logger LOGGER = LoggerFactory.getLogger(RestTemplateService.class);
     private static final String AUTHORIZATION_HEADER_KEY = "Authorization";
     private static final String CONTENT_TYPE = "Content-Type";
+    private static final String LIMIT_ONE_PARAM = "limit=1";
+    private static final String INCLUDE_OBJECT_NONE_PARAM = "includeObject=None";
+    private static final String METADATA_KEY = "metadata";
+    private static final String ITEMS_KEY = "items";
+    private static final String REMAINING_ITEM_COUNT_KEY = "remainingItemCount";
+    private static final String CONTINUE_KEY = "continue";
+    private static final Pattern SELECTOR_PARAM_PATTERN = Pattern.compile("[?&](labelSelector|fieldSelector)=");
     private final String commonApiBase64Authorization;
     private final RestTemplate restTemplate;
+    private final RestTemplate commonApiRestTemplate;
     private final PropertyService propertyService;
-    private String base64Authorization;
-    private String baseUrl;
+    private final RefreshAheadCache<String, AdminToken> adminTokenCache;
+    private final RefreshAheadCache<UserTokenKey, String> userTokenCache;
+    private final Gson gson;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Autowired
     private JwtUtil jwtUtil;
 
+    // Watch Cache 는 이 서비스로 LIST, WATCH 하므로 지연 주입(lazy, the watch cache itself lists and watches through this service)
+    @Lazy
+    @Autowired
+    private ResourceWatchCacheManager resourceWatchCacheManager;
+
+    // 로그 follow 와 같은 장시간 응답용, socket timeout 없음(for long-lived responses such as log follows, no socket timeout)
+    @Autowired(required = false)
+    @Qualifier("cpMasterApiStreamRestTemplate")
+    private RestTemplate streamRestTemplate;
+
     /**
      * Instantiates a new Rest template service
      * @param restTemplate                   the rest template
+     * @param commonApiRestTemplate          the common api rest template
      * @param commonApiAuthorizationId       the common api authorization id
      * @param commonApiAuthorizationPassword the common api authorization password
      * @param propertyService                the property service
+     * @param adminTokenCache                the admin token cache
+     * @param userTokenCache                 the user token cache
+     * @param gson                           the gson
      */
     @Autowired
     public RestTemplateService(RestTemplate restTemplate,
+                               @Qualifier("commonApiRestTemplate") RestTemplate commonApiRestTemplate,
                                @Value("${commonApi.authorization.id}") String commonApiAuthorizationId,
                                @Value("${commonApi.authorization.password}") String commonApiAuthorizationPassword,
-                               PropertyService propertyService) {
+                               PropertyService propertyService,
+                               RefreshAheadCache<String, AdminToken> adminTokenCache,
+                               RefreshAheadCache<UserTokenKey, String> userTokenCache,
+                               Gson gson) {
         this.restTemplate = restTemplate;
+        this.commonApiRestTemplate = commonApiRestTemplate;
         this.propertyService = propertyService;
+        this.adminTokenCache = adminTokenCache;
+        this.userTokenCache = userTokenCache;
+        this.gson = gson;
 
         this.commonApiBase64Authorization = "Basic "
                 + Base64Utils.encodeToString(
@@ -87,6 +137,22 @@ public class RestTemplateService {
     }
 
 
+    /**
+     * t 전송(Send t)
+     *
+     * @param <T>          the type parameter
+     * @param target       the upstream target
+     * @param reqUrl       the req url
+     * @param httpMethod   the http method
+     * @param bodyObject   the body object
+     * @param responseType the response type
+     * @return the t
+     */
+    public <T> T send(UpstreamTarget target, String reqUrl, HttpMethod httpMethod, Object bodyObject, Class<T> responseType) {
+        return send(target, reqUrl, httpMethod, bodyObject, responseType, Constants.ACCEPT_TYPE_JSON, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+
     /**
      * t 전송(Send t)
      *
@@ -136,23 +202,44 @@ public class RestTemplateService {
      * @return the t
      */
     public <T> T send(String reqApi, String reqUrl, HttpMethod httpMethod, Object bodyObject, Class<T> responseType, String acceptType, String contentType) {
+        return send(resolveTarget(reqApi), reqUrl, httpMethod, bodyObject, responseType, acceptType, contentType);
+    }
 
-        setApiUrlAuthorization(reqApi);
+    /**
+     * t 전송(Send t)
+     *
+     * 이미 결정된 대상으로 전송하므로 요청 스레드 밖에서도 호출 가능
+     * (Sends to an already resolved target, so it is safe to call off the request thread)
+     *
+     * @param <T>          the type parameter
+     * @param target       the upstream target
+     * @param reqUrl       the req url
+     * @param httpMethod   the http method
+     * @param bodyObject   the body object
+     * @param responseType the response type
+     * @param acceptType   the accept type
+     * @param contentType  the content type
+     * @return the t
+     */
+    public <T> T send(UpstreamTarget target, String reqUrl, HttpMethod httpMethod, Object bodyObject, Class<T> responseType, String acceptType, String contentType) {
+        if (HttpMethod.GET.equals(httpMethod) && Constants.ACCEPT_TYPE_JSON.equals(acceptType)) {
+            T cached = readCachedList(findCachedList(target, reqUrl, true), responseType);
+            if (cached != null) {
+                return cached;
+            }
+        }
 
-        HttpHeaders reqHeaders = new HttpHeaders();
-        reqHeaders.add(AUTHORIZATION_HEADER_KEY, base64Authorization);
-        reqHeaders.add(CONTENT_TYPE, contentType);
-        reqHeaders.add("ACCEPT", acceptType);
+        HttpEntity<Object> reqEntity = createRequestEntity(target, bodyObject, acceptType, contentType);
 
-        HttpEntity<Object> reqEntity;
-        if (bodyObject == null) {
-            reqEntity = new HttpEntity<>(reqHeaders);
-        } else {
-            reqEntity = new HttpEntity<>(bodyObject, reqHeaders);
-        }
+        LOGGER.info("<T> T SEND :: REQUEST: {} BASE-URL: {}, CONTENT-TYPE: {}", CommonUtils.loggerReplace(httpMethod), CommonUtils.loggerReplace(reqUrl), CommonUtils.loggerReplace(contentType));
+        ResponseEntity<T> resEntity;
 
-        LOGGER.info("<T> T SEND :: REQUEST: {} BASE-URL: {}, CONTENT-TYPE: {}", CommonUtils.loggerReplace(httpMethod), CommonUtils.loggerReplace(reqUrl), CommonUtils.loggerReplace(reqHeaders.get(CONTENT_TYPE)));
-        ResponseEntity<T> resEntity = restTemplate.exchange(baseUrl + reqUrl, httpMethod, reqEntity, responseType);
+        try {
+            resEntity = getRestTemplate(target.getApi()).exchange(target.getBaseUrl() + reqUrl, httpMethod, reqEntity, responseType);
+        } catch (HttpClientErrorException.Unauthorized exception) {
+            invalidateCredentials(target);
+            throw exception;
+        }
 
         if (resEntity.getBody() != null) {
             LOGGER.info("RESPONSE-TYPE: {}", CommonUtils.loggerReplace(resEntity.getBody().getClass()));
@@ -194,30 +281,54 @@ public class RestTemplateService {
      * @return the t
      */
     public <T> T sendAdmin(String reqApi, String reqUrl, HttpMethod httpMethod, Object bodyObject, Class<T> responseType, String acceptType, String contentType) {
+        T result = sendAdmin(resolveAdminTarget(reqApi), reqUrl, httpMethod, bodyObject, responseType, acceptType, contentType);
 
-        setApiUrlAuthorizationAdmin(reqApi);
+        // 캐시된 Admin Token 이 만료된 경우 새 토큰으로 한 번 재시도(retry once with a fresh token when the cached admin token was rejected)
+        if (Constants.TARGET_CP_MASTER_API.equals(reqApi) && result instanceof ResultStatus
+                && ((ResultStatus) result).getHttpStatusCode() == CommonStatusCode.UNAUTHORIZED.getCode()) {
+            result = sendAdmin(resolveAdminTarget(reqApi), reqUrl, httpMethod, bodyObject, responseType, acceptType, contentType);
+        }
 
-        HttpHeaders reqHeaders = new HttpHeaders();
-        reqHeaders.add(AUTHORIZATION_HEADER_KEY, base64Authorization);
-        reqHeaders.add(CONTENT_TYPE, contentType);
-        reqHeaders.add("ACCEPT", acceptType);
+        return result;
+    }
 
-        HttpEntity<Object> reqEntity;
-        if (bodyObject == null) {
-            reqEntity = new HttpEntity<>(reqHeaders);
-        } else {
-            reqEntity = new HttpEntity<>(bodyObject, reqHeaders);
+    /**
+     * t 전송(Send t)
+     *
+     * (Admin)
+     * @param <T>          the type parameter
+     * @param target       the upstream target
+     * @param reqUrl       the req url
+     * @param httpMethod   the http method
+     * @param bodyObject   the body object
+     * @param responseType the response type
+     * @param acceptType   the accept type
+     * @param contentType  the content type
+     * @return the t
+     */
+    public <T> T sendAdmin(UpstreamTarget target, String reqUrl, HttpMethod httpMethod, Object bodyObject, Class<T> responseType, String acceptType, String contentType) {
+        if (HttpMethod.GET.equals(httpMethod) && Constants.ACCEPT_TYPE_JSON.equals(acceptType)) {
+            T cached = readCachedList(findCachedList(target, reqUrl, false), responseType);
+            if (cached != null) {
+                return cached;
+            }
         }
 
-        LOGGER.info("<T> T SEND :: REQUEST: {} BASE-URL: {}, CONTENT-TYPE: {}", CommonUtils.loggerReplace(httpMethod), CommonUtils.loggerReplace(reqUrl), CommonUtils.loggerReplace(reqHeaders.get(CONTENT_TYPE)));
+        HttpEntity<Object> reqEntity = createRequestEntity(target, bodyObject, acceptType, contentType);
+
+        LOGGER.info("<T> T SEND :: REQUEST: {} BASE-URL: {}, CONTENT-TYPE: {}", CommonUtils.loggerReplace(httpMethod), CommonUtils.loggerReplace(reqUrl), CommonUtils.loggerReplace(contentType));
 
         ResponseEntity<T> resEntity = null;
 
         try {
-            resEntity = restTemplate.exchange(baseUrl + reqUrl, httpMethod, reqEntity, responseType);
+            resEntity = getRestTemplate(target.getApi()).exchange(target.getBaseUrl() + reqUrl, httpMethod, reqEntity, responseType);
         } catch (HttpStatusCodeException exception) {
             LOGGER.info("HttpStatusCodeException API Call URL : {}, errorCode : {}, errorMessage : {}", CommonUtils.loggerReplace(reqUrl), CommonUtils.loggerReplace(exception.getRawStatusCode()), CommonUtils.loggerReplace(exception.getMessage()));
 
+            if (exception.getRawStatusCode() == CommonStatusCode.UNAUTHORIZED.getCode()) {
+                invalidateCredentials(target);
+            }
+
             for (CommonStatusCode code : CommonStatusCode.class.getEnumConstants()) {
                 if(code.getCode() == exception.getRawStatusCode()) {
                     return (T) new ResultStatus(Constants.RESULT_STATUS_FAIL, exception.getStatusText(), code.getCode(), code.getMsg());
@@ -227,7 +338,7 @@ public class RestTemplateService {
 
         if (resEntity.getBody() != null) {
             LOGGER.info("RESPONSE-TYPE: {}", CommonUtils.loggerReplace(resEntity.getBody().getClass()));
-            return statusCodeDiscriminate(reqApi, resEntity, httpMethod);
+            return statusCodeDiscriminate(target.getApi(), resEntity, httpMethod);
 
         } else {
             LOGGER.error("RESPONSE-TYPE: RESPONSE BODY IS NULL");
@@ -237,66 +348,390 @@ public class RestTemplateService {
     }
 
     /**
-     * Authorization 값을 입력(Set the authorization value)
+     * 목록 항목 수만 조회(Count the items of a list without downloading it)
      *
-     * @param reqApi the reqApi
+     * limit=1 로 조회하여 metadata.remainingItemCount 를 사용한다. selector 가 있으면 API 서버가
+     * remainingItemCount 를 주지 않으므로 limit=1 조회 없이 바로 metadata 만 가진 목록(PartialObjectMetadataList)으로 센다.
+     * (Lists with limit=1 and adds metadata.remainingItemCount. The API server omits remainingItemCount for
+     * requests with selectors, so those go straight to a metadata-only list (PartialObjectMetadataList) in one call.)
+     *
+     * (Admin)
+     * @param reqApi the req api
+     * @param reqUrl the list url
+     * @return the count, null when the list could not be read
+     */
+    public Integer countAdmin(String reqApi, String reqUrl) {
+        if (SELECTOR_PARAM_PATTERN.matcher(reqUrl).find()) {
+            return countAdminMetadataList(reqApi, reqUrl);
+        }
+
+        Object response = sendAdmin(reqApi, appendQueryParam(reqUrl, LIMIT_ONE_PARAM), HttpMethod.GET, null, Map.class);
+        if (!(response instanceof Map)) {
+            return null;
+        }
+
+        Object metadataValue = ((Map<?, ?>) response).get(METADATA_KEY);
+        Map<?, ?> metadata = metadataValue instanceof Map ? (Map<?, ?>) metadataValue : null;
+        int itemCount = sizeOfItems((Map<?, ?>) response);
+        Object remainingItemCount = metadata == null ? null : metadata.get(REMAINING_ITEM_COUNT_KEY);
+        Object continueToken = metadata == null ? null : metadata.get(CONTINUE_KEY);
+
+        if (remainingItemCount instanceof Number) {
+            return itemCount + ((Number) remainingItemCount).intValue();
+        }
+        if (continueToken == null || continueToken.toString().isEmpty()) {
+            return itemCount;
+        }
+        return countAdminMetadataList(reqApi, reqUrl);
+    }
+
+    private Integer countAdminMetadataList(String reqApi, String reqUrl) {
+        Object metadataList = sendAdmin(reqApi, reqUrl, HttpMethod.GET, null, Map.class, Constants.ACCEPT_TYPE_METADATA_LIST, MediaType.APPLICATION_JSON_VALUE);
+        return metadataList instanceof Map ? sizeOfItems((Map<?, ?>) metadataList) : null;
+    }
+
+    /**
+     * 목록을 Table 형식으로 조회(Get a list as a Table projection)
+     *
+     * 리소스 전체 대신 출력 컬럼 값만 받는다. API 서버가 Table 을 지원하지 않으면 null
+     * (Only the printed column values are transferred; null when the API server does not answer with a Table)
+     *
+     * (Admin)
+     * @param reqApi the req api
+     * @param reqUrl the list url
+     * @return the common table, or the result status of a failed call
+     */
+    public Object sendAdminForTable(String reqApi, String reqUrl) {
+        Object response = sendAdmin(reqApi, appendQueryParam(reqUrl, INCLUDE_OBJECT_NONE_PARAM), HttpMethod.GET, null, CommonTable.class,
+                Constants.ACCEPT_TYPE_TABLE, MediaType.APPLICATION_JSON_VALUE);
+
+        if (response instanceof CommonTable && !CommonTable.KIND_TABLE.equals(((CommonTable) response).getKind())) {
+            return null;
+        }
+        return response;
+    }
+
+    private static int sizeOfItems(Map<?, ?> list) {
+        Object items = list.get(ITEMS_KEY);
+        return items instanceof List ? ((List<?>) items).size() : 0;
+    }
+
+    private static String appendQueryParam(String reqUrl, String param) {
+        return reqUrl + (reqUrl.indexOf('?') < 0 ? '?' : '&') + param;
+    }
+
+    /**
+     * 응답을 모델로 바로 변환하여 조회(Get the response decoded straight into the model)
+     *
+     * HashMap 으로 받은 뒤 Gson 으로 다시 직렬화/역직렬화하지 않고, 응답 stream 을 한 번에 모델로 변환한다.
+     * 목록 모델의 @JsonIgnore 필드(metadata, spec, status)도 채워지도록 Gson 으로 변환한다.
+     * (Decodes the response body stream into the model in a single pass instead of HashMap -> json -> model.
+     * Gson is used so that the @JsonIgnore fields of the list models are populated as before.)
+     *
+     * @param <T>       the type parameter
+     * @param reqApi    the req api
+     * @param reqUrl    the req url
+     * @param modelType the model type
+     * @return the t
+     */
+    public <T> T sendForModel(String reqApi, String reqUrl, Class<T> modelType) {
+        UpstreamTarget target = resolveTarget(reqApi);
+        String cachedList = findCachedList(target, reqUrl, true);
+
+        if (cachedList != null) {
+            return gson.fromJson(cachedList, modelType);
+        }
+
+        return exchangeForModel(target, reqUrl, modelType);
+    }
+
+    /**
+     * 응답을 모델로 바로 변환하여 조회(Get the response decoded straight into the model)
+     *
+     * (Admin)
+     * 오류 응답은 기존 sendAdmin 과 같이 ResultStatus 로 반환
+     * (Error responses are returned as ResultStatus, same as sendAdmin)
+     *
+     * @param <T>       the type parameter
+     * @param reqApi    the req api
+     * @param reqUrl    the req url
+     * @param modelType the model type
+     * @return the model or the result status
+     */
+    public <T> Object sendAdminForModel(String reqApi, String reqUrl, Class<T> modelType) {
+        Object result = sendAdminForModel(resolveAdminTarget(reqApi), reqUrl, modelType);
+
+        // 캐시된 Admin Token 이 만료된 경우 새 토큰으로 한 번 재시도(retry once with a fresh token when the cached admin token was rejected)
+        if (Constants.TARGET_CP_MASTER_API.equals(reqApi) && result instanceof ResultStatus
+                && ((ResultStatus) result).getHttpStatusCode() == CommonStatusCode.UNAUTHORIZED.getCode()) {
+            result = sendAdminForModel(resolveAdminTarget(reqApi), reqUrl, modelType);
+        }
+
+        return result;
+    }
+
+    /**
+     * 응답을 모델로 바로 변환하여 조회(Get the response decoded straight into the model)
+     *
+     * (Admin)
+     * @param <T>       the type parameter
+     * @param target    the upstream target
+     * @param reqUrl    the req url
+     * @param modelType the model type
+     * @return the model or the result status
+     */
+    public <T> Object sendAdminForModel(UpstreamTarget target, String reqUrl, Class<T> modelType) {
+        String cachedList = findCachedList(target, reqUrl, false);
+
+        if (cachedList != null) {
+            return gson.fromJson(cachedList, modelType);
+        }
+
+        try {
+            return exchangeForModel(target, reqUrl, modelType);
+        } catch (HttpStatusCodeException exception) {
+            LOGGER.info("HttpStatusCodeException API Call URL : {}, errorCode : {}, errorMessage : {}", CommonUtils.loggerReplace(reqUrl), CommonUtils.loggerReplace(exception.getRawStatusCode()), CommonUtils.loggerReplace(exception.getMessage()));
+
+            for (CommonStatusCode code : CommonStatusCode.class.getEnumConstants()) {
+                if (code.getCode() == exception.getRawStatusCode()) {
+                    return new ResultStatus(Constants.RESULT_STATUS_FAIL, exception.getStatusText(), code.getCode(), code.getMsg());
+                }
+            }
+
+            throw exception;
+        }
+    }
+
+    /**
+     * 목록 응답을 Reader 로 순차 처리(Hand a list response to the reader function without decoding it into a model)
+     *
+     * (Admin)
+     * Watch Cache 에 목록이 있으면 캐시에서, 없으면 API 서버 응답 stream 에서 읽는다.
+     * (Reads from the watch cache when it holds the list, otherwise straight from the API server's response stream.)
+     *
+     * @param <T>            the type parameter
+     * @param reqApi         the req api
+     * @param reqUrl         the req url
+     * @param readerFunction the reader function
+     * @return the t
      */
-    private void setApiUrlAuthorization(String reqApi) {
+    public <T> T sendAdminForReader(String reqApi, String reqUrl, Function<Reader, T> readerFunction) {
+        UpstreamTarget target = resolveAdminTarget(reqApi);
+        String cachedList = findCachedList(target, reqUrl, false);
+
+        if (cachedList != null) {
+            return readerFunction.apply(new StringReader(cachedList));
+        }
 
-        String apiUrl = "";
-        String authorization = "";
-        String namespace = "";
-        String saUserToken = "";
-        String userName = "";
-        HttpServletRequest request = ((ServletRequestAttributes) Objects.requireNonNull(RequestContextHolder.getRequestAttributes())).getRequest();
-        String requestUri = request.getRequestURI();
+        LOGGER.info("<T> T SEND ADMIN FOR READER :: REQUEST: {} BASE-URL: {}", HttpMethod.GET, CommonUtils.loggerReplace(reqUrl));
+
+        return sendForStream(target, reqUrl, response -> {
+            MediaType contentType = response.getHeaders().getContentType();
+            Charset charset = (contentType != null && contentType.getCharset() != null) ? contentType.getCharset() : StandardCharsets.UTF_8;
+
+            try (Reader reader = new InputStreamReader(response.getBody(), charset)) {
+                return readerFunction.apply(reader);
+            }
+        });
+    }
+
+    /**
+     * GET 요청 후 응답 stream 을 모델로 변환(Issue a GET and decode the response stream into the model)
+     *
+     * @param <T>       the type parameter
+     * @param target    the upstream target
+     * @param reqUrl    the req url
+     * @param modelType the model type
+     * @return the t
+     */
+    private <T> T exchangeForModel(UpstreamTarget target, String reqUrl, Class<T> modelType) {
+        LOGGER.info("<T> T SEND FOR MODEL :: REQUEST: {} BASE-URL: {}, MODEL: {}", HttpMethod.GET, CommonUtils.loggerReplace(reqUrl), modelType.getSimpleName());
+
+        ResponseExtractor<T> responseExtractor = response -> {
+            MediaType contentType = response.getHeaders().getContentType();
+            Charset charset = (contentType != null && contentType.getCharset() != null) ? contentType.getCharset() : StandardCharsets.UTF_8;
+
+            try (Reader reader = new InputStreamReader(response.getBody(), charset)) {
+                return gson.fromJson(reader, modelType);
+            }
+        };
+
+        T result = sendForStream(target, reqUrl, responseExtractor);
+
+        if (result == null) {
+            LOGGER.error("RESPONSE-TYPE: RESPONSE BODY IS NULL");
+        }
+
+        return result;
+    }
+
+    /**
+     * GET 요청 후 응답 stream 을 그대로 처리(Issue a GET and hand the response stream to the extractor)
+     *
+     * 응답 전체를 메모리에 받지 않으므로 WATCH 와 같은 긴 응답에 사용한다. Watch Cache 를 거치지 않는다.
+     * (The body is not buffered, so it suits long responses such as a WATCH. The watch cache is not consulted.)
+     *
+     * @param <T>               the type parameter
+     * @param target            the upstream target
+     * @param reqUrl            the req url
+     * @param responseExtractor the response extractor
+     * @return the t
+     */
+    public <T> T sendForStream(UpstreamTarget target, String reqUrl, ResponseExtractor<T> responseExtractor) {
+        return executeForStream(getRestTemplate(target.getApi()), target, reqUrl, Constants.ACCEPT_TYPE_JSON, responseExtractor);
+    }
+
+    /**
+     * GET 요청 후 끝나지 않을 수 있는 응답 stream 을 처리(Issue a GET whose response may never end, such as a log follow)
+     *
+     * socket timeout 이 없는 별도 connection pool 을 사용하며 응답 형식을 제한하지 않는다.
+     * (Uses the separate connection pool without a socket timeout and accepts any response type.)
+     *
+     * @param <T>               the type parameter
+     * @param target            the upstream target
+     * @param reqUrl            the req url
+     * @param responseExtractor the response extractor
+     * @return the t
+     */
+    public <T> T sendForLongStream(UpstreamTarget target, String reqUrl, ResponseExtractor<T> responseExtractor) {
+        RestTemplate longStreamRestTemplate = (streamRestTemplate == null || TARGET_COMMON_API.equals(target.getApi()))
+                ? getRestTemplate(target.getApi()) : streamRestTemplate;
+
+        LOGGER.info("<T> T SEND FOR LONG STREAM :: REQUEST: {} BASE-URL: {}", HttpMethod.GET, CommonUtils.loggerReplace(reqUrl));
+        return executeForStream(longStreamRestTemplate, target, reqUrl, Constants.ACCEPT_TYPE_ALL, responseExtractor);
+    }
+
+    private <T> T executeForStream(RestTemplate template, UpstreamTarget target, String reqUrl, String acceptType, ResponseExtractor<T> responseExtractor) {
+        HttpHeaders reqHeaders = createRequestEntity(target, null, acceptType, Constants.ACCEPT_TYPE_JSON).getHeaders();
+        RequestCallback requestCallback = request -> request.getHeaders().putAll(reqHeaders);
+
+        try {
+            return template.execute(target.getBaseUrl() + reqUrl, HttpMethod.GET, requestCallback, responseExtractor);
+        } catch (HttpClientErrorException.Unauthorized exception) {
+            invalidateCredentials(target);
+            throw exception;
+        }
+    }
+
+    /**
+     * Watch Cache 에서 목록 조회(Find the list in the watch cache)
+     *
+     * @param target      the upstream target
+     * @param reqUrl      the req url
+     * @param checkAccess whether to check the list permission of the target's token
+     * @return the list json, null when the request must go to the API server
+     */
+    private String findCachedList(UpstreamTarget target, String reqUrl, boolean checkAccess) {
+        return (resourceWatchCacheManager == null) ? null : resourceWatchCacheManager.findList(target, reqUrl, checkAccess);
+    }
+
+    /**
+     * Watch Cache 목록을 응답 형식으로 변환(Read the cached list json as the response type)
+     *
+     * @param <T>          the type parameter
+     * @param cachedList   the cached list json
+     * @param responseType the response type
+     * @return the t, null when there is no cached list
+     */
+    private <T> T readCachedList(String cachedList, Class<T> responseType) {
+        if (cachedList == null) {
+            return null;
+        }
+        if (responseType == String.class) {
+            return responseType.cast(cachedList);
+        }
+
+        try {
+            return objectMapper.readValue(cachedList, responseType);
+        } catch (IOException exception) {
+            LOGGER.warn("Cached list could not be read as {}", responseType.getSimpleName());
+            return null;
+        }
+    }
+
+    /**
+     * 요청 Entity 생성(Create the request entity)
+     *
+     * @param target      the upstream target
+     * @param bodyObject  the body object
+     * @param acceptType  the accept type
+     * @param contentType the content type
+     * @return the http entity
+     */
+    private HttpEntity<Object> createRequestEntity(UpstreamTarget target, Object bodyObject, String acceptType, String contentType) {
+        HttpHeaders reqHeaders = new HttpHeaders();
+        reqHeaders.add(AUTHORIZATION_HEADER_KEY, target.getAuthorization());
+        reqHeaders.add(CONTENT_TYPE, contentType);
+        reqHeaders.add("ACCEPT", acceptType);
+        target.getHeaders().forEach(reqHeaders::add);
+
+        if (bodyObject == null) {
+            return new HttpEntity<>(reqHeaders);
+        }
+        return new HttpEntity<>(bodyObject, reqHeaders);
+    }
+
+    /**
+     * 호출 대상 결정(Resolve the upstream target of the current request)
+     *
+     * CP Master API 는 요청 URI 의 namespace 와 JWT 사용자로 인증 값을 결정하므로 요청 스레드에서 호출해야 함
+     * (For the CP Master API the namespace and JWT user of the current request decide the token,
+     * so this must be called on the request thread)
+     *
+     * @param reqApi the reqApi
+     * @return the upstream target
+     */
+    public UpstreamTarget resolveTarget(String reqApi) {
 
         // CONTAINER PLATFORM MASTER API
         if (Constants.TARGET_CP_MASTER_API.equals(reqApi)) {
-            namespace = getNs(requestUri);
-            saUserToken = jwtUtil.extractJwtFromRequest(request);
-            userName = jwtUtil.getUsernameFromToken(saUserToken);
-            apiUrl = propertyService.getCpMasterApiUrl();
+            HttpServletRequest request = ((ServletRequestAttributes) Objects.requireNonNull(RequestContextHolder.getRequestAttributes())).getRequest();
+            String namespace = getNs(request.getRequestURI());
+            String saUserToken = jwtUtil.extractJwtFromRequest(request);
+            String userName = jwtUtil.getUsernameFromToken(saUserToken);
+            String authorization;
+
             if(namespace.equals(Constants.NULL_REPLACE_TEXT))
                 authorization = "Bearer " + this.getAdminToken().getTokenValue();
             else
-                authorization = "Bearer " + this.getUserInfo(userName, namespace).getSaToken();
-        }
+                authorization = "Bearer " + this.getUserSaToken(userName, namespace);
 
-        // COMMON API
-        if (TARGET_COMMON_API.equals(reqApi)) {
-            apiUrl = propertyService.getCommonApiUrl();
-            authorization = commonApiBase64Authorization;
+            return new UpstreamTarget(reqApi, propertyService.getCpMasterApiUrl(), authorization);
         }
 
-        this.base64Authorization = authorization;
-        this.baseUrl = apiUrl;
+        return resolveAdminTarget(reqApi);
     }
 
     /**
-     * Authorization 값을 입력(Set the authorization value)
+     * 호출 대상 결정(Resolve the upstream target)
+     * (Admin)
      *
      * @param reqApi the reqApi
+     * @return the upstream target
      */
-    private void setApiUrlAuthorizationAdmin(String reqApi) {
-
-        String apiUrl = "";
-        String authorization = "";
+    public UpstreamTarget resolveAdminTarget(String reqApi) {
 
         // CONTAINER PLATFORM MASTER API
         if (Constants.TARGET_CP_MASTER_API.equals(reqApi)) {
-            apiUrl = propertyService.getCpMasterApiUrl();
-            authorization = "Bearer " + this.getAdminToken().getTokenValue();
+            return new UpstreamTarget(reqApi, propertyService.getCpMasterApiUrl(), "Bearer " + this.getAdminToken().getTokenValue());
         }
 
         // COMMON API
         if (TARGET_COMMON_API.equals(reqApi)) {
-            apiUrl = propertyService.getCommonApiUrl();
-            authorization = commonApiBase64Authorization;
+            return new UpstreamTarget(reqApi, propertyService.getCommonApiUrl(), commonApiBase64Authorization);
         }
 
-        this.base64Authorization = authorization;
-        this.baseUrl = apiUrl;
+        return new UpstreamTarget(reqApi, "", "");
+    }
+
+    /**
+     * 대상 API 별 Rest Template 조회(Get the rest template of the target api)
+     *
+     * @param reqApi the reqApi
+     * @return the rest template
+     */
+    private RestTemplate getRestTemplate(String reqApi) {
+        return TARGET_COMMON_API.equals(reqApi) ? commonApiRestTemplate : restTemplate;
     }
 
     /**
@@ -329,10 +764,73 @@ public class RestTemplateService {
     /**
      * Admin Token 상세 정보를 조회(Get the Admin Token Detail)
      *
+     * 캐시에서 조회하며, 만료 전 백그라운드에서 갱신
+     * (Served from the cache and refreshed ahead of expiry in the background)
+     *
      * @return the AdminToken
      */
     public AdminToken getAdminToken() {
-        this.setApiUrlAuthorization(TARGET_COMMON_API);
+        return adminTokenCache.get(Constants.TOKEN_KEY, tokenName -> loadAdminToken());
+    }
+
+    /**
+     * Admin Token 캐시 무효화(Invalidate the cached Admin Token)
+     */
+    public void invalidateAdminToken() {
+        adminTokenCache.invalidate(Constants.TOKEN_KEY);
+    }
+
+    /**
+     * 사용자 Service Account Token 조회(Get the user's service account token)
+     *
+     * (user, namespace) 단위로 캐시됨(Cached per user and namespace)
+     *
+     * @param userName  the user name
+     * @param namespace the namespace
+     * @return the String
+     */
+    public String getUserSaToken(String userName, String namespace) {
+        return userTokenCache.get(new UserTokenKey(userName, namespace), key -> getUserInfo(key.getUserId(), key.getNamespace()).getSaToken());
+    }
+
+    /**
+     * 사용자의 캐시된 Service Account Token 무효화(Invalidate the cached service account tokens of the user in every namespace)
+     *
+     * @param userId the user id
+     */
+    public void invalidateUserTokens(String userId) {
+        userTokenCache.invalidateIf(key -> key.getUserId().equals(userId));
+    }
+
+    /**
+     * Namespace 의 캐시된 Service Account Token 무효화(Invalidate the cached service account tokens of every user in the namespace)
+     *
+     * @param namespace the namespace
+     */
+    public void invalidateUserTokensInNamespace(String namespace) {
+        userTokenCache.invalidateIf(key -> key.getNamespace().equals(namespace));
+    }
+
+    /**
+     * 인증 실패 시 캐시된 인증 값 무효화(Invalidate cached credentials after an unauthorized response)
+     *
+     * @param target the upstream target
+     */
+    private void invalidateCredentials(UpstreamTarget target) {
+        if (Constants.TARGET_CP_MASTER_API.equals(target.getApi())) {
+            String rejectedToken = target.getAuthorization().replaceFirst("^Bearer ", "");
+            LOGGER.info("CP MASTER API RETURNED 401, INVALIDATING CACHED TOKEN");
+            adminTokenCache.invalidateValues(adminToken -> rejectedToken.equals(adminToken.getTokenValue()));
+            userTokenCache.invalidateValues(rejectedToken::equals);
+        }
+    }
+
+    /**
+     * Common API 에서 Admin Token 상세 정보를 조회(Load the Admin Token Detail from the Common API)
+     *
+     * @return the AdminToken
+     */
+    private AdminToken loadAdminToken() {
         String reqUrl = Constants.URI_COMMON_API_ADMIN_TOKEN_DETAIL.replace("{tokenName:.+}",Constants.TOKEN_KEY);
         AdminToken adminToken = this.send(TARGET_COMMON_API, reqUrl, HttpMethod.GET, null, AdminToken.class);
 
@@ -344,7 +842,6 @@ public class RestTemplateService {
     }
 
     public Users getUserInfo(String username, String namespace) {
-        this.setApiUrlAuthorization(TARGET_COMMON_API);
         String reqUrl = Constants.URI_COMMON_API_USERS.replace("{cluster:.+}", "cp-namespace").replace("{namespace:.+}", namespace).replace("{userId:.+}", username);
         Users users = this.send(TARGET_COMMON_API, reqUrl, HttpMethod.GET, null, Users.class);
 
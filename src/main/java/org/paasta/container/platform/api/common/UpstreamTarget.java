@@ -0,0 +1,85 @@
+package org.paasta.container.platform.api.common;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Upstream Target 클래스
+ *
+ * 호출 단위로 결정되는 대상 API 정보(URL, 인증 값, 추가 헤더)를 담는 불변 객체
+ * (Immutable per-call upstream target : base url, authorization and extra headers)
+ *
+ * 요청 스레드에서 한 번 결정한 뒤 다른 스레드로 전달하여 병렬 호출에 사용할 수 있다.
+ * (Resolve it once on the request thread and hand it to worker threads for parallel calls.)
+ *
+ * @version 1.0
+ */
+public final class UpstreamTarget {
+
+    private final String api;
+    private final String baseUrl;
+    private final String authorization;
+    private final Map<String, String> headers;
+
+    /**
+     * Instantiates a new Upstream target
+     *
+     * @param api           the target api (Constants.TARGET_CP_MASTER_API, Constants.TARGET_COMMON_API)
+     * @param baseUrl       the base url
+     * @param authorization the authorization header value
+     */
+    public UpstreamTarget(String api, String baseUrl, String authorization) {
+        this(api, baseUrl, authorization, Collections.emptyMap());
+    }
+
+    /**
+     * Instantiates a new Upstream target
+     *
+     * @param api           the target api (Constants.TARGET_CP_MASTER_API, Constants.TARGET_COMMON_API)
+     * @param baseUrl       the base url
+     * @param authorization the authorization header value
+     * @param headers       the extra headers
+     */
+    public UpstreamTarget(String api, String baseUrl, String authorization, Map<String, String> headers) {
+        this.api = api;
+        this.baseUrl = baseUrl;
+        this.authorization = authorization;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+    }
+
+    public String getApi() {
+        return api;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public String getAuthorization() {
+        return authorization;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * 추가 헤더를 포함한 새 대상 생성(Create a copy with an extra header)
+     *
+     * @param name  the header name
+     * @param value the header value
+     * @return the upstream target
+     */
+    public UpstreamTarget withHeader(String name, String value) {
+        Map<String, String> newHeaders = new LinkedHashMap<>(headers);
+        newHeaders.put(name, value);
+        return new UpstreamTarget(api, baseUrl, authorization, newHeaders);
+    }
+
+    @Override
+    public String toString() {
+        // authorization 값은 로그에 남기지 않음(never log the credentials)
+        return "UpstreamTarget(api=" + api + ", baseUrl=" + baseUrl + ")";
+    }
+}
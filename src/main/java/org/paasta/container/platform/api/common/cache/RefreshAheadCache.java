@@ -0,0 +1,204 @@
+package org.paasta.container.platform.api.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Refresh Ahead Cache 클래스
+ *
+ * TTL, 최대 크기 제한을 갖는 캐시로 동일 key 에 대한 동시 조회는 한 번만 로드(single-flight)하고,
+ * refresh 시점이 지난 값은 기존 값을 반환하면서 백그라운드에서 갱신한다.
+ * (Size and TTL bounded cache. Concurrent misses on one key share a single load, and entries older
+ * than the refresh-ahead window are served while being reloaded in the background.)
+ *
+ * @version 1.0
+ */
+public class RefreshAheadCache<K, V> implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RefreshAheadCache.class);
+
+    private final String name;
+    private final Cache<K, CacheEntry<V>> cache;
+    private final long refreshAheadNanos;
+    private final Executor refreshExecutor;
+    private final Set<K> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder refreshCount = new LongAdder();
+    private final LongAdder invalidateCount = new LongAdder();
+
+    /**
+     * Instantiates a new Refresh ahead cache
+     *
+     * @param name                the cache name (metric tag)
+     * @param maximumSize         the maximum size
+     * @param ttlSeconds          the time to live after load
+     * @param refreshAheadSeconds the age after which entries are reloaded in the background (0 = disabled)
+     * @param refreshExecutor     the executor for background reloads
+     */
+    public RefreshAheadCache(String name, long maximumSize, long ttlSeconds, long refreshAheadSeconds, Executor refreshExecutor) {
+        this.name = name;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+        this.refreshAheadNanos = TimeUnit.SECONDS.toNanos(refreshAheadSeconds);
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * 값 조회, 없으면 로드(Get the value, loading it on a miss)
+     *
+     * @param key    the key
+     * @param loader the loader
+     * @return the value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        CacheEntry<V> entry = cache.getIfPresent(key);
+
+        if (entry == null) {
+            missCount.increment();
+            return cache.get(key, k -> new CacheEntry<>(loader.apply(k))).getValue();
+        }
+
+        hitCount.increment();
+
+        if (refreshAheadNanos > 0 && entry.getAgeNanos() >= refreshAheadNanos && refreshingKeys.add(key)) {
+            refreshAsync(key, entry, loader);
+        }
+
+        return entry.getValue();
+    }
+
+    /**
+     * 백그라운드 갱신(Reload in the background)
+     *
+     * @param key     the key
+     * @param current the current entry
+     * @param loader  the loader
+     */
+    private void refreshAsync(K key, CacheEntry<V> current, Function<? super K, ? extends V> loader) {
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    CacheEntry<V> reloaded = new CacheEntry<>(loader.apply(key));
+                    // 갱신 중 무효화된 경우 덮어쓰지 않음(do not resurrect an entry invalidated meanwhile)
+                    cache.asMap().replace(key, current, reloaded);
+                    refreshCount.increment();
+                } catch (RuntimeException e) {
+                    LOGGER.warn("{} CACHE REFRESH FAILED :: {}", name, e.getMessage());
+                } finally {
+                    refreshingKeys.remove(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshingKeys.remove(key);
+            LOGGER.warn("{} CACHE REFRESH REJECTED :: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 값 무효화(Invalidate the key)
+     *
+     * @param key the key
+     */
+    public void invalidate(K key) {
+        invalidateCount.increment();
+        cache.invalidate(key);
+    }
+
+    /**
+     * 조건에 맞는 값 무효화(Invalidate the keys matching the predicate)
+     *
+     * @param predicate the predicate
+     */
+    public void invalidateIf(Predicate<? super K> predicate) {
+        invalidateCount.increment();
+        cache.asMap().keySet().removeIf(predicate);
+    }
+
+    /**
+     * 조건에 맞는 값을 가진 항목 무효화(Invalidate the entries whose value matches the predicate)
+     *
+     * @param predicate the predicate
+     */
+    public void invalidateValues(Predicate<? super V> predicate) {
+        invalidateCount.increment();
+        cache.asMap().values().removeIf(entry -> predicate.test(entry.getValue()));
+    }
+
+    /**
+     * 전체 무효화(Invalidate all)
+     */
+    public void invalidateAll() {
+        invalidateCount.increment();
+        cache.invalidateAll();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cp.cache.gets", hitCount, LongAdder::doubleValue)
+                .tag("cache", name).tag("result", "hit").register(registry);
+        FunctionCounter.builder("cp.cache.gets", missCount, LongAdder::doubleValue)
+                .tag("cache", name).tag("result", "miss").register(registry);
+        FunctionCounter.builder("cp.cache.refreshes", refreshCount, LongAdder::doubleValue)
+                .tag("cache", name).register(registry);
+        FunctionCounter.builder("cp.cache.invalidations", invalidateCount, LongAdder::doubleValue)
+                .tag("cache", name).register(registry);
+        Gauge.builder("cp.cache.size", cache, Cache::estimatedSize)
+                .tag("cache", name).register(registry);
+    }
+
+
+    /**
+     * 로드 시각을 함께 보관하는 캐시 항목(Cache entry with its load time)
+     */
+    private static final class CacheEntry<V> {
+        private final V value;
+        private final long loadedAt;
+
+        CacheEntry(V value) {
+            this.value = value;
+            this.loadedAt = System.nanoTime();
+        }
+
+        V getValue() {
+            return value;
+        }
+
+        long getAgeNanos() {
+            return System.nanoTime() - loadedAt;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.paasta.container.platform.api.common.cache;
+
+import java.util.Objects;
+
+/**
+ * User Token Key 클래스
+ *
+ * 사용자별 service account token 캐시의 key (user, namespace)
+ * (Key of the per-user service account token cache)
+ *
+ * @version 1.0
+ */
+public final class UserTokenKey {
+
+    private final String userId;
+    private final String namespace;
+
+    public UserTokenKey(String userId, String namespace) {
+        this.userId = userId;
+        this.namespace = namespace;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UserTokenKey)) {
+            return false;
+        }
+        UserTokenKey that = (UserTokenKey) o;
+        return Objects.equals(userId, that.userId) && Objects.equals(namespace, that.namespace);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, namespace);
+    }
+
+    @Override
+    public String toString() {
+        return "UserTokenKey(userId=" + userId + ", namespace=" + namespace + ")";
+    }
+}
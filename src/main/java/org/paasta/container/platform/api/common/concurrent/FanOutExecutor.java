@@ -0,0 +1,134 @@
+package org.paasta.container.platform.api.common.concurrent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fan Out Executor 클래스
+ *
+ * 한 요청 안의 독립적인 upstream 호출을 동시에 실행하는 제한된 크기의 executor. 요청 스레드의 RequestAttributes 를
+ * 작업 스레드에 전달하며, 요청 단위 마감 시간이 지나거나 실패한 호출은 대체 값으로 응답한다(부분 결과).
+ * 인증 값은 요청 스레드에서 미리 결정(UpstreamTarget)해 두는 것이 안전하다.
+ * (Bounded executor that runs the independent upstream calls of one request concurrently. The request thread's
+ * RequestAttributes are passed to the worker, and a call that fails or misses the per request deadline is answered
+ * with a fallback value so the caller can build a partial result. Resolve credentials (UpstreamTarget) on the
+ * request thread beforehand where possible.)
+ *
+ * @version 1.0
+ */
+@Component
+public class FanOutExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FanOutExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+
+    /**
+     * Instantiates a new Fan out executor
+     *
+     * @param threads       the max number of worker threads
+     * @param queueCapacity the queue capacity, the request thread runs the call itself when the queue is full
+     * @param timeoutMillis the deadline of all calls of one fan out
+     */
+    @Autowired
+    public FanOutExecutor(@Value("${cpFanOut.threads:16}") int threads,
+                          @Value("${cpFanOut.queueCapacity:200}") int queueCapacity,
+                          @Value("${cpFanOut.timeoutMillis:10000}") long timeoutMillis) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cp-fan-out-");
+        threadFactory.setDaemon(true);
+
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    /**
+     * 요청 단위 fan out 시작, 이 시점부터 마감 시간 계산(Begin a fan out; the deadline starts now)
+     *
+     * @return the fan out
+     */
+    public FanOut begin() {
+        return new FanOut(System.nanoTime() + timeoutNanos);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 요청 단위 fan out (Fan out of one request)
+     */
+    public final class FanOut {
+
+        private final long deadlineNanos;
+
+        private FanOut(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * 호출 실행(Submit a call)
+         *
+         * @param <T>  the type parameter
+         * @param task the task
+         * @return the future
+         */
+        public <T> Future<T> submit(Callable<T> task) {
+            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+            return executor.submit(() -> {
+                RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                try {
+                    return task.call();
+                } finally {
+                    RequestContextHolder.setRequestAttributes(previous);
+                }
+            });
+        }
+
+        /**
+         * 마감 시간까지 결과 대기, 실패 또는 시간 초과 시 대체 값 반환
+         * (Wait for the result until the deadline; returns the fallback on failure or timeout)
+         *
+         * @param <T>      the type parameter
+         * @param name     the call name for the log
+         * @param future   the future
+         * @param fallback the fallback
+         * @return the result
+         */
+        public <T> T get(String name, Future<T> future, T fallback) {
+            try {
+                T result = future.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+                return result == null ? fallback : result;
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                LOGGER.warn("Fan out call timed out, partial result without {}", name);
+            } catch (ExecutionException e) {
+                LOGGER.warn("Fan out call failed, partial result without {} :: {}", name, e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+            }
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package org.paasta.container.platform.api.common.concurrent;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stream Limiter 클래스
+ *
+ * 로그 follow 와 같은 장시간 stream 은 요청 스레드와 upstream connection 을 계속 점유하므로 사용자별, 전체 동시 개수를 제한한다.
+ * (Long-lived streams such as log follows hold a request thread and an upstream connection for their whole life,
+ * so the number open at once is limited per user and in total.)
+ *
+ * 사용자별 제한은 요청 수로, 전체 제한은 upstream stream 수로 센다. 여러 Pod 로그를 병합하는 요청은 follow 가 아니어도
+ * 여는 stream 수만큼 전체 허가를 사용하므로 전체 제한을 stream connection pool, 병합 스레드 수 이하로 두면 둘 다 고갈되지 않는다.
+ * (The per user limit counts requests and the total limit counts upstream streams. A request merging the logs of
+ * several pods is charged one per stream it opens, follow or not, so a total at or below the stream connection pool
+ * size and the merge threads keeps either from running dry.)
+ *
+ * @version 1.0
+ */
+@Component
+public class StreamLimiter {
+
+    private final int maxPerUser;
+    private final int maxTotal;
+    private final ConcurrentMap<String, Integer> openByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger openTotal = new AtomicInteger();
+
+    /**
+     * Instantiates a new Stream limiter
+     *
+     * @param maxPerUser the max number of open streams per user
+     * @param maxTotal   the max number of open upstream streams in total
+     */
+    @Autowired
+    public StreamLimiter(@Value("${cpStream.maxPerUser:3}") int maxPerUser,
+                         @Value("${cpStream.maxTotal:100}") int maxTotal) {
+        this.maxPerUser = maxPerUser;
+        this.maxTotal = maxTotal;
+    }
+
+    /**
+     * stream 허가 획득(Acquire a permit for one stream)
+     *
+     * @param userName the user name
+     * @return the permit, null when the user or the server is at its limit
+     */
+    public Permit tryAcquire(String userName) {
+        return tryAcquire(userName, 1);
+    }
+
+    /**
+     * 여러 upstream stream 을 여는 요청의 허가 획득(Acquire a permit for a request opening several upstream streams)
+     *
+     * @param userName the user name
+     * @param streams  the number of upstream streams the request opens
+     * @return the permit, null when the user or the server is at its limit
+     */
+    public Permit tryAcquire(String userName, int streams) {
+        if (openTotal.addAndGet(streams) > maxTotal) {
+            openTotal.addAndGet(-streams);
+            return null;
+        }
+
+        AtomicBoolean acquired = new AtomicBoolean();
+        openByUser.compute(userName, (key, open) -> {
+            int count = (open == null) ? 0 : open;
+            if (count >= maxPerUser) {
+                return open;
+            }
+            acquired.set(true);
+            return count + 1;
+        });
+
+        if (!acquired.get()) {
+            openTotal.addAndGet(-streams);
+            return null;
+        }
+        return new Permit(userName, streams);
+    }
+
+    /**
+     * 사용자별 제한 없이 전체 허가만 획득, follow 가 아닌 병합용(Acquire permits against the total only, for merges that do not follow)
+     *
+     * @param streams the number of upstream streams the request opens
+     * @return the permit, null when the server is at its limit
+     */
+    public Permit tryAcquireTotal(int streams) {
+        if (openTotal.addAndGet(streams) > maxTotal) {
+            openTotal.addAndGet(-streams);
+            return null;
+        }
+        return new Permit(null, streams);
+    }
+
+    /**
+     * 사용자의 열린 stream 수(Number of open streams of the user)
+     *
+     * @param userName the user name
+     * @return the count
+     */
+    public int getOpenCount(String userName) {
+        return openByUser.getOrDefault(userName, 0);
+    }
+
+    public int getOpenTotal() {
+        return openTotal.get();
+    }
+
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    private void release(String userName, int streams) {
+        if (userName != null) {
+            openByUser.computeIfPresent(userName, (key, open) -> open <= 1 ? null : open - 1);
+        }
+        openTotal.addAndGet(-streams);
+    }
+
+
+    /**
+     * stream 1개의 허가, close 시 반환(Permit of one stream, returned on close)
+     */
+    public final class Permit implements AutoCloseable {
+        private final String userName;
+        private final int streams;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Permit(String userName, int streams) {
+            this.userName = userName;
+            this.streams = streams;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(userName, streams);
+            }
+        }
+    }
+}
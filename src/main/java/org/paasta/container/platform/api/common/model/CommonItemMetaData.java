@@ -1,8 +1,12 @@
 package org.paasta.container.platform.api.common.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.gson.annotations.SerializedName;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
 
 /**
  * Common Item Meta Data Model 클래스
@@ -19,4 +23,15 @@ public class CommonItemMetaData {
     private Integer allItemCount;
     private Integer remainingItemCount;
 
+    // cursor 방식 paging 의 다음 page cursor (next page cursor of cursor based paging, null on the last page)
+    @Accessors(prefix = "_")
+    @SerializedName("continue")
+    @JsonProperty("continue")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String _continue;
+
+    public CommonItemMetaData(Integer allItemCount, Integer remainingItemCount) {
+        this.allItemCount = allItemCount;
+        this.remainingItemCount = remainingItemCount;
+    }
 }
@@ -0,0 +1,18 @@
+package org.paasta.container.platform.api.common.model;
+
+/**
+ * Common Next Action Model 인터페이스
+ *
+ * 생성/수정/삭제 후 이동할 페이지를 가지는 응답 model 의 공통 규약.
+ * (Common contract of response models that carry the page to move to after a create/update/delete.)
+ *
+ * @version 1.0
+ */
+public interface CommonNextActionModel {
+
+    String getResultCode();
+
+    void setResultCode(String resultCode);
+
+    void setNextActionUrl(String nextActionUrl);
+}
@@ -10,7 +10,7 @@ import lombok.Data;
  * @since 2020.11.11
  */
 @Data
-public class CommonResourcesYaml {
+public class CommonResourcesYaml implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
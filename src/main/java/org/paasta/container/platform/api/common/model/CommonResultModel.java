@@ -0,0 +1,22 @@
+package org.paasta.container.platform.api.common.model;
+
+/**
+ * Common Result Model 인터페이스
+ *
+ * 응답 model 의 결과 코드, 메시지 설정 공통 규약. CommonService 가 reflection 없이 결과를 설정한다.
+ * (Common contract of the result fields of response models, so CommonService stamps the result without reflection.)
+ *
+ * @version 1.0
+ */
+public interface CommonResultModel {
+
+    String getResultCode();
+
+    void setResultCode(String resultCode);
+
+    void setResultMessage(String resultMessage);
+
+    void setHttpStatusCode(Integer httpStatusCode);
+
+    void setDetailMessage(String detailMessage);
+}
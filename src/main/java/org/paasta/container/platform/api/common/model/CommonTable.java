@@ -0,0 +1,55 @@
+package org.paasta.container.platform.api.common.model;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Common Table Model 클래스
+ *
+ * API 서버의 Table 형식 목록 응답(Accept: application/json;as=Table). 리소스 전체 대신 출력 컬럼 값만 가진다.
+ * (Table projection of a list returned by the API server; it carries the printed column values instead of whole objects.)
+ *
+ * @version 1.0
+ */
+@Data
+public class CommonTable {
+    public static final String KIND_TABLE = "Table";
+
+    private String kind;
+    private Map<String, Object> metadata;
+    private List<CommonTableColumn> columnDefinitions;
+    private List<CommonTableRow> rows;
+
+    /**
+     * 컬럼 위치 조회, 없으면 -1 (Index of the column by name, -1 when absent)
+     *
+     * @param name the column name
+     * @return the int
+     */
+    public int indexOfColumn(String name) {
+        if (columnDefinitions != null) {
+            for (int i = 0; i < columnDefinitions.size(); i++) {
+                if (name.equalsIgnoreCase(columnDefinitions.get(i).getName())) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 행의 컬럼 값 조회(Get the cell value of a row)
+     *
+     * @param row   the row
+     * @param index the column index
+     * @return the string, null when absent
+     */
+    public static String cellOf(CommonTableRow row, int index) {
+        if (row.getCells() == null || index < 0 || index >= row.getCells().size() || row.getCells().get(index) == null) {
+            return null;
+        }
+        return String.valueOf(row.getCells().get(index));
+    }
+}
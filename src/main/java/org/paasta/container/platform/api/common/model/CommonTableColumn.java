@@ -0,0 +1,14 @@
+package org.paasta.container.platform.api.common.model;
+
+import lombok.Data;
+
+/**
+ * Common Table Column Model 클래스
+ *
+ * @version 1.0
+ */
+@Data
+public class CommonTableColumn {
+    private String name;
+    private String type;
+}
@@ -0,0 +1,15 @@
+package org.paasta.container.platform.api.common.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Common Table Row Model 클래스
+ *
+ * @version 1.0
+ */
+@Data
+public class CommonTableRow {
+    private List<Object> cells;
+}
@@ -14,7 +14,7 @@ import org.paasta.container.platform.api.common.CommonUtils;
  **/
 @Data
 @Builder
-public class ResultStatus {
+public class ResultStatus implements CommonNextActionModel {
     private String resultCode;
     private String resultMessage;
     private int httpStatusCode;
@@ -0,0 +1,109 @@
+package org.paasta.container.platform.api.common.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Field Accessor 클래스
+ *
+ * 클래스, 필드 명 단위로 getter/setter MethodHandle 을 한 번만 생성하여 캐시한다.
+ * 매 호출마다 getDeclaredField, setAccessible 을 반복하지 않는다.
+ * (Caches getter/setter MethodHandles per class and field name, instead of looking the field up
+ * and toggling its accessibility on every call.)
+ *
+ * @version 1.0
+ */
+public final class FieldAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<Map<String, Handles>> HANDLES = new ClassValue<Map<String, Handles>>() {
+        @Override
+        protected Map<String, Handles> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private FieldAccessor() {
+    }
+
+    /**
+     * 필드 값 조회(Get the field value)
+     *
+     * @param <T>       the type parameter
+     * @param fieldName the field name
+     * @param obj       the obj
+     * @return the t
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(String fieldName, Object obj) {
+        try {
+            return (T) handles(obj.getClass(), fieldName).getter.invoke(obj);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * 필드 값 저장(Set the field value)
+     *
+     * @param fieldName the field name
+     * @param obj       the obj
+     * @param value     the value
+     */
+    public static void set(String fieldName, Object obj, Object value) {
+        try {
+            handles(obj.getClass(), fieldName).setter.invoke(obj, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private static Handles handles(Class<?> type, String fieldName) {
+        Map<String, Handles> handlesByName = HANDLES.get(type);
+        Handles handles = handlesByName.get(fieldName);
+
+        if (handles == null) {
+            handles = handlesByName.computeIfAbsent(fieldName, name -> createHandles(type, name));
+        }
+
+        return handles;
+    }
+
+    private static Handles createHandles(Class<?> type, String fieldName) {
+        try {
+            Field field = type.getDeclaredField(fieldName);
+            field.setAccessible(true);
+
+            // Object 기준 시그니처로 변환하여 호출 시 타입 변환이 없도록 함(erase to Object so invoke() needs no adaptation)
+            MethodHandle getter = LOOKUP.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+            MethodHandle setter = LOOKUP.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+
+            return new Handles(getter, setter);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalArgumentException("No accessible field '" + fieldName + "' in " + type.getName(), e);
+        }
+    }
+
+
+    /**
+     * 필드별 getter/setter(Getter and setter handles of a field)
+     */
+    private static final class Handles {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        Handles(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+}
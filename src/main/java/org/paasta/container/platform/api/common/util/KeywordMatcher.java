@@ -0,0 +1,184 @@
+package org.paasta.container.platform.api.common.util;
+
+import java.util.Map;
+
+/**
+ * Keyword Matcher 클래스
+ *
+ * 목록 검색어를 요청당 한 번만 해석하여 대소문자 구분 없이 비교한다. 정규식을 사용하지 않으므로
+ * 검색어의 특수문자로 인한 오류나 backtracking 이 발생하지 않는다.
+ * (Parses a list search keyword once per request and matches it case-insensitively without regular
+ * expressions, so metacharacters in user input are taken literally and cannot cause backtracking.)
+ *
+ * 검색어 형식(Keyword syntax)
+ * - nginx        : 이름에 포함(contains, default)
+ * - nginx*       : 이름이 시작(prefix)
+ * - ng*x-?       : glob ('*' : any characters, '?' : one character)
+ * - label:app=ng : 이름 대신 label 의 key, value 또는 key=value 와 비교(match labels instead of the name)
+ *
+ * @version 1.0
+ */
+public final class KeywordMatcher {
+
+    public static final String LABEL_PREFIX = "label:";
+
+    private static final char GLOB_ANY = '*';
+    private static final char GLOB_ONE = '?';
+    private static final char LABEL_SEPARATOR = '=';
+
+    /**
+     * 비교 방식(Match mode)
+     */
+    public enum Mode {
+        CONTAINS, PREFIX, GLOB
+    }
+
+    private final String keyword;
+    private final Mode mode;
+    private final boolean matchLabels;
+
+    private KeywordMatcher(String keyword, Mode mode, boolean matchLabels) {
+        this.keyword = keyword;
+        this.mode = mode;
+        this.matchLabels = matchLabels;
+    }
+
+    /**
+     * 검색어 형식에 따라 생성(Create from the keyword syntax)
+     *
+     * @param searchKeyword the search keyword
+     * @return the keyword matcher
+     */
+    public static KeywordMatcher compile(String searchKeyword) {
+        String keyword = searchKeyword.trim();
+        boolean matchLabels = false;
+
+        if (keyword.regionMatches(true, 0, LABEL_PREFIX, 0, LABEL_PREFIX.length())) {
+            keyword = keyword.substring(LABEL_PREFIX.length()).trim();
+            matchLabels = true;
+        }
+
+        int anyIndex = keyword.indexOf(GLOB_ANY);
+        if (anyIndex < 0 && keyword.indexOf(GLOB_ONE) < 0) {
+            return new KeywordMatcher(keyword, Mode.CONTAINS, matchLabels);
+        }
+
+        if (anyIndex == keyword.length() - 1 && keyword.indexOf(GLOB_ONE) < 0) {
+            return new KeywordMatcher(keyword.substring(0, anyIndex), Mode.PREFIX, matchLabels);
+        }
+
+        return new KeywordMatcher(keyword, Mode.GLOB, matchLabels);
+    }
+
+    /**
+     * 지정한 방식으로 생성(Create with an explicit mode)
+     *
+     * @param keyword     the keyword
+     * @param mode        the mode
+     * @param matchLabels whether to match labels instead of the name
+     * @return the keyword matcher
+     */
+    public static KeywordMatcher of(String keyword, Mode mode, boolean matchLabels) {
+        return new KeywordMatcher(keyword, mode, matchLabels);
+    }
+
+    public boolean isMatchLabels() {
+        return matchLabels;
+    }
+
+    /**
+     * label 비교(Match any label key, value or key=value)
+     *
+     * @param labels the labels
+     * @return the boolean
+     */
+    public boolean matchesLabels(Map<String, String> labels) {
+        if (labels == null) {
+            return false;
+        }
+
+        boolean keyValueKeyword = keyword.indexOf(LABEL_SEPARATOR) >= 0;
+
+        for (Map.Entry<String, String> label : labels.entrySet()) {
+            if (matches(label.getKey()) || matches(label.getValue())) {
+                return true;
+            }
+            if (keyValueKeyword && matches(label.getKey() + LABEL_SEPARATOR + label.getValue())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 문자열 비교(Match a string)
+     *
+     * @param value the value
+     * @return the boolean
+     */
+    public boolean matches(String value) {
+        if (value == null) {
+            return false;
+        }
+
+        switch (mode) {
+            case PREFIX:
+                return value.regionMatches(true, 0, keyword, 0, keyword.length());
+            case GLOB:
+                return globMatches(value);
+            default:
+                return containsIgnoreCase(value);
+        }
+    }
+
+    private boolean containsIgnoreCase(String value) {
+        int keywordLength = keyword.length();
+        int last = value.length() - keywordLength;
+
+        for (int i = 0; i <= last; i++) {
+            if (value.regionMatches(true, i, keyword, 0, keywordLength)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * '*', '?' glob 비교, 마지막 '*' 위치로만 되돌아가므로 선형에 가깝게 동작
+     * (Wildcard match that only backtracks to the last '*', so it stays close to linear)
+     */
+    private boolean globMatches(String value) {
+        int v = 0;
+        int k = 0;
+        int starIndex = -1;
+        int starMatch = 0;
+
+        while (v < value.length()) {
+            if (k < keyword.length() && (keyword.charAt(k) == GLOB_ONE || equalsIgnoreCase(keyword.charAt(k), value.charAt(v)))) {
+                v++;
+                k++;
+            } else if (k < keyword.length() && keyword.charAt(k) == GLOB_ANY) {
+                starIndex = k++;
+                starMatch = v;
+            } else if (starIndex >= 0) {
+                k = starIndex + 1;
+                v = ++starMatch;
+            } else {
+                return false;
+            }
+        }
+
+        while (k < keyword.length() && keyword.charAt(k) == GLOB_ANY) {
+            k++;
+        }
+
+        return k == keyword.length();
+    }
+
+    private static boolean equalsIgnoreCase(char a, char b) {
+        return a == b || Character.toUpperCase(a) == Character.toUpperCase(b)
+                || Character.toLowerCase(a) == Character.toLowerCase(b);
+    }
+}
@@ -0,0 +1,127 @@
+package org.paasta.container.platform.api.common.util;
+
+import org.paasta.container.platform.api.common.MessageConstant;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * List Cursor 클래스
+ *
+ * 목록 cursor 방식 paging 의 불투명(opaque) cursor. API 서버 continue token 으로 다음 page 를 가져오는 cursor 와,
+ * 전체 목록을 정렬한 뒤 위치로 이어서 가져오는 cursor 두 종류가 있으며 두 경우 모두 지금까지 반환한 항목 수를 함께 가진다.
+ * (Opaque cursor for cursor based list paging. It either carries the API server's continue token or, when the
+ * list had to be sorted across items, a position in the sorted list; both keep the number of items returned so far.)
+ *
+ * @version 1.0
+ */
+public final class ListCursor {
+
+    private static final String API_SERVER_PREFIX = "k:";
+    private static final String POSITION_PREFIX = "p:";
+    private static final char SEPARATOR = ':';
+    // API 서버 continue token 은 base64url 문자열, 그 외 문자는 요청 URL 을 바꿀 수 있으므로 거부
+    // (the API server's continue token is base64url; anything else could alter the upstream request URL)
+    private static final Pattern API_SERVER_CONTINUE_PATTERN = Pattern.compile("[A-Za-z0-9_-]+");
+
+    private final int position;
+    private final String apiServerContinue;
+
+    private ListCursor(int position, String apiServerContinue) {
+        this.position = position;
+        this.apiServerContinue = apiServerContinue;
+    }
+
+    /**
+     * 첫 page cursor (Cursor of the first page)
+     *
+     * @return the list cursor
+     */
+    public static ListCursor first() {
+        return new ListCursor(0, null);
+    }
+
+    /**
+     * API 서버 continue token cursor (Cursor that continues with the API server's continue token)
+     *
+     * @param position          the number of items returned so far
+     * @param apiServerContinue the continue token of the API server
+     * @return the list cursor
+     */
+    public static ListCursor ofApiServer(int position, String apiServerContinue) {
+        return new ListCursor(position, apiServerContinue);
+    }
+
+    /**
+     * 정렬 목록 위치 cursor (Cursor that continues at a position in the sorted list)
+     *
+     * @param position the number of items returned so far
+     * @return the list cursor
+     */
+    public static ListCursor ofPosition(int position) {
+        return new ListCursor(position, null);
+    }
+
+    /**
+     * 요청 값 해석, 빈 값이면 첫 page (Decode a request value; empty means the first page)
+     *
+     * @param cursor the cursor
+     * @return the list cursor
+     */
+    public static ListCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return first();
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            if (decoded.startsWith(POSITION_PREFIX)) {
+                return ofPosition(parsePosition(decoded.substring(POSITION_PREFIX.length())));
+            }
+            if (decoded.startsWith(API_SERVER_PREFIX)) {
+                int separatorIndex = decoded.indexOf(SEPARATOR, API_SERVER_PREFIX.length());
+                String apiServerContinue = decoded.substring(separatorIndex + 1);
+
+                if (API_SERVER_CONTINUE_PATTERN.matcher(apiServerContinue).matches()) {
+                    return ofApiServer(parsePosition(decoded.substring(API_SERVER_PREFIX.length(), separatorIndex)), apiServerContinue);
+                }
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+            // 아래에서 처리(handled below)
+        }
+
+        throw new IllegalArgumentException(MessageConstant.CONTINUE_ILLEGALARGUMENT);
+    }
+
+    /**
+     * 응답에 담을 값 생성(Encode for the response)
+     *
+     * @return the string
+     */
+    public String encode() {
+        String value = isApiServer() ? API_SERVER_PREFIX + position + SEPARATOR + apiServerContinue : POSITION_PREFIX + position;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public String getApiServerContinue() {
+        return apiServerContinue;
+    }
+
+    public boolean isApiServer() {
+        return apiServerContinue != null;
+    }
+
+    private static int parsePosition(String value) {
+        int position = Integer.parseInt(value);
+        if (position < 0) {
+            throw new IllegalArgumentException(value);
+        }
+        return position;
+    }
+}
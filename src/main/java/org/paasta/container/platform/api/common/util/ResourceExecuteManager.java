@@ -82,14 +82,11 @@ public class ResourceExecuteManager {
      * @throws Exception
      */
     public static Object commonControllerExecute(String namespace, String yaml, boolean isAdmin) throws Exception {
-        String[] multiYaml;
-
-        multiYaml = YamlUtil.splitYaml(yaml);
         Object object = null;
 
-        for (String temp : multiYaml) {
-            String kind = YamlUtil.parsingYaml(temp,"kind");
-            object = execServiceMethod(namespace, kind, temp, isAdmin);
+        // 생성 전 검증에서 파싱한 결과를 재사용(reuses the manifests parsed by the validation before create)
+        for (YamlManifest manifest : YamlUtil.parseManifests(yaml)) {
+            object = execServiceMethod(namespace, manifest.getKind(), manifest.getSource(), isAdmin);
         }
         return object;
     }
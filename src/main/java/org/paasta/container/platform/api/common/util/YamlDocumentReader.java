@@ -0,0 +1,171 @@
+package org.paasta.container.platform.api.common.util;
+
+import org.paasta.container.platform.api.common.Constants;
+import org.paasta.container.platform.api.common.MessageConstant;
+import org.paasta.container.platform.api.common.model.CommonStatusCode;
+import org.paasta.container.platform.api.exception.ContainerPlatformException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Yaml Document Reader 클래스
+ *
+ * 복합 YAML 을 줄 단위로 읽어 문서를 하나씩 반환한다. 문서 구분은 줄 처음의 "---", "..." 표시만 인정하므로
+ * 값 안의 "---" 로 문서가 나뉘지 않으며, 한 번에 문서 1개만 메모리에 둔다.
+ * (Reads a multi-document YAML line by line and returns one document at a time. Only "---" and "..." markers at
+ * the start of a line separate documents, so a "---" inside a value does not split a document, and only one
+ * document is held in memory at a time.)
+ *
+ * @version 1.0
+ */
+public final class YamlDocumentReader implements Iterator<String>, Closeable {
+
+    /**
+     * 문서 1개의 최대 길이, API 서버 요청 크기 제한보다 여유 있게(max length of one document, above the API server's request limit)
+     */
+    public static final int DEFAULT_MAX_DOCUMENT_LENGTH = 4 * 1024 * 1024;
+
+    private static final String DOCUMENT_START = "---";
+    private static final String DOCUMENT_END = "...";
+
+    private final BufferedReader reader;
+    private final int maxDocumentLength;
+
+    private String next;
+    private String pushedBack;
+    private boolean finished;
+
+    /**
+     * Instantiates a new Yaml document reader
+     *
+     * @param reader            the reader
+     * @param maxDocumentLength the max length of one document
+     */
+    public YamlDocumentReader(Reader reader, int maxDocumentLength) {
+        this.reader = (reader instanceof BufferedReader) ? (BufferedReader) reader : new BufferedReader(reader);
+        this.maxDocumentLength = maxDocumentLength;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            try {
+                next = readDocument();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String document = next;
+        next = null;
+        return document;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * 내용이 있는 다음 문서 읽기, 빈 문서와 주석만 있는 문서는 건너뜀
+     * (Read the next document with content; empty and comment only documents are skipped)
+     *
+     * @return the document, null at the end of the input
+     */
+    private String readDocument() throws IOException {
+        StringBuilder document = new StringBuilder();
+        boolean hasContent = false;
+        boolean hasDirective = false;
+        String line;
+
+        while ((line = readLine()) != null) {
+            if (isMarker(line, DOCUMENT_START)) {
+                // "--- kind: Pod" 처럼 표시 뒤의 내용은 다음 문서의 첫 줄(content after the marker is the first line of the next document)
+                String rest = line.substring(DOCUMENT_START.length()).trim();
+                pushedBack = (rest.isEmpty() || rest.startsWith("#")) ? null : rest;
+
+                if (hasContent) {
+                    return toDocument(document);
+                }
+                if (hasDirective) {
+                    // %YAML, %TAG 지시자는 뒤따르는 문서에 속함(directives belong to the document they precede)
+                    append(document, DOCUMENT_START);
+                } else {
+                    document.setLength(0);
+                }
+                continue;
+            }
+
+            if (isMarker(line, DOCUMENT_END)) {
+                if (hasContent) {
+                    return toDocument(document);
+                }
+                document.setLength(0);
+                hasDirective = false;
+                continue;
+            }
+
+            String trimmed = line.trim();
+            if (!hasContent && line.startsWith("%")) {
+                hasDirective = true;
+            } else if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                hasContent = true;
+            }
+
+            if (document.length() > 0 || !trimmed.isEmpty()) {
+                append(document, line);
+            }
+        }
+
+        finished = true;
+        return hasContent ? toDocument(document) : null;
+    }
+
+    private String readLine() throws IOException {
+        if (pushedBack != null) {
+            String line = pushedBack;
+            pushedBack = null;
+            return line;
+        }
+        return reader.readLine();
+    }
+
+    /**
+     * 끝의 공백을 제외한 문서(The document without trailing whitespace)
+     */
+    private static String toDocument(StringBuilder document) {
+        int end = document.length();
+        while (end > 0 && Character.isWhitespace(document.charAt(end - 1))) {
+            end--;
+        }
+        return document.substring(0, end);
+    }
+
+    private void append(StringBuilder document, String line) {
+        if (document.length() + line.length() + 1 > maxDocumentLength) {
+            throw new ContainerPlatformException(Constants.RESULT_STATUS_FAIL, MessageConstant.INVALID_YAML_FORMAT,
+                    CommonStatusCode.UNPROCESSABLE_ENTITY.getCode(), MessageConstant.INVALID_YAML_FORMAT);
+        }
+        if (document.length() > 0) {
+            document.append('\n');
+        }
+        document.append(line);
+    }
+
+    private static boolean isMarker(String line, String marker) {
+        return line.startsWith(marker) && (line.length() == marker.length() || Character.isWhitespace(line.charAt(marker.length())));
+    }
+}
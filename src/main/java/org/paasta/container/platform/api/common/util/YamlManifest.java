@@ -0,0 +1,65 @@
+package org.paasta.container.platform.api.common.util;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Yaml Manifest 클래스
+ *
+ * 복합 YAML 의 문서 1개를 한 번 파싱한 결과. 검증, dry-run, 실행 단계에서 다시 파싱하지 않고 함께 사용한다.
+ * (One document of a multi-document YAML, parsed once and shared by validation, dry-run and execution.)
+ *
+ * @version 1.0
+ */
+public final class YamlManifest {
+
+    private final String source;
+    private final String kind;
+    private final String apiVersion;
+    private final String name;
+    private final String namespace;
+    private final Map<String, Object> metadata;
+
+    YamlManifest(String source, String kind, String apiVersion, String name, String namespace, Map<String, Object> metadata) {
+        this.source = source;
+        this.kind = kind;
+        this.apiVersion = apiVersion;
+        this.name = name;
+        this.namespace = namespace;
+        this.metadata = Collections.unmodifiableMap(metadata);
+    }
+
+    /**
+     * 문서 원문(The document text, as sent to the API server)
+     *
+     * @return the source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public String getApiVersion() {
+        return apiVersion;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * metadata.namespace, 없으면 null (metadata.namespace, null when absent)
+     *
+     * @return the namespace
+     */
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public Map<String, Object> getMetadata() {
+        return metadata;
+    }
+}
@@ -4,9 +4,19 @@ import org.paasta.container.platform.api.common.Constants;
 import org.paasta.container.platform.api.common.MessageConstant;
 import org.paasta.container.platform.api.common.model.CommonStatusCode;
 import org.paasta.container.platform.api.exception.ContainerPlatformException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.representer.Representer;
 
+import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -18,6 +28,86 @@ import java.util.Map;
  **/
 public class YamlUtil {
 
+    private static final String KIND_KEY = "kind";
+    private static final String API_VERSION_KEY = "apiVersion";
+    private static final String METADATA_KEY = "metadata";
+    private static final String NAME_KEY = "name";
+    private static final String NAMESPACE_KEY = "namespace";
+    private static final String MANIFESTS_ATTRIBUTE = YamlUtil.class.getName() + ".manifests";
+
+    // 태그로 임의 객체를 만들지 않는 로더 설정, Yaml 은 thread-safe 하지 않으므로 스레드별로 재사용
+    // (loader configuration that never instantiates tagged classes; Yaml is not thread-safe, so one is reused per thread)
+    private static final ThreadLocal<Yaml> YAML_LOADER = ThreadLocal.withInitial(() -> {
+        LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setMaxAliasesForCollections(50);
+        return new Yaml(new SafeConstructor(), new Representer(), new DumperOptions(), loaderOptions);
+    });
+
+
+    /**
+     * 복합 YAML 을 문서별 Manifest 로 조회(Get the manifest of each document of a multiple YAML)
+     *
+     * 같은 요청 안에서 같은 YAML 은 한 번만 파싱한다.
+     * (The same YAML is parsed only once within a request.)
+     *
+     * @param yaml the yaml
+     * @return the manifests
+     */
+    public static List<YamlManifest> parseManifests(String yaml) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            Object parsed = requestAttributes.getAttribute(MANIFESTS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (parsed instanceof ParsedYaml && ((ParsedYaml) parsed).yaml.equals(yaml)) {
+                return ((ParsedYaml) parsed).manifests;
+            }
+        }
+
+        List<YamlManifest> manifests = new ArrayList<>();
+        YamlDocumentReader documents = new YamlDocumentReader(new StringReader(yaml), YamlDocumentReader.DEFAULT_MAX_DOCUMENT_LENGTH);
+        while (documents.hasNext()) {
+            manifests.add(parseManifest(documents.next()));
+        }
+        manifests = Collections.unmodifiableList(manifests);
+
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(MANIFESTS_ATTRIBUTE, new ParsedYaml(yaml, manifests), RequestAttributes.SCOPE_REQUEST);
+        }
+        return manifests;
+    }
+
+
+    /**
+     * YAML 문서 1개의 Manifest 조회(Get the manifest of one YAML document)
+     *
+     * @param document the document
+     * @return the manifest
+     */
+    public static YamlManifest parseManifest(String document) {
+        Object loaded;
+        try {
+            loaded = YAML_LOADER.get().load(document);
+        } catch (YAMLException e) {
+            throw invalidYamlFormat();
+        }
+
+        if (!(loaded instanceof Map) || !(((Map<?, ?>) loaded).get(METADATA_KEY) instanceof Map)) {
+            throw invalidYamlFormat();
+        }
+
+        Map<?, ?> yamlMap = (Map<?, ?>) loaded;
+        @SuppressWarnings("unchecked")
+        Map<String, Object> metadata = (Map<String, Object>) yamlMap.get(METADATA_KEY);
+        String kind = toStringOrNull(yamlMap.get(KIND_KEY));
+        String name = toStringOrNull(metadata.get(NAME_KEY));
+
+        if (kind == null || name == null) {
+            throw invalidYamlFormat();
+        }
+
+        return new YamlManifest(document, kind, toStringOrNull(yamlMap.get(API_VERSION_KEY)), name,
+                toStringOrNull(metadata.get(NAMESPACE_KEY)), metadata);
+    }
+
     /**
      * YAML 의 Resource 값 조회(Get YAML's resource)
      *
@@ -28,8 +118,7 @@ public class YamlUtil {
     public static String parsingYaml(String yaml, String keyword) {
         String value = null;
         try {
-            Yaml y = new Yaml();
-            Map<String,Object> yamlMap = y.load(yaml);
+            Map<String,Object> yamlMap = YAML_LOADER.get().load(yaml);
 
             if ("kind".equals(keyword)) {
                 value = (String) yamlMap.get(keyword);
@@ -56,8 +145,7 @@ public class YamlUtil {
     public static Map parsingYamlMap(String yaml, String keyword) {
         Map value = null;
         try {
-            Yaml y = new Yaml();
-            Map<String,Object> yamlMap = y.load(yaml);
+            Map<String,Object> yamlMap = YAML_LOADER.get().load(yaml);
 
             if ("metadata".equals(keyword)) {
                 value = (Map) yamlMap.get(keyword);
@@ -87,19 +175,40 @@ public class YamlUtil {
    /**
     * 복합 yaml List 로 조회(Get list of multiple YAML)
     *
+    * 줄 처음의 문서 구분 표시로만 나눈다(split only on document markers at the start of a line)
+    *
     * @param yaml the yaml
     * @return the string[]
     */
     public static String[] splitYaml(String yaml) {
-        String[] yamlArray = yaml.split("---");
         ArrayList<String> returnList = new ArrayList<String>();
+        YamlDocumentReader documents = new YamlDocumentReader(new StringReader(yaml), YamlDocumentReader.DEFAULT_MAX_DOCUMENT_LENGTH);
 
-        for (String temp : yamlArray) {
-            temp =  temp.trim();
-            if ( temp.length() > 0 )  {
-                returnList.add(temp);
-            }
+        while (documents.hasNext()) {
+            returnList.add(documents.next());
         }
          return returnList.toArray(new String[returnList.size()]);
     }
+
+    private static String toStringOrNull(Object value) {
+        return (value == null) ? null : value.toString();
+    }
+
+    private static ContainerPlatformException invalidYamlFormat() {
+        return new ContainerPlatformException(Constants.RESULT_STATUS_FAIL, MessageConstant.INVALID_YAML_FORMAT, CommonStatusCode.UNPROCESSABLE_ENTITY.getCode(), MessageConstant.INVALID_YAML_FORMAT);
+    }
+
+
+    /**
+     * 요청에 보관하는 파싱 결과(Parsed manifests kept on the request)
+     */
+    private static final class ParsedYaml {
+        private final String yaml;
+        private final List<YamlManifest> manifests;
+
+        private ParsedYaml(String yaml, List<YamlManifest> manifests) {
+            this.yaml = yaml;
+            this.manifests = manifests;
+        }
+    }
 }
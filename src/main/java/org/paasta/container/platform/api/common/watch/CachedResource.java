@@ -0,0 +1,128 @@
+package org.paasta.container.platform.api.common.watch;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cached Resource 클래스
+ *
+ * Watch Cache 에 저장되는 리소스 1건. 원본 JSON 과 검색, index 에 필요한 값만 보관한다.
+ * (One resource in the watch cache : its compact JSON plus the values used by indexes and selectors.)
+ *
+ * @version 1.0
+ */
+public final class CachedResource {
+
+    static final String FIELD_NAME = "metadata.name";
+    static final String FIELD_NAMESPACE = "metadata.namespace";
+    static final String FIELD_NODE_NAME = "spec.nodeName";
+    static final String FIELD_PHASE = "status.phase";
+
+    private final String key;
+    private final String namespace;
+    private final String name;
+    private final Map<String, String> labels;
+    private final Map<String, String> fields;
+    private final String json;
+
+    private CachedResource(String namespace, String name, Map<String, String> labels, Map<String, String> fields, String json) {
+        this.key = key(namespace, name);
+        this.namespace = namespace;
+        this.name = name;
+        this.labels = labels;
+        this.fields = fields;
+        this.json = json;
+    }
+
+    /**
+     * Kubernetes 객체로부터 생성(Create from a Kubernetes object)
+     *
+     * @param gson   the gson
+     * @param object the object
+     * @return the cached resource
+     */
+    public static CachedResource of(Gson gson, JsonObject object) {
+        JsonObject metadata = object.has("metadata") ? object.getAsJsonObject("metadata") : new JsonObject();
+        String namespace = getString(metadata, "namespace");
+        String name = getString(metadata, "name");
+
+        Map<String, String> labels = Collections.emptyMap();
+        if (metadata.has("labels") && metadata.get("labels").isJsonObject()) {
+            labels = new HashMap<>();
+            for (Map.Entry<String, JsonElement> label : metadata.getAsJsonObject("labels").entrySet()) {
+                labels.put(label.getKey(), label.getValue().isJsonNull() ? "" : label.getValue().getAsString());
+            }
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_NAME, name);
+        fields.put(FIELD_NAMESPACE, namespace == null ? "" : namespace);
+        if (object.has("spec") && object.get("spec").isJsonObject()) {
+            fields.put(FIELD_NODE_NAME, nullToEmpty(getString(object.getAsJsonObject("spec"), "nodeName")));
+        }
+        if (object.has("status") && object.get("status").isJsonObject()) {
+            fields.put(FIELD_PHASE, nullToEmpty(getString(object.getAsJsonObject("status"), "phase")));
+        }
+
+        return new CachedResource(namespace, name, labels, fields, gson.toJson(object));
+    }
+
+    /**
+     * 저장 key(Store key : namespace/name, or name for cluster scoped resources)
+     *
+     * @param namespace the namespace
+     * @param name      the name
+     * @return the string
+     */
+    public static String key(String namespace, String name) {
+        return (namespace == null || namespace.isEmpty()) ? name : namespace + "/" + name;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<String, String> getLabels() {
+        return labels;
+    }
+
+    public String getJson() {
+        return json;
+    }
+
+    /**
+     * field selector 에 사용할 값(Value of a supported field selector path)
+     *
+     * @param path the path
+     * @return the string, null when the path is not supported
+     */
+    public String getField(String path) {
+        return fields.get(path);
+    }
+
+    static boolean isSupportedField(String path) {
+        return FIELD_NAME.equals(path) || FIELD_NAMESPACE.equals(path) || FIELD_NODE_NAME.equals(path) || FIELD_PHASE.equals(path);
+    }
+
+    private static String getString(JsonObject object, String memberName) {
+        JsonElement element = object.get(memberName);
+        return (element == null || element.isJsonNull()) ? null : element.getAsString();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
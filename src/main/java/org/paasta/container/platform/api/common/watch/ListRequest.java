@@ -0,0 +1,222 @@
+package org.paasta.container.platform.api.common.watch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * List Request 클래스
+ *
+ * CP Master API 목록 조회 URL 을 해석한 결과. Watch Cache 로 처리할 수 없는 요청이면 parse 결과가 null 이다.
+ * (A CP master list URL parsed for the watch cache; parse returns null when the cache cannot answer it.)
+ *
+ * 지원 범위(Supported) : labelSelector (=, ==, !=, key, !key), fieldSelector (=, ==, != on
+ * metadata.name, metadata.namespace, spec.nodeName, status.phase)
+ *
+ * @version 1.0
+ */
+public final class ListRequest {
+
+    private static final String LABEL_SELECTOR = "labelSelector";
+    private static final String FIELD_SELECTOR = "fieldSelector";
+    private static final String NAMESPACES_PATH = "/namespaces/";
+
+    /**
+     * selector 조건(Selector requirement)
+     */
+    public static final class Requirement {
+        public enum Operator {
+            EQUALS, NOT_EQUALS, EXISTS, NOT_EXISTS
+        }
+
+        private final String key;
+        private final Operator operator;
+        private final String value;
+
+        Requirement(String key, Operator operator, String value) {
+            this.key = key;
+            this.operator = operator;
+            this.value = value;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public Operator getOperator() {
+            return operator;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        boolean matches(String actual) {
+            switch (operator) {
+                case EQUALS:
+                    return value.equals(actual);
+                case NOT_EQUALS:
+                    return !value.equals(actual);
+                case EXISTS:
+                    return actual != null;
+                default:
+                    return actual == null;
+            }
+        }
+    }
+
+    private final WatchResourceType type;
+    private final String namespace;
+    private final List<Requirement> labelRequirements;
+    private final List<Requirement> fieldRequirements;
+
+    private ListRequest(WatchResourceType type, String namespace, List<Requirement> labelRequirements, List<Requirement> fieldRequirements) {
+        this.type = type;
+        this.namespace = namespace;
+        this.labelRequirements = labelRequirements;
+        this.fieldRequirements = fieldRequirements;
+    }
+
+    /**
+     * 목록 조회 URL 해석(Parse a list url)
+     *
+     * @param reqUrl the req url (path and query)
+     * @return the list request, null when the url is not a cacheable list request
+     */
+    public static ListRequest parse(String reqUrl) {
+        int queryIndex = reqUrl.indexOf('?');
+        String path = queryIndex < 0 ? reqUrl : reqUrl.substring(0, queryIndex);
+        String query = queryIndex < 0 ? "" : reqUrl.substring(queryIndex + 1);
+
+        for (WatchResourceType type : WatchResourceType.values()) {
+            String namespace = matchPath(type, path);
+            if (namespace == null) {
+                continue;
+            }
+
+            List<Requirement> labelRequirements = Collections.emptyList();
+            List<Requirement> fieldRequirements = Collections.emptyList();
+
+            for (String param : query.split("&")) {
+                if (param.isEmpty()) {
+                    continue;
+                }
+                int equalsIndex = param.indexOf('=');
+                String paramName = equalsIndex < 0 ? param : param.substring(0, equalsIndex);
+                String paramValue = equalsIndex < 0 ? "" : param.substring(equalsIndex + 1);
+
+                if (LABEL_SELECTOR.equals(paramName)) {
+                    labelRequirements = parseSelector(paramValue, false);
+                } else if (FIELD_SELECTOR.equals(paramName)) {
+                    fieldRequirements = parseSelector(paramValue, true);
+                } else {
+                    return null;
+                }
+
+                if (labelRequirements == null || fieldRequirements == null) {
+                    return null;
+                }
+            }
+
+            return new ListRequest(type, namespace.isEmpty() ? null : namespace, labelRequirements, fieldRequirements);
+        }
+
+        return null;
+    }
+
+    /**
+     * 경로 비교, 일치하면 namespace (전체는 빈 문자열) 반환(Match the path; returns the namespace, "" for all namespaces)
+     */
+    private static String matchPath(WatchResourceType type, String path) {
+        if (path.equals(type.getListPath())) {
+            return "";
+        }
+
+        String namespacedPrefix = type.getApiPrefix() + NAMESPACES_PATH;
+        String suffix = "/" + type.getPlural();
+
+        if (type.isNamespaced() && path.startsWith(namespacedPrefix) && path.endsWith(suffix)) {
+            String namespace = path.substring(namespacedPrefix.length(), path.length() - suffix.length());
+            if (!namespace.isEmpty() && namespace.indexOf('/') < 0) {
+                return namespace;
+            }
+        }
+
+        return null;
+    }
+
+    private static List<Requirement> parseSelector(String selector, boolean fieldSelector) {
+        List<Requirement> requirements = new ArrayList<>();
+
+        for (String term : selector.split(",")) {
+            term = term.trim();
+            if (term.isEmpty()) {
+                continue;
+            }
+            // set 기반 조건은 지원하지 않음(set based requirements are left to the API server)
+            if (term.indexOf('(') >= 0 || term.indexOf(' ') >= 0) {
+                return null;
+            }
+
+            Requirement requirement;
+            int notEqualsIndex = term.indexOf("!=");
+            int equalsIndex = term.indexOf('=');
+
+            if (notEqualsIndex > 0) {
+                requirement = new Requirement(term.substring(0, notEqualsIndex), Requirement.Operator.NOT_EQUALS, term.substring(notEqualsIndex + 2));
+            } else if (equalsIndex > 0) {
+                int valueIndex = term.startsWith("==", equalsIndex) ? equalsIndex + 2 : equalsIndex + 1;
+                requirement = new Requirement(term.substring(0, equalsIndex), Requirement.Operator.EQUALS, term.substring(valueIndex));
+            } else if (!fieldSelector && term.startsWith("!")) {
+                requirement = new Requirement(term.substring(1), Requirement.Operator.NOT_EXISTS, null);
+            } else if (!fieldSelector && equalsIndex < 0) {
+                requirement = new Requirement(term, Requirement.Operator.EXISTS, null);
+            } else {
+                return null;
+            }
+
+            if (fieldSelector && !CachedResource.isSupportedField(requirement.getKey())) {
+                return null;
+            }
+
+            requirements.add(requirement);
+        }
+
+        return requirements;
+    }
+
+    public WatchResourceType getType() {
+        return type;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public List<Requirement> getLabelRequirements() {
+        return labelRequirements;
+    }
+
+    /**
+     * 리소스가 조건에 맞는지 확인(Whether the resource matches the selectors)
+     *
+     * @param resource the resource
+     * @return the boolean
+     */
+    public boolean matches(CachedResource resource) {
+        if (namespace != null && !namespace.equals(resource.getNamespace())) {
+            return false;
+        }
+        for (Requirement requirement : labelRequirements) {
+            if (!requirement.matches(resource.getLabels().get(requirement.getKey()))) {
+                return false;
+            }
+        }
+        for (Requirement requirement : fieldRequirements) {
+            if (!requirement.matches(resource.getField(requirement.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,277 @@
+package org.paasta.container.platform.api.common.watch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Resource Watch Cache 클래스
+ *
+ * 리소스 유형 1개의 메모리 저장소. LIST 결과로 초기화하고 WATCH 이벤트로 갱신하며,
+ * namespace 와 label (key=value) index 를 함께 유지한다. 목록은 API 서버와 같이 namespace/name 순서로 반환한다.
+ * (In-memory store for one resource type. It is filled by a LIST, kept current by WATCH events and keeps
+ * namespace and label (key=value) indexes. Lists come back in namespace/name order like the API server.)
+ *
+ * @version 1.0
+ */
+public class ResourceWatchCache {
+
+    private static final char KEY_SEPARATOR = '/';
+    private static final char KEY_SEPARATOR_NEXT = KEY_SEPARATOR + 1;
+
+    private final WatchResourceType type;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private NavigableMap<String, CachedResource> objects = new TreeMap<>();
+    private Map<String, NavigableSet<String>> labelIndex = new HashMap<>();
+
+    private volatile String resourceVersion;
+    private volatile boolean synced;
+    private volatile long lastContactNanos;
+    private volatile long listedNanos;
+
+    public ResourceWatchCache(WatchResourceType type) {
+        this.type = type;
+        this.lastContactNanos = System.nanoTime();
+    }
+
+    public WatchResourceType getType() {
+        return type;
+    }
+
+    public String getResourceVersion() {
+        return resourceVersion;
+    }
+
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * 저장된 리소스 수(Number of cached resources)
+     *
+     * @return the int
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return objects.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 지정 시간 안에 API 서버와 통신했는지 확인(Whether the API server was reached within the given age)
+     *
+     * @param maxStalenessNanos the max staleness nanos
+     * @return the boolean
+     */
+    public boolean isFresh(long maxStalenessNanos) {
+        return synced && System.nanoTime() - lastContactNanos <= maxStalenessNanos;
+    }
+
+    /**
+     * 마지막 LIST 가 지정 시간보다 오래되었는지 확인(Whether the last LIST is older than the given age)
+     *
+     * @param ageNanos the age nanos
+     * @return the boolean
+     */
+    public boolean isListedBefore(long ageNanos) {
+        return synced && System.nanoTime() - listedNanos > ageNanos;
+    }
+
+    /**
+     * LIST 결과로 전체 교체(Replace everything with a LIST result)
+     *
+     * @param resources       the resources
+     * @param resourceVersion the resource version
+     */
+    public void replaceAll(Collection<CachedResource> resources, String resourceVersion) {
+        NavigableMap<String, CachedResource> newObjects = new TreeMap<>();
+        Map<String, NavigableSet<String>> newLabelIndex = new HashMap<>();
+
+        for (CachedResource resource : resources) {
+            newObjects.put(resource.getKey(), resource);
+            addLabels(newLabelIndex, resource);
+        }
+
+        lock.writeLock().lock();
+        try {
+            this.objects = newObjects;
+            this.labelIndex = newLabelIndex;
+            this.resourceVersion = resourceVersion;
+            this.synced = true;
+            this.listedNanos = System.nanoTime();
+            touch();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ADDED, MODIFIED 이벤트 반영(Apply an ADDED or MODIFIED event)
+     *
+     * @param resource        the resource
+     * @param resourceVersion the resource version
+     */
+    public void upsert(CachedResource resource, String resourceVersion) {
+        lock.writeLock().lock();
+        try {
+            CachedResource previous = objects.put(resource.getKey(), resource);
+            if (previous != null) {
+                removeLabels(labelIndex, previous);
+            }
+            addLabels(labelIndex, resource);
+            advance(resourceVersion);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DELETED 이벤트 반영(Apply a DELETED event)
+     *
+     * @param resource        the resource
+     * @param resourceVersion the resource version
+     */
+    public void delete(CachedResource resource, String resourceVersion) {
+        lock.writeLock().lock();
+        try {
+            CachedResource previous = objects.remove(resource.getKey());
+            if (previous != null) {
+                removeLabels(labelIndex, previous);
+            }
+            advance(resourceVersion);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * BOOKMARK 이벤트 반영(Apply a BOOKMARK event)
+     *
+     * @param resourceVersion the resource version
+     */
+    public void bookmark(String resourceVersion) {
+        advance(resourceVersion);
+    }
+
+    /**
+     * 정상 종료된 WATCH 등 API 서버와의 통신 기록(Record contact with the API server, e.g. a watch that ended normally)
+     */
+    public void touch() {
+        lastContactNanos = System.nanoTime();
+    }
+
+    /**
+     * resourceVersion 만료(410 Gone), 다음 주기에 다시 LIST 한다
+     * (Forget the expired resourceVersion so the next cycle relists)
+     */
+    public void expire() {
+        resourceVersion = null;
+    }
+
+    /**
+     * 조건에 맞는 목록 조회(List the resources that match the request)
+     *
+     * @param request the request
+     * @return the list
+     */
+    public List<CachedResource> list(ListRequest request) {
+        lock.readLock().lock();
+        try {
+            Collection<CachedResource> candidates = candidates(request);
+            List<CachedResource> result = new ArrayList<>(candidates.size());
+
+            for (CachedResource resource : candidates) {
+                if (request.matches(resource)) {
+                    result.add(resource);
+                }
+            }
+
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 가장 작은 label index 또는 namespace 범위를 후보로 선택(Pick the smallest label index set or the namespace range)
+     */
+    private Collection<CachedResource> candidates(ListRequest request) {
+        NavigableMap<String, CachedResource> scope = objects;
+        if (request.getNamespace() != null) {
+            scope = objects.subMap(request.getNamespace() + KEY_SEPARATOR, true, request.getNamespace() + KEY_SEPARATOR_NEXT, false);
+        }
+
+        NavigableSet<String> smallest = null;
+        for (ListRequest.Requirement requirement : request.getLabelRequirements()) {
+            if (requirement.getOperator() != ListRequest.Requirement.Operator.EQUALS) {
+                continue;
+            }
+            NavigableSet<String> keys = labelIndex.get(labelKey(requirement.getKey(), requirement.getValue()));
+            if (keys == null) {
+                return new ArrayList<>();
+            }
+            if (smallest == null || keys.size() < smallest.size()) {
+                smallest = keys;
+            }
+        }
+
+        if (smallest == null) {
+            return scope.values();
+        }
+
+        List<CachedResource> indexed = new ArrayList<>(smallest.size());
+        for (String key : smallest) {
+            indexed.add(objects.get(key));
+        }
+        return indexed;
+    }
+
+    private void advance(String resourceVersion) {
+        if (resourceVersion != null && !resourceVersion.isEmpty()) {
+            this.resourceVersion = resourceVersion;
+        }
+        touch();
+    }
+
+    private static void addLabels(Map<String, NavigableSet<String>> index, CachedResource resource) {
+        for (Map.Entry<String, String> label : resource.getLabels().entrySet()) {
+            index.computeIfAbsent(labelKey(label.getKey(), label.getValue()), k -> new TreeSet<>()).add(resource.getKey());
+        }
+    }
+
+    private static void removeLabels(Map<String, NavigableSet<String>> index, CachedResource resource) {
+        for (Map.Entry<String, String> label : resource.getLabels().entrySet()) {
+            String labelKey = labelKey(label.getKey(), label.getValue());
+            NavigableSet<String> keys = index.get(labelKey);
+            if (keys != null && keys.remove(resource.getKey()) && keys.isEmpty()) {
+                index.remove(labelKey);
+            }
+        }
+    }
+
+    private static String labelKey(String key, String value) {
+        return key + "=" + value;
+    }
+
+    /**
+     * 마지막 통신 이후 경과 시간(Time since the last contact with the API server)
+     *
+     * @return the seconds
+     */
+    public long secondsSinceContact() {
+        return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - lastContactNanos);
+    }
+}
@@ -0,0 +1,456 @@
+package org.paasta.container.platform.api.common.watch;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.paasta.container.platform.api.common.Constants;
+import org.paasta.container.platform.api.common.RestTemplateService;
+import org.paasta.container.platform.api.common.UpstreamTarget;
+import org.paasta.container.platform.api.common.cache.RefreshAheadCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Resource Watch Cache Manager 클래스
+ *
+ * 설정된 리소스 유형별로 Admin Token 으로 LIST 후 WATCH (resourceVersion, bookmark) 하여 메모리 캐시를 최신으로 유지하고,
+ * CP Master API 목록 조회 요청을 캐시에서 응답한다. 410 Gone 이면 다시 LIST 한다.
+ * 사용자 요청은 SelfSubjectAccessReview 로 해당 사용자의 list 권한을 확인한 경우에만 캐시에서 응답하고,
+ * 권한이 없거나 확인할 수 없으면 기존과 같이 API 서버로 직접 호출하여 동일한 오류를 받도록 한다.
+ * (Keeps an in-memory cache per configured resource type current with LIST + WATCH using the admin token
+ * and answers CP master list requests from it; relists on 410 Gone. User requests are answered from the cache
+ * only when a SelfSubjectAccessReview with the user's token allows the list, otherwise they go to the API server
+ * as before so the user gets the same error.)
+ *
+ * @version 1.0
+ */
+@Component
+public class ResourceWatchCacheManager implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceWatchCacheManager.class);
+
+    static final String SELF_SUBJECT_ACCESS_REVIEW_URL = "/apis/authorization.k8s.io/v1/selfsubjectaccessreviews";
+
+    private static final String EVENT_ADDED = "ADDED";
+    private static final String EVENT_MODIFIED = "MODIFIED";
+    private static final String EVENT_DELETED = "DELETED";
+    private static final String EVENT_BOOKMARK = "BOOKMARK";
+    private static final String EVENT_ERROR = "ERROR";
+    private static final String VERB_LIST = "list";
+
+    private final RestTemplateService restTemplateService;
+    private final RefreshAheadCache<String, Boolean> accessReviewCache;
+    private final Gson gson;
+    private final boolean enabled;
+    private final long watchTimeoutSeconds;
+    private final long maxStalenessNanos;
+    private final long retryBackoffMillis;
+    private final long resyncNanos;
+    private final Map<WatchResourceType, ResourceWatchCache> caches = new EnumMap<>(WatchResourceType.class);
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder relistCount = new LongAdder();
+
+    private List<ResourceWatchListener> listeners = Collections.emptyList();
+    private ExecutorService watchExecutor;
+    private volatile boolean running;
+
+    /**
+     * Instantiates a new Resource watch cache manager
+     *
+     * @param restTemplateService  the rest template service
+     * @param accessReviewCache    the access review cache
+     * @param gson                 the gson
+     * @param enabled              whether the watch cache is enabled
+     * @param resources            the cached resources (comma separated, e.g. pods,deployments)
+     * @param watchTimeoutSeconds  the watch timeout, below the socket timeout of the rest template
+     * @param maxStalenessSeconds  the max age of the last contact with the API server to answer from the cache
+     * @param retryBackoffMillis   the backoff after a failed list or watch
+     * @param resyncSeconds        the interval of a full LIST that reconciles the cache and its listeners, 0 to disable
+     */
+    @Autowired
+    public ResourceWatchCacheManager(RestTemplateService restTemplateService,
+                                     RefreshAheadCache<String, Boolean> accessReviewCache,
+                                     Gson gson,
+                                     @Value("${cpWatchCache.enabled:false}") boolean enabled,
+                                     @Value("${cpWatchCache.resources:pods,deployments,replicasets,services,endpoints,namespaces,nodes,persistentvolumes,persistentvolumeclaims,roles,resourcequotas,limitranges}") String resources,
+                                     @Value("${cpWatchCache.watchTimeoutSeconds:50}") long watchTimeoutSeconds,
+                                     @Value("${cpWatchCache.maxStalenessSeconds:120}") long maxStalenessSeconds,
+                                     @Value("${cpWatchCache.retryBackoffMillis:2000}") long retryBackoffMillis,
+                                     @Value("${cpWatchCache.resyncSeconds:600}") long resyncSeconds) {
+        this.restTemplateService = restTemplateService;
+        this.accessReviewCache = accessReviewCache;
+        this.gson = gson;
+        this.enabled = enabled;
+        this.watchTimeoutSeconds = watchTimeoutSeconds;
+        this.maxStalenessNanos = TimeUnit.SECONDS.toNanos(maxStalenessSeconds);
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.resyncNanos = TimeUnit.SECONDS.toNanos(resyncSeconds);
+
+        if (enabled) {
+            for (String resource : resources.split(",")) {
+                if (!resource.trim().isEmpty()) {
+                    WatchResourceType type = WatchResourceType.fromName(resource);
+                    caches.put(type, new ResourceWatchCache(type));
+                }
+            }
+        }
+    }
+
+    /**
+     * 변경 통지 대상 설정, 시작 전에 호출(Set the listeners notified of changes; called before start)
+     *
+     * @param listeners the listeners
+     */
+    @Autowired(required = false)
+    public void setListeners(List<ResourceWatchListener> listeners) {
+        this.listeners = new ArrayList<>(listeners);
+    }
+
+    /**
+     * 리소스 유형별 LIST + WATCH 시작(Start one LIST + WATCH loop per resource type)
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled || caches.isEmpty()) {
+            return;
+        }
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cp-watch-cache-");
+        threadFactory.setDaemon(true);
+
+        running = true;
+        watchExecutor = Executors.newFixedThreadPool(caches.size(), threadFactory);
+        caches.values().forEach(cache -> watchExecutor.execute(() -> runWatchLoop(cache)));
+        LOGGER.info("Watch cache started for {}", caches.keySet());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (watchExecutor != null) {
+            watchExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 리소스 유형의 캐시가 최신인지 확인(Whether the cache of the resource type is synced and fresh)
+     *
+     * @param type the resource type
+     * @return the boolean
+     */
+    public boolean isFresh(WatchResourceType type) {
+        ResourceWatchCache cache = caches.get(type);
+        return enabled && cache != null && cache.isFresh(maxStalenessNanos);
+    }
+
+    /**
+     * 캐시에서 목록 조회(Answer a list request from the cache)
+     *
+     * @param target      the upstream target of the request
+     * @param reqUrl      the req url
+     * @param checkAccess whether to check the list permission of the target's token
+     * @return the list json, null when the request must go to the API server
+     */
+    public String findList(UpstreamTarget target, String reqUrl, boolean checkAccess) {
+        if (!enabled || !Constants.TARGET_CP_MASTER_API.equals(target.getApi())) {
+            return null;
+        }
+
+        ListRequest request = ListRequest.parse(reqUrl);
+        ResourceWatchCache cache = (request == null) ? null : caches.get(request.getType());
+
+        if (cache == null || !cache.isFresh(maxStalenessNanos) || (checkAccess && !isListAllowed(target, request))) {
+            if (cache != null) {
+                missCount.increment();
+            }
+            return null;
+        }
+
+        hitCount.increment();
+        return toListJson(request.getType(), cache.getResourceVersion(), cache.list(request));
+    }
+
+    /**
+     * 사용자 토큰의 list 권한 확인(Check the list permission of the target's token)
+     */
+    private boolean isListAllowed(UpstreamTarget target, ListRequest request) {
+        WatchResourceType type = request.getType();
+        String namespace = request.getNamespace() == null ? "" : request.getNamespace();
+        String key = String.join("|", target.getAuthorization(), namespace, type.getGroup(), type.getPlural());
+
+        try {
+            return accessReviewCache.get(key, k -> reviewAccess(target, namespace, type));
+        } catch (RuntimeException exception) {
+            LOGGER.info("Access review failed, bypassing the watch cache : {}", exception.getMessage());
+            return false;
+        }
+    }
+
+    private Boolean reviewAccess(UpstreamTarget target, String namespace, WatchResourceType type) {
+        Map<String, Object> resourceAttributes = new HashMap<>();
+        resourceAttributes.put("namespace", namespace);
+        resourceAttributes.put("verb", VERB_LIST);
+        resourceAttributes.put("group", type.getGroup());
+        resourceAttributes.put("resource", type.getPlural());
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("apiVersion", "authorization.k8s.io/v1");
+        body.put("kind", "SelfSubjectAccessReview");
+        body.put("spec", Collections.singletonMap("resourceAttributes", resourceAttributes));
+
+        Map<?, ?> review = restTemplateService.send(target, SELF_SUBJECT_ACCESS_REVIEW_URL, HttpMethod.POST, body, Map.class,
+                MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE);
+        Object status = (review == null) ? null : review.get("status");
+
+        return status instanceof Map && Boolean.TRUE.equals(((Map<?, ?>) status).get("allowed"));
+    }
+
+    /**
+     * API 서버의 List 응답 형식으로 변환(Build the list json in the API server's format)
+     */
+    static String toListJson(WatchResourceType type, String resourceVersion, List<CachedResource> items) {
+        int capacity = 128;
+        for (CachedResource item : items) {
+            capacity += item.getJson().length() + 1;
+        }
+
+        StringBuilder json = new StringBuilder(capacity)
+                .append("{\"kind\":\"").append(type.getListKind())
+                .append("\",\"apiVersion\":\"").append(type.getApiVersion())
+                .append("\",\"metadata\":{\"resourceVersion\":\"").append(resourceVersion == null ? "" : resourceVersion)
+                .append("\"},\"items\":[");
+
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(items.get(i).getJson());
+        }
+
+        return json.append("]}").toString();
+    }
+
+    /**
+     * LIST, WATCH 반복(LIST then WATCH until stopped)
+     */
+    private void runWatchLoop(ResourceWatchCache cache) {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                if (cache.getResourceVersion() == null || (resyncNanos > 0 && cache.isListedBefore(resyncNanos))) {
+                    relist(cache);
+                }
+                watch(cache);
+            } catch (HttpStatusCodeException exception) {
+                if (exception.getStatusCode() == HttpStatus.GONE) {
+                    cache.expire();
+                } else {
+                    LOGGER.warn("Watch cache {} failed : {}", cache.getType().getPlural(), exception.getStatusCode());
+                    sleepBackoff();
+                }
+            } catch (RuntimeException exception) {
+                LOGGER.warn("Watch cache {} failed : {}", cache.getType().getPlural(), exception.getMessage());
+                sleepBackoff();
+            }
+        }
+    }
+
+    /**
+     * 전체 목록 조회 후 캐시 교체(LIST and replace the cache)
+     *
+     * @param cache the cache
+     */
+    void relist(ResourceWatchCache cache) {
+        UpstreamTarget target = restTemplateService.resolveAdminTarget(Constants.TARGET_CP_MASTER_API);
+
+        restTemplateService.sendForStream(target, cache.getType().getListPath(), response -> {
+            List<CachedResource> items = new ArrayList<>();
+            String resourceVersion = null;
+
+            try (JsonReader reader = new JsonReader(openReader(response))) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+                    if ("metadata".equals(name)) {
+                        resourceVersion = getString(gson.fromJson(reader, JsonObject.class), "resourceVersion");
+                    } else if ("items".equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            items.add(CachedResource.of(gson, gson.fromJson(reader, JsonObject.class)));
+                        }
+                        reader.endArray();
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+            }
+
+            cache.replaceAll(items, resourceVersion);
+            notifyListeners(listener -> listener.onReplaced(cache.getType(), items));
+            return null;
+        });
+
+        relistCount.increment();
+        LOGGER.info("Watch cache {} listed {} items at resourceVersion {}", cache.getType().getPlural(), cache.size(), cache.getResourceVersion());
+    }
+
+    /**
+     * resourceVersion 이후의 변경을 WATCH (WATCH changes after the cached resourceVersion)
+     *
+     * @param cache the cache
+     */
+    void watch(ResourceWatchCache cache) {
+        UpstreamTarget target = restTemplateService.resolveAdminTarget(Constants.TARGET_CP_MASTER_API);
+        String reqUrl = cache.getType().getListPath() + "?watch=1&allowWatchBookmarks=true&timeoutSeconds=" + watchTimeoutSeconds
+                + "&resourceVersion=" + cache.getResourceVersion();
+
+        restTemplateService.sendForStream(target, reqUrl, response -> {
+            try (JsonReader reader = new JsonReader(openReader(response))) {
+                // 한 줄에 이벤트 1건(one event per line)
+                reader.setLenient(true);
+                while (running && reader.peek() != JsonToken.END_DOCUMENT) {
+                    if (!applyEvent(cache, gson.fromJson(reader, JsonObject.class))) {
+                        return null;
+                    }
+                }
+            }
+            // timeoutSeconds 에 의한 정상 종료(normal end after timeoutSeconds)
+            cache.touch();
+            return null;
+        });
+    }
+
+    /**
+     * WATCH 이벤트 반영(Apply one watch event)
+     *
+     * @param cache the cache
+     * @param event the event
+     * @return false when the watch has to stop
+     */
+    boolean applyEvent(ResourceWatchCache cache, JsonObject event) {
+        String type = getString(event, "type");
+        JsonElement object = event.get("object");
+
+        if (type == null || object == null || !object.isJsonObject()) {
+            return true;
+        }
+
+        JsonObject resource = object.getAsJsonObject();
+        JsonObject metadata = resource.has("metadata") ? resource.getAsJsonObject("metadata") : new JsonObject();
+        String resourceVersion = getString(metadata, "resourceVersion");
+
+        switch (type) {
+            case EVENT_ADDED:
+            case EVENT_MODIFIED:
+                CachedResource upserted = CachedResource.of(gson, resource);
+                cache.upsert(upserted, resourceVersion);
+                notifyListeners(listener -> listener.onUpserted(cache.getType(), upserted));
+                return true;
+            case EVENT_DELETED:
+                CachedResource deleted = CachedResource.of(gson, resource);
+                cache.delete(deleted, resourceVersion);
+                notifyListeners(listener -> listener.onDeleted(cache.getType(), deleted));
+                return true;
+            case EVENT_BOOKMARK:
+                cache.bookmark(resourceVersion);
+                return true;
+            case EVENT_ERROR:
+                JsonElement code = resource.get("code");
+                if (code != null && code.getAsInt() == HttpStatus.GONE.value()) {
+                    LOGGER.info("Watch cache {} resourceVersion expired, relisting", cache.getType().getPlural());
+                    cache.expire();
+                } else {
+                    LOGGER.warn("Watch cache {} error event : {}", cache.getType().getPlural(), getString(resource, "message"));
+                }
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private void notifyListeners(Consumer<ResourceWatchListener> notification) {
+        for (ResourceWatchListener listener : listeners) {
+            try {
+                notification.accept(listener);
+            } catch (RuntimeException exception) {
+                LOGGER.warn("Watch cache listener {} failed : {}", listener.getClass().getSimpleName(), exception.getMessage());
+            }
+        }
+    }
+
+    ResourceWatchCache getCache(WatchResourceType type) {
+        return caches.get(type);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cp.watchcache.requests", hitCount, LongAdder::doubleValue)
+                .tag("result", "hit").register(registry);
+        FunctionCounter.builder("cp.watchcache.requests", missCount, LongAdder::doubleValue)
+                .tag("result", "miss").register(registry);
+        FunctionCounter.builder("cp.watchcache.relists", relistCount, LongAdder::doubleValue)
+                .register(registry);
+
+        for (ResourceWatchCache cache : caches.values()) {
+            Gauge.builder("cp.watchcache.size", cache, ResourceWatchCache::size)
+                    .tag("resource", cache.getType().getPlural()).register(registry);
+            Gauge.builder("cp.watchcache.staleness.seconds", cache, ResourceWatchCache::secondsSinceContact)
+                    .tag("resource", cache.getType().getPlural()).register(registry);
+        }
+    }
+
+    private void sleepBackoff() {
+        try {
+            Thread.sleep(retryBackoffMillis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Reader openReader(ClientHttpResponse response) throws IOException {
+        MediaType contentType = response.getHeaders().getContentType();
+        Charset charset = (contentType != null && contentType.getCharset() != null) ? contentType.getCharset() : StandardCharsets.UTF_8;
+        return new InputStreamReader(response.getBody(), charset);
+    }
+
+    private static String getString(JsonObject object, String memberName) {
+        JsonElement element = (object == null) ? null : object.get(memberName);
+        return (element == null || element.isJsonNull()) ? null : element.getAsString();
+    }
+}
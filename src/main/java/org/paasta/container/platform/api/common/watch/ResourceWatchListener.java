@@ -0,0 +1,38 @@
+package org.paasta.container.platform.api.common.watch;
+
+import java.util.List;
+
+/**
+ * Resource Watch Listener 인터페이스
+ *
+ * Watch Cache 변경 통지. 리소스 유형별 watch 스레드에서 순서대로 호출된다.
+ * (Notified of watch cache changes; called in order on the watch thread of each resource type.)
+ *
+ * @version 1.0
+ */
+public interface ResourceWatchListener {
+
+    /**
+     * LIST 결과로 전체 교체됨(Everything was replaced by a LIST result)
+     *
+     * @param type      the resource type
+     * @param resources the resources
+     */
+    void onReplaced(WatchResourceType type, List<CachedResource> resources);
+
+    /**
+     * ADDED, MODIFIED 이벤트 반영됨(An ADDED or MODIFIED event was applied)
+     *
+     * @param type     the resource type
+     * @param resource the resource
+     */
+    void onUpserted(WatchResourceType type, CachedResource resource);
+
+    /**
+     * DELETED 이벤트 반영됨(A DELETED event was applied)
+     *
+     * @param type     the resource type
+     * @param resource the resource
+     */
+    void onDeleted(WatchResourceType type, CachedResource resource);
+}
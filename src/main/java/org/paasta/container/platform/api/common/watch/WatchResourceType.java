@@ -0,0 +1,97 @@
+package org.paasta.container.platform.api.common.watch;
+
+/**
+ * Watch Resource Type 클래스
+ *
+ * Watch Cache 로 관리할 수 있는 Kubernetes 리소스 목록
+ * (Kubernetes resources that can be kept in the watch cache)
+ *
+ * @version 1.0
+ */
+public enum WatchResourceType {
+
+    PODS("", "v1", "pods", "PodList", true),
+    DEPLOYMENTS("apps", "v1", "deployments", "DeploymentList", true),
+    REPLICASETS("apps", "v1", "replicasets", "ReplicaSetList", true),
+    SERVICES("", "v1", "services", "ServiceList", true),
+    ENDPOINTS("", "v1", "endpoints", "EndpointsList", true),
+    NAMESPACES("", "v1", "namespaces", "NamespaceList", false),
+    NODES("", "v1", "nodes", "NodeList", false),
+    PERSISTENTVOLUMES("", "v1", "persistentvolumes", "PersistentVolumeList", false),
+    PERSISTENTVOLUMECLAIMS("", "v1", "persistentvolumeclaims", "PersistentVolumeClaimList", true),
+    ROLES("rbac.authorization.k8s.io", "v1", "roles", "RoleList", true),
+    RESOURCEQUOTAS("", "v1", "resourcequotas", "ResourceQuotaList", true),
+    LIMITRANGES("", "v1", "limitranges", "LimitRangeList", true);
+
+    private final String group;
+    private final String version;
+    private final String plural;
+    private final String listKind;
+    private final boolean namespaced;
+
+    WatchResourceType(String group, String version, String plural, String listKind, boolean namespaced) {
+        this.group = group;
+        this.version = version;
+        this.plural = plural;
+        this.listKind = listKind;
+        this.namespaced = namespaced;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public String getPlural() {
+        return plural;
+    }
+
+    public String getListKind() {
+        return listKind;
+    }
+
+    public boolean isNamespaced() {
+        return namespaced;
+    }
+
+    /**
+     * apiVersion 값(apiVersion, e.g. v1, apps/v1)
+     *
+     * @return the string
+     */
+    public String getApiVersion() {
+        return group.isEmpty() ? version : group + "/" + version;
+    }
+
+    /**
+     * API 경로 prefix(API path prefix, e.g. /api/v1, /apis/apps/v1)
+     *
+     * @return the string
+     */
+    public String getApiPrefix() {
+        return group.isEmpty() ? "/api/" + version : "/apis/" + group + "/" + version;
+    }
+
+    /**
+     * 전체 Namespace 목록 조회 경로(List path across all namespaces)
+     *
+     * @return the string
+     */
+    public String getListPath() {
+        return getApiPrefix() + "/" + plural;
+    }
+
+    /**
+     * 설정 값으로 조회(Find by the configured name, e.g. pods)
+     *
+     * @param name the name
+     * @return the watch resource type
+     */
+    public static WatchResourceType fromName(String name) {
+        for (WatchResourceType type : values()) {
+            if (type.plural.equalsIgnoreCase(name.trim()) || type.name().equalsIgnoreCase(name.trim())) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown watch cache resource : " + name);
+    }
+}
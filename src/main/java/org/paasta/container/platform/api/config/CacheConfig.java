@@ -0,0 +1,151 @@
+package org.paasta.container.platform.api.config;
+
+import org.paasta.container.platform.api.adminToken.AdminToken;
+import org.paasta.container.platform.api.clusters.nodes.NodesSummaryList;
+import org.paasta.container.platform.api.common.cache.RefreshAheadCache;
+import org.paasta.container.platform.api.common.cache.UserTokenKey;
+import org.paasta.container.platform.api.workloads.pods.PodsMetricIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache Config 클래스
+ *
+ * @version 1.0
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String ADMIN_TOKEN_CACHE = "adminToken";
+    public static final String USER_TOKEN_CACHE = "userToken";
+    public static final String ACCESS_REVIEW_CACHE = "accessReview";
+    public static final String PODS_METRIC_CACHE = "podsMetric";
+    public static final String NODES_SUMMARY_CACHE = "nodesSummary";
+    public static final String NODES_READY_CACHE = "nodesReady";
+
+    // 백그라운드 갱신 전용 스레드(Dedicated threads for background refreshes, not registered as a bean
+    // so that Spring Boot keeps its default application task executor)
+    private final ExecutorService refreshExecutor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(1000), new CustomizableThreadFactory("cp-cache-refresh-"));
+
+    @Value("${cpCache.adminToken.ttlSeconds:600}")
+    private long adminTokenTtlSeconds;
+
+    @Value("${cpCache.adminToken.refreshAheadSeconds:300}")
+    private long adminTokenRefreshAheadSeconds;
+
+    @Value("${cpCache.userToken.maximumSize:10000}")
+    private long userTokenMaximumSize;
+
+    @Value("${cpCache.userToken.ttlSeconds:300}")
+    private long userTokenTtlSeconds;
+
+    @Value("${cpCache.userToken.refreshAheadSeconds:240}")
+    private long userTokenRefreshAheadSeconds;
+
+    @Value("${cpCache.accessReview.maximumSize:10000}")
+    private long accessReviewMaximumSize;
+
+    @Value("${cpCache.accessReview.ttlSeconds:30}")
+    private long accessReviewTtlSeconds;
+
+    @Value("${cpCache.podsMetric.maximumSize:1000}")
+    private long podsMetricMaximumSize;
+
+    @Value("${cpCache.podsMetric.ttlSeconds:120}")
+    private long podsMetricTtlSeconds;
+
+    @Value("${cpCache.podsMetric.refreshAheadSeconds:15}")
+    private long podsMetricRefreshAheadSeconds;
+
+    @Value("${cpCache.nodesSummary.ttlSeconds:60}")
+    private long nodesSummaryTtlSeconds;
+
+    @Value("${cpCache.nodesSummary.refreshAheadSeconds:15}")
+    private long nodesSummaryRefreshAheadSeconds;
+
+    @Value("${cpCache.nodesReady.ttlSeconds:10}")
+    private long nodesReadyTtlSeconds;
+
+    @Value("${cpCache.nodesReady.refreshAheadSeconds:5}")
+    private long nodesReadyRefreshAheadSeconds;
+
+
+    /**
+     * Admin Token 캐시(Admin token cache)
+     *
+     * @return the refresh ahead cache
+     */
+    @Bean
+    public RefreshAheadCache<String, AdminToken> adminTokenCache() {
+        return new RefreshAheadCache<>(ADMIN_TOKEN_CACHE, 1, adminTokenTtlSeconds, adminTokenRefreshAheadSeconds, refreshExecutor);
+    }
+
+    /**
+     * 사용자별 Service Account Token 캐시(Per-user service account token cache, keyed by user and namespace)
+     *
+     * @return the refresh ahead cache
+     */
+    @Bean
+    public RefreshAheadCache<UserTokenKey, String> userTokenCache() {
+        return new RefreshAheadCache<>(USER_TOKEN_CACHE, userTokenMaximumSize, userTokenTtlSeconds, userTokenRefreshAheadSeconds, refreshExecutor);
+    }
+
+    /**
+     * Watch Cache 사용자 권한 확인 결과 캐시(Watch cache access review cache, keyed by token, namespace and resource)
+     *
+     * @return the refresh ahead cache
+     */
+    @Bean
+    public RefreshAheadCache<String, Boolean> accessReviewCache() {
+        return new RefreshAheadCache<>(ACCESS_REVIEW_CACHE, accessReviewMaximumSize, accessReviewTtlSeconds, 0, refreshExecutor);
+    }
+
+    /**
+     * namespace 별 Pod metrics 캐시(Per-namespace pod metrics cache)
+     *
+     * refresh 주기는 metrics-server 수집 주기에 맞추고, 갱신이 늦거나 실패하면 TTL 까지 기존 값을 반환한다.
+     * (The refresh-ahead window follows the metrics-server scrape interval; while a reload is slow or failing
+     * the previous snapshot is served until the TTL.)
+     *
+     * @return the refresh ahead cache
+     */
+    @Bean
+    public RefreshAheadCache<String, PodsMetricIndex> podsMetricCache() {
+        return new RefreshAheadCache<>(PODS_METRIC_CACHE, podsMetricMaximumSize, podsMetricTtlSeconds, podsMetricRefreshAheadSeconds, refreshExecutor);
+    }
+
+    /**
+     * Node 요약 캐시(Node usage and allocation summary cache)
+     *
+     * @return the refresh ahead cache
+     */
+    @Bean
+    public RefreshAheadCache<String, NodesSummaryList> nodesSummaryCache() {
+        return new RefreshAheadCache<>(NODES_SUMMARY_CACHE, 1, nodesSummaryTtlSeconds, nodesSummaryRefreshAheadSeconds, refreshExecutor);
+    }
+
+    /**
+     * Node 명별 "Ready" 상태 캐시(Node "Ready" status cache, by node name)
+     *
+     * @return the refresh ahead cache
+     */
+    @Bean
+    public RefreshAheadCache<String, Map<String, String>> nodesReadyCache() {
+        return new RefreshAheadCache<>(NODES_READY_CACHE, 1, nodesReadyTtlSeconds, nodesReadyRefreshAheadSeconds, refreshExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -1,12 +1,30 @@
 package org.paasta.container.platform.api.config;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.HeaderElement;
+import org.apache.http.HeaderElementIterator;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.protocol.HttpContext;
 import org.apache.http.ssl.TrustStrategy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
@@ -15,10 +33,18 @@ import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.X509Certificate;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Rest Template Config 클래스
  *
+ * CP Master API, Common API 대상별로 connection pool 을 분리하여 구성
+ * (Separate connection pools for the CP Master API and the Common API)
+ *
+ * 로그 follow 와 같은 장시간 응답은 socket timeout 이 없는 별도 pool 을 사용하여 일반 API 호출의 connection 을 점유하지 않는다.
+ * (Long-lived responses such as log follows use a separate pool without a socket timeout,
+ * so they never hold the connections of regular API calls.)
+ *
  * @author hrjin
  * @version 1.0
  * @since 2020.08.24
@@ -26,23 +52,240 @@ import java.security.cert.X509Certificate;
 @Configuration
 public class RestTemplateConfig {
 
+    private static final String POOL_NAME_CP_MASTER_API = "cpMasterApi";
+    private static final String POOL_NAME_COMMON_API = "commonApi";
+    private static final String POOL_NAME_CP_MASTER_API_STREAM = "cpMasterApiStream";
+
+    @Value("${restTemplate.pool.cpMasterApi.maxTotal:200}")
+    private int cpMasterApiMaxTotal;
+
+    @Value("${restTemplate.pool.cpMasterApi.maxPerRoute:100}")
+    private int cpMasterApiMaxPerRoute;
+
+    @Value("${restTemplate.pool.commonApi.maxTotal:50}")
+    private int commonApiMaxTotal;
+
+    @Value("${restTemplate.pool.commonApi.maxPerRoute:50}")
+    private int commonApiMaxPerRoute;
+
+    @Value("${restTemplate.pool.cpMasterApiStream.maxTotal:100}")
+    private int cpMasterApiStreamMaxTotal;
+
+    @Value("${restTemplate.timeout.connect:5000}")
+    private int connectTimeout;
+
+    @Value("${restTemplate.timeout.connectionRequest:5000}")
+    private int connectionRequestTimeout;
+
+    @Value("${restTemplate.timeout.socket:60000}")
+    private int socketTimeout;
+
+    // 0 은 무제한(0 means no timeout)
+    @Value("${restTemplate.timeout.streamSocket:0}")
+    private int streamSocketTimeout;
+
+    @Value("${restTemplate.keepAlive.defaultMillis:30000}")
+    private long defaultKeepAliveMillis;
+
+    @Value("${restTemplate.idle.evictSeconds:30}")
+    private long idleEvictSeconds;
+
+    @Value("${restTemplate.idle.validateAfterInactivityMillis:2000}")
+    private int validateAfterInactivityMillis;
+
+
     /**
-     * Rest template rest template
+     * CP Master API 용 Connection Pool(Connection pool for the CP Master API)
      *
-     * @return the rest template
+     * @return the pooling http client connection manager
      * @throws KeyStoreException        the key store exception
      * @throws NoSuchAlgorithmException the no such algorithm exception
      * @throws KeyManagementException   the key management exception
      */
+    @Bean(destroyMethod = "shutdown")
+    public PoolingHttpClientConnectionManager cpMasterApiConnectionManager() throws KeyStoreException, NoSuchAlgorithmException, KeyManagementException {
+        return createConnectionManager(cpMasterApiMaxTotal, cpMasterApiMaxPerRoute);
+    }
+
+    /**
+     * Common API 용 Connection Pool(Connection pool for the Common API)
+     *
+     * @return the pooling http client connection manager
+     * @throws KeyStoreException        the key store exception
+     * @throws NoSuchAlgorithmException the no such algorithm exception
+     * @throws KeyManagementException   the key management exception
+     */
+    @Bean(destroyMethod = "shutdown")
+    public PoolingHttpClientConnectionManager commonApiConnectionManager() throws KeyStoreException, NoSuchAlgorithmException, KeyManagementException {
+        return createConnectionManager(commonApiMaxTotal, commonApiMaxPerRoute);
+    }
+
+    /**
+     * CP Master API 장시간 응답용 Connection Pool(Connection pool for long-lived CP Master API responses)
+     *
+     * @return the pooling http client connection manager
+     * @throws KeyStoreException        the key store exception
+     * @throws NoSuchAlgorithmException the no such algorithm exception
+     * @throws KeyManagementException   the key management exception
+     */
+    @Bean(destroyMethod = "shutdown")
+    public PoolingHttpClientConnectionManager cpMasterApiStreamConnectionManager() throws KeyStoreException, NoSuchAlgorithmException, KeyManagementException {
+        return createConnectionManager(cpMasterApiStreamMaxTotal, cpMasterApiStreamMaxTotal);
+    }
+
+    /**
+     * Rest template rest template
+     * (CP Master API)
+     *
+     * @param connectionManager the connection manager
+     * @return the rest template
+     */
+    @Bean
+    @Primary
+    public RestTemplate restTemplate(@Qualifier("cpMasterApiConnectionManager") PoolingHttpClientConnectionManager connectionManager) {
+        return new RestTemplate(createRequestFactory(connectionManager, socketTimeout));
+    }
+
+    /**
+     * Rest template rest template
+     * (CP Master API, long-lived responses)
+     *
+     * @param connectionManager the connection manager
+     * @return the rest template
+     */
     @Bean
-    public RestTemplate restTemplate() throws KeyStoreException, NoSuchAlgorithmException, KeyManagementException {
+    public RestTemplate cpMasterApiStreamRestTemplate(@Qualifier("cpMasterApiStreamConnectionManager") PoolingHttpClientConnectionManager connectionManager) {
+        return new RestTemplate(createRequestFactory(connectionManager, streamSocketTimeout));
+    }
+
+    /**
+     * Rest template rest template
+     * (Common API)
+     *
+     * @param connectionManager the connection manager
+     * @return the rest template
+     */
+    @Bean
+    public RestTemplate commonApiRestTemplate(@Qualifier("commonApiConnectionManager") PoolingHttpClientConnectionManager connectionManager) {
+        return new RestTemplate(createRequestFactory(connectionManager, socketTimeout));
+    }
+
+    /**
+     * CP Master API Connection Pool 지표(Pool metrics for the CP Master API : leased, pending, available)
+     *
+     * @param connectionManager the connection manager
+     * @return the meter binder
+     */
+    @Bean
+    public MeterBinder cpMasterApiConnectionPoolMetrics(@Qualifier("cpMasterApiConnectionManager") PoolingHttpClientConnectionManager connectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME_CP_MASTER_API);
+    }
+
+    /**
+     * Common API Connection Pool 지표(Pool metrics for the Common API : leased, pending, available)
+     *
+     * @param connectionManager the connection manager
+     * @return the meter binder
+     */
+    @Bean
+    public MeterBinder commonApiConnectionPoolMetrics(@Qualifier("commonApiConnectionManager") PoolingHttpClientConnectionManager connectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME_COMMON_API);
+    }
+
+    /**
+     * CP Master API 장시간 응답용 Connection Pool 지표(Pool metrics for long-lived CP Master API responses)
+     *
+     * @param connectionManager the connection manager
+     * @return the meter binder
+     */
+    @Bean
+    public MeterBinder cpMasterApiStreamConnectionPoolMetrics(@Qualifier("cpMasterApiStreamConnectionManager") PoolingHttpClientConnectionManager connectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME_CP_MASTER_API_STREAM);
+    }
+
+
+    /**
+     * Connection Pool 생성(Create the connection pool)
+     *
+     * SSLContext 를 pool 단위로 한 번만 생성하여 TLS session 을 재사용
+     * (The SSLContext is built once per pool so that TLS sessions are resumed)
+     *
+     * @param maxTotal    the max total
+     * @param maxPerRoute the max per route
+     * @return the pooling http client connection manager
+     */
+    private PoolingHttpClientConnectionManager createConnectionManager(int maxTotal, int maxPerRoute) throws KeyStoreException, NoSuchAlgorithmException, KeyManagementException {
         TrustStrategy acceptingTrustStrategy = (X509Certificate[] chain, String authType) -> true;
         SSLContext sslContext = org.apache.http.ssl.SSLContexts.custom().loadTrustMaterial(null, acceptingTrustStrategy).build();
         SSLConnectionSocketFactory csf = new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE);
-        CloseableHttpClient httpClient = HttpClients.custom().setSSLSocketFactory(csf).build();
+
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", csf)
+                .build();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setValidateAfterInactivity(validateAfterInactivityMillis);
+
+        return connectionManager;
+    }
+
+    /**
+     * Request Factory 생성(Create the request factory)
+     *
+     * @param connectionManager the connection manager
+     * @param socketTimeout     the socket timeout in milliseconds
+     * @return the http components client http request factory
+     */
+    private HttpComponentsClientHttpRequestFactory createRequestFactory(PoolingHttpClientConnectionManager connectionManager, int socketTimeout) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setConnectionRequestTimeout(connectionRequestTimeout)
+                .setSocketTimeout(socketTimeout)
+                .build();
+
+        // connection state 를 비활성화하여 사용자 토큰과 무관하게 connection 을 재사용
+        // (disable connection state so pooled connections are shared regardless of the caller's token)
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(keepAliveStrategy())
+                .evictExpiredConnections()
+                .evictIdleConnections(idleEvictSeconds, TimeUnit.SECONDS)
+                .disableConnectionState()
+                .build();
+
         HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory();
         requestFactory.setHttpClient(httpClient);
 
-        return new RestTemplate(requestFactory);
+        return requestFactory;
+    }
+
+    /**
+     * Keep-Alive 전략(Keep-alive strategy)
+     *
+     * 응답의 Keep-Alive timeout 을 우선하고, 없으면 기본값 사용
+     * (Honour the server's Keep-Alive timeout, otherwise fall back to the default)
+     *
+     * @return the connection keep alive strategy
+     */
+    private ConnectionKeepAliveStrategy keepAliveStrategy() {
+        return (HttpResponse response, HttpContext context) -> {
+            HeaderElementIterator it = new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+            while (it.hasNext()) {
+                HeaderElement he = it.nextElement();
+                String value = he.getValue();
+                if (value != null && "timeout".equalsIgnoreCase(he.getName())) {
+                    try {
+                        return Long.parseLong(value) * 1000;
+                    } catch (NumberFormatException ignored) {
+                        // fall back to the default keep-alive
+                    }
+                }
+            }
+            return defaultKeepAliveMillis;
+        };
     }
 }
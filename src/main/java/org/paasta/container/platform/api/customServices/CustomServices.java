@@ -4,6 +4,8 @@ import lombok.Data;
 
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonNextActionModel;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonSpec;
 import org.paasta.container.platform.api.common.model.CommonStatus;
 
@@ -15,7 +17,7 @@ import org.paasta.container.platform.api.common.model.CommonStatus;
  * @since 2020.09.10
  */
 @Data
-public class CustomServices {
+public class CustomServices implements CommonResultModel, CommonNextActionModel {
 
     private String resultCode;
     private String resultMessage;
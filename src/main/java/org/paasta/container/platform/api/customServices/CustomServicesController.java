@@ -45,6 +45,7 @@ public class CustomServicesController {
      * @param orderBy    the orderBy
      * @param order      the order
      * @param searchName the searchName
+     * @param continueToken the continueToken
      * @param isAdmin    the isAdmin
      * @return the services list
      */
@@ -56,7 +57,8 @@ public class CustomServicesController {
             @ApiImplicitParam(name = "limit", value = "한 페이지에 가져올 리소스 최대 수", required = false, dataType = "int", paramType = "query"),
             @ApiImplicitParam(name = "orderBy", value = "정렬 기준, 기본값 creationTime(생성날짜)", required = false, dataType = "string", paramType = "query"),
             @ApiImplicitParam(name = "order", value = "정렬 순서, 기본값 desc(내림차순)", required = false, dataType = "string", paramType = "query"),
-            @ApiImplicitParam(name = "searchName", value = "리소스 명 검색", required = false, dataType = "string", paramType = "query")
+            @ApiImplicitParam(name = "searchName", value = "리소스 명 검색", required = false, dataType = "string", paramType = "query"),
+            @ApiImplicitParam(name = "continue", value = "다음 목록 cursor, 빈 값이면 첫 page (cursor 방식 paging, limit 필수)", required = false, dataType = "string", paramType = "query")
     })
     @GetMapping
     public Object getCustomServicesList(@PathVariable(value = "cluster") String cluster,
@@ -66,21 +68,22 @@ public class CustomServicesController {
                                         @RequestParam(required = false, defaultValue = "creationTime") String orderBy,
                                         @RequestParam(required = false, defaultValue = "") String order,
                                         @RequestParam(required = false, defaultValue = "") String searchName,
+                                        @RequestParam(required = false, name = "continue") String continueToken,
                                         @ApiIgnore @RequestParam(required = false, name = "isAdmin") boolean isAdmin) {
 
         if (namespace.toLowerCase().equals(Constants.ALL_NAMESPACES)) {
             if (isAdmin) {
-                return customServicesService.getCustomServicesListAllNamespacesAdmin(offset, limit, orderBy, order, searchName);
+                return customServicesService.getCustomServicesListAllNamespacesAdmin(offset, limit, orderBy, order, searchName, continueToken);
             } else {
                 return Constants.FORBIDDEN_ACCESS_RESULT_STATUS;
             }
         }
 
         if (isAdmin) {
-            return customServicesService.getCustomServicesListAdmin(namespace, offset, limit, orderBy, order, searchName);
+            return customServicesService.getCustomServicesListAdmin(namespace, offset, limit, orderBy, order, searchName, continueToken);
         }
 
-        return customServicesService.getCustomServicesList(namespace, offset, limit, orderBy, order, searchName);
+        return customServicesService.getCustomServicesList(namespace, offset, limit, orderBy, order, searchName, continueToken);
     }
 
 
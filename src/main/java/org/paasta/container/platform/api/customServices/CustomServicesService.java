@@ -47,17 +47,18 @@ public class CustomServicesService {
      * @param orderBy    the orderBy
      * @param order      the order
      * @param searchName the searchName
+     * @param continueToken the continueToken
      * @return the services list
      */
-    public CustomServicesList getCustomServicesList(String namespace, int offset, int limit, String orderBy, String order, String searchName) {
+    public CustomServicesList getCustomServicesList(String namespace, int offset, int limit, String orderBy, String order, String searchName, String continueToken) {
 
         HashMap responseMap = (HashMap) restTemplateService.send(Constants.TARGET_CP_MASTER_API,
-                propertyService.getCpMasterApiListServicesListUrl()
-                        .replace("{namespace}", namespace)
+                commonService.setCursorParams(propertyService.getCpMasterApiListServicesListUrl()
+                        .replace("{namespace}", namespace), limit, orderBy, order, searchName, continueToken, false)
                 , HttpMethod.GET, null, Map.class);
 
         CustomServicesList customServicesList = commonService.setResultObject(responseMap, CustomServicesList.class);
-        customServicesList = commonService.resourceListProcessing(customServicesList, offset, limit, orderBy, order, searchName, CustomServicesList.class);
+        customServicesList = commonService.resourceListProcessing(customServicesList, offset, limit, orderBy, order, searchName, continueToken, false, CustomServicesList.class);
 
         return (CustomServicesList) commonService.setResultModel(customServicesList, Constants.RESULT_STATUS_SUCCESS);
     }
@@ -198,13 +199,14 @@ public class CustomServicesService {
      * @param orderBy    the orderBy
      * @param order      the order
      * @param searchName the searchName
+     * @param continueToken the continueToken
      * @return the services admin list
      */
-    public Object getCustomServicesListAdmin(String namespace, int offset, int limit, String orderBy, String order, String searchName) {
+    public Object getCustomServicesListAdmin(String namespace, int offset, int limit, String orderBy, String order, String searchName, String continueToken) {
         HashMap responseMap = null;
 
         Object response = restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API,
-                propertyService.getCpMasterApiListServicesListUrl().replace("{namespace}", namespace)
+                commonService.setCursorParams(propertyService.getCpMasterApiListServicesListUrl().replace("{namespace}", namespace), limit, orderBy, order, searchName, continueToken, false)
                 , HttpMethod.GET, null, Map.class);
 
         try {
@@ -214,7 +216,7 @@ public class CustomServicesService {
         }
 
         CustomServicesListAdmin customServicesListAdmin = commonService.setResultObject(responseMap, CustomServicesListAdmin.class);
-        customServicesListAdmin = commonService.resourceListProcessing(customServicesListAdmin, offset, limit, orderBy, order, searchName, CustomServicesListAdmin.class);
+        customServicesListAdmin = commonService.resourceListProcessing(customServicesListAdmin, offset, limit, orderBy, order, searchName, continueToken, false, CustomServicesListAdmin.class);
 
         return commonService.setResultModel(customServicesListAdmin, Constants.RESULT_STATUS_SUCCESS);
     }
@@ -256,13 +258,14 @@ public class CustomServicesService {
      * @param orderBy    the orderBy
      * @param order      the order
      * @param searchName the searchName
+     * @param continueToken the continueToken
      * @return the services admin list
      */
-    public Object getCustomServicesListAllNamespacesAdmin(int offset, int limit, String orderBy, String order, String searchName) {
+    public Object getCustomServicesListAllNamespacesAdmin(int offset, int limit, String orderBy, String order, String searchName, String continueToken) {
         HashMap responseMap = null;
 
         Object response = restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API,
-                propertyService.getCpMasterApiListServicesListAllNamespacesUrl() + commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_NAMESPACE)
+                commonService.setCursorParams(propertyService.getCpMasterApiListServicesListAllNamespacesUrl() + commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_NAMESPACE), limit, orderBy, order, searchName, continueToken, true)
                 , HttpMethod.GET, null, Map.class);
 
         try {
@@ -272,7 +275,7 @@ public class CustomServicesService {
         }
 
         CustomServicesListAdmin customServicesListAdmin = commonService.setResultObject(responseMap, CustomServicesListAdmin.class);
-        customServicesListAdmin = commonService.resourceListProcessing(customServicesListAdmin, offset, limit, orderBy, order, searchName, CustomServicesListAdmin.class);
+        customServicesListAdmin = commonService.resourceListProcessing(customServicesListAdmin, offset, limit, orderBy, order, searchName, continueToken, true, CustomServicesListAdmin.class);
 
         return commonService.setResultModel(customServicesListAdmin, Constants.RESULT_STATUS_SUCCESS);
     }
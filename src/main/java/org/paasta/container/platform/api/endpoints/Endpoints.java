@@ -2,6 +2,7 @@ package org.paasta.container.platform.api.endpoints;
 
 import lombok.Data;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonSpec;
 import org.paasta.container.platform.api.common.model.CommonStatus;
 import org.paasta.container.platform.api.common.model.CommonSubset;
@@ -16,7 +17,7 @@ import java.util.List;
  * @since 2020.09.17
  */
 @Data
-public class Endpoints {
+public class Endpoints implements CommonResultModel {
 
     private String resultCode;
     private String resultMessage;
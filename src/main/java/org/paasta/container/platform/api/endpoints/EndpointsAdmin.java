@@ -2,6 +2,7 @@ package org.paasta.container.platform.api.endpoints;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.endpoints.support.EndPointsDetailsItemAdmin;
 import org.paasta.container.platform.api.endpoints.support.EndpointSubset;
 
@@ -15,7 +16,7 @@ import java.util.List;
  * @since 2020.09.17
  */
 @Data
-public class EndpointsAdmin {
+public class EndpointsAdmin implements CommonResultModel {
 
     private String resultCode;
     private String resultMessage;
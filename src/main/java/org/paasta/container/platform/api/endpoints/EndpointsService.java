@@ -9,14 +9,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 
-import org.paasta.container.platform.api.clusters.nodes.NodesAdmin;
 import org.paasta.container.platform.api.clusters.nodes.NodesService;
 import org.paasta.container.platform.api.common.CommonService;
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.Constants;
 import org.paasta.container.platform.api.common.PropertyService;
 import org.paasta.container.platform.api.common.RestTemplateService;
-import org.paasta.container.platform.api.common.model.CommonCondition;
 import org.paasta.container.platform.api.endpoints.support.EndPointsDetailsItemAdmin;
 import org.paasta.container.platform.api.endpoints.support.EndpointAddress;
 import org.paasta.container.platform.api.endpoints.support.EndpointPort;
@@ -110,12 +108,16 @@ public class EndpointsService {
     /**
      * Node 명에 따른 Node "Ready" 상태 값 조회 (Get Node "Ready" Status Value by Node Name)
      *
+     * Node 상태는 주소 수와 관계없이 Node 목록 1회로 구한다.
+     * (Node states come from one node list, whatever the number of addresses.)
+     *
      * @param endpointsAdmin the endpoints admin
      * @return the endpointsAdmin
      */
     public EndpointsAdmin endpointsAdminProcessing(EndpointsAdmin endpointsAdmin) {
 
         List<EndPointsDetailsItemAdmin> endPointsDetailsItemAdminsList = new ArrayList<>();
+        Map<String, String> nodesReady = null;
 
         List<EndpointSubset> susbsets = endpointsAdmin.getSubsets();
 
@@ -142,15 +144,10 @@ public class EndpointsService {
                     String nodeReady = Constants.noName;
 
                     if (!nodeName.equals(Constants.noName)) {
-                        NodesAdmin nodesDetails = (NodesAdmin) nodesService.getNodesAdmin(nodeName);
-
-                        List<CommonCondition> nodeConditionList = nodesDetails.getStatus().getConditions();
-
-                        for (CommonCondition condition : nodeConditionList) {
-                            if (condition.getType().equals(Constants.STRING_CONDITION_READY)) {
-                                nodeReady = condition.getStatus();
-                            }
+                        if (nodesReady == null) {
+                            nodesReady = nodesService.getNodesReadyAdmin();
                         }
+                        nodeReady = nodesReady.getOrDefault(nodeName, Constants.noName);
                     }
 
                     endPointsDetailsItem.setHost(endpointAddress.getIp());
@@ -4,6 +4,7 @@ import lombok.Data;
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
 import org.paasta.container.platform.api.common.model.CommonObjectReference;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 /**
  * Events Model 클래스
@@ -13,7 +14,7 @@ import org.paasta.container.platform.api.common.model.CommonObjectReference;
  * @since 2020.09.17
  */
 @Data
-public class Events {
+public class Events implements CommonResultModel {
 
     private String resultCode;
     private String resultMessage;
@@ -5,6 +5,7 @@ import lombok.Data;
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
 import org.paasta.container.platform.api.common.model.CommonObjectReference;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonSpec;
 import org.paasta.container.platform.api.common.model.CommonStatus;
 
@@ -16,7 +17,7 @@ import org.paasta.container.platform.api.common.model.CommonStatus;
  * @since 2020.09.17
  */
 @Data
-public class EventsAdmin {
+public class EventsAdmin implements CommonResultModel {
 
     private String resultCode;
     private String resultMessage;
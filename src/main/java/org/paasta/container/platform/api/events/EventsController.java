@@ -4,7 +4,9 @@ import io.swagger.annotations.ApiImplicitParam;
 import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import springfox.documentation.annotations.ApiIgnore;
 
 /**
@@ -18,6 +20,8 @@ import springfox.documentation.annotations.ApiIgnore;
 @RequestMapping("/clusters/{cluster:.+}/namespaces/{namespace:.+}/events")
 public class EventsController {
 
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
     private final EventsService eventsService;
 
     /**
@@ -89,4 +93,64 @@ public class EventsController {
         return eventsService.getEventsList(namespace, resourceUid, type);
     }
 
+
+    /**
+     * 특정 Namespace 의 Events 변경 구독(Subscribe to the Events changes in a Namespace)
+     *
+     * @param cluster         the cluster
+     * @param namespace       the namespace
+     * @param lastEventId     the last event id
+     * @param resourceVersion the resourceVersion to resume after, when the Last-Event-ID header can not be set
+     * @param isAdmin         the isAdmin
+     * @return the sse emitter
+     */
+    @ApiOperation(value = "특정 Namespace 의 Events 변경 구독(Subscribe to the Events changes in a Namespace)", nickname = "watchNamespaceEvents")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "cluster", value = "클러스터 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "namespace", value = "네임스페이스 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "resourceVersion", value = "이어 받을 resourceVersion", required = false, dataType = "string", paramType = "query")
+    })
+    @GetMapping(value = "/watch", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter watchNamespaceEvents(@PathVariable(value = "cluster") String cluster,
+                                           @PathVariable(value = "namespace") String namespace,
+                                           @ApiIgnore @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId,
+                                           @RequestParam(value = "resourceVersion", required = false) String resourceVersion,
+                                           @ApiIgnore @RequestParam(required = false, name = "isAdmin") boolean isAdmin) {
+
+        return eventsService.subscribeEvents(namespace, null, null, lastEventId == null ? resourceVersion : lastEventId, isAdmin);
+    }
+
+
+    /**
+     * Events 변경 구독(Subscribe to the Events changes)
+     *
+     * @param cluster         the cluster
+     * @param namespace       the namespace
+     * @param resourceUid     the resourceUid
+     * @param type            the type
+     * @param lastEventId     the last event id
+     * @param resourceVersion the resourceVersion to resume after, when the Last-Event-ID header can not be set
+     * @param isAdmin         the isAdmin
+     * @return the sse emitter
+     */
+    @ApiOperation(value = "Events 변경 구독(Subscribe to the Events changes)", nickname = "watchEvents")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "cluster", value = "클러스터 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "namespace", value = "네임스페이스 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "resourceUid", value = "리소스 uid", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "type", value = "타입", required = false, dataType = "string", paramType = "query"),
+            @ApiImplicitParam(name = "resourceVersion", value = "이어 받을 resourceVersion", required = false, dataType = "string", paramType = "query")
+    })
+    @GetMapping(value = "/resources/{resourceUid:.+}/watch", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter watchEvents(@PathVariable(value = "cluster") String cluster,
+                                  @PathVariable(value = "namespace") String namespace,
+                                  @PathVariable(value = "resourceUid") String resourceUid,
+                                  @RequestParam(value = "type", required = false) String type,
+                                  @ApiIgnore @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId,
+                                  @RequestParam(value = "resourceVersion", required = false) String resourceVersion,
+                                  @ApiIgnore @RequestParam(required = false, name = "isAdmin") boolean isAdmin) {
+
+        return eventsService.subscribeEvents(namespace, resourceUid, type, lastEventId == null ? resourceVersion : lastEventId, isAdmin);
+    }
+
 }
@@ -0,0 +1,360 @@
+package org.paasta.container.platform.api.events;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.paasta.container.platform.api.events.support.EventInvolvedObject;
+import org.paasta.container.platform.api.events.support.EventSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Events History Store 클래스
+ *
+ * 전체 Namespace events WATCH 를 받아 리소스(involvedObject)별로 최근 이벤트를 메모리에 보관한다.
+ * 같은 리소스의 이벤트는 (reason, 숫자를 제외한 message, fieldPath) 로 묶어 횟수와 처음/마지막 시간을 누적하며,
+ * 리소스별 묶음 수와 전체 묶음 수를 제한하여 오래 조회되지 않은 리소스부터 제거한다.
+ * (Keeps the recent events of each involved object in memory from the all namespaces events watch.
+ * Events of one object are aggregated by (reason, message with numbers masked, fieldPath), accumulating the count
+ * and the first/last time. The aggregates per object and in total are bounded, and the least recently used objects
+ * are evicted first.)
+ *
+ * 같은 이벤트의 MODIFIED, 재조회를 중복 집계하지 않도록 묶음마다 이벤트별 마지막 count 를 두며, 이는 묶음과 함께 제거된다.
+ * API 서버는 마지막 갱신 후 eventTtlSeconds 가 지난 이벤트를 삭제하므로 그보다 오래 받지 못한 이벤트의 count 만 정리한다.
+ * (Each aggregate keeps the last count of every event it was fed so that MODIFIED updates and relists of one event
+ * are not counted twice, and drops them only together with itself. The API server deletes an event eventTtlSeconds
+ * after its last update, so only the counts of events not received for longer than that are pruned.)
+ *
+ * @version 1.0
+ */
+@Component
+public class EventsHistoryStore implements EventsWatchListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventsHistoryStore.class);
+
+    private static final String EVENT_DELETED = "DELETED";
+    private static final String KIND_NODE = "Node";
+    private static final String NODE_KEY_PREFIX = "node/";
+    private static final Pattern NUMBERS = Pattern.compile("\\d+");
+
+    private final EventsWatchHub eventsWatchHub;
+    private final boolean enabled;
+    private final int maxPerObject;
+    private final int maxEntries;
+    private final long eventTtlNanos;
+
+    // 접근 순서, 가장 오래 사용되지 않은 리소스가 처음(access order, least recently used object first)
+    private final LinkedHashMap<String, ObjectHistory> objects = new LinkedHashMap<>(256, 0.75f, true);
+    private int entryCount;
+
+    /**
+     * Instantiates a new Events history store
+     *
+     * @param eventsWatchHub  the events watch hub
+     * @param enabled         whether the history store is enabled
+     * @param maxPerObject    the max number of aggregates kept per object
+     * @param maxEntries      the max number of aggregates kept in total
+     * @param eventTtlSeconds the event TTL of the API server (--event-ttl)
+     */
+    @Autowired
+    public EventsHistoryStore(EventsWatchHub eventsWatchHub,
+                              @Value("${cpEvents.history.enabled:false}") boolean enabled,
+                              @Value("${cpEvents.history.maxPerObject:20}") int maxPerObject,
+                              @Value("${cpEvents.history.maxEntries:50000}") int maxEntries,
+                              @Value("${cpEvents.history.eventTtlSeconds:3600}") long eventTtlSeconds) {
+        this.eventsWatchHub = eventsWatchHub;
+        this.enabled = enabled;
+        this.maxPerObject = maxPerObject;
+        this.maxEntries = maxEntries;
+        this.eventTtlNanos = TimeUnit.SECONDS.toNanos(eventTtlSeconds);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            eventsWatchHub.addListener(this);
+            LOGGER.info("Events history store started, {} aggregates per object, {} in total", maxPerObject, maxEntries);
+        }
+    }
+
+    @Override
+    public void onEvent(String type, JsonObject event) {
+        JsonObject involvedObject = getObject(event, "involvedObject");
+        String key = toKey(getString(involvedObject, "kind"), getString(involvedObject, "uid"), getString(involvedObject, "name"));
+
+        // 만료(TTL)로 삭제된 이벤트도 이력은 유지(the history outlives events deleted by their TTL)
+        if (EVENT_DELETED.equals(type) || key == null) {
+            return;
+        }
+
+        EventRecord record = EventRecord.of(event, involvedObject);
+
+        synchronized (this) {
+            ObjectHistory history = objects.get(key);
+            if (history == null) {
+                history = new ObjectHistory();
+                objects.put(key, history);
+            }
+            entryCount += history.apply(record, maxPerObject, eventTtlNanos);
+            evictColdObjects(history);
+        }
+    }
+
+    /**
+     * 리소스의 이벤트 이력 조회(Get the event history of a resource)
+     *
+     * @param resourceUid the resourceUid, the node name for nodes
+     * @param type        the type, non null for nodes
+     * @return the events list, null when the resource is not held and the API server has to be asked
+     */
+    public EventsListAdmin findEventsListAdmin(String resourceUid, String type) {
+        if (!enabled || resourceUid == null) {
+            return null;
+        }
+
+        List<EventsAdminItem> items;
+        synchronized (this) {
+            ObjectHistory history = objects.get(type != null ? NODE_KEY_PREFIX + resourceUid : resourceUid);
+            if (history == null) {
+                return null;
+            }
+            items = new ArrayList<>(history.aggregates.size());
+            for (Aggregate aggregate : history.aggregates.values()) {
+                items.add(aggregate.toItem());
+            }
+        }
+
+        EventsListAdmin eventsListAdmin = new EventsListAdmin();
+        eventsListAdmin.setItems(items);
+        return eventsListAdmin;
+    }
+
+    synchronized int getEntryCount() {
+        return entryCount;
+    }
+
+    synchronized int getObjectCount() {
+        return objects.size();
+    }
+
+    /**
+     * 전체 묶음 수가 넘으면 오래 사용되지 않은 리소스부터 제거(Evict the least recently used objects while over the total)
+     */
+    private void evictColdObjects(ObjectHistory current) {
+        Iterator<ObjectHistory> iterator = objects.values().iterator();
+        while (entryCount > maxEntries && iterator.hasNext()) {
+            ObjectHistory eldest = iterator.next();
+            if (eldest == current) {
+                continue;
+            }
+            entryCount -= eldest.aggregates.size();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Node 이벤트는 목록 조회와 같이 이름으로 구분(Node events are keyed by name, as in the list)
+     */
+    private static String toKey(String kind, String uid, String name) {
+        if (KIND_NODE.equals(kind)) {
+            return (name == null) ? null : NODE_KEY_PREFIX + name;
+        }
+        return uid;
+    }
+
+    private static String getString(JsonObject object, String memberName) {
+        JsonElement element = (object == null) ? null : object.get(memberName);
+        return (element == null || element.isJsonNull()) ? null : element.getAsString();
+    }
+
+    private static JsonObject getObject(JsonObject object, String memberName) {
+        JsonElement element = (object == null) ? null : object.get(memberName);
+        return (element == null || !element.isJsonObject()) ? null : element.getAsJsonObject();
+    }
+
+    private static int getInt(JsonObject object, String memberName) {
+        JsonElement element = (object == null) ? null : object.get(memberName);
+        return (element == null || element.isJsonNull()) ? 0 : element.getAsInt();
+    }
+
+    private static String firstNonNull(String... values) {
+        for (String value : values) {
+            if (value != null && !value.isEmpty()) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * 리소스 1개의 묶음, 마지막 발생 순(Aggregates of one object, in order of their last occurrence)
+     */
+    private static final class ObjectHistory {
+        private final LinkedHashMap<String, Aggregate> aggregates = new LinkedHashMap<>();
+
+        /**
+         * 이벤트 반영(Apply one event)
+         *
+         * @return the change of the number of aggregates
+         */
+        private int apply(EventRecord record, int maxPerObject, long eventTtlNanos) {
+            Aggregate aggregate = aggregates.get(record.aggregateKey);
+            boolean created = aggregate == null;
+            if (created) {
+                aggregate = new Aggregate(record);
+            }
+
+            int added = aggregate.received(record, System.nanoTime(), eventTtlNanos);
+            if (added <= 0) {
+                return 0;
+            }
+
+            int change = created ? 1 : 0;
+            aggregates.remove(record.aggregateKey);
+            aggregate.add(record, added);
+            aggregates.put(record.aggregateKey, aggregate);
+
+            while (aggregates.size() > maxPerObject) {
+                Iterator<String> iterator = aggregates.keySet().iterator();
+                iterator.next();
+                iterator.remove();
+                change--;
+            }
+            return change;
+        }
+    }
+
+
+    /**
+     * (reason, message 형태, fieldPath) 묶음((reason, message template, fieldPath) aggregate)
+     */
+    private static final class Aggregate {
+        // 이벤트 이름별 마지막 count, 받은 순(last count per event name, in order of receipt)
+        private final LinkedHashMap<String, LastCount> lastCounts = new LinkedHashMap<>();
+        private final String fieldPath;
+        private String message;
+        private String component;
+        private String host;
+        private int count;
+        private String firstTimestamp;
+        private String lastTimestamp;
+
+        private Aggregate(EventRecord record) {
+            this.fieldPath = record.fieldPath;
+        }
+
+        /**
+         * 이벤트의 마지막 count 갱신(Update the last count of the event)
+         *
+         * @return the count not yet added to the aggregate, 0 or less for a repeated delivery
+         */
+        private int received(EventRecord record, long nowNanos, long eventTtlNanos) {
+            LastCount last = lastCounts.remove(record.name);
+            int lastCount = (last == null) ? 0 : last.count;
+            lastCounts.put(record.name, new LastCount(Math.max(record.count, lastCount), nowNanos));
+
+            // TTL 이 지나 API 서버에서 삭제된 이벤트는 다시 오지 않음(events past the TTL are deleted and never delivered again)
+            Iterator<LastCount> iterator = lastCounts.values().iterator();
+            while (iterator.hasNext() && nowNanos - iterator.next().receivedNanos > eventTtlNanos) {
+                iterator.remove();
+            }
+            return record.count - lastCount;
+        }
+
+        private void add(EventRecord record, int added) {
+            count += added;
+            message = record.message;
+            component = record.component;
+            host = record.host;
+
+            if (record.firstTimestamp != null && (firstTimestamp == null || record.firstTimestamp.compareTo(firstTimestamp) < 0)) {
+                firstTimestamp = record.firstTimestamp;
+            }
+            if (record.lastTimestamp != null && (lastTimestamp == null || record.lastTimestamp.compareTo(lastTimestamp) > 0)) {
+                lastTimestamp = record.lastTimestamp;
+            }
+        }
+
+        private EventsAdminItem toItem() {
+            EventSource source = new EventSource();
+            source.setComponent(component);
+            source.setHost(host);
+
+            EventInvolvedObject involvedObject = new EventInvolvedObject();
+            involvedObject.setFieldPath(fieldPath);
+
+            EventsAdminItem item = new EventsAdminItem();
+            item.setMessage(message);
+            item.setSource(source);
+            item.setCount(count);
+            item.setFirstTimestamp(firstTimestamp);
+            item.setLastTimestamp(lastTimestamp);
+            item.setInvolvedObject(involvedObject);
+            return item;
+        }
+    }
+
+
+    /**
+     * 이벤트 1개의 마지막 count 와 받은 시간(Last count of one event and when it was received)
+     */
+    private static final class LastCount {
+        private final int count;
+        private final long receivedNanos;
+
+        private LastCount(int count, long receivedNanos) {
+            this.count = count;
+            this.receivedNanos = receivedNanos;
+        }
+    }
+
+
+    /**
+     * 이벤트에서 읽는 필드(The fields read from an event)
+     */
+    private static final class EventRecord {
+        private String name;
+        private String aggregateKey;
+        private String fieldPath;
+        private String message;
+        private String component;
+        private String host;
+        private int count;
+        private String firstTimestamp;
+        private String lastTimestamp;
+
+        private static EventRecord of(JsonObject event, JsonObject involvedObject) {
+            JsonObject metadata = getObject(event, "metadata");
+            JsonObject source = getObject(event, "source");
+            JsonObject series = getObject(event, "series");
+
+            EventRecord record = new EventRecord();
+            record.name = firstNonNull(getString(metadata, "uid"), getString(metadata, "name"), "");
+            record.fieldPath = firstNonNull(getString(involvedObject, "fieldPath"), "");
+            record.message = firstNonNull(getString(event, "message"), "");
+            record.component = firstNonNull(getString(source, "component"), getString(event, "reportingComponent"), "");
+            record.host = firstNonNull(getString(source, "host"), getString(event, "reportingInstance"), "");
+            record.count = Math.max(1, Math.max(getInt(event, "count"), getInt(series, "count")));
+
+            String created = getString(metadata, "creationTimestamp");
+            record.firstTimestamp = firstNonNull(getString(event, "firstTimestamp"), getString(event, "eventTime"), created);
+            record.lastTimestamp = firstNonNull(getString(event, "lastTimestamp"), getString(series, "lastObservedTime"),
+                    getString(event, "eventTime"), created);
+
+            record.aggregateKey = String.join("|", firstNonNull(getString(event, "reason"), ""),
+                    NUMBERS.matcher(record.message).replaceAll("#"), record.fieldPath);
+            return record;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.paasta.container.platform.api.events;
 
 import lombok.Data;
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 import java.util.List;
 
@@ -13,7 +14,7 @@ import java.util.List;
  * @since 2020.09.17
  */
 @Data
-public class EventsList {
+public class EventsList implements CommonResultModel {
 
     private String resultCode;
     private String resultMessage;
@@ -7,6 +7,7 @@ import org.paasta.container.platform.api.common.RestTemplateService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -24,6 +25,8 @@ public class EventsService {
     private final RestTemplateService restTemplateService;
     private final CommonService commonService;
     private final PropertyService propertyService;
+    private final EventsWatchHub eventsWatchHub;
+    private final EventsHistoryStore eventsHistoryStore;
 
     /**
      * Instantiates a new Events service
@@ -31,12 +34,17 @@ public class EventsService {
      * @param restTemplateService the rest template service
      * @param commonService       the common service
      * @param propertyService     the property service
+     * @param eventsWatchHub      the events watch hub
+     * @param eventsHistoryStore  the events history store
      */
     @Autowired
-    public EventsService(RestTemplateService restTemplateService, CommonService commonService, PropertyService propertyService) {
+    public EventsService(RestTemplateService restTemplateService, CommonService commonService, PropertyService propertyService,
+                         EventsWatchHub eventsWatchHub, EventsHistoryStore eventsHistoryStore) {
         this.restTemplateService = restTemplateService;
         this.commonService = commonService;
         this.propertyService = propertyService;
+        this.eventsWatchHub = eventsWatchHub;
+        this.eventsHistoryStore = eventsHistoryStore;
     }
 
     /**
@@ -70,12 +78,20 @@ public class EventsService {
     /**
      * Resource 의 Events Admin 목록 조회(Get Events Admin list)
      *
+     * Events History Store 가 보관 중인 리소스는 메모리의 집계된 이력으로 응답한다.
+     * (A resource held by the events history store is answered with its aggregated history from memory.)
+     *
      * @param namespace   the namespace
      * @param resourceUid the resourceUid
      * @param type        the type
      * @return the events list
      */
     public Object getEventsListAdmin(String namespace, String resourceUid, String type) {
+        EventsListAdmin history = eventsHistoryStore.findEventsListAdmin(resourceUid, type);
+        if (history != null) {
+            return commonService.setResultModel(history, Constants.RESULT_STATUS_SUCCESS);
+        }
+
         HashMap responseMap = null;
 
         String fieldSelector = generateFieldSelector(type, resourceUid);
@@ -143,6 +159,35 @@ public class EventsService {
         return commonService.setResultModel(eventsListAdmin, Constants.RESULT_STATUS_SUCCESS);
     }
 
+    /**
+     * Events 변경 구독(Subscribe to the changes of events)
+     *
+     * Node 이벤트는 목록 조회와 같이 전체 Namespace 에서 involvedObject.name 으로 구분한다.
+     * 사용자 요청은 구독 전에 사용자 토큰으로 Namespace 의 events 목록 권한을 확인한다.
+     * (Node events are matched by involvedObject.name across all namespaces, as in the list. For a user request the
+     * events list permission of the namespace is checked with the user's token before subscribing.)
+     *
+     * @param namespace   the namespace
+     * @param resourceUid the resourceUid, null for every event of the namespace
+     * @param type        the type
+     * @param lastEventId the last event id
+     * @param isAdmin     the isAdmin
+     * @return the sse emitter
+     */
+    public SseEmitter subscribeEvents(String namespace, String resourceUid, String type, String lastEventId, boolean isAdmin) {
+        if (resourceUid != null && type != null) {
+            // node
+            return eventsWatchHub.subscribe(EventsWatchHub.ALL_NAMESPACES, null, resourceUid, lastEventId);
+        }
+
+        if (!isAdmin) {
+            restTemplateService.sendForModel(Constants.TARGET_CP_MASTER_API,
+                    propertyService.getCpMasterApiListEventsListUrl().replace("{namespace}", namespace) + "?limit=1", EventsList.class);
+        }
+
+        return eventsWatchHub.subscribe(namespace, resourceUid, null, lastEventId);
+    }
+
     /**
      * Field Selector Parameter 생성 (Generate Field Selector Parameter)
      *
@@ -0,0 +1,649 @@
+package org.paasta.container.platform.api.events;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.paasta.container.platform.api.common.CommonUtils;
+import org.paasta.container.platform.api.common.Constants;
+import org.paasta.container.platform.api.common.PropertyService;
+import org.paasta.container.platform.api.common.RestTemplateService;
+import org.paasta.container.platform.api.common.UpstreamTarget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Events Watch Hub 클래스
+ *
+ * Namespace 별로 Admin Token 으로 events WATCH 를 1개만 열고, 같은 Namespace 를 구독하는 여러 SSE 연결에
+ * 변경(ADDED, MODIFIED, DELETED)을 전달한다. 리소스 필터(involvedObject.uid, Node 는 involvedObject.name)는
+ * 구독자마다 서버 안에서 적용하며, 구독자가 없으면 WATCH 를 종료한다.
+ * (Opens a single events WATCH per namespace with the admin token and fans the deltas out to every SSE connection
+ * subscribed to that namespace. The resource filter, involvedObject.uid or involvedObject.name for nodes, is applied
+ * in process per subscriber, and the watch ends once nobody is subscribed.)
+ *
+ * SSE id 는 이벤트의 resourceVersion 이며 최근 변경을 Namespace 별로 보관하여 Last-Event-ID 이후부터 이어서 보낸다.
+ * 보관 범위를 벗어났거나 WATCH 가 410 Gone 으로 다시 시작된 경우 RESET 을 보내며, 클라이언트는 목록을 다시 조회한다.
+ * (The SSE id is the event's resourceVersion. Recent deltas are kept per namespace so a reconnect resumes after its
+ * Last-Event-ID; when that id is no longer kept, or the watch restarted after 410 Gone, RESET is sent and the client
+ * lists again.)
+ *
+ * @version 1.0
+ */
+@Component
+public class EventsWatchHub {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventsWatchHub.class);
+
+    static final String ALL_NAMESPACES = "*";
+    static final String SSE_EVENT_RESET = "RESET";
+
+    private static final String EVENT_ADDED = "ADDED";
+    private static final String EVENT_MODIFIED = "MODIFIED";
+    private static final String EVENT_DELETED = "DELETED";
+    private static final String EVENT_BOOKMARK = "BOOKMARK";
+    private static final String EVENT_ERROR = "ERROR";
+    private static final Delta HEARTBEAT = new Delta(null, null, null, null, null);
+
+    private final RestTemplateService restTemplateService;
+    private final PropertyService propertyService;
+    private final Gson gson;
+    private final long emitterTimeoutMillis;
+    private final long watchTimeoutSeconds;
+    private final long retryBackoffMillis;
+    private final long heartbeatSeconds;
+    private final int replayEvents;
+    private final int queueEvents;
+    private final int senderThreads;
+    private final Map<String, NamespaceWatch> watches = new HashMap<>();
+    private final List<EventsWatchListener> listeners = new CopyOnWriteArrayList<>();
+
+    private ExecutorService watchExecutor;
+    private ExecutorService senderExecutor;
+    private ScheduledExecutorService heartbeatExecutor;
+
+    /**
+     * Instantiates a new Events watch hub
+     *
+     * @param restTemplateService  the rest template service
+     * @param propertyService      the property service
+     * @param gson                 the gson
+     * @param emitterTimeoutMillis the life of one SSE connection before the client reconnects
+     * @param watchTimeoutSeconds  the watch timeout, below the socket timeout of the rest template
+     * @param retryBackoffMillis   the backoff after a failed list or watch
+     * @param heartbeatSeconds     the interval of the heartbeat comment that keeps idle connections open
+     * @param replayEvents         the number of recent deltas kept per namespace for resume
+     * @param queueEvents          the number of deltas queued per subscriber before it is disconnected
+     * @param senderThreads        the number of threads writing to the SSE connections
+     */
+    @Autowired
+    public EventsWatchHub(RestTemplateService restTemplateService,
+                          PropertyService propertyService,
+                          Gson gson,
+                          @Value("${cpEvents.sse.timeoutMillis:1800000}") long emitterTimeoutMillis,
+                          @Value("${cpEvents.watch.timeoutSeconds:50}") long watchTimeoutSeconds,
+                          @Value("${cpEvents.watch.retryBackoffMillis:2000}") long retryBackoffMillis,
+                          @Value("${cpEvents.sse.heartbeatSeconds:25}") long heartbeatSeconds,
+                          @Value("${cpEvents.sse.replayEvents:256}") int replayEvents,
+                          @Value("${cpEvents.sse.queueEvents:128}") int queueEvents,
+                          @Value("${cpEvents.sse.senderThreads:4}") int senderThreads) {
+        this.restTemplateService = restTemplateService;
+        this.propertyService = propertyService;
+        this.gson = gson;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.watchTimeoutSeconds = watchTimeoutSeconds;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.heartbeatSeconds = heartbeatSeconds;
+        this.replayEvents = replayEvents;
+        this.queueEvents = queueEvents;
+        this.senderThreads = senderThreads;
+    }
+
+    @PostConstruct
+    public void start() {
+        CustomizableThreadFactory watchThreadFactory = new CustomizableThreadFactory("cp-events-watch-");
+        watchThreadFactory.setDaemon(true);
+        CustomizableThreadFactory senderThreadFactory = new CustomizableThreadFactory("cp-events-sse-");
+        senderThreadFactory.setDaemon(true);
+
+        watchExecutor = Executors.newCachedThreadPool(watchThreadFactory);
+        senderExecutor = Executors.newFixedThreadPool(senderThreads, senderThreadFactory);
+        heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(senderThreadFactory);
+        heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        List<Subscriber> subscribers = new ArrayList<>();
+        synchronized (watches) {
+            for (NamespaceWatch watch : watches.values()) {
+                watch.running = false;
+                subscribers.addAll(watch.subscribers);
+            }
+            watches.clear();
+        }
+        subscribers.forEach(Subscriber::close);
+
+        if (heartbeatExecutor != null) {
+            heartbeatExecutor.shutdownNow();
+            senderExecutor.shutdownNow();
+            watchExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Events 구독(Subscribe to the events of a namespace or of one resource)
+     *
+     * @param namespace    the namespace, ALL_NAMESPACES for node events
+     * @param resourceUid  the involvedObject.uid to filter on, null for every event
+     * @param resourceName the involvedObject.name to filter on, null for every event
+     * @param lastEventId  the last resourceVersion the client received, null for a new stream
+     * @return the sse emitter
+     */
+    public SseEmitter subscribe(String namespace, String resourceUid, String resourceName, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        register(namespace, new EventsFilter(resourceUid, resourceName), lastEventId, emitter);
+        return emitter;
+    }
+
+    /**
+     * 전체 Namespace 의 events 변경 통지 대상 추가(Add a listener notified of the event changes of all namespaces)
+     *
+     * 전체 Namespace WATCH 는 구독자가 없어도 계속 유지되며, 시작 시와 410 Gone 이후 전체 목록을 ADDED 로 통지한다.
+     * (The all namespaces watch is kept open without subscribers; on start and after 410 Gone the whole list is
+     * notified as ADDED.)
+     *
+     * @param listener the listener
+     */
+    public void addListener(EventsWatchListener listener) {
+        listeners.add(listener);
+        NamespaceWatch created = null;
+
+        synchronized (watches) {
+            NamespaceWatch watch = watches.get(ALL_NAMESPACES);
+            if (watch == null) {
+                watch = new NamespaceWatch(ALL_NAMESPACES);
+                watches.put(ALL_NAMESPACES, watch);
+                created = watch;
+            }
+            watch.pinned = true;
+        }
+
+        if (created != null) {
+            watchExecutor.execute(created::run);
+        }
+    }
+
+    /**
+     * 구독자 등록, Namespace WATCH 가 없으면 시작(Register the subscriber, starting the namespace watch when none runs)
+     */
+    void register(String namespace, EventsFilter filter, String lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, filter);
+        NamespaceWatch created = null;
+
+        synchronized (watches) {
+            NamespaceWatch watch = watches.get(namespace);
+            if (watch == null) {
+                watch = new NamespaceWatch(namespace);
+                watches.put(namespace, watch);
+                created = watch;
+            }
+            subscriber.watch = watch;
+            watch.subscribe(subscriber, lastEventId);
+        }
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(throwable -> subscriber.close());
+
+        if (created != null) {
+            NamespaceWatch watch = created;
+            try {
+                watchExecutor.execute(watch::run);
+            } catch (RejectedExecutionException exception) {
+                subscriber.close();
+            }
+        }
+    }
+
+    /**
+     * 구독자가 없으면 WATCH 종료(End the watch when it has no subscriber left)
+     *
+     * @return whether the watch keeps running
+     */
+    private boolean keepWatching(NamespaceWatch watch) {
+        synchronized (watches) {
+            if (watch.running && watch.isWanted()) {
+                return true;
+            }
+            watch.running = false;
+            watches.remove(watch.namespace, watch);
+            return false;
+        }
+    }
+
+    private void heartbeat() {
+        List<NamespaceWatch> snapshot;
+        synchronized (watches) {
+            snapshot = new ArrayList<>(watches.values());
+        }
+        for (NamespaceWatch watch : snapshot) {
+            watch.subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+        }
+    }
+
+    int getSubscriberCount(String namespace) {
+        synchronized (watches) {
+            NamespaceWatch watch = watches.get(namespace);
+            return (watch == null) ? 0 : watch.subscribers.size();
+        }
+    }
+
+    private void notifyListeners(String type, JsonObject event) {
+        for (EventsWatchListener listener : listeners) {
+            try {
+                listener.onEvent(type, event);
+            } catch (RuntimeException exception) {
+                LOGGER.warn("EVENTS WATCH LISTENER FAILED :: {}, {}", listener.getClass().getSimpleName(), CommonUtils.loggerReplace(exception.toString()));
+            }
+        }
+    }
+
+    private String getListUrl(String namespace) {
+        return ALL_NAMESPACES.equals(namespace) ? propertyService.getCpMasterApiListEventsListAllNamespacesUrl()
+                : propertyService.getCpMasterApiListEventsListUrl().replace("{namespace}", namespace);
+    }
+
+    private void sleepBackoff() {
+        try {
+            Thread.sleep(retryBackoffMillis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Reader openReader(ClientHttpResponse response) throws IOException {
+        MediaType contentType = response.getHeaders().getContentType();
+        Charset charset = (contentType != null && contentType.getCharset() != null) ? contentType.getCharset() : StandardCharsets.UTF_8;
+        return new InputStreamReader(response.getBody(), charset);
+    }
+
+    private static String getString(JsonObject object, String memberName) {
+        JsonElement element = (object == null) ? null : object.get(memberName);
+        return (element == null || element.isJsonNull()) ? null : element.getAsString();
+    }
+
+    private static JsonObject getObject(JsonObject object, String memberName) {
+        JsonElement element = (object == null) ? null : object.get(memberName);
+        return (element == null || !element.isJsonObject()) ? null : element.getAsJsonObject();
+    }
+
+
+    /**
+     * Namespace 1개의 events WATCH 와 구독자, 최근 변경(The events watch of one namespace, its subscribers and recent deltas)
+     */
+    private final class NamespaceWatch {
+        private final String namespace;
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final Deque<Delta> recent = new ArrayDeque<>();
+        private volatile boolean running = true;
+        private volatile boolean pinned;
+        private String resourceVersion;
+        private boolean expired;
+
+        private NamespaceWatch(String namespace) {
+            this.namespace = namespace;
+        }
+
+        private boolean isWanted() {
+            return pinned || !subscribers.isEmpty();
+        }
+
+        /**
+         * 구독자 추가, Last-Event-ID 이후 변경 재전송(Add the subscriber and replay the deltas after its Last-Event-ID)
+         */
+        private synchronized void subscribe(Subscriber subscriber, String lastEventId) {
+            subscribers.add(subscriber);
+            if (lastEventId == null || lastEventId.isEmpty() || lastEventId.equals(resourceVersion)) {
+                return;
+            }
+
+            boolean found = false;
+            for (Delta delta : recent) {
+                if (found) {
+                    subscriber.offerMatching(delta);
+                } else {
+                    found = lastEventId.equals(delta.id);
+                }
+            }
+            if (!found) {
+                subscriber.offer(Delta.reset(resourceVersion));
+            }
+        }
+
+        private synchronized void publish(Delta delta) {
+            if (delta.id != null) {
+                resourceVersion = delta.id;
+            }
+            if (SSE_EVENT_RESET.equals(delta.type)) {
+                recent.clear();
+                subscribers.forEach(subscriber -> subscriber.offer(delta));
+                return;
+            }
+
+            recent.addLast(delta);
+            if (recent.size() > replayEvents) {
+                recent.removeFirst();
+            }
+            subscribers.forEach(subscriber -> subscriber.offerMatching(delta));
+        }
+
+        private synchronized void bookmark(String bookmarkVersion) {
+            if (bookmarkVersion != null) {
+                resourceVersion = bookmarkVersion;
+            }
+        }
+
+        private synchronized String getResourceVersion() {
+            return resourceVersion;
+        }
+
+        /**
+         * 최신 resourceVersion 조회 후 WATCH 반복(Get the current resourceVersion, then WATCH until unsubscribed)
+         */
+        private void run() {
+            while (keepWatching(this) && !Thread.currentThread().isInterrupted()) {
+                try {
+                    if (getResourceVersion() == null || expired) {
+                        list();
+                    }
+                    watch();
+                } catch (HttpStatusCodeException exception) {
+                    if (exception.getStatusCode() == HttpStatus.GONE) {
+                        expired = true;
+                    } else {
+                        LOGGER.warn("EVENTS WATCH FAILED :: NAMESPACE: {}, STATUS: {}", CommonUtils.loggerReplace(namespace), exception.getRawStatusCode());
+                        sleepBackoff();
+                    }
+                } catch (RuntimeException exception) {
+                    LOGGER.warn("EVENTS WATCH FAILED :: NAMESPACE: {}, {}", CommonUtils.loggerReplace(namespace), CommonUtils.loggerReplace(exception.toString()));
+                    sleepBackoff();
+                }
+            }
+        }
+
+        /**
+         * 현재 resourceVersion 조회, 만료 후이면 RESET 전달(Read the current resourceVersion; after an expiry, publish RESET)
+         *
+         * 통지 대상이 있는 WATCH 는 전체 목록을 조회하여 항목마다 통지한다.
+         * (A watch with listeners lists everything and notifies each item.)
+         */
+        private void list() {
+            UpstreamTarget target = restTemplateService.resolveAdminTarget(Constants.TARGET_CP_MASTER_API);
+            boolean withItems = pinned;
+            String reqUrl = withItems ? getListUrl(namespace) : getListUrl(namespace) + "?limit=1";
+
+            String listVersion = restTemplateService.sendForStream(target, reqUrl, response -> {
+                String version = null;
+
+                try (JsonReader reader = new JsonReader(openReader(response))) {
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        String name = reader.nextName();
+                        if ("metadata".equals(name)) {
+                            version = getString(gson.fromJson(reader, JsonObject.class), "resourceVersion");
+                        } else if (withItems && "items".equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                            reader.beginArray();
+                            while (reader.hasNext()) {
+                                notifyListeners(EVENT_ADDED, gson.fromJson(reader, JsonObject.class));
+                            }
+                            reader.endArray();
+                        } else {
+                            reader.skipValue();
+                        }
+                    }
+                    reader.endObject();
+                }
+                return version;
+            });
+
+            if (expired) {
+                LOGGER.info("EVENTS WATCH :: NAMESPACE: {} resourceVersion expired, resetting subscribers", CommonUtils.loggerReplace(namespace));
+                publish(Delta.reset(listVersion));
+                expired = false;
+            } else {
+                bookmark(listVersion);
+            }
+        }
+
+        private void watch() {
+            UpstreamTarget target = restTemplateService.resolveAdminTarget(Constants.TARGET_CP_MASTER_API);
+            String reqUrl = getListUrl(namespace) + "?watch=1&allowWatchBookmarks=true&timeoutSeconds=" + watchTimeoutSeconds
+                    + "&resourceVersion=" + getResourceVersion();
+
+            restTemplateService.sendForStream(target, reqUrl, response -> {
+                try (JsonReader reader = new JsonReader(openReader(response))) {
+                    // 한 줄에 이벤트 1건(one event per line)
+                    reader.setLenient(true);
+                    while (running && reader.peek() != JsonToken.END_DOCUMENT) {
+                        if (!applyEvent(gson.fromJson(reader, JsonObject.class))) {
+                            return null;
+                        }
+                    }
+                } catch (EOFException exception) {
+                    // 이벤트 없이 timeoutSeconds 로 끝난 응답, 마지막 resourceVersion 부터 다시 WATCH
+                    // (a response that ended at timeoutSeconds without events; watch again from the last resourceVersion)
+                }
+                return null;
+            });
+        }
+
+        /**
+         * WATCH 이벤트 반영(Apply one watch event)
+         *
+         * @return false when the watch has to stop
+         */
+        private boolean applyEvent(JsonObject event) {
+            String type = getString(event, "type");
+            JsonObject object = getObject(event, "object");
+
+            if (type == null || object == null) {
+                return true;
+            }
+
+            String eventVersion = getString(getObject(object, "metadata"), "resourceVersion");
+
+            switch (type) {
+                case EVENT_ADDED:
+                case EVENT_MODIFIED:
+                case EVENT_DELETED:
+                    if (pinned) {
+                        notifyListeners(type, object);
+                    }
+                    JsonObject involvedObject = getObject(object, "involvedObject");
+                    publish(new Delta(type, eventVersion, getString(involvedObject, "uid"), getString(involvedObject, "name"), gson.toJson(object)));
+                    return isWanted();
+                case EVENT_BOOKMARK:
+                    bookmark(eventVersion);
+                    return isWanted();
+                case EVENT_ERROR:
+                    JsonElement code = object.get("code");
+                    if (code != null && code.getAsInt() == HttpStatus.GONE.value()) {
+                        expired = true;
+                    } else {
+                        LOGGER.warn("EVENTS WATCH ERROR EVENT :: NAMESPACE: {}, {}", CommonUtils.loggerReplace(namespace),
+                                CommonUtils.loggerReplace(String.valueOf(getString(object, "message"))));
+                    }
+                    return false;
+                default:
+                    return true;
+            }
+        }
+    }
+
+
+    /**
+     * SSE 연결 1개, 전용 queue 를 sender 스레드가 비운다(One SSE connection whose own queue is drained by the sender threads)
+     *
+     * 느린 클라이언트가 queue 를 가득 채우면 연결을 종료하고, 클라이언트는 Last-Event-ID 로 다시 연결한다.
+     * (A slow client that fills its queue is disconnected and reconnects with its Last-Event-ID.)
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final EventsFilter filter;
+        private final BlockingQueue<Delta> queue = new ArrayBlockingQueue<>(queueEvents);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private NamespaceWatch watch;
+
+        private Subscriber(SseEmitter emitter, EventsFilter filter) {
+            this.emitter = emitter;
+            this.filter = filter;
+        }
+
+        private void offerMatching(Delta delta) {
+            if (filter.matches(delta)) {
+                offer(delta);
+            }
+        }
+
+        private void offer(Delta delta) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(delta)) {
+                if (delta == HEARTBEAT) {
+                    return;
+                }
+                LOGGER.info("EVENTS SSE SUBSCRIBER TOO SLOW :: NAMESPACE: {}, disconnecting", CommonUtils.loggerReplace(watch.namespace));
+                emitter.complete();
+                close();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                senderExecutor.execute(this::drain);
+            } catch (RejectedExecutionException exception) {
+                scheduled.set(false);
+                close();
+            }
+        }
+
+        private void drain() {
+            try {
+                Delta delta;
+                while (!closed.get() && (delta = queue.poll()) != null) {
+                    emitter.send(delta.toEvent());
+                }
+            } catch (IOException | IllegalStateException exception) {
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+
+            if (!closed.get() && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                queue.clear();
+                if (watch != null) {
+                    watch.subscribers.remove(this);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * 구독자의 리소스 필터(Resource filter of a subscriber)
+     */
+    static final class EventsFilter {
+        private final String resourceUid;
+        private final String resourceName;
+
+        EventsFilter(String resourceUid, String resourceName) {
+            this.resourceUid = resourceUid;
+            this.resourceName = resourceName;
+        }
+
+        private boolean matches(Delta delta) {
+            return (resourceUid == null || resourceUid.equals(delta.involvedUid))
+                    && (resourceName == null || resourceName.equals(delta.involvedName));
+        }
+    }
+
+
+    /**
+     * 구독자에게 보낼 변경 1건, json 은 1번만 직렬화(One delta for the subscribers; its json is serialized once)
+     */
+    private static final class Delta {
+        private final String type;
+        private final String id;
+        private final String involvedUid;
+        private final String involvedName;
+        private final String json;
+
+        private Delta(String type, String id, String involvedUid, String involvedName, String json) {
+            this.type = type;
+            this.id = id;
+            this.involvedUid = involvedUid;
+            this.involvedName = involvedName;
+            this.json = json;
+        }
+
+        private static Delta reset(String resourceVersion) {
+            return new Delta(SSE_EVENT_RESET, resourceVersion, null, null, "{}");
+        }
+
+        private SseEmitter.SseEventBuilder toEvent() {
+            if (type == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(type).data(json, MediaType.APPLICATION_JSON);
+            return (id == null) ? event : event.id(id);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.paasta.container.platform.api.events;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Events Watch Listener 인터페이스
+ *
+ * 전체 Namespace events WATCH 변경 통지. watch 스레드에서 순서대로 호출된다.
+ * (Notified of the event changes of all namespaces; called in order on the watch thread.)
+ *
+ * @version 1.0
+ */
+public interface EventsWatchListener {
+
+    /**
+     * ADDED, MODIFIED, DELETED 이벤트 수신(An ADDED, MODIFIED or DELETED event was received)
+     *
+     * @param type  the watch event type
+     * @param event the event object
+     */
+    void onEvent(String type, JsonObject event);
+}
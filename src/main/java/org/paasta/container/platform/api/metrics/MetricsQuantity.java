@@ -0,0 +1,120 @@
+package org.paasta.container.platform.api.metrics;
+
+import java.math.BigDecimal;
+
+/**
+ * Metrics Quantity 클래스
+ *
+ * metrics API 의 Kubernetes quantity 문자열(예: 250m, 123456n, 64Mi)을 저장 단위 정수로 변환한다.
+ * CPU 는 micro core, Memory 는 KiB 단위이다.
+ * (Converts Kubernetes quantity strings from the metrics API, e.g. 250m, 123456n or 64Mi, into the stored
+ * integer units: micro cores for CPU and KiB for memory.)
+ *
+ * int 변환은 시계열 저장용으로 Integer.MAX_VALUE 에서 포화(2 TiB, 2147 core)되므로, Node 용량 합계는 long 변환을 사용한다.
+ * (The int forms feed the time series and saturate at Integer.MAX_VALUE, i.e. 2 TiB or 2147 cores, so node
+ * capacity totals use the long forms.)
+ *
+ * @version 1.0
+ */
+public final class MetricsQuantity {
+
+    public static final int UNKNOWN = -1;
+
+    private static final String[] BINARY_SUFFIXES = {"Ki", "Mi", "Gi", "Ti", "Pi", "Ei"};
+    private static final String[] DECIMAL_SUFFIXES = {"k", "M", "G", "T", "P", "E"};
+    private static final BigDecimal MICRO_PER_CORE = BigDecimal.valueOf(1_000_000);
+    private static final BigDecimal BYTES_PER_KIB = BigDecimal.valueOf(1024);
+
+    private MetricsQuantity() {
+    }
+
+    /**
+     * CPU quantity 를 micro core 로 변환(Parse a CPU quantity into micro cores)
+     *
+     * @param quantity the quantity
+     * @return the micro cores, UNKNOWN when it cannot be parsed
+     */
+    public static int parseCpuMicroCores(String quantity) {
+        return toInt(parseCpuMicroCoresLong(quantity));
+    }
+
+    /**
+     * CPU quantity 를 long micro core 로 변환(Parse a CPU quantity into micro cores as a long)
+     *
+     * @param quantity the quantity
+     * @return the micro cores, UNKNOWN when it cannot be parsed
+     */
+    public static long parseCpuMicroCoresLong(String quantity) {
+        BigDecimal cores = parse(quantity);
+        return cores == null ? UNKNOWN : toLong(cores.multiply(MICRO_PER_CORE));
+    }
+
+    /**
+     * Memory quantity 를 KiB 로 변환(Parse a memory quantity into KiB)
+     *
+     * @param quantity the quantity
+     * @return the KiB, UNKNOWN when it cannot be parsed
+     */
+    public static int parseMemoryKiB(String quantity) {
+        return toInt(parseMemoryKiBLong(quantity));
+    }
+
+    /**
+     * Memory quantity 를 long KiB 로 변환(Parse a memory quantity into KiB as a long)
+     *
+     * @param quantity the quantity
+     * @return the KiB, UNKNOWN when it cannot be parsed
+     */
+    public static long parseMemoryKiBLong(String quantity) {
+        BigDecimal bytes = parse(quantity);
+        return bytes == null ? UNKNOWN : toLong(bytes.divide(BYTES_PER_KIB, 0, BigDecimal.ROUND_HALF_UP));
+    }
+
+    private static BigDecimal parse(String quantity) {
+        if (quantity == null || quantity.isEmpty()) {
+            return null;
+        }
+
+        try {
+            for (int i = 0; i < BINARY_SUFFIXES.length; i++) {
+                if (quantity.endsWith(BINARY_SUFFIXES[i])) {
+                    return number(quantity, 2).multiply(BigDecimal.valueOf(2).pow(10 * (i + 1)));
+                }
+            }
+            for (int i = 0; i < DECIMAL_SUFFIXES.length; i++) {
+                if (quantity.endsWith(DECIMAL_SUFFIXES[i])) {
+                    return number(quantity, 1).scaleByPowerOfTen(3 * (i + 1));
+                }
+            }
+
+            switch (quantity.charAt(quantity.length() - 1)) {
+                case 'n':
+                    return number(quantity, 1).scaleByPowerOfTen(-9);
+                case 'u':
+                    return number(quantity, 1).scaleByPowerOfTen(-6);
+                case 'm':
+                    return number(quantity, 1).scaleByPowerOfTen(-3);
+                default:
+                    return new BigDecimal(quantity);
+            }
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+
+    private static BigDecimal number(String quantity, int suffixLength) {
+        return new BigDecimal(quantity.substring(0, quantity.length() - suffixLength));
+    }
+
+    private static int toInt(long value) {
+        return value < 0 ? UNKNOWN : (int) Math.min(value, Integer.MAX_VALUE);
+    }
+
+    private static long toLong(BigDecimal value) {
+        BigDecimal rounded = value.setScale(0, BigDecimal.ROUND_HALF_UP);
+        if (rounded.signum() < 0) {
+            return UNKNOWN;
+        }
+        return rounded.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0 ? Long.MAX_VALUE : rounded.longValue();
+    }
+}
@@ -0,0 +1,106 @@
+package org.paasta.container.platform.api.metrics;
+
+import org.paasta.container.platform.api.common.CommonUtils;
+import org.paasta.container.platform.api.common.Constants;
+import org.paasta.container.platform.api.common.RestTemplateService;
+import org.paasta.container.platform.api.workloads.pods.PodsMetric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics Sampler 클래스
+ *
+ * 일정 주기로 전체 Pod, Node metrics 를 조회하여 Metrics Time Series Store 에 기록한다.
+ * (Polls the pod and node metrics of the whole cluster at a fixed interval and records them in the time series store.)
+ *
+ * @version 1.0
+ */
+@Component
+public class MetricsSampler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetricsSampler.class);
+
+    private final RestTemplateService restTemplateService;
+    private final MetricsTimeSeriesStore metricsTimeSeriesStore;
+    private final boolean enabled;
+
+    private ScheduledExecutorService samplerExecutor;
+
+    /**
+     * Instantiates a new Metrics sampler
+     *
+     * @param restTemplateService    the rest template service
+     * @param metricsTimeSeriesStore the metrics time series store
+     * @param enabled                whether the sampler is enabled
+     */
+    @Autowired
+    public MetricsSampler(RestTemplateService restTemplateService, MetricsTimeSeriesStore metricsTimeSeriesStore,
+                          @Value("${cpMetrics.sampler.enabled:false}") boolean enabled) {
+        this.restTemplateService = restTemplateService;
+        this.metricsTimeSeriesStore = metricsTimeSeriesStore;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 주기 수집 시작(Start sampling)
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cp-metrics-sampler-");
+        threadFactory.setDaemon(true);
+
+        samplerExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        samplerExecutor.scheduleWithFixedDelay(this::sample, 0, metricsTimeSeriesStore.getSampleIntervalSeconds(), TimeUnit.SECONDS);
+        LOGGER.info("Metrics sampler started every {} seconds", metricsTimeSeriesStore.getSampleIntervalSeconds());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (samplerExecutor != null) {
+            samplerExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Pod, Node metrics 1회 수집(Take one sample of the pod and node metrics)
+     */
+    void sample() {
+        long epochSecond = Instant.now().getEpochSecond();
+
+        try {
+            Object podsMetric = restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, Constants.URI_METRIC_API_PODS, PodsMetric.class);
+            if (podsMetric instanceof PodsMetric) {
+                metricsTimeSeriesStore.recordPods((PodsMetric) podsMetric, epochSecond);
+            } else {
+                LOGGER.warn("METRICS SAMPLE FAILED :: {}", Constants.URI_METRIC_API_PODS);
+            }
+
+            Object nodesMetric = restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, Constants.URI_METRIC_API_NODES, NodesMetric.class);
+            if (nodesMetric instanceof NodesMetric) {
+                metricsTimeSeriesStore.recordNodes((NodesMetric) nodesMetric, epochSecond);
+            } else {
+                LOGGER.warn("METRICS SAMPLE FAILED :: {}", Constants.URI_METRIC_API_NODES);
+            }
+
+            metricsTimeSeriesStore.evictExpired(epochSecond);
+        } catch (RuntimeException exception) {
+            // 다음 주기 계속 수행(keep the schedule alive for the next run)
+            LOGGER.warn("METRICS SAMPLE FAILED :: {}", CommonUtils.loggerReplace(exception.toString()));
+        }
+    }
+}
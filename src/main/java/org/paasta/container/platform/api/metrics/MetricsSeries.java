@@ -0,0 +1,155 @@
+package org.paasta.container.platform.api.metrics;
+
+/**
+ * Metrics Series 클래스
+ *
+ * container 또는 node 1개의 CPU, Memory 시계열. 원본 sample ring buffer 와 rollup 구간 평균 ring buffer 를
+ * primitive 배열로 유지하여 sample 당 객체를 만들지 않는다. 시각은 store 기준 시각으로부터의 초이다.
+ * (CPU and memory time series of one container or node. Raw samples and rolled-up bucket averages are kept in
+ * primitive ring buffers, so no object is allocated per sample. Times are seconds since the store's base time.)
+ *
+ * @version 1.0
+ */
+final class MetricsSeries {
+
+    private final Ring raw;
+    private final Ring rollup;
+    private final int rollupSeconds;
+
+    private int bucketStart = -1;
+    private long bucketCpu;
+    private long bucketMemory;
+    private int bucketCount;
+
+    private volatile int lastSampleTime;
+
+    /**
+     * Instantiates a new Metrics series
+     *
+     * @param rawCapacity    the number of raw samples kept
+     * @param rollupCapacity the number of rollup buckets kept
+     * @param rollupSeconds  the rollup bucket size
+     */
+    MetricsSeries(int rawCapacity, int rollupCapacity, int rollupSeconds) {
+        this.raw = new Ring(rawCapacity);
+        this.rollup = new Ring(rollupCapacity);
+        this.rollupSeconds = rollupSeconds;
+    }
+
+    /**
+     * sample 추가(Add a sample)
+     *
+     * @param time   the sample time
+     * @param cpu    the cpu in micro cores
+     * @param memory the memory in KiB
+     */
+    synchronized void add(int time, int cpu, int memory) {
+        raw.add(time, cpu, memory);
+
+        int start = time - Math.floorMod(time, rollupSeconds);
+        if (start != bucketStart) {
+            flushBucket();
+            bucketStart = start;
+        }
+        bucketCpu += cpu;
+        bucketMemory += memory;
+        bucketCount++;
+
+        lastSampleTime = time;
+    }
+
+    int getLastSampleTime() {
+        return lastSampleTime;
+    }
+
+    /**
+     * 구간별 평균을 합산 배열에 더함(Add the per-step averages of this series into the totals)
+     *
+     * @param useRaw  whether to read raw samples rather than rollup buckets
+     * @param from    the start time of the first step
+     * @param step    the step seconds
+     * @param cpu     the cpu totals per step
+     * @param memory  the memory totals per step
+     * @param present the number of series with data per step
+     */
+    synchronized void accumulate(boolean useRaw, int from, int step, long[] cpu, long[] memory, int[] present) {
+        int steps = present.length;
+        long[] cpuSums = new long[steps];
+        long[] memorySums = new long[steps];
+        int[] counts = new int[steps];
+
+        Ring ring = useRaw ? raw : rollup;
+        for (int i = 0; i < ring.size; i++) {
+            int slot = ring.slot(i);
+            addToStep(ring.times[slot], ring.cpu[slot], ring.memory[slot], from, step, cpuSums, memorySums, counts);
+        }
+        // 진행 중인 rollup 구간 포함(include the open rollup bucket)
+        if (!useRaw && bucketCount > 0) {
+            addToStep(bucketStart, (int) (bucketCpu / bucketCount), (int) (bucketMemory / bucketCount), from, step, cpuSums, memorySums, counts);
+        }
+
+        for (int i = 0; i < steps; i++) {
+            if (counts[i] > 0) {
+                cpu[i] += cpuSums[i] / counts[i];
+                memory[i] += memorySums[i] / counts[i];
+                present[i]++;
+            }
+        }
+    }
+
+    private static void addToStep(int time, int cpu, int memory, int from, int step, long[] cpuSums, long[] memorySums, int[] counts) {
+        if (time < from) {
+            return;
+        }
+        int index = (time - from) / step;
+        if (index < counts.length) {
+            cpuSums[index] += cpu;
+            memorySums[index] += memory;
+            counts[index]++;
+        }
+    }
+
+    private void flushBucket() {
+        if (bucketCount > 0) {
+            rollup.add(bucketStart, (int) (bucketCpu / bucketCount), (int) (bucketMemory / bucketCount));
+        }
+        bucketCpu = 0;
+        bucketMemory = 0;
+        bucketCount = 0;
+    }
+
+
+    /**
+     * 시각, CPU, Memory 고정 크기 ring buffer(Fixed-size ring buffer of time, cpu and memory)
+     */
+    private static final class Ring {
+        private final int[] times;
+        private final int[] cpu;
+        private final int[] memory;
+        private int head;
+        private int size;
+
+        Ring(int capacity) {
+            this.times = new int[capacity];
+            this.cpu = new int[capacity];
+            this.memory = new int[capacity];
+        }
+
+        void add(int time, int cpuValue, int memoryValue) {
+            times[head] = time;
+            cpu[head] = cpuValue;
+            memory[head] = memoryValue;
+            head = (head + 1) % times.length;
+            if (size < times.length) {
+                size++;
+            }
+        }
+
+        /**
+         * 오래된 순서 i 번째 slot(Slot of the i-th oldest sample)
+         */
+        int slot(int i) {
+            return (head - size + i + times.length) % times.length;
+        }
+    }
+}
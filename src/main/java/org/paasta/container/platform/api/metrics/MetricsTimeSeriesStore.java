@@ -0,0 +1,313 @@
+package org.paasta.container.platform.api.metrics;
+
+import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.workloads.pods.ContainerUsage;
+import org.paasta.container.platform.api.workloads.pods.Containers;
+import org.paasta.container.platform.api.workloads.pods.PodsMetric;
+import org.paasta.container.platform.api.workloads.pods.PodsUsage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Metrics Time Series Store 클래스
+ *
+ * metrics API sample 을 Pod container, Node 별 시계열로 메모리에 보관하고 Pod, workload, namespace, Node 단위 추이를 계산한다.
+ * 최근 구간은 원본 sample, 그 이전은 rollup 구간 평균으로 응답한다.
+ * (Keeps metrics API samples in memory as one series per pod container and per node, and computes trends for a
+ * pod, a workload, a namespace or a node. Recent windows are answered from raw samples, longer ones from rollups.)
+ *
+ * @version 1.0
+ */
+@Component
+public class MetricsTimeSeriesStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetricsTimeSeriesStore.class);
+
+    public static final String KIND_POD = "pod";
+    public static final String KIND_DEPLOYMENT = "deployment";
+    public static final String KIND_NAMESPACE = "namespace";
+    public static final String KIND_NODE = "node";
+
+    private static final char KEY_SEPARATOR = '/';
+    private static final int SECONDS_PER_HOUR = 3600;
+    private static final double MICRO_PER_MILLI = 1000.0;
+    private static final long BYTES_PER_KIB = 1024L;
+
+    private final int sampleIntervalSeconds;
+    private final int rawRetentionSeconds;
+    private final int rollupSeconds;
+    private final int retentionHours;
+    private final int maxPods;
+    private final long baseEpochSecond;
+
+    private final Map<String, PodSeries> pods = new ConcurrentHashMap<>();
+    private final Map<String, MetricsSeries> nodes = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new Metrics time series store
+     *
+     * @param sampleIntervalSeconds the sampling interval
+     * @param rawRetentionMinutes   how long raw samples are kept
+     * @param rollupSeconds         the rollup bucket size
+     * @param retentionHours        how long rollup buckets are kept
+     * @param maxPods               the maximum number of pods tracked
+     */
+    @Autowired
+    public MetricsTimeSeriesStore(@Value("${cpMetrics.sampleIntervalSeconds:30}") int sampleIntervalSeconds,
+                                  @Value("${cpMetrics.rawRetentionMinutes:60}") int rawRetentionMinutes,
+                                  @Value("${cpMetrics.rollupSeconds:300}") int rollupSeconds,
+                                  @Value("${cpMetrics.retentionHours:24}") int retentionHours,
+                                  @Value("${cpMetrics.maxPods:20000}") int maxPods) {
+        this.sampleIntervalSeconds = Math.max(1, sampleIntervalSeconds);
+        this.rawRetentionSeconds = Math.max(this.sampleIntervalSeconds, rawRetentionMinutes * 60);
+        this.rollupSeconds = Math.max(this.sampleIntervalSeconds, rollupSeconds);
+        this.retentionHours = Math.max(1, retentionHours);
+        this.maxPods = maxPods;
+        // rollup 구간이 절대 시각 기준으로 나뉘도록 정렬(align the base so rollup buckets fall on wall-clock boundaries)
+        long epochSecond = Instant.now().getEpochSecond();
+        this.baseEpochSecond = epochSecond - epochSecond % this.rollupSeconds;
+    }
+
+    public int getSampleIntervalSeconds() {
+        return sampleIntervalSeconds;
+    }
+
+    public int getRetentionHours() {
+        return retentionHours;
+    }
+
+    /**
+     * Pod metrics sample 기록(Record a pod metrics sample)
+     *
+     * @param podsMetric  the pods metric
+     * @param epochSecond the sample time
+     */
+    public void recordPods(PodsMetric podsMetric, long epochSecond) {
+        if (podsMetric == null || podsMetric.getItems() == null) {
+            return;
+        }
+
+        int time = toTime(epochSecond);
+        for (PodsUsage podsUsage : podsMetric.getItems()) {
+            CommonMetaData metadata = podsUsage.getMetadata();
+            if (metadata == null || podsUsage.getContainers() == null) {
+                continue;
+            }
+
+            String key = podKey(metadata.getNamespace(), metadata.getName());
+            PodSeries podSeries = pods.get(key);
+            if (podSeries == null) {
+                if (pods.size() >= maxPods) {
+                    LOGGER.warn("METRICS STORE FULL, POD SKIPPED :: {}", pods.size());
+                    continue;
+                }
+                podSeries = pods.computeIfAbsent(key, k -> new PodSeries(metadata.getNamespace()));
+            }
+            podSeries.labels = metadata.getLabels() == null ? Collections.emptyMap() : metadata.getLabels();
+
+            for (Containers container : podsUsage.getContainers()) {
+                if (container.getName() == null || container.getUsage() == null) {
+                    continue;
+                }
+                addSample(podSeries.containers.computeIfAbsent(container.getName(), k -> newSeries()), time, container.getUsage());
+            }
+        }
+    }
+
+    /**
+     * Node metrics sample 기록(Record a node metrics sample)
+     *
+     * @param nodesMetric the nodes metric
+     * @param epochSecond the sample time
+     */
+    public void recordNodes(NodesMetric nodesMetric, long epochSecond) {
+        if (nodesMetric == null || nodesMetric.getItems() == null) {
+            return;
+        }
+
+        int time = toTime(epochSecond);
+        for (NodesUsage nodesUsage : nodesMetric.getItems()) {
+            if (nodesUsage.getMetadata() == null || nodesUsage.getUsage() == null) {
+                continue;
+            }
+            addSample(nodes.computeIfAbsent(nodesUsage.getMetadata().getName(), k -> newSeries()), time, nodesUsage.getUsage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 시계열 제거(Drop series with no sample within the retention)
+     *
+     * @param epochSecond the current time
+     */
+    public void evictExpired(long epochSecond) {
+        int oldest = toTime(epochSecond) - retentionHours * SECONDS_PER_HOUR;
+
+        pods.values().forEach(podSeries -> podSeries.containers.values().removeIf(series -> series.getLastSampleTime() < oldest));
+        pods.values().removeIf(podSeries -> podSeries.containers.isEmpty());
+        nodes.values().removeIf(series -> series.getLastSampleTime() < oldest);
+    }
+
+    /**
+     * Pod 추이 조회(Get the trend of a pod)
+     *
+     * @param namespace   the namespace
+     * @param podName     the pod name
+     * @param hours       the hours
+     * @param epochSecond the current time
+     * @return the metrics trend
+     */
+    public MetricsTrend getPodTrend(String namespace, String podName, int hours, long epochSecond) {
+        PodSeries podSeries = pods.get(podKey(namespace, podName));
+        Collection<MetricsSeries> series = podSeries == null ? Collections.emptyList() : podSeries.containers.values();
+        return trend(KIND_POD, namespace, podName, series, hours, epochSecond);
+    }
+
+    /**
+     * label 이 모두 일치하는 Pod 합계 추이 조회(Get the summed trend of the pods carrying all the labels)
+     *
+     * @param kind        the kind
+     * @param namespace   the namespace
+     * @param name        the name
+     * @param matchLabels the match labels, no pod matches when empty
+     * @param hours       the hours
+     * @param epochSecond the current time
+     * @return the metrics trend
+     */
+    public MetricsTrend getPodsTrend(String kind, String namespace, String name, Map<String, String> matchLabels, int hours, long epochSecond) {
+        boolean hasLabels = matchLabels != null && !matchLabels.isEmpty();
+        return podsTrend(kind, namespace, name, labels -> hasLabels && matches(labels, matchLabels), hours, epochSecond);
+    }
+
+    /**
+     * namespace 전체 Pod 합계 추이 조회(Get the summed trend of all pods in a namespace)
+     *
+     * @param namespace   the namespace
+     * @param hours       the hours
+     * @param epochSecond the current time
+     * @return the metrics trend
+     */
+    public MetricsTrend getNamespaceTrend(String namespace, int hours, long epochSecond) {
+        return podsTrend(KIND_NAMESPACE, namespace, namespace, labels -> true, hours, epochSecond);
+    }
+
+    /**
+     * Node 추이 조회(Get the trend of a node)
+     *
+     * @param nodeName    the node name
+     * @param hours       the hours
+     * @param epochSecond the current time
+     * @return the metrics trend
+     */
+    public MetricsTrend getNodeTrend(String nodeName, int hours, long epochSecond) {
+        MetricsSeries series = nodes.get(nodeName);
+        return trend(KIND_NODE, null, nodeName, series == null ? Collections.emptyList() : Collections.singletonList(series), hours, epochSecond);
+    }
+
+    private MetricsTrend podsTrend(String kind, String namespace, String name, Predicate<Map<String, String>> labelFilter, int hours, long epochSecond) {
+        List<MetricsSeries> series = new ArrayList<>();
+        for (PodSeries podSeries : pods.values()) {
+            if (namespace.equals(podSeries.namespace) && labelFilter.test(podSeries.labels)) {
+                series.addAll(podSeries.containers.values());
+            }
+        }
+        return trend(kind, namespace, name, series, hours, epochSecond);
+    }
+
+    /**
+     * 시계열 합계를 구간별로 계산(Sum the series per step over the window)
+     */
+    private MetricsTrend trend(String kind, String namespace, String name, Collection<MetricsSeries> series, int hours, long epochSecond) {
+        int windowSeconds = Math.min(Math.max(1, hours), retentionHours) * SECONDS_PER_HOUR;
+        boolean useRaw = windowSeconds <= rawRetentionSeconds;
+        int step = useRaw ? sampleIntervalSeconds : rollupSeconds;
+        int steps = windowSeconds / step;
+
+        int now = toTime(epochSecond);
+        int from = now - now % step - (steps - 1) * step;
+
+        long[] cpu = new long[steps];
+        long[] memory = new long[steps];
+        int[] present = new int[steps];
+        for (MetricsSeries metricsSeries : series) {
+            metricsSeries.accumulate(useRaw, from, step, cpu, memory, present);
+        }
+
+        List<MetricsTrendPoint> points = new ArrayList<>();
+        for (int i = 0; i < steps; i++) {
+            if (present[i] == 0) {
+                continue;
+            }
+            MetricsTrendPoint point = new MetricsTrendPoint();
+            point.setTimestamp(Instant.ofEpochSecond(baseEpochSecond + from + (long) i * step).toString());
+            point.setCpuMillicores(cpu[i] / MICRO_PER_MILLI);
+            point.setMemoryBytes(memory[i] * BYTES_PER_KIB);
+            point.setSeriesCount(present[i]);
+            points.add(point);
+        }
+
+        MetricsTrend metricsTrend = new MetricsTrend();
+        metricsTrend.setKind(kind);
+        metricsTrend.setNamespace(namespace);
+        metricsTrend.setName(name);
+        metricsTrend.setHours(windowSeconds / SECONDS_PER_HOUR);
+        metricsTrend.setStepSeconds(step);
+        metricsTrend.setPoints(points);
+        return metricsTrend;
+    }
+
+    private static void addSample(MetricsSeries series, int time, ContainerUsage usage) {
+        int cpu = MetricsQuantity.parseCpuMicroCores(usage.getCpu());
+        int memory = MetricsQuantity.parseMemoryKiB(usage.getMemory());
+        if (cpu != MetricsQuantity.UNKNOWN && memory != MetricsQuantity.UNKNOWN) {
+            series.add(time, cpu, memory);
+        }
+    }
+
+    private MetricsSeries newSeries() {
+        return new MetricsSeries(rawRetentionSeconds / sampleIntervalSeconds + 1,
+                retentionHours * SECONDS_PER_HOUR / rollupSeconds + 1, rollupSeconds);
+    }
+
+    private int toTime(long epochSecond) {
+        return (int) (epochSecond - baseEpochSecond);
+    }
+
+    private static boolean matches(Map<String, String> labels, Map<String, String> matchLabels) {
+        for (Map.Entry<String, String> matchLabel : matchLabels.entrySet()) {
+            if (!matchLabel.getValue().equals(labels.get(matchLabel.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String podKey(String namespace, String podName) {
+        return namespace + KEY_SEPARATOR + podName;
+    }
+
+
+    /**
+     * Pod 1개의 label 과 container 별 시계열(Labels and per-container series of one pod)
+     */
+    private static final class PodSeries {
+        private final String namespace;
+        private final Map<String, MetricsSeries> containers = new ConcurrentHashMap<>(4);
+        private volatile Map<String, String> labels = Collections.emptyMap();
+
+        PodSeries(String namespace) {
+            this.namespace = namespace;
+        }
+    }
+}
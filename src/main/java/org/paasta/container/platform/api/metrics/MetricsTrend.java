@@ -0,0 +1,26 @@
+package org.paasta.container.platform.api.metrics;
+
+import lombok.Data;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
+
+import java.util.List;
+
+/**
+ * Metrics Trend Model 클래스
+ *
+ * @version 1.0
+ */
+@Data
+public class MetricsTrend implements CommonResultModel {
+    private String resultCode;
+    private String resultMessage;
+    private Integer httpStatusCode;
+    private String detailMessage;
+
+    private String kind;
+    private String namespace;
+    private String name;
+    private int hours;
+    private int stepSeconds;
+    private List<MetricsTrendPoint> points;
+}
@@ -0,0 +1,133 @@
+package org.paasta.container.platform.api.metrics;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiImplicitParams;
+import io.swagger.annotations.ApiOperation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import springfox.documentation.annotations.ApiIgnore;
+
+/**
+ * Metrics Trend Controller 클래스
+ *
+ * @version 1.0
+ */
+@Api(value = "MetricsTrendController v1")
+@RestController
+@RequestMapping(value = "/clusters/{cluster:.+}")
+public class MetricsTrendController {
+    private final MetricsTrendService metricsTrendService;
+
+    /**
+     * Instantiates a new Metrics trend controller
+     *
+     * @param metricsTrendService the metrics trend service
+     */
+    @Autowired
+    public MetricsTrendController(MetricsTrendService metricsTrendService) {
+        this.metricsTrendService = metricsTrendService;
+    }
+
+    /**
+     * Namespace 사용량 추이 조회(Get Namespace usage trend)
+     *
+     * @param cluster   the cluster
+     * @param namespace the namespace
+     * @param hours     the hours
+     * @param isAdmin   the isAdmin
+     * @return the metrics trend
+     */
+    @ApiOperation(value = "Namespace 사용량 추이 조회(Get Namespace usage trend)", nickname = "getNamespaceTrend")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "cluster", value = "클러스터 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "namespace", value = "네임스페이스 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "hours", value = "조회 기간(시간), 기본값 1", required = false, dataType = "int", paramType = "query")
+    })
+    @GetMapping(value = "/namespaces/{namespace:.+}/metrics")
+    public Object getNamespaceTrend(@PathVariable(value = "cluster") String cluster,
+                                    @PathVariable(value = "namespace") String namespace,
+                                    @RequestParam(required = false, defaultValue = "1") int hours,
+                                    @ApiIgnore @RequestParam(required = false, name = "isAdmin") boolean isAdmin) {
+        return metricsTrendService.getNamespaceTrend(namespace, hours, isAdmin);
+    }
+
+    /**
+     * Pods 사용량 추이 조회(Get Pods usage trend)
+     *
+     * @param cluster   the cluster
+     * @param namespace the namespace
+     * @param podName   the pod name
+     * @param hours     the hours
+     * @param isAdmin   the isAdmin
+     * @return the metrics trend
+     */
+    @ApiOperation(value = "Pods 사용량 추이 조회(Get Pods usage trend)", nickname = "getPodTrend")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "cluster", value = "클러스터 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "namespace", value = "네임스페이스 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "podName", value = "Pod 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "hours", value = "조회 기간(시간), 기본값 1", required = false, dataType = "int", paramType = "query")
+    })
+    @GetMapping(value = "/namespaces/{namespace:.+}/pods/{podName:.+}/metrics")
+    public Object getPodTrend(@PathVariable(value = "cluster") String cluster,
+                              @PathVariable(value = "namespace") String namespace,
+                              @PathVariable(value = "podName") String podName,
+                              @RequestParam(required = false, defaultValue = "1") int hours,
+                              @ApiIgnore @RequestParam(required = false, name = "isAdmin") boolean isAdmin) {
+        return metricsTrendService.getPodTrend(namespace, podName, hours, isAdmin);
+    }
+
+    /**
+     * Deployments 사용량 추이 조회(Get Deployments usage trend)
+     *
+     * @param cluster        the cluster
+     * @param namespace      the namespace
+     * @param deploymentName the deployment name
+     * @param hours          the hours
+     * @param isAdmin        the isAdmin
+     * @return the metrics trend
+     */
+    @ApiOperation(value = "Deployments 사용량 추이 조회(Get Deployments usage trend)", nickname = "getDeploymentTrend")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "cluster", value = "클러스터 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "namespace", value = "네임스페이스 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "deploymentName", value = "Deployment 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "hours", value = "조회 기간(시간), 기본값 1", required = false, dataType = "int", paramType = "query")
+    })
+    @GetMapping(value = "/namespaces/{namespace:.+}/deployments/{deploymentName:.+}/metrics")
+    public Object getDeploymentTrend(@PathVariable(value = "cluster") String cluster,
+                                     @PathVariable(value = "namespace") String namespace,
+                                     @PathVariable(value = "deploymentName") String deploymentName,
+                                     @RequestParam(required = false, defaultValue = "1") int hours,
+                                     @ApiIgnore @RequestParam(required = false, name = "isAdmin") boolean isAdmin) {
+        return metricsTrendService.getDeploymentTrend(namespace, deploymentName, hours, isAdmin);
+    }
+
+    /**
+     * Nodes 사용량 추이 조회(Get Nodes usage trend)
+     *
+     * @param cluster  the cluster
+     * @param nodeName the node name
+     * @param hours    the hours
+     * @param isAdmin  the isAdmin
+     * @return the metrics trend
+     */
+    @ApiOperation(value = "Nodes 사용량 추이 조회(Get Nodes usage trend)", nickname = "getNodeTrend")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "cluster", value = "클러스터 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "nodeName", value = "노드 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "hours", value = "조회 기간(시간), 기본값 1", required = false, dataType = "int", paramType = "query")
+    })
+    @GetMapping(value = "/nodes/{nodeName:.+}/metrics")
+    public Object getNodeTrend(@PathVariable(value = "cluster") String cluster,
+                               @PathVariable(value = "nodeName") String nodeName,
+                               @RequestParam(required = false, defaultValue = "1") int hours,
+                               @ApiIgnore @RequestParam(required = false, name = "isAdmin") boolean isAdmin) {
+        return metricsTrendService.getNodeTrend(nodeName, hours, isAdmin);
+    }
+}
@@ -0,0 +1,16 @@
+package org.paasta.container.platform.api.metrics;
+
+import lombok.Data;
+
+/**
+ * Metrics Trend Point Model 클래스
+ *
+ * @version 1.0
+ */
+@Data
+public class MetricsTrendPoint {
+    private String timestamp;
+    private double cpuMillicores;
+    private long memoryBytes;
+    private int seriesCount;
+}
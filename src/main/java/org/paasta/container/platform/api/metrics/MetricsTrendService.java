@@ -0,0 +1,135 @@
+package org.paasta.container.platform.api.metrics;
+
+import org.paasta.container.platform.api.clusters.nodes.Nodes;
+import org.paasta.container.platform.api.common.CommonService;
+import org.paasta.container.platform.api.common.Constants;
+import org.paasta.container.platform.api.common.PropertyService;
+import org.paasta.container.platform.api.common.RestTemplateService;
+import org.paasta.container.platform.api.common.model.CommonLabelSelector;
+import org.paasta.container.platform.api.workloads.deployments.Deployments;
+import org.paasta.container.platform.api.workloads.pods.Pods;
+import org.paasta.container.platform.api.workloads.pods.PodsList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Metrics Trend Service 클래스
+ *
+ * 사용자 포털 요청은 사용자 token 으로 대상 리소스를 조회하여 접근 권한을 확인한 뒤 저장된 추이를 반환한다.
+ * (User portal requests first read the target resource with the user's token to check access, then answer from the store.)
+ *
+ * @version 1.0
+ */
+@Service
+public class MetricsTrendService {
+
+    private static final String LIMIT_ONE = "?limit=1";
+
+    private final RestTemplateService restTemplateService;
+    private final CommonService commonService;
+    private final PropertyService propertyService;
+    private final MetricsTimeSeriesStore metricsTimeSeriesStore;
+
+    /**
+     * Instantiates a new Metrics trend service
+     *
+     * @param restTemplateService    the rest template service
+     * @param commonService          the common service
+     * @param propertyService        the property service
+     * @param metricsTimeSeriesStore the metrics time series store
+     */
+    @Autowired
+    public MetricsTrendService(RestTemplateService restTemplateService, CommonService commonService, PropertyService propertyService,
+                               MetricsTimeSeriesStore metricsTimeSeriesStore) {
+        this.restTemplateService = restTemplateService;
+        this.commonService = commonService;
+        this.propertyService = propertyService;
+        this.metricsTimeSeriesStore = metricsTimeSeriesStore;
+    }
+
+    /**
+     * Pod 사용량 추이 조회(Get the usage trend of a pod)
+     *
+     * @param namespace the namespace
+     * @param podName   the pod name
+     * @param hours     the hours
+     * @param isAdmin   the isAdmin
+     * @return the metrics trend
+     */
+    public Object getPodTrend(String namespace, String podName, int hours, boolean isAdmin) {
+        if (!isAdmin) {
+            restTemplateService.sendForModel(Constants.TARGET_CP_MASTER_API, propertyService.getCpMasterApiListPodsGetUrl()
+                    .replace("{namespace}", namespace).replace("{name}", podName), Pods.class);
+        }
+
+        return commonService.setResultModel(metricsTimeSeriesStore.getPodTrend(namespace, podName, hours, now()), Constants.RESULT_STATUS_SUCCESS);
+    }
+
+    /**
+     * Deployment 사용량 추이 조회, selector matchLabels 에 맞는 Pod 합계
+     * (Get the usage trend of a deployment, summed over the pods matching its selector matchLabels)
+     *
+     * @param namespace      the namespace
+     * @param deploymentName the deployment name
+     * @param hours          the hours
+     * @param isAdmin        the isAdmin
+     * @return the metrics trend
+     */
+    public Object getDeploymentTrend(String namespace, String deploymentName, int hours, boolean isAdmin) {
+        String reqUrl = propertyService.getCpMasterApiListDeploymentsGetUrl().replace("{namespace}", namespace).replace("{name}", deploymentName);
+        Object response = isAdmin ? restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, reqUrl, Deployments.class)
+                : restTemplateService.sendForModel(Constants.TARGET_CP_MASTER_API, reqUrl, Deployments.class);
+
+        if (!(response instanceof Deployments)) {
+            return response;
+        }
+
+        Deployments deployments = (Deployments) response;
+        CommonLabelSelector selector = deployments.getSpec() == null ? null : deployments.getSpec().getSelector();
+        Map<String, String> matchLabels = selector == null ? null : selector.getMatchLabels();
+
+        return commonService.setResultModel(metricsTimeSeriesStore.getPodsTrend(MetricsTimeSeriesStore.KIND_DEPLOYMENT, namespace,
+                deploymentName, matchLabels, hours, now()), Constants.RESULT_STATUS_SUCCESS);
+    }
+
+    /**
+     * Namespace 사용량 추이 조회(Get the usage trend of a namespace)
+     *
+     * @param namespace the namespace
+     * @param hours     the hours
+     * @param isAdmin   the isAdmin
+     * @return the metrics trend
+     */
+    public Object getNamespaceTrend(String namespace, int hours, boolean isAdmin) {
+        if (!isAdmin) {
+            restTemplateService.sendForModel(Constants.TARGET_CP_MASTER_API,
+                    propertyService.getCpMasterApiListPodsListUrl().replace("{namespace}", namespace) + LIMIT_ONE, PodsList.class);
+        }
+
+        return commonService.setResultModel(metricsTimeSeriesStore.getNamespaceTrend(namespace, hours, now()), Constants.RESULT_STATUS_SUCCESS);
+    }
+
+    /**
+     * Node 사용량 추이 조회(Get the usage trend of a node)
+     *
+     * @param nodeName the node name
+     * @param hours    the hours
+     * @param isAdmin  the isAdmin
+     * @return the metrics trend
+     */
+    public Object getNodeTrend(String nodeName, int hours, boolean isAdmin) {
+        if (!isAdmin) {
+            restTemplateService.sendForModel(Constants.TARGET_CP_MASTER_API,
+                    propertyService.getCpMasterApiListNodesGetUrl().replace("{name}", nodeName), Nodes.class);
+        }
+
+        return commonService.setResultModel(metricsTimeSeriesStore.getNodeTrend(nodeName, hours, now()), Constants.RESULT_STATUS_SUCCESS);
+    }
+
+    private static long now() {
+        return Instant.now().getEpochSecond();
+    }
+}
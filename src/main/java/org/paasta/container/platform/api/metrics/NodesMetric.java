@@ -0,0 +1,21 @@
+package org.paasta.container.platform.api.metrics;
+
+import lombok.Data;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
+
+import java.util.List;
+
+/**
+ * Nodes Metric Model 클래스
+ *
+ * @version 1.0
+ */
+@Data
+public class NodesMetric implements CommonResultModel {
+    private String resultCode;
+    private String resultMessage;
+    private Integer httpStatusCode;
+    private String detailMessage;
+    private List<NodesUsage> items;
+    private String kind;
+}
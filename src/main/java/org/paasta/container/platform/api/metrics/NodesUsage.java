@@ -0,0 +1,16 @@
+package org.paasta.container.platform.api.metrics;
+
+import lombok.Data;
+import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.workloads.pods.ContainerUsage;
+
+/**
+ * Nodes Usage Model 클래스
+ *
+ * @version 1.0
+ */
+@Data
+public class NodesUsage {
+    private CommonMetaData metadata;
+    private ContainerUsage usage;
+}
@@ -5,6 +5,8 @@ import java.util.Map;
 import lombok.Data;
 
 import org.paasta.container.platform.api.common.CommonUtils;
+import org.paasta.container.platform.api.common.model.CommonNextActionModel;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 /**
  * Overview Model 클래스
@@ -14,7 +16,7 @@ import org.paasta.container.platform.api.common.CommonUtils;
  * @since 2020.10.30
  **/
 @Data
-public class Overview {
+public class Overview implements CommonResultModel, CommonNextActionModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
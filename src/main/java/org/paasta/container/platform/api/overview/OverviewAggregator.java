@@ -0,0 +1,283 @@
+package org.paasta.container.platform.api.overview;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.paasta.container.platform.api.common.watch.CachedResource;
+import org.paasta.container.platform.api.common.watch.ResourceWatchListener;
+import org.paasta.container.platform.api.common.watch.WatchResourceType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Overview Aggregator 클래스
+ *
+ * Watch Cache 변경 이벤트로 namespace 별 running/failed 수를 증분 갱신한다. Overview 는 전체 목록을 다시 계산하지 않고
+ * namespace 수 만큼만 합산한다. 주기적인 전체 LIST(cpWatchCache.resyncSeconds) 때 다시 계산한 값과 비교하여 보정한다.
+ * (Keeps per namespace running/failed counts up to date from watch cache events, so the overview sums one entry per
+ * namespace instead of walking every item. Each periodic full LIST (cpWatchCache.resyncSeconds) recomputes the counts,
+ * compares them with the incremental ones and replaces them.)
+ *
+ * @version 1.0
+ */
+@Component
+public class OverviewAggregator implements ResourceWatchListener, MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OverviewAggregator.class);
+
+    private final Map<WatchResourceType, KindAggregate> aggregates = new EnumMap<>(WatchResourceType.class);
+
+    private final LongAdder matchCount = new LongAdder();
+    private final LongAdder driftCount = new LongAdder();
+
+    public OverviewAggregator() {
+        aggregates.put(WatchResourceType.NAMESPACES, new KindAggregate());
+        aggregates.put(WatchResourceType.DEPLOYMENTS, new KindAggregate());
+        aggregates.put(WatchResourceType.PODS, new KindAggregate());
+        aggregates.put(WatchResourceType.REPLICASETS, new KindAggregate());
+    }
+
+    /**
+     * running/failed 수 조회(Get the running and failed counts)
+     *
+     * @param type              the resource type
+     * @param namespace         the namespace, null for all namespaces
+     * @param excludeNamespaces the namespaces left out when counting all namespaces
+     * @return the counts, null until the first LIST of the resource type
+     */
+    public Counts getCounts(WatchResourceType type, String namespace, Collection<String> excludeNamespaces) {
+        KindAggregate aggregate = aggregates.get(type);
+        return aggregate == null ? null : aggregate.getCounts(namespace, excludeNamespaces);
+    }
+
+    @Override
+    public void onReplaced(WatchResourceType type, List<CachedResource> resources) {
+        KindAggregate aggregate = aggregates.get(type);
+        if (aggregate == null) {
+            return;
+        }
+
+        Map<String, Entry> entries = new HashMap<>();
+        for (CachedResource resource : resources) {
+            entries.put(resource.getKey(), new Entry(groupOf(resource), isFailed(type, resource)));
+        }
+
+        if (aggregate.replaceAll(entries)) {
+            matchCount.increment();
+        } else {
+            driftCount.increment();
+            LOGGER.warn("Overview aggregate {} drifted from the full list, counters replaced", type.getPlural());
+        }
+    }
+
+    @Override
+    public void onUpserted(WatchResourceType type, CachedResource resource) {
+        KindAggregate aggregate = aggregates.get(type);
+        if (aggregate != null) {
+            aggregate.put(resource.getKey(), new Entry(groupOf(resource), isFailed(type, resource)));
+        }
+    }
+
+    @Override
+    public void onDeleted(WatchResourceType type, CachedResource resource) {
+        KindAggregate aggregate = aggregates.get(type);
+        if (aggregate != null) {
+            aggregate.remove(resource.getKey());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cp.overview.aggregate.reconciliations", matchCount, LongAdder::doubleValue)
+                .tag("result", "match").register(registry);
+        FunctionCounter.builder("cp.overview.aggregate.reconciliations", driftCount, LongAdder::doubleValue)
+                .tag("result", "drift").register(registry);
+    }
+
+    /**
+     * namespace 별 집계 단위, namespace 리소스는 자기 이름(Group of a resource : its namespace, or its name for namespaces)
+     */
+    private static String groupOf(CachedResource resource) {
+        return resource.getNamespace() == null || resource.getNamespace().isEmpty() ? resource.getName() : resource.getNamespace();
+    }
+
+    /**
+     * OverviewService 의 사용량 계산과 같은 기준으로 failed 판단(Same failed rules as the usage of OverviewService)
+     */
+    static boolean isFailed(WatchResourceType type, CachedResource resource) {
+        JsonObject object = JsonParser.parseString(resource.getJson()).getAsJsonObject();
+        JsonObject status = object.has("status") && object.get("status").isJsonObject() ? object.getAsJsonObject("status") : new JsonObject();
+
+        switch (type) {
+            case DEPLOYMENTS:
+                // status: unavailableReplicas, replicas, availableReplicas
+                int replicas = getInt(status, "replicas");
+                return getInt(status, "unavailableReplicas") > 0 && replicas != 0 && replicas != getInt(status, "availableReplicas");
+            case REPLICASETS:
+                // status -> AvailableReplicas
+                return getInt(status, "availableReplicas") < getInt(status, "replicas") && getInt(status, "replicas") > 0;
+            case PODS:
+                // containerStatuses -> state: waiting
+                JsonElement containerStatuses = status.get("containerStatuses");
+                if (containerStatuses == null || !containerStatuses.isJsonArray() || ((JsonArray) containerStatuses).size() == 0) {
+                    return true;
+                }
+                JsonElement item = ((JsonArray) containerStatuses).get(0);
+                JsonElement state = item.isJsonObject() ? item.getAsJsonObject().get("state") : null;
+                return state == null || !state.isJsonObject() || state.getAsJsonObject().has("waiting");
+            default:
+                return false;
+        }
+    }
+
+    private static int getInt(JsonObject object, String memberName) {
+        JsonElement element = object.get(memberName);
+        return (element == null || element.isJsonNull()) ? 0 : element.getAsInt();
+    }
+
+    /**
+     * running/failed 수(Running and failed counts)
+     */
+    public static final class Counts {
+        private int running;
+        private int failed;
+
+        public int getRunning() {
+            return running;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        public int getTotal() {
+            return running + failed;
+        }
+
+        private void add(Counts counts) {
+            running += counts.running;
+            failed += counts.failed;
+        }
+
+        private void add(boolean failedEntry, int delta) {
+            if (failedEntry) {
+                failed += delta;
+            } else {
+                running += delta;
+            }
+        }
+
+        private boolean isEmpty() {
+            return running == 0 && failed == 0;
+        }
+
+        private boolean sameAs(Counts other) {
+            return other != null && running == other.running && failed == other.failed;
+        }
+    }
+
+    private static final class Entry {
+        private final String group;
+        private final boolean failed;
+
+        private Entry(String group, boolean failed) {
+            this.group = group;
+            this.failed = failed;
+        }
+    }
+
+    /**
+     * 리소스 유형 1개의 집계, 리소스별 마지막 상태와 namespace 별 합계(Aggregate of one resource type : the last state of each
+     * resource and the counts of each namespace)
+     */
+    private static final class KindAggregate {
+        private Map<String, Entry> entries = new HashMap<>();
+        private Map<String, Counts> groups = new HashMap<>();
+        private boolean synced;
+
+        synchronized Counts getCounts(String namespace, Collection<String> excludeNamespaces) {
+            if (!synced) {
+                return null;
+            }
+
+            Counts counts = new Counts();
+            if (namespace != null) {
+                Counts group = groups.get(namespace);
+                if (group != null) {
+                    counts.add(group);
+                }
+                return counts;
+            }
+
+            for (Map.Entry<String, Counts> group : groups.entrySet()) {
+                if (excludeNamespaces == null || !excludeNamespaces.contains(group.getKey())) {
+                    counts.add(group.getValue());
+                }
+            }
+            return counts;
+        }
+
+        synchronized void put(String key, Entry entry) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                count(groups, previous, -1);
+            }
+            count(groups, entry, 1);
+        }
+
+        synchronized void remove(String key) {
+            Entry previous = entries.remove(key);
+            if (previous != null) {
+                count(groups, previous, -1);
+            }
+        }
+
+        /**
+         * 전체 교체, 기존 합계와 같았는지 반환(Replace everything; returns whether the previous counts matched)
+         */
+        synchronized boolean replaceAll(Map<String, Entry> newEntries) {
+            Map<String, Counts> newGroups = new HashMap<>();
+            for (Entry entry : newEntries.values()) {
+                count(newGroups, entry, 1);
+            }
+
+            boolean matched = !synced || sameGroups(groups, newGroups);
+            this.entries = newEntries;
+            this.groups = newGroups;
+            this.synced = true;
+            return matched;
+        }
+
+        private static void count(Map<String, Counts> groups, Entry entry, int delta) {
+            Counts counts = groups.computeIfAbsent(entry.group, k -> new Counts());
+            counts.add(entry.failed, delta);
+            if (counts.isEmpty()) {
+                groups.remove(entry.group);
+            }
+        }
+
+        private static boolean sameGroups(Map<String, Counts> previous, Map<String, Counts> current) {
+            if (previous.size() != current.size()) {
+                return false;
+            }
+            for (Map.Entry<String, Counts> group : current.entrySet()) {
+                if (!group.getValue().sameAs(previous.get(group.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package org.paasta.container.platform.api.overview;
 
-import org.paasta.container.platform.api.clusters.namespaces.NamespacesListAdmin;
 import org.paasta.container.platform.api.clusters.namespaces.NamespacesService;
 import org.paasta.container.platform.api.common.CommonService;
 import org.paasta.container.platform.api.common.Constants;
 import org.paasta.container.platform.api.common.PropertyService;
 import org.paasta.container.platform.api.common.RestTemplateService;
+import org.paasta.container.platform.api.common.UpstreamTarget;
+import org.paasta.container.platform.api.common.concurrent.FanOutExecutor;
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
 import org.paasta.container.platform.api.common.model.CommonStatus;
+import org.paasta.container.platform.api.common.model.CommonTable;
+import org.paasta.container.platform.api.common.model.CommonTableRow;
+import org.paasta.container.platform.api.common.watch.ResourceWatchCacheManager;
+import org.paasta.container.platform.api.common.watch.WatchResourceType;
 import org.paasta.container.platform.api.users.UsersList;
 import org.paasta.container.platform.api.users.UsersService;
 import org.paasta.container.platform.api.workloads.deployments.DeploymentsListAdmin;
@@ -20,13 +25,21 @@ import org.paasta.container.platform.api.workloads.pods.support.PodsStatus;
 import org.paasta.container.platform.api.workloads.replicaSets.ReplicaSetsListAdmin;
 import org.paasta.container.platform.api.workloads.replicaSets.ReplicaSetsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
 
 /**
  * Overview Service 클래스
@@ -40,6 +53,16 @@ public class OverviewService {
     private static final String ORDER_BY_DEFAULT = "creationTime";
     private static final String ORDER_DEFAULT = "desc";
     private static final String STATUS_FIELD_NAME = "status";
+    private static final String TABLE_COLUMN_READY = "Ready";
+    private static final String TABLE_COLUMN_AVAILABLE = "Available";
+    private static final String TABLE_COLUMN_CURRENT = "Current";
+    private static final String TABLE_COLUMN_STATUS = "Status";
+    private static final String POD_INIT_STATUS_PREFIX = "Init:";
+
+    // container 대기(waiting) 사유와 container 상태가 없는 Pod 의 상태(waiting container reasons and the status of pods without container statuses)
+    private static final Set<String> POD_WAITING_STATUSES = new HashSet<>(Arrays.asList(
+            "Pending", "ContainerCreating", "PodInitializing", "CrashLoopBackOff", "ImagePullBackOff", "ErrImagePull",
+            "ErrImageNeverPull", "InvalidImageName", "CreateContainerConfigError", "CreateContainerError", "RunContainerError"));
 
     private final NamespacesService namespacesService;
     private final DeploymentsService deploymentsService;
@@ -49,6 +72,15 @@ public class OverviewService {
     private final CommonService commonService;
     private final PropertyService propertyService;
     private final RestTemplateService restTemplateService;
+    private final FanOutExecutor fanOutExecutor;
+    private final ResourceWatchCacheManager resourceWatchCacheManager;
+    private final OverviewAggregator overviewAggregator;
+
+    @Value("${cpOverview.summaryQuery.enabled:true}")
+    private boolean summaryQueryEnabled;
+
+    @Value("${cpNamespace.ignoreNamespace}")
+    private List<String> ignoreNamespaceList;
 
     /**
      * Instantiates a new Overview service
@@ -59,11 +91,17 @@ public class OverviewService {
      * @param usersService       the users service
      * @param commonService      the common service
      * @param propertyService    the property service
+     * @param restTemplateService the rest template service
+     * @param fanOutExecutor     the fan out executor
+     * @param resourceWatchCacheManager the resource watch cache manager
+     * @param overviewAggregator the overview aggregator
      */
     @Autowired
     public OverviewService(NamespacesService namespacesService, DeploymentsService deploymentsService,
                            PodsService podsService, ReplicaSetsService replicaSetsService, UsersService usersService,
-                           CommonService commonService, PropertyService propertyService, RestTemplateService restTemplateService) {
+                           CommonService commonService, PropertyService propertyService, RestTemplateService restTemplateService,
+                           FanOutExecutor fanOutExecutor, ResourceWatchCacheManager resourceWatchCacheManager,
+                           OverviewAggregator overviewAggregator) {
         this.namespacesService = namespacesService;
         this.deploymentsService = deploymentsService;
         this.podsService = podsService;
@@ -72,50 +110,55 @@ public class OverviewService {
         this.commonService = commonService;
         this.propertyService = propertyService;
         this.restTemplateService = restTemplateService;
+        this.fanOutExecutor = fanOutExecutor;
+        this.resourceWatchCacheManager = resourceWatchCacheManager;
+        this.overviewAggregator = overviewAggregator;
     }
 
 
     /**
      * 전체 Namespaces 의 Overview 조회(Get Overview in All Namespaces)
      *
+     * 목록 조회는 동시에 실행하며 마감 시간 안에 응답하지 않은 항목은 0 으로 채운다
+     * (The lists are fetched concurrently; a list missing the deadline counts as empty)
+     *
      * @param cluster the cluster
      * @return the overview
      */
     public Overview getOverviewAll(String cluster) {
         Overview overview = new Overview();
+        UpstreamTarget commonApiTarget = restTemplateService.resolveTarget(Constants.TARGET_COMMON_API);
+        String defaultNamespace = propertyService.getDefaultNamespace();
+
+        FanOutExecutor.FanOut fanOut = fanOutExecutor.begin();
+        Future<Integer> namespacesFuture = fanOut.submit(this::getNamespacesCnt);
+        Future<ResourceSummary> deploymentsFuture = fanOut.submit(() -> getDeploymentsSummary(null));
+        Future<ResourceSummary> podsFuture = fanOut.submit(() -> getPodsSummary(null));
+        Future<ResourceSummary> replicaSetsFuture = fanOut.submit(() -> getReplicaSetsSummary(null));
+        Future<UsersList> usersFuture = fanOut.submit(() -> getUsersListByNamespaceByOverview(commonApiTarget, cluster, defaultNamespace));
 
         // namespaces count
-        NamespacesListAdmin namespacesListAll = (NamespacesListAdmin) namespacesService.getNamespacesListAdmin(0,0, ORDER_BY_DEFAULT, ORDER_DEFAULT, "");
+        int namespacesCnt = fanOut.get("namespaces", namespacesFuture, 0);
 
-        // deployments count
-        DeploymentsListAdmin deploymentsListAll = getDeploymentsList(null);
+        // deployments count, usage
+        ResourceSummary deploymentsSummary = fanOut.get("deployments", deploymentsFuture, ResourceSummary.EMPTY);
 
-        // pods count
-        PodsListAdmin podsListAll = getPodsList(null);
+        // pods count, usage
+        ResourceSummary podsSummary = fanOut.get("pods", podsFuture, ResourceSummary.EMPTY);
 
-        // replicaSets count
-        ReplicaSetsListAdmin replicaSetsListAll = getReplicaSetsList(null);
+        // replicaSets count, usage
+        ResourceSummary replicaSetsSummary = fanOut.get("replicaSets", replicaSetsFuture, ResourceSummary.EMPTY);
 
         // users count
-        UsersList usersList = getUsersListByNamespaceByOverview(cluster, propertyService.getDefaultNamespace());
-        int usersCnt = usersList.getItems().size();
+        int usersCnt = getUsersCnt(fanOut.get("users", usersFuture, null));
 
-        // deployments usage
-        Map<String, Object> deploymentsUsage = getDeploymentsUsage(deploymentsListAll);
-
-        // pods usage
-        Map<String, Object> podsUsage = getPodsUsage(podsListAll);
-
-        // replicaSets usage
-        Map<String, Object> replicaSetsUsage = getReplicaSetsUsage(replicaSetsListAll);
-
-        overview.setNamespacesCount(getCommonCnt(namespacesListAll));
-        overview.setDeploymentsCount(getCommonCnt(deploymentsListAll));
-        overview.setPodsCount(getCommonCnt(podsListAll));
+        overview.setNamespacesCount(namespacesCnt);
+        overview.setDeploymentsCount(deploymentsSummary.getCount());
+        overview.setPodsCount(podsSummary.getCount());
         overview.setUsersCount(usersCnt);
-        overview.setDeploymentsUsage(deploymentsUsage);
-        overview.setPodsUsage(podsUsage);
-        overview.setReplicaSetsUsage(replicaSetsUsage);
+        overview.setDeploymentsUsage(deploymentsSummary.getUsage());
+        overview.setPodsUsage(podsSummary.getUsage());
+        overview.setReplicaSetsUsage(replicaSetsSummary.getUsage());
 
         return (Overview) commonService.setResultModelWithNextUrl(overview, Constants.RESULT_STATUS_SUCCESS, "EMPTY");
     }
@@ -130,38 +173,256 @@ public class OverviewService {
      */
     public Overview getOverview(String cluster, String namespace) {
         Overview overview = new Overview();
+        UpstreamTarget commonApiTarget = restTemplateService.resolveTarget(Constants.TARGET_COMMON_API);
+
+        FanOutExecutor.FanOut fanOut = fanOutExecutor.begin();
+        Future<ResourceSummary> deploymentsFuture = fanOut.submit(() -> getDeploymentsSummary(namespace));
+        Future<ResourceSummary> podsFuture = fanOut.submit(() -> getPodsSummary(namespace));
+        Future<ResourceSummary> replicaSetsFuture = fanOut.submit(() -> getReplicaSetsSummary(namespace));
+        Future<UsersList> usersFuture = fanOut.submit(() -> getUsersListByNamespaceByOverview(commonApiTarget, cluster, namespace));
+
+        // deployments count, usage
+        ResourceSummary deploymentsSummary = fanOut.get("deployments", deploymentsFuture, ResourceSummary.EMPTY);
+
+        // pods count, usage
+        ResourceSummary podsSummary = fanOut.get("pods", podsFuture, ResourceSummary.EMPTY);
+
+        // replicaSets count, usage
+        ResourceSummary replicaSetsSummary = fanOut.get("replicaSets", replicaSetsFuture, ResourceSummary.EMPTY);
+
+        // users count
+        int usersCnt = getUsersCnt(fanOut.get("users", usersFuture, null));
+
+        overview.setNamespacesCount(1);
+        overview.setDeploymentsCount(deploymentsSummary.getCount());
+        overview.setPodsCount(podsSummary.getCount());
+        overview.setUsersCount(usersCnt);
+        overview.setDeploymentsUsage(deploymentsSummary.getUsage());
+        overview.setPodsUsage(podsSummary.getUsage());
+        overview.setReplicaSetsUsage(replicaSetsSummary.getUsage());
+
+        return (Overview) commonService.setResultModel(overview, Constants.RESULT_STATUS_SUCCESS);
+    }
+
+
+    /**
+     * Users 수 조회(Get users count)
+     *
+     * @param usersList the users list
+     * @return the int
+     */
+    private int getUsersCnt(UsersList usersList) {
+        return (usersList == null || usersList.getItems() == null) ? 0 : usersList.getItems().size();
+    }
+
+
+    /**
+     * Namespaces 수 조회(Get namespaces count)
+     *
+     * @return the int
+     */
+    private int getNamespacesCnt() {
+        ResourceSummary aggregated = getAggregatedSummary(WatchResourceType.NAMESPACES, null);
+        if (aggregated != null) {
+            return aggregated.getCount();
+        }
+
+        if (summaryQueryEnabled) {
+            Integer namespacesCnt = restTemplateService.countAdmin(Constants.TARGET_CP_MASTER_API,
+                    propertyService.getCpMasterApiListNamespacesListUrl() + commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_CLUSTER));
+            if (namespacesCnt != null) {
+                return namespacesCnt;
+            }
+        }
+
+        return getCommonCnt(namespacesService.getNamespacesListAdmin(0,0, ORDER_BY_DEFAULT, ORDER_DEFAULT, ""));
+    }
+
+
+    /**
+     * Deployments 수, 사용량 조회(Get deployments count and usage)
+     *
+     * Table 형식(Ready "ready/desired", Available)으로 조회하며, Available 이 desired 보다 작으면 failed
+     * (Read as a Table (Ready "ready/desired", Available); failed when Available is below desired)
+     *
+     * @param namespace the namespace, null for all namespaces
+     * @return the resource summary
+     */
+    private ResourceSummary getDeploymentsSummary(String namespace) {
+        ResourceSummary aggregated = getAggregatedSummary(WatchResourceType.DEPLOYMENTS, namespace);
+        if (aggregated != null) {
+            return aggregated;
+        }
+
+        if (summaryQueryEnabled) {
+            ResourceSummary summary = summarizeTable(getTable(propertyService.getCpMasterApiListDeploymentsListUrl(),
+                    propertyService.getCpMasterApiListDeploymentsListAllNamespacesUrl(), namespace),
+                    new String[]{TABLE_COLUMN_READY, TABLE_COLUMN_AVAILABLE},
+                    cells -> {
+                        int desired = parseInt(cells[0].substring(cells[0].indexOf('/') + 1));
+                        return desired > 0 && parseInt(cells[1]) < desired;
+                    });
+            if (summary != null) {
+                return summary;
+            }
+        }
 
-        // deployments count
         DeploymentsListAdmin deploymentsList = getDeploymentsList(namespace);
+        return new ResourceSummary(getCommonCnt(deploymentsList), getDeploymentsUsage(deploymentsList));
+    }
+
+
+    /**
+     * Pods 수, 사용량 조회(Get pods count and usage)
+     *
+     * Table 형식(Status)으로 조회하며, Status 가 대기 중인 container 의 사유이면 failed
+     * (Read as a Table (Status); failed when the status is the reason of a waiting container)
+     *
+     * @param namespace the namespace, null for all namespaces
+     * @return the resource summary
+     */
+    private ResourceSummary getPodsSummary(String namespace) {
+        ResourceSummary aggregated = getAggregatedSummary(WatchResourceType.PODS, namespace);
+        if (aggregated != null) {
+            return aggregated;
+        }
+
+        if (summaryQueryEnabled) {
+            ResourceSummary summary = summarizeTable(getTable(propertyService.getCpMasterApiListPodsListUrl(),
+                    propertyService.getCpMasterApiListPodsListAllNamespacesUrl(), namespace),
+                    new String[]{TABLE_COLUMN_STATUS},
+                    cells -> POD_WAITING_STATUSES.contains(cells[0]) || cells[0].startsWith(POD_INIT_STATUS_PREFIX));
+            if (summary != null) {
+                return summary;
+            }
+        }
 
-        // pods count
         PodsListAdmin podsList = getPodsList(namespace);
+        return new ResourceSummary(getCommonCnt(podsList), getPodsUsage(podsList));
+    }
+
+
+    /**
+     * ReplicaSets 수, 사용량 조회(Get replicaSets count and usage)
+     *
+     * Table 형식(Current, Ready)으로 조회하며, Ready 가 Current 보다 작으면 failed
+     * (Read as a Table (Current, Ready); failed when Ready is below Current)
+     *
+     * @param namespace the namespace, null for all namespaces
+     * @return the resource summary
+     */
+    private ResourceSummary getReplicaSetsSummary(String namespace) {
+        ResourceSummary aggregated = getAggregatedSummary(WatchResourceType.REPLICASETS, namespace);
+        if (aggregated != null) {
+            return aggregated;
+        }
+
+        if (summaryQueryEnabled) {
+            ResourceSummary summary = summarizeTable(getTable(propertyService.getCpMasterApiListReplicaSetsListUrl(),
+                    propertyService.getCpMasterApiListReplicaSetsListAllNamespacesUrl(), namespace),
+                    new String[]{TABLE_COLUMN_CURRENT, TABLE_COLUMN_READY},
+                    cells -> {
+                        int current = parseInt(cells[0]);
+                        return current > 0 && parseInt(cells[1]) < current;
+                    });
+            if (summary != null) {
+                return summary;
+            }
+        }
 
-        // replicaSets count
         ReplicaSetsListAdmin replicaSetsList = getReplicaSetsList(namespace);
+        return new ResourceSummary(getCommonCnt(replicaSetsList), getReplicaSetsUsage(replicaSetsList));
+    }
 
-        // users count
-        UsersList usersList = getUsersListByNamespaceByOverview(cluster, namespace);
-        int usersCnt = usersList.getItems().size();
 
-        // deployments usage
-        Map<String, Object> deploymentsUsage = getDeploymentsUsage(deploymentsList);
+    /**
+     * Watch Cache 로 증분 갱신된 수, 사용량 조회(Get the count and usage kept up to date from the watch cache)
+     *
+     * @param type      the resource type
+     * @param namespace the namespace, null for all namespaces except the ignored ones
+     * @return the resource summary, null when the watch cache of the type is not fresh
+     */
+    private ResourceSummary getAggregatedSummary(WatchResourceType type, String namespace) {
+        if (!resourceWatchCacheManager.isFresh(type)) {
+            return null;
+        }
 
-        // pods usage
-        Map<String, Object> podsUsage = getPodsUsage(podsList);
+        OverviewAggregator.Counts counts = overviewAggregator.getCounts(type, StringUtils.isEmpty(namespace) ? null : namespace, ignoreNamespaceList);
+        if (counts == null) {
+            return null;
+        }
 
-        // replicaSets usage
-        Map<String, Object> replicaSetsUsage = getReplicaSetsUsage(replicaSetsList);
+        return new ResourceSummary(counts.getTotal(), convertToPercentMap(counts.getRunning(), counts.getFailed(), counts.getTotal()));
+    }
 
-        overview.setNamespacesCount(1);
-        overview.setDeploymentsCount(getCommonCnt(deploymentsList));
-        overview.setPodsCount(getCommonCnt(podsList));
-        overview.setUsersCount(usersCnt);
-        overview.setDeploymentsUsage(deploymentsUsage);
-        overview.setPodsUsage(podsUsage);
-        overview.setReplicaSetsUsage(replicaSetsUsage);
 
-        return (Overview) commonService.setResultModel(overview, Constants.RESULT_STATUS_SUCCESS);
+    /**
+     * Overview 조회를 위한 Table 형식 목록 조회(Get the Table projection of a list for getting overview)
+     *
+     * @param listUrl              the namespaced list url
+     * @param listAllNamespacesUrl the all namespaces list url
+     * @param namespace            the namespace, null for all namespaces
+     * @return the common table, null when the Table could not be read
+     */
+    private CommonTable getTable(String listUrl, String listAllNamespacesUrl, String namespace) {
+        String reqUrl = StringUtils.isEmpty(namespace)
+                ? listAllNamespacesUrl + commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_NAMESPACE)
+                : listUrl.replace("{namespace}", namespace);
+
+        Object response = restTemplateService.sendAdminForTable(Constants.TARGET_CP_MASTER_API, reqUrl);
+        return response instanceof CommonTable ? (CommonTable) response : null;
+    }
+
+
+    /**
+     * Table 행별 failed 여부로 수, 사용량 계산(Count the rows and compute the usage from the failed rows of a Table)
+     *
+     * @param table   the common table
+     * @param columns the columns passed to the failed check
+     * @param failed  the failed check
+     * @return the resource summary, null when the Table does not have the columns
+     */
+    private ResourceSummary summarizeTable(CommonTable table, String[] columns, Predicate<String[]> failed) {
+        if (table == null) {
+            return null;
+        }
+
+        int[] indexes = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            indexes[i] = table.indexOfColumn(columns[i]);
+            if (indexes[i] < 0) {
+                return null;
+            }
+        }
+
+        int failedCnt = 0;
+        int runningCnt = 0;
+        List<CommonTableRow> rows = table.getRows() == null ? Collections.emptyList() : table.getRows();
+        String[] cells = new String[columns.length];
+
+        for (CommonTableRow row : rows) {
+            for (int i = 0; i < indexes.length; i++) {
+                String cell = CommonTable.cellOf(row, indexes[i]);
+                cells[i] = cell == null ? "" : cell;
+            }
+
+            if (failed.test(cells)) {
+                failedCnt++;
+            } else {
+                runningCnt++;
+            }
+        }
+
+        return new ResourceSummary(rows.size(), convertToPercentMap(runningCnt, failedCnt, rows.size()));
+    }
+
+
+    private static int parseInt(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
     }
 
 
@@ -185,10 +446,10 @@ public class OverviewService {
      */
     private DeploymentsListAdmin getDeploymentsList(String namespace){
         if(StringUtils.isEmpty(namespace)) {
-            return (DeploymentsListAdmin) deploymentsService.getDeploymentsListAllNamespacesAdmin(0,0, ORDER_BY_DEFAULT, ORDER_DEFAULT, "");
+            return (DeploymentsListAdmin) deploymentsService.getDeploymentsListAllNamespacesAdmin(0,0, ORDER_BY_DEFAULT, ORDER_DEFAULT, "", null);
         }
 
-        return (DeploymentsListAdmin) deploymentsService.getDeploymentsListAdmin(namespace,0,0, ORDER_BY_DEFAULT, ORDER_DEFAULT, "");
+        return (DeploymentsListAdmin) deploymentsService.getDeploymentsListAdmin(namespace,0,0, ORDER_BY_DEFAULT, ORDER_DEFAULT, "", null);
     }
 
 
@@ -200,10 +461,10 @@ public class OverviewService {
      */
     private PodsListAdmin getPodsList(String namespace){
         if(StringUtils.isEmpty(namespace)) {
-            return (PodsListAdmin) podsService.getPodsListAllNamespacesAdmin(0,0, ORDER_BY_DEFAULT, ORDER_DEFAULT, "");
+            return (PodsListAdmin) podsService.getPodsListAllNamespacesAdmin(0,0, ORDER_BY_DEFAULT, ORDER_DEFAULT, "", null);
         }
 
-        return (PodsListAdmin) podsService.getPodsListAdmin(namespace, 0,0, ORDER_BY_DEFAULT, ORDER_DEFAULT, "");
+        return (PodsListAdmin) podsService.getPodsListAdmin(namespace, 0,0, ORDER_BY_DEFAULT, ORDER_DEFAULT, "", null);
     }
 
 
@@ -215,10 +476,10 @@ public class OverviewService {
      */
     private ReplicaSetsListAdmin getReplicaSetsList(String namespace){
         if(StringUtils.isEmpty(namespace)) {
-            return (ReplicaSetsListAdmin) replicaSetsService.getReplicaSetsListAllNamespacesAdmin(0,0, ORDER_BY_DEFAULT, ORDER_DEFAULT, "");
+            return (ReplicaSetsListAdmin) replicaSetsService.getReplicaSetsListAllNamespacesAdmin(0,0, ORDER_BY_DEFAULT, ORDER_DEFAULT, "", null);
         }
 
-        return (ReplicaSetsListAdmin) replicaSetsService.getReplicaSetsListAdmin(namespace, 0,0, ORDER_BY_DEFAULT, ORDER_DEFAULT, "");
+        return (ReplicaSetsListAdmin) replicaSetsService.getReplicaSetsListAdmin(namespace, 0,0, ORDER_BY_DEFAULT, ORDER_DEFAULT, "", null);
     }
 
 
@@ -339,11 +600,51 @@ public class OverviewService {
      * @return the users list
      */
     public UsersList getUsersListByNamespaceByOverview(String cluster, String namespace) {
-        UsersList usersList =  restTemplateService.send(Constants.TARGET_COMMON_API, Constants.URI_COMMON_API_USERS_LIST_BY_NAMESPACE
+        return getUsersListByNamespaceByOverview(restTemplateService.resolveTarget(Constants.TARGET_COMMON_API), cluster, namespace);
+    }
+
+    /**
+     * 각 Namespace 별 Users 목록 조회(Get Users namespace list)
+     *
+     * @param target    the common api target resolved on the request thread
+     * @param cluster   the cluster
+     * @param namespace the namespace
+     * @return the users list
+     */
+    private UsersList getUsersListByNamespaceByOverview(UpstreamTarget target, String cluster, String namespace) {
+        return restTemplateService.send(target, Constants.URI_COMMON_API_USERS_LIST_BY_NAMESPACE
                 .replace("{cluster:.+}", cluster)
                 .replace("{namespace:.+}", namespace), HttpMethod.GET, null, UsersList.class);
-
-        return usersList;
     }
 
+
+    /**
+     * Overview 리소스 수, 사용량(Count and usage of a resource for overview)
+     */
+    static final class ResourceSummary {
+        static final ResourceSummary EMPTY = new ResourceSummary(0, zeroUsage());
+
+        private final int count;
+        private final Map<String, Object> usage;
+
+        ResourceSummary(int count, Map<String, Object> usage) {
+            this.count = count;
+            this.usage = usage;
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        Map<String, Object> getUsage() {
+            return new HashMap<>(usage);
+        }
+
+        private static Map<String, Object> zeroUsage() {
+            Map<String, Object> usage = new HashMap<>();
+            usage.put("running", "0");
+            usage.put("failed", "0");
+            return usage;
+        }
+    }
 }
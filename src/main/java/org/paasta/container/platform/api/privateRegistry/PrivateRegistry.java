@@ -2,6 +2,8 @@ package org.paasta.container.platform.api.privateRegistry;
 
 import lombok.Data;
 import org.paasta.container.platform.api.common.CommonUtils;
+import org.paasta.container.platform.api.common.model.CommonNextActionModel;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 /**
  * Private Registry 클래스
@@ -11,7 +13,7 @@ import org.paasta.container.platform.api.common.CommonUtils;
  * @since 2020.12.01
  */
 @Data
-public class PrivateRegistry {
+public class PrivateRegistry implements CommonResultModel, CommonNextActionModel {
 
     private String resultCode;
     private String resultMessage;
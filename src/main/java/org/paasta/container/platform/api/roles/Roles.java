@@ -7,6 +7,8 @@ import lombok.Data;
 
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonNextActionModel;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 
 /**
@@ -17,7 +19,7 @@ import org.paasta.container.platform.api.common.model.CommonMetaData;
  * @since 2020.10.13
  */
 @Data
-public class Roles {
+public class Roles implements CommonResultModel, CommonNextActionModel {
 
     private String resultCode;
     private String resultMessage;
@@ -10,6 +10,7 @@ import lombok.Data;
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonAnnotations;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.roles.supports.RolesRule;
 
 
@@ -21,7 +22,7 @@ import org.paasta.container.platform.api.roles.supports.RolesRule;
  * @since 2020.10.13
  */
 @Data
-public class RolesAdmin {
+public class RolesAdmin implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -9,6 +9,7 @@ import lombok.Data;
 
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 /**
  * Roles List Admin Model 클래스
@@ -18,7 +19,7 @@ import org.paasta.container.platform.api.common.model.CommonMetaData;
  * @since 2020.10.13
  */
 @Data
-public class RolesListAdmin {
+public class RolesListAdmin implements CommonResultModel {
 
     private String resultCode;
     private String resultMessage;
@@ -10,6 +10,7 @@ import lombok.Data;
 import org.paasta.container.platform.api.common.Constants;
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 /**
  * Roles List AllNamespaces Model 클래스
@@ -19,7 +20,7 @@ import org.paasta.container.platform.api.common.model.CommonMetaData;
  * @since 2020.11.04
  **/
 @Data
-public class RolesListAllNamespaces {
+public class RolesListAllNamespaces implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
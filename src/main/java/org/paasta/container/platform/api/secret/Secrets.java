@@ -2,6 +2,7 @@ package org.paasta.container.platform.api.secret;
 
 import lombok.Data;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 /**
  * Secrets Model 클래스
@@ -11,7 +12,7 @@ import org.paasta.container.platform.api.common.model.CommonMetaData;
  * @since 2020.10.16
  **/
 @Data
-public class Secrets {
+public class Secrets implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -10,6 +10,7 @@ import lombok.Data;
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.storages.persistentVolumeClaims.support.PersistentVolumeClaimsSpec;
 import org.paasta.container.platform.api.storages.persistentVolumeClaims.support.PersistentVolumeClaimsStatus;
 
@@ -21,7 +22,7 @@ import org.paasta.container.platform.api.storages.persistentVolumeClaims.support
  * @since 2020.09.18
  */
 @Data
-public class PersistentVolumeClaimsListAdmin {
+public class PersistentVolumeClaimsListAdmin implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -6,6 +6,8 @@ import lombok.Data;
 
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonNextActionModel;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.storages.persistentVolumeClaims.support.PersistentVolumeClaimsSpec;
 import org.paasta.container.platform.api.storages.persistentVolumeClaims.support.PersistentVolumeClaimsStatus;
 
@@ -17,7 +19,7 @@ import org.paasta.container.platform.api.storages.persistentVolumeClaims.support
  * @since 2020.10.19
  */
 @Data
-public class PersistentVolumes {
+public class PersistentVolumes implements CommonResultModel, CommonNextActionModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
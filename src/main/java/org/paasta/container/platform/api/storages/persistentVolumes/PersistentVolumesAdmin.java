@@ -6,6 +6,7 @@ import lombok.Data;
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonAnnotations;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.storages.persistentVolumes.support.ObjectReference;
 import org.paasta.container.platform.api.storages.persistentVolumes.support.PersistentVolumesSpec;
 import org.paasta.container.platform.api.storages.persistentVolumes.support.PersistentVolumesStatus;
@@ -22,7 +23,7 @@ import java.util.Map;
  * @since 2020.10.19
  */
 @Data
-public class PersistentVolumesAdmin {
+public class PersistentVolumesAdmin implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
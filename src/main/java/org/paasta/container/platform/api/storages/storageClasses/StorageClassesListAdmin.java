@@ -8,6 +8,7 @@ import lombok.Data;
 
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonSpec;
 import org.paasta.container.platform.api.common.model.CommonStatus;
 
@@ -19,7 +20,7 @@ import org.paasta.container.platform.api.common.model.CommonStatus;
  * @since 2020.10.13
  */
 @Data
-public class StorageClassesListAdmin {
+public class StorageClassesListAdmin implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -9,6 +9,7 @@ import org.springframework.util.StringUtils;
 
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.Constants;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 /**
  * User Model 클래스
@@ -19,7 +20,7 @@ import org.paasta.container.platform.api.common.Constants;
  **/
 
 @Data
-public class Users {
+public class Users implements CommonResultModel {
     public String resultCode;
     public String resultMessage;
     public Integer httpStatusCode;
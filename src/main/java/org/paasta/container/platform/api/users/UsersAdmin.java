@@ -12,6 +12,7 @@ import org.springframework.util.StringUtils;
 
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.Constants;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 /**
  * User Admin Model 클래스
@@ -22,7 +23,7 @@ import org.paasta.container.platform.api.common.Constants;
  **/
 
 @Data
-public class UsersAdmin {
+public class UsersAdmin implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -4,6 +4,8 @@ import lombok.Data;
 
 import java.util.List;
 
+import org.paasta.container.platform.api.common.model.CommonResultModel;
+
 /**
  * Users In Namespace Model 클래스
  *
@@ -12,7 +14,7 @@ import java.util.List;
  * @since 2020.11.06
  **/
 @Data
-public class UsersInNamespace {
+public class UsersInNamespace implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -3,6 +3,7 @@ package org.paasta.container.platform.api.users;
 import lombok.Data;
 import org.paasta.container.platform.api.common.Constants;
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 import java.util.List;
 
@@ -17,7 +18,7 @@ import static org.paasta.container.platform.api.common.Constants.CHECK_Y;
  * @since 2020.10.15
  **/
 @Data
-public class UsersListInNamespaceAdmin {
+public class UsersListInNamespaceAdmin implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
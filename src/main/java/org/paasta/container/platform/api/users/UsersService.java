@@ -406,7 +406,10 @@ public class UsersService {
      * @return return is succeeded
      */
     public ResultStatus createUsers(Users users) {
-        return restTemplateService.sendAdmin(TARGET_COMMON_API, "/users", HttpMethod.POST, users, ResultStatus.class);
+        ResultStatus resultStatus = restTemplateService.sendAdmin(TARGET_COMMON_API, "/users", HttpMethod.POST, users, ResultStatus.class);
+        invalidateUserTokens(users);
+
+        return resultStatus;
     }
 
 
@@ -417,7 +420,10 @@ public class UsersService {
      * @return return is succeeded
      */
     public ResultStatus updateUsers(Users users) {
-        return restTemplateService.sendAdmin(TARGET_COMMON_API, "/users", HttpMethod.PUT, users, ResultStatus.class);
+        ResultStatus resultStatus = restTemplateService.sendAdmin(TARGET_COMMON_API, "/users", HttpMethod.PUT, users, ResultStatus.class);
+        invalidateUserTokens(users);
+
+        return resultStatus;
     }
 
     /**
@@ -626,6 +632,7 @@ public class UsersService {
 
         // DB delete
         ResultStatus rsDb = (ResultStatus) restTemplateService.sendAdmin(TARGET_COMMON_API, Constants.URI_COMMON_API_USER_DELETE + users.getId(), HttpMethod.DELETE, null, Object.class);
+        invalidateUserTokens(users);
 
         return rsDb;
     }
@@ -749,11 +756,34 @@ public class UsersService {
         }
 
 
+        // namespace 의 role binding 이 변경되었으므로 캐시된 token 무효화(bindings in the namespace changed)
+        restTemplateService.invalidateUserTokensInNamespace(namespace);
+
         return (ResultStatus) commonService.setResultModelWithNextUrl(commonService.setResultObject(rsDb, ResultStatus.class),
                 Constants.RESULT_STATUS_SUCCESS, Constants.URI_USERS_CONFIG);
     }
 
 
+    /**
+     * 사용자의 캐시된 Service Account Token 무효화(Invalidate the cached service account tokens of the user)
+     *
+     * @param users the users
+     */
+    private void invalidateUserTokens(Users users) {
+        if (users == null) {
+            return;
+        }
+
+        if (!StringUtils.isEmpty(users.getServiceAccountName())) {
+            restTemplateService.invalidateUserTokens(users.getServiceAccountName());
+        }
+
+        if (!StringUtils.isEmpty(users.getUserId())) {
+            restTemplateService.invalidateUserTokens(users.getUserId());
+        }
+    }
+
+
     /**
      * Role 에 따른 사용자 권한 설정(Setting Role to User)
      *
@@ -6,6 +6,8 @@ import lombok.Data;
 
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonNextActionModel;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.workloads.deployments.support.DeploymentsSpec;
 import org.paasta.container.platform.api.workloads.deployments.support.DeploymentsStatus;
 
@@ -17,7 +19,7 @@ import org.paasta.container.platform.api.workloads.deployments.support.Deploymen
  * @since 2020.09.08
  */
 @Data
-public class Deployments {
+public class Deployments implements CommonResultModel, CommonNextActionModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
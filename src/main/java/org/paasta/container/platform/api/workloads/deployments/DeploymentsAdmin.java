@@ -7,6 +7,7 @@ import lombok.Data;
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonAnnotations;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.workloads.deployments.support.DeploymentsSpec;
 import org.paasta.container.platform.api.workloads.deployments.support.DeploymentsStatus;
 import org.paasta.container.platform.api.workloads.deployments.support.DeploymentsStrategy;
@@ -21,7 +22,7 @@ import java.util.List;
  * @since 2020.10.11
  **/
 @Data
-public class DeploymentsAdmin {
+public class DeploymentsAdmin implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -8,6 +8,7 @@ import lombok.Data;
 
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.workloads.deployments.support.DeploymentsSpec;
 import org.paasta.container.platform.api.workloads.deployments.support.DeploymentsStatus;
 
@@ -19,7 +20,7 @@ import org.paasta.container.platform.api.workloads.deployments.support.Deploymen
  * @since 2020.09.08
  */
 @Data
-public class DeploymentsListAdmin {
+public class DeploymentsListAdmin implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -46,17 +46,18 @@ public class DeploymentsService {
      * @param orderBy    the orderBy
      * @param order      the order
      * @param searchName the searchName
+     * @param continueToken the continueToken
      * @return the deployments list
      */
-    public DeploymentsList getDeploymentsList(String namespace, int offset, int limit, String orderBy, String order, String searchName) {
+    public DeploymentsList getDeploymentsList(String namespace, int offset, int limit, String orderBy, String order, String searchName, String continueToken) {
 
         HashMap responseMap = (HashMap) restTemplateService.send(Constants.TARGET_CP_MASTER_API,
-                propertyService.getCpMasterApiListDeploymentsListUrl()
-                        .replace("{namespace}", namespace)
+                commonService.setCursorParams(propertyService.getCpMasterApiListDeploymentsListUrl()
+                        .replace("{namespace}", namespace), limit, orderBy, order, searchName, continueToken, false)
                 , HttpMethod.GET, null, Map.class);
 
         DeploymentsList deploymentsList = commonService.setResultObject(responseMap, DeploymentsList.class);
-        deploymentsList = commonService.resourceListProcessing(deploymentsList, offset, limit, orderBy, order, searchName, DeploymentsList.class);
+        deploymentsList = commonService.resourceListProcessing(deploymentsList, offset, limit, orderBy, order, searchName, continueToken, false, DeploymentsList.class);
         return (DeploymentsList) commonService.setResultModel(deploymentsList, Constants.RESULT_STATUS_SUCCESS);
     }
 
@@ -70,14 +71,15 @@ public class DeploymentsService {
      * @param orderBy    the orderBy
      * @param order      the order
      * @param searchName the searchName
+     * @param continueToken the continueToken
      * @return the deployments list
      */
-    public Object getDeploymentsListAdmin(String namespace, int offset, int limit, String orderBy, String order, String searchName) {
+    public Object getDeploymentsListAdmin(String namespace, int offset, int limit, String orderBy, String order, String searchName, String continueToken) {
         HashMap responseMap = null;
 
         Object response = restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API,
-                propertyService.getCpMasterApiListDeploymentsListUrl()
-                        .replace("{namespace}", namespace), HttpMethod.GET, null, Map.class);
+                commonService.setCursorParams(propertyService.getCpMasterApiListDeploymentsListUrl()
+                        .replace("{namespace}", namespace), limit, orderBy, order, searchName, continueToken, false), HttpMethod.GET, null, Map.class);
 
         try {
             responseMap = (HashMap) response;
@@ -86,7 +88,7 @@ public class DeploymentsService {
         }
 
         DeploymentsListAdmin deploymentsListAdmin = commonService.setResultObject(responseMap, DeploymentsListAdmin.class);
-        deploymentsListAdmin = commonService.resourceListProcessing(deploymentsListAdmin, offset, limit, orderBy, order, searchName, DeploymentsListAdmin.class);
+        deploymentsListAdmin = commonService.resourceListProcessing(deploymentsListAdmin, offset, limit, orderBy, order, searchName, continueToken, false, DeploymentsListAdmin.class);
 
         return commonService.setResultModel(deploymentsListAdmin, Constants.RESULT_STATUS_SUCCESS);
     }
@@ -255,13 +257,14 @@ public class DeploymentsService {
      * @param orderBy    the orderBy
      * @param order      the order
      * @param searchName the searchName
+     * @param continueToken the continueToken
      * @return the deployments all list
      */
-    public Object getDeploymentsListAllNamespacesAdmin(int offset, int limit, String orderBy, String order, String searchName) {
+    public Object getDeploymentsListAllNamespacesAdmin(int offset, int limit, String orderBy, String order, String searchName, String continueToken) {
         HashMap responseMap;
 
         Object response = restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API,
-                propertyService.getCpMasterApiListDeploymentsListAllNamespacesUrl() + commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_NAMESPACE)
+                commonService.setCursorParams(propertyService.getCpMasterApiListDeploymentsListAllNamespacesUrl() + commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_NAMESPACE), limit, orderBy, order, searchName, continueToken, true)
                 , HttpMethod.GET, null, Map.class);
 
         try {
@@ -271,7 +274,7 @@ public class DeploymentsService {
         }
 
         DeploymentsListAdmin deploymentsListAdmin = commonService.setResultObject(responseMap, DeploymentsListAdmin.class);
-        deploymentsListAdmin = commonService.resourceListProcessing(deploymentsListAdmin, offset, limit, orderBy, order, searchName, DeploymentsListAdmin.class);
+        deploymentsListAdmin = commonService.resourceListProcessing(deploymentsListAdmin, offset, limit, orderBy, order, searchName, continueToken, true, DeploymentsListAdmin.class);
 
         return commonService.setResultModel(deploymentsListAdmin, Constants.RESULT_STATUS_SUCCESS);
     }
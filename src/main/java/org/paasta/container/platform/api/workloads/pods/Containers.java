@@ -2,6 +2,8 @@ package org.paasta.container.platform.api.workloads.pods;
 
 import lombok.Data;
 
+import org.paasta.container.platform.api.common.model.CommonResultModel;
+
 /**
  * Containers Model 클래스
  *
@@ -10,7 +12,7 @@ import lombok.Data;
  * @since 2020.11.20
  */
 @Data
-public class Containers {
+public class Containers implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
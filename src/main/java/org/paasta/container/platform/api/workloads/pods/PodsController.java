@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 import springfox.documentation.annotations.ApiIgnore;
 
+import javax.servlet.http.HttpServletResponse;
 import java.util.HashMap;
 
 /**
@@ -27,17 +28,20 @@ import java.util.HashMap;
 @RequestMapping(value = "/clusters/{cluster:.+}/namespaces/{namespace:.+}/pods")
 public class PodsController {
     private final PodsService podsService;
+    private final PodsLogService podsLogService;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PodsController.class);
 
     /**
      * Instantiates a new Pods controller
      *
-     * @param podsService the pods service
+     * @param podsService    the pods service
+     * @param podsLogService the pods log service
      */
     @Autowired
-    public PodsController(PodsService podsService) {
+    public PodsController(PodsService podsService, PodsLogService podsLogService) {
         this.podsService = podsService;
+        this.podsLogService = podsLogService;
     }
 
     /**
@@ -50,6 +54,7 @@ public class PodsController {
      * @param orderBy    the orderBy
      * @param order      the order
      * @param searchName the searchName
+     * @param continueToken the continueToken
      * @param isAdmin    the isAdmin
      * @return the pods list
      */
@@ -61,7 +66,8 @@ public class PodsController {
             @ApiImplicitParam(name = "limit", value = "한 페이지에 가져올 리소스 최대 수", required = false, dataType = "int", paramType = "query"),
             @ApiImplicitParam(name = "orderBy", value = "정렬 기준, 기본값 creationTime(생성날짜)", required = false, dataType = "string", paramType = "query"),
             @ApiImplicitParam(name = "order", value = "정렬 순서, 기본값 desc(내림차순)", required = false, dataType = "string", paramType = "query"),
-            @ApiImplicitParam(name = "searchName", value = "리소스 명 검색", required = false, dataType = "string", paramType = "query")
+            @ApiImplicitParam(name = "searchName", value = "리소스 명 검색", required = false, dataType = "string", paramType = "query"),
+            @ApiImplicitParam(name = "continue", value = "다음 목록 cursor, 빈 값이면 첫 page (cursor 방식 paging, limit 필수)", required = false, dataType = "string", paramType = "query")
     })
     @GetMapping
     @ResponseBody
@@ -72,20 +78,21 @@ public class PodsController {
                               @RequestParam(required = false, defaultValue = "creationTime") String orderBy,
                               @RequestParam(required = false, defaultValue = "") String order,
                               @RequestParam(required = false, defaultValue = "") String searchName,
+                              @RequestParam(required = false, name = "continue") String continueToken,
                               @ApiIgnore @RequestParam(required = false, name = "isAdmin") boolean isAdmin) {
 
         if (namespace.toLowerCase().equals(Constants.ALL_NAMESPACES)) {
             if (isAdmin) {
-                return podsService.getPodsListAllNamespacesAdmin(offset, limit, orderBy, order, searchName);
+                return podsService.getPodsListAllNamespacesAdmin(offset, limit, orderBy, order, searchName, continueToken);
             } else {
                 return Constants.FORBIDDEN_ACCESS_RESULT_STATUS;
             }
         }
 
         if (isAdmin) {
-            return podsService.getPodsListAdmin(namespace, offset, limit, orderBy, order, searchName);
+            return podsService.getPodsListAdmin(namespace, offset, limit, orderBy, order, searchName, continueToken);
         }
-        return podsService.getPodsList(namespace, offset, limit, orderBy, order, searchName);
+        return podsService.getPodsList(namespace, offset, limit, orderBy, order, searchName, continueToken);
     }
 
 
@@ -203,6 +210,47 @@ public class PodsController {
         return podsService.getPods(namespace, resourceName);
     }
 
+    /**
+     * Pods 로그 조회(Get Pods log)
+     *
+     * 로그를 text/plain chunked 응답으로 바로 전달하며 follow 요청은 연결이 끊길 때까지 계속된다.
+     * (The log is relayed as a chunked text/plain response; a follow request lasts until either side disconnects.)
+     *
+     * @param cluster      the cluster
+     * @param namespace    the namespace
+     * @param resourceName the resource name
+     * @param container    the container
+     * @param follow       the follow
+     * @param tailLines    the tailLines
+     * @param sinceSeconds the sinceSeconds
+     * @param isAdmin      the isAdmin
+     * @param response     the response
+     * @return null when the log was written, otherwise the result status
+     */
+    @ApiOperation(value = "Pods 로그 조회(Get Pods log)", nickname = "getPodsLog")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "cluster", value = "클러스터 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "namespace", value = "네임스페이스 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "resourceName", value = "리소스 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "container", value = "컨테이너 명, 컨테이너가 하나이면 생략 가능", required = false, dataType = "string", paramType = "query"),
+            @ApiImplicitParam(name = "follow", value = "로그 계속 수신 여부, 기본값 false", required = false, dataType = "boolean", paramType = "query"),
+            @ApiImplicitParam(name = "tailLines", value = "마지막부터 가져올 줄 수", required = false, dataType = "int", paramType = "query"),
+            @ApiImplicitParam(name = "sinceSeconds", value = "현재로부터 가져올 기간(초)", required = false, dataType = "int", paramType = "query")
+    })
+    @GetMapping(value = "/{resourceName:.+}/logs")
+    public Object getPodsLog(@PathVariable(value = "cluster") String cluster,
+                             @PathVariable(value = "namespace") String namespace,
+                             @PathVariable(value = "resourceName") String resourceName,
+                             @RequestParam(required = false) String container,
+                             @RequestParam(required = false, defaultValue = "false") boolean follow,
+                             @RequestParam(required = false) Integer tailLines,
+                             @RequestParam(required = false) Integer sinceSeconds,
+                             @ApiIgnore @RequestParam(required = false, name = "isAdmin") boolean isAdmin,
+                             @ApiIgnore HttpServletResponse response) {
+
+        return podsLogService.streamPodsLog(namespace, resourceName, container, follow, tailLines, sinceSeconds, isAdmin, response);
+    }
+
     /**
      * Pods YAML 조회(Get Pods yaml)
      *
@@ -10,6 +10,7 @@ import lombok.Data;
 import org.paasta.container.platform.api.common.CommonUtils;
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonSpec;
 import org.paasta.container.platform.api.workloads.pods.support.PodsStatus;
 
@@ -21,7 +22,7 @@ import org.paasta.container.platform.api.workloads.pods.support.PodsStatus;
  * @since 2020.09.09
  */
 @Data
-public class PodsListAdmin {
+public class PodsListAdmin implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
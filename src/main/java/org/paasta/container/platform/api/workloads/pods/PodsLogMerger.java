@@ -0,0 +1,412 @@
+package org.paasta.container.platform.api.workloads.pods;
+
+import org.apache.http.conn.ConnectionReleaseTrigger;
+import org.paasta.container.platform.api.common.CommonUtils;
+import org.paasta.container.platform.api.common.RestTemplateService;
+import org.paasta.container.platform.api.common.UpstreamTarget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pods Log Merger 클래스
+ *
+ * 여러 Pod, container 의 log stream 을 동시에 열고 timestamp 순으로 k-way merge 하여 "[pod/container] " 접두어를 붙인
+ * 하나의 stream 으로 기록한다. stream 마다 줄 수가 제한된 queue 와 줄 길이가 제한된 버퍼 하나만 두므로 메모리 사용량은
+ * stream 수 x queue 줄 수 x 최대 줄 길이를 넘지 않으며, queue 가 차면 해당 upstream 읽기가 멈춘다.
+ * (Opens the log streams of several pods and containers at once and k-way merges their lines by timestamp into one
+ * stream prefixed with "[pod/container] ". Each stream has a queue bounded in lines and one line buffer bounded in
+ * bytes, so memory never exceeds streams x queue lines x max line bytes, and a full queue stops that upstream's reads.)
+ *
+ * 모든 stream 의 다음 줄이 도착해야 가장 이른 줄을 쓸 수 있으므로, 조용한 stream 때문에 멈추지 않도록 대기 시간(mergeDelay)이
+ * 지난 줄은 먼저 쓴다.
+ * (The earliest line can only be written once every stream has a next line, so a line that has waited longer than
+ * the merge delay is written anyway rather than stalling behind a quiet stream.)
+ *
+ * follow 병합이 heartbeatSeconds 동안 쓴 내용이 없으면 내용 없이 flush 하여 끊긴 client 를 확인한다. 접두어 없는 줄은 쓰지 않는다.
+ * (A follow merge that wrote nothing for heartbeatSeconds flushes without content to find out whether the client has
+ * gone. No line without a prefix is ever written.)
+ *
+ * @version 1.0
+ */
+@Component
+public class PodsLogMerger {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PodsLogMerger.class);
+    private static final int CHUNK_BYTES = 8192;
+    private static final long MAX_WAIT_MILLIS = 1000L;
+    private static final LogLine END = new LogLine(-1, 0L, 0L, new byte[0]);
+
+    private final RestTemplateService restTemplateService;
+    private final ThreadPoolExecutor executor;
+    private final int queueLines;
+    private final int maxLineBytes;
+    private final long mergeDelayNanos;
+    private final long heartbeatNanos;
+
+    /**
+     * Instantiates a new Pods log merger
+     *
+     * @param restTemplateService the rest template service
+     * @param threads             the max number of log streams read at once over all requests, at least cpStream.maxTotal
+     * @param queueLines          the queued lines per stream
+     * @param maxLineBytes        the max bytes of one line, longer lines are truncated
+     * @param mergeDelayMillis    the time a line waits for the other streams before it is written
+     * @param heartbeatSeconds    the idle seconds of a follow before an empty flush checks the client, 0 to disable
+     */
+    @Autowired
+    public PodsLogMerger(RestTemplateService restTemplateService,
+                         @Value("${cpLogs.merge.threads:${cpStream.maxTotal:100}}") int threads,
+                         @Value("${cpLogs.merge.queueLines:64}") int queueLines,
+                         @Value("${cpLogs.merge.maxLineBytes:16384}") int maxLineBytes,
+                         @Value("${cpLogs.merge.delayMillis:1000}") long mergeDelayMillis,
+                         @Value("${cpLogs.follow.heartbeatSeconds:15}") long heartbeatSeconds) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cp-log-merge-");
+        threadFactory.setDaemon(true);
+
+        this.restTemplateService = restTemplateService;
+        this.executor = new ThreadPoolExecutor(0, threads, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+        this.queueLines = queueLines;
+        this.maxLineBytes = maxLineBytes;
+        this.mergeDelayNanos = TimeUnit.MILLISECONDS.toNanos(mergeDelayMillis);
+        this.heartbeatNanos = TimeUnit.SECONDS.toNanos(heartbeatSeconds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * log stream 병합 기록, 모든 stream 이 끝나거나 client 가 끊길 때까지 반환하지 않음
+     * (Write the merged log; returns once every stream has ended or the client has gone away)
+     *
+     * @param target     the upstream target
+     * @param sources    the log sources, each url must request timestamps=true
+     * @param timestamps whether to keep the timestamp of each line
+     * @param follow     whether the sources are follows, which get the idle heartbeat
+     * @param client     the client output
+     */
+    void merge(UpstreamTarget target, List<LogSource> sources, boolean timestamps, boolean follow, OutputStream client) {
+        Semaphore arrivals = new Semaphore(0);
+        List<SourceReader> readers = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            readers.add(new SourceReader(i, sources.get(i), target, timestamps, arrivals));
+        }
+
+        try {
+            for (SourceReader reader : readers) {
+                try {
+                    executor.execute(reader);
+                } catch (RejectedExecutionException exception) {
+                    LOGGER.warn("LOG MERGE STREAM REJECTED :: {}", CommonUtils.loggerReplace(reader.source.getPrefix()));
+                    reader.fail("log stream not opened, too many streams");
+                }
+            }
+            writeMerged(readers, arrivals, follow && heartbeatNanos > 0, client);
+        } catch (IOException exception) {
+            LOGGER.info("LOG MERGE CLIENT CLOSED :: {}", CommonUtils.loggerReplace(exception.toString()));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            readers.forEach(SourceReader::close);
+        }
+    }
+
+    /**
+     * 각 stream 의 다음 줄을 heap 에 두고 가장 이른 줄부터 기록(Keep each stream's next line in a heap and write the earliest first)
+     */
+    private void writeMerged(List<SourceReader> readers, Semaphore arrivals, boolean heartbeat, OutputStream client) throws IOException, InterruptedException {
+        int count = readers.size();
+        PriorityQueue<LogLine> heads = new PriorityQueue<>(Math.max(1, count),
+                Comparator.comparingLong((LogLine line) -> line.timestampNanos).thenComparingInt(line -> line.source));
+        boolean[] inHeap = new boolean[count];
+        boolean[] finished = new boolean[count];
+        int finishedCount = 0;
+        long lastWriteNanos = System.nanoTime();
+
+        while (finishedCount < count || !heads.isEmpty()) {
+            int waiting = 0;
+            for (int i = 0; i < count; i++) {
+                if (inHeap[i] || finished[i]) {
+                    continue;
+                }
+                LogLine next = readers.get(i).queue.poll();
+                if (next == null) {
+                    waiting++;
+                } else if (next == END) {
+                    finished[i] = true;
+                    finishedCount++;
+                } else {
+                    heads.add(next);
+                    inHeap[i] = true;
+                }
+            }
+
+            boolean wrote = false;
+            while (!heads.isEmpty() && (waiting == 0 || System.nanoTime() - heads.peek().arrivalNanos >= mergeDelayNanos)) {
+                LogLine line = heads.poll();
+                readers.get(line.source).write(line, client);
+                wrote = true;
+
+                // 같은 stream 의 다음 줄로 교체(replace it with the next line of the same stream)
+                inHeap[line.source] = false;
+                LogLine next = readers.get(line.source).queue.poll();
+                if (next == null) {
+                    waiting++;
+                } else if (next == END) {
+                    finished[line.source] = true;
+                    finishedCount++;
+                } else {
+                    heads.add(next);
+                    inHeap[line.source] = true;
+                }
+            }
+
+            if (wrote) {
+                client.flush();
+                lastWriteNanos = System.nanoTime();
+            } else if (finishedCount < count || !heads.isEmpty()) {
+                // 끊긴 client 는 쓰기에서만 드러남(a gone client only shows on a write)
+                if (heartbeat && System.nanoTime() - lastWriteNanos >= heartbeatNanos) {
+                    client.flush();
+                    lastWriteNanos = System.nanoTime();
+                }
+
+                long waitNanos = heads.isEmpty() ? TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MILLIS)
+                        : mergeDelayNanos - (System.nanoTime() - heads.peek().arrivalNanos);
+                if (arrivals.tryAcquire(Math.max(1L, waitNanos), TimeUnit.NANOSECONDS)) {
+                    arrivals.drainPermits();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * 병합할 log stream 1개(One log stream to merge)
+     */
+    static final class LogSource {
+        private final String prefix;
+        private final String reqUrl;
+
+        LogSource(String prefix, String reqUrl) {
+            this.prefix = prefix;
+            this.reqUrl = reqUrl;
+        }
+
+        String getPrefix() {
+            return prefix;
+        }
+
+        String getReqUrl() {
+            return reqUrl;
+        }
+    }
+
+    /**
+     * timestamp 와 내용(Timestamp and text of one line)
+     */
+    private static final class LogLine {
+        private final int source;
+        private final long timestampNanos;
+        private final long arrivalNanos;
+        private final byte[] text;
+
+        LogLine(int source, long timestampNanos, long arrivalNanos, byte[] text) {
+            this.source = source;
+            this.timestampNanos = timestampNanos;
+            this.arrivalNanos = arrivalNanos;
+            this.text = text;
+        }
+    }
+
+    /**
+     * stream 1개를 읽어 줄 단위로 queue 에 넣는 작업(Reads one stream and queues it line by line)
+     */
+    private final class SourceReader implements Runnable {
+        private final int index;
+        private final LogSource source;
+        private final UpstreamTarget target;
+        private final boolean timestamps;
+        private final Semaphore arrivals;
+        private final byte[] prefix;
+        private final BlockingQueue<LogLine> queue = new ArrayBlockingQueue<>(queueLines);
+
+        private volatile boolean closed;
+        private volatile InputStream upstream;
+        private long lastTimestampNanos;
+
+        SourceReader(int index, LogSource source, UpstreamTarget target, boolean timestamps, Semaphore arrivals) {
+            this.index = index;
+            this.source = source;
+            this.target = target;
+            this.timestamps = timestamps;
+            this.arrivals = arrivals;
+            this.prefix = ("[" + source.getPrefix() + "] ").getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void run() {
+            try {
+                restTemplateService.sendForLongStream(target, source.getReqUrl(), response -> {
+                    upstream = response.getBody();
+                    if (closed) {
+                        abort();
+                        return null;
+                    }
+                    readLines(upstream);
+                    return null;
+                });
+            } catch (RuntimeException exception) {
+                if (!closed) {
+                    LOGGER.warn("LOG MERGE STREAM FAILED :: {} {}", CommonUtils.loggerReplace(source.getPrefix()), CommonUtils.loggerReplace(exception.toString()));
+                    offer(line(("log stream failed: " + exception.getMessage()).getBytes(StandardCharsets.UTF_8), false));
+                }
+            } finally {
+                offerEnd();
+            }
+        }
+
+        /**
+         * 실행 전 실패 처리(Fail before running)
+         */
+        void fail(String message) {
+            offer(line(message.getBytes(StandardCharsets.UTF_8), false));
+            offerEnd();
+        }
+
+        private void readLines(InputStream in) throws IOException {
+            byte[] chunk = new byte[CHUNK_BYTES];
+            byte[] buffer = new byte[maxLineBytes];
+            int length = 0;
+            int read;
+
+            while (!closed && (read = in.read(chunk)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    if (chunk[i] == '\n') {
+                        if (!offer(line(Arrays.copyOf(buffer, length), true))) {
+                            return;
+                        }
+                        length = 0;
+                    } else if (length < buffer.length) {
+                        buffer[length++] = chunk[i];
+                    }
+                }
+            }
+            if (length > 0) {
+                offer(line(Arrays.copyOf(buffer, length), true));
+            }
+        }
+
+        /**
+         * RFC3339 timestamp 로 시작하는 줄 변환, timestamp 가 없으면 직전 값 사용
+         * (Convert a line that starts with an RFC3339 timestamp; without one the previous timestamp is used)
+         */
+        private LogLine line(byte[] bytes, boolean hasTimestamp) {
+            int space = -1;
+            if (hasTimestamp) {
+                for (int i = 0; i < bytes.length; i++) {
+                    if (bytes[i] == ' ') {
+                        space = i;
+                        break;
+                    }
+                }
+            }
+
+            byte[] text = bytes;
+            if (space > 0) {
+                try {
+                    Instant instant = Instant.parse(new String(bytes, 0, space, StandardCharsets.US_ASCII));
+                    lastTimestampNanos = instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+                    if (!timestamps) {
+                        text = Arrays.copyOfRange(bytes, space + 1, bytes.length);
+                    }
+                } catch (DateTimeParseException exception) {
+                    // timestamp 가 아닌 줄(not a timestamped line)
+                }
+            }
+
+            return new LogLine(index, lastTimestampNanos, System.nanoTime(), text);
+        }
+
+        private boolean offer(LogLine line) {
+            try {
+                while (!closed) {
+                    if (queue.offer(line, MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                        arrivals.release();
+                        return true;
+                    }
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                closed = true;
+            }
+            return false;
+        }
+
+        private void offerEnd() {
+            // 병합 쪽이 끝났으면 END 를 받을 필요 없음(no one needs the END once the merge has stopped)
+            while (!closed) {
+                if (queue.offer(END)) {
+                    arrivals.release();
+                    return;
+                }
+                try {
+                    Thread.sleep(10L);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        void write(LogLine line, OutputStream client) throws IOException {
+            client.write(prefix);
+            client.write(line.text);
+            client.write('\n');
+        }
+
+        void close() {
+            closed = true;
+            abort();
+        }
+
+        /**
+         * 끝나지 않는 follow 응답을 읽어 비우지 않도록 connection 을 끊음(Abort so a never-ending follow response is not drained)
+         */
+        private void abort() {
+            InputStream in = upstream;
+            if (in instanceof ConnectionReleaseTrigger) {
+                try {
+                    ((ConnectionReleaseTrigger) in).abortConnection();
+                } catch (IOException exception) {
+                    LOGGER.debug("LOG MERGE ABORT FAILED :: {}", CommonUtils.loggerReplace(exception.toString()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,537 @@
+package org.paasta.container.platform.api.workloads.pods;
+
+import org.apache.http.conn.ConnectionReleaseTrigger;
+import org.paasta.container.platform.api.common.CommonUtils;
+import org.paasta.container.platform.api.common.Constants;
+import org.paasta.container.platform.api.common.PropertyService;
+import org.paasta.container.platform.api.common.RestTemplateService;
+import org.paasta.container.platform.api.common.UpstreamTarget;
+import org.paasta.container.platform.api.common.concurrent.StreamLimiter;
+import org.paasta.container.platform.api.common.model.CommonLabelSelector;
+import org.paasta.container.platform.api.common.model.CommonContainer;
+import org.paasta.container.platform.api.common.model.CommonOwnerReferences;
+import org.paasta.container.platform.api.workloads.deployments.Deployments;
+import org.paasta.container.platform.api.workloads.replicaSets.ReplicaSets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriUtils;
+
+import javax.annotation.PreDestroy;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pods Log Service 클래스
+ *
+ * Pod 의 log subresource 응답을 고정 크기 버퍼 하나로 읽는 즉시 client 에 전달한다(chunked). 응답 전체를 메모리에 받지 않으며,
+ * client 쓰기가 막히면 upstream 읽기도 멈추므로 TCP 흐름 제어가 kubelet 까지 전달된다(backpressure).
+ * (Relays the pod log subresource to the client as it is read, through one fixed-size buffer per connection, as a
+ * chunked response. Nothing is buffered whole, and a blocked client write stops the upstream reads, so TCP flow
+ * control reaches back to the kubelet.)
+ *
+ * follow 중 heartbeatSeconds 동안 쓴 내용이 없으면 내용 없이 flush 하여 client 가 끊겼는지 확인한다. 로그 본문에는
+ * 아무것도 더하지 않으며, 끊김이 드러나면 upstream 을 끊어 요청 스레드, upstream connection, follow 허가를 반환한다.
+ * (A follow that wrote nothing for heartbeatSeconds flushes without content to check whether the client has gone.
+ * Nothing is added to the log body; when the flush shows a gone client the upstream is aborted, which returns the
+ * request thread, the upstream connection and the follow permit.)
+ *
+ * Deployment, ReplicaSet 로그는 selector 에 맞는 Pod 들의 로그를 Pods Log Merger 로 병합한다.
+ * (Deployment and ReplicaSet logs merge the logs of the pods matching the selector through the Pods Log Merger.)
+ *
+ * @version 1.0
+ */
+@Service
+public class PodsLogService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PodsLogService.class);
+    private static final String LOG_CONTENT_TYPE = "text/plain;charset=UTF-8";
+    // reverse proxy(nginx) 의 응답 버퍼링 해제(disable response buffering in a reverse proxy such as nginx)
+    private static final String ACCEL_BUFFERING_HEADER = "X-Accel-Buffering";
+    // 최대 stream 수를 넘어 제외된 Pod, container 수(pod containers left out beyond the max number of streams)
+    private static final String OMITTED_STREAMS_HEADER = "X-Log-Streams-Omitted";
+    private static final String MATCH_LABELS_KEY = "matchLabels";
+
+    private final RestTemplateService restTemplateService;
+    private final PropertyService propertyService;
+    private final StreamLimiter streamLimiter;
+    private final PodsLogMerger podsLogMerger;
+    private final int bufferBytes;
+    private final int maxMergedStreams;
+    private final long heartbeatSeconds;
+    private final ScheduledExecutorService heartbeatExecutor;
+
+    /**
+     * Instantiates a new Pods log service
+     *
+     * @param restTemplateService the rest template service
+     * @param propertyService     the property service
+     * @param streamLimiter       the stream limiter
+     * @param podsLogMerger       the pods log merger
+     * @param bufferBytes         the relay buffer size per connection
+     * @param maxMergedStreams    the max number of pod containers in one merged log
+     * @param heartbeatSeconds    the idle seconds of a follow before an empty flush checks the client, 0 to disable
+     */
+    @Autowired
+    public PodsLogService(RestTemplateService restTemplateService, PropertyService propertyService, StreamLimiter streamLimiter,
+                          PodsLogMerger podsLogMerger,
+                          @Value("${cpLogs.bufferBytes:8192}") int bufferBytes,
+                          @Value("${cpLogs.merge.maxStreams:50}") int maxMergedStreams,
+                          @Value("${cpLogs.follow.heartbeatSeconds:15}") long heartbeatSeconds) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cp-log-heartbeat-");
+        threadFactory.setDaemon(true);
+
+        this.restTemplateService = restTemplateService;
+        this.propertyService = propertyService;
+        this.streamLimiter = streamLimiter;
+        this.podsLogMerger = podsLogMerger;
+        this.bufferBytes = bufferBytes;
+        this.maxMergedStreams = maxMergedStreams;
+        this.heartbeatSeconds = heartbeatSeconds;
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    /**
+     * Pods 로그 stream 조회(Stream Pods log)
+     *
+     * follow 요청은 사용자별 동시 개수가 제한된다. 제한을 넘거나 인자가 잘못되면 응답을 쓰지 않고 결과 상태를 반환한다.
+     * (Follow requests are limited per user. When the limit is reached or an argument is invalid nothing is written
+     * and a result status is returned instead.)
+     *
+     * @param namespace    the namespace
+     * @param resourceName the resource name
+     * @param container    the container, null for the only container of the pod
+     * @param follow       whether to follow the log
+     * @param tailLines    the number of lines from the end, null for all
+     * @param sinceSeconds the seconds back from now, null for all
+     * @param isAdmin      the isAdmin
+     * @param response     the servlet response the log is written to
+     * @return null when the log was written, otherwise the result status
+     */
+    public Object streamPodsLog(String namespace, String resourceName, String container, boolean follow,
+                                Integer tailLines, Integer sinceSeconds, boolean isAdmin, HttpServletResponse response) {
+        if (!isValidRange(tailLines, sinceSeconds)) {
+            return Constants.BAD_REQUEST_ACCESS_RESULT_STATUS;
+        }
+
+        UpstreamTarget target = resolveTarget(isAdmin);
+        String reqUrl = getPodsLogUrl(namespace, resourceName, container, follow, tailLines, sinceSeconds, false);
+
+        return withStreamPermit(follow, false, 1, response, () -> relay(target, reqUrl, follow, response));
+    }
+
+    /**
+     * Deployments 로그 stream 조회, selector 에 맞는 Pod 로그 병합(Stream the merged log of the pods of a Deployment)
+     *
+     * @param namespace    the namespace
+     * @param resourceName the resource name
+     * @param container    the container, null for every container
+     * @param follow       whether to follow the log
+     * @param tailLines    the number of lines from the end of each container, null for all
+     * @param sinceSeconds the seconds back from now, null for all
+     * @param timestamps   whether to keep the timestamp of each line
+     * @param isAdmin      the isAdmin
+     * @param response     the servlet response the log is written to
+     * @return null when the log was written, otherwise the result status
+     */
+    public Object streamDeploymentsLog(String namespace, String resourceName, String container, boolean follow,
+                                       Integer tailLines, Integer sinceSeconds, boolean timestamps, boolean isAdmin,
+                                       HttpServletResponse response) {
+        if (!isValidRange(tailLines, sinceSeconds)) {
+            return Constants.BAD_REQUEST_ACCESS_RESULT_STATUS;
+        }
+
+        UpstreamTarget target = resolveTarget(isAdmin);
+        Object deployments = getModel(isAdmin, propertyService.getCpMasterApiListDeploymentsGetUrl()
+                .replace("{namespace}", namespace)
+                .replace("{name}", resourceName), Deployments.class);
+        if (!(deployments instanceof Deployments)) {
+            return deployments;
+        }
+
+        Deployments owner = (Deployments) deployments;
+        CommonLabelSelector selector = owner.getSpec() == null ? null : owner.getSpec().getSelector();
+        Map<String, String> matchLabels = selector == null ? null : selector.getMatchLabels();
+
+        return streamSelectedPodsLog(target, isAdmin, namespace, matchLabels, null, container, follow, tailLines, sinceSeconds, timestamps, response);
+    }
+
+    /**
+     * ReplicaSets 로그 stream 조회, 소유한 Pod 로그 병합(Stream the merged log of the pods owned by a ReplicaSet)
+     *
+     * @param namespace    the namespace
+     * @param resourceName the resource name
+     * @param container    the container, null for every container
+     * @param follow       whether to follow the log
+     * @param tailLines    the number of lines from the end of each container, null for all
+     * @param sinceSeconds the seconds back from now, null for all
+     * @param timestamps   whether to keep the timestamp of each line
+     * @param isAdmin      the isAdmin
+     * @param response     the servlet response the log is written to
+     * @return null when the log was written, otherwise the result status
+     */
+    public Object streamReplicaSetsLog(String namespace, String resourceName, String container, boolean follow,
+                                       Integer tailLines, Integer sinceSeconds, boolean timestamps, boolean isAdmin,
+                                       HttpServletResponse response) {
+        if (!isValidRange(tailLines, sinceSeconds)) {
+            return Constants.BAD_REQUEST_ACCESS_RESULT_STATUS;
+        }
+
+        UpstreamTarget target = resolveTarget(isAdmin);
+        Object replicaSets = getModel(isAdmin, propertyService.getCpMasterApiListReplicaSetsGetUrl()
+                .replace("{namespace}", namespace)
+                .replace("{name}", resourceName), ReplicaSets.class);
+        if (!(replicaSets instanceof ReplicaSets)) {
+            return replicaSets;
+        }
+
+        ReplicaSets owner = (ReplicaSets) replicaSets;
+        Object selector = owner.getSpec() == null || owner.getSpec().getSelector() == null ? null : owner.getSpec().getSelector().get(MATCH_LABELS_KEY);
+        Map<String, String> matchLabels = new TreeMap<>();
+        if (selector instanceof Map) {
+            ((Map<?, ?>) selector).forEach((key, value) -> matchLabels.put(String.valueOf(key), String.valueOf(value)));
+        }
+        String ownerUid = owner.getMetadata() == null ? null : owner.getMetadata().getUid();
+
+        return streamSelectedPodsLog(target, isAdmin, namespace, matchLabels, ownerUid, container, follow, tailLines, sinceSeconds, timestamps, response);
+    }
+
+    /**
+     * selector 에 맞는 Pod 들의 로그 병합(Merge the logs of the pods matching the selector)
+     *
+     * Pods 목록은 getPodListWithLabelSelector 와 같이 labelSelector 로 조회하고, ownerUid 가 있으면 그 소유자의 Pod 만 남긴다.
+     * (The pods are listed by labelSelector as in getPodListWithLabelSelector; with an ownerUid only the pods it owns are kept.)
+     */
+    private Object streamSelectedPodsLog(UpstreamTarget target, boolean isAdmin, String namespace, Map<String, String> matchLabels, String ownerUid,
+                                         String container, boolean follow, Integer tailLines, Integer sinceSeconds,
+                                         boolean timestamps, HttpServletResponse response) {
+        // 빈 selector 는 namespace 의 모든 Pod 에 맞음(an empty selector would match every pod of the namespace)
+        if (matchLabels == null || matchLabels.isEmpty()) {
+            return Constants.BAD_REQUEST_ACCESS_RESULT_STATUS;
+        }
+
+        Object podsList = getModel(isAdmin, propertyService.getCpMasterApiListPodsListUrl()
+                .replace("{namespace}", namespace) + "?labelSelector=" + toLabelSelector(matchLabels), PodsList.class);
+        if (!(podsList instanceof PodsList)) {
+            return podsList;
+        }
+
+        List<PodsLogMerger.LogSource> sources = getLogSources(namespace, ((PodsList) podsList).getItems(), ownerUid, container,
+                follow, tailLines, sinceSeconds);
+        if (sources.isEmpty()) {
+            return Constants.NOT_FOUND_RESULT_STATUS;
+        }
+
+        // 병합 stream 은 모두 같은 stream connection pool 을 사용하므로 전체 허가 수를 넘지 않음
+        // (the merged streams all share the stream connection pool, so they never exceed the total permits)
+        int maxStreams = Math.min(maxMergedStreams, streamLimiter.getMaxTotal());
+        if (sources.size() > maxStreams) {
+            response.setHeader(OMITTED_STREAMS_HEADER, String.valueOf(sources.size() - maxStreams));
+            sources = new ArrayList<>(sources.subList(0, maxStreams));
+        }
+
+        List<PodsLogMerger.LogSource> mergedSources = sources;
+        return withStreamPermit(follow, true, mergedSources.size(), response, () -> {
+            prepare(response);
+            try {
+                podsLogMerger.merge(target, mergedSources, timestamps, follow, response.getOutputStream());
+            } catch (IOException exception) {
+                LOGGER.info("LOG STREAM CLIENT CLOSED :: {}", CommonUtils.loggerReplace(exception.toString()));
+            }
+        });
+    }
+
+    /**
+     * Pod, container 별 log source 목록, Pod 이름 순(Log sources per pod container, ordered by pod name)
+     */
+    private List<PodsLogMerger.LogSource> getLogSources(String namespace, List<Pods> pods, String ownerUid, String container,
+                                                        boolean follow, Integer tailLines, Integer sinceSeconds) {
+        List<PodsLogMerger.LogSource> sources = new ArrayList<>();
+        if (pods == null) {
+            return sources;
+        }
+
+        List<Pods> sorted = new ArrayList<>(pods);
+        sorted.sort(Comparator.comparing(pod -> pod.getMetadata().getName()));
+
+        for (Pods pod : sorted) {
+            if (ownerUid != null && !isOwnedBy(pod, ownerUid)) {
+                continue;
+            }
+            if (pod.getSpec() == null || pod.getSpec().getContainers() == null) {
+                continue;
+            }
+
+            String podName = pod.getMetadata().getName();
+            for (CommonContainer podContainer : pod.getSpec().getContainers()) {
+                if (container != null && !container.isEmpty() && !container.equals(podContainer.getName())) {
+                    continue;
+                }
+                sources.add(new PodsLogMerger.LogSource(podName + "/" + podContainer.getName(),
+                        getPodsLogUrl(namespace, podName, podContainer.getName(), follow, tailLines, sinceSeconds, true)));
+            }
+        }
+        return sources;
+    }
+
+    private static boolean isOwnedBy(Pods pod, String ownerUid) {
+        List<CommonOwnerReferences> ownerReferences = pod.getMetadata().getOwnerReferences();
+        if (ownerReferences == null) {
+            return false;
+        }
+        for (CommonOwnerReferences ownerReference : ownerReferences) {
+            if (ownerUid.equals(ownerReference.getUid())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toLabelSelector(Map<String, String> matchLabels) {
+        StringBuilder selector = new StringBuilder();
+        new TreeMap<>(matchLabels).forEach((key, value) -> {
+            if (selector.length() > 0) {
+                selector.append(',');
+            }
+            selector.append(key).append('=').append(value);
+        });
+        return UriUtils.encodeQueryParam(selector.toString(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * upstream stream 수만큼 허가를 얻은 뒤 실행(Run the relay, holding a permit for its upstream streams)
+     *
+     * follow 는 사용자별, 전체 허가를 모두 사용한다. follow 가 아닌 병합도 병합 스레드를 점유하므로 전체 허가를 사용하고,
+     * follow 가 아닌 단일 Pod 로그는 요청 스레드에서만 읽으므로 허가 없이 실행한다.
+     * (A follow is charged per user and in total. A merge that does not follow still holds merge threads, so it is
+     * charged in total; a single pod log that does not follow is read on the request thread only and needs no permit.)
+     */
+    private Object withStreamPermit(boolean follow, boolean merged, int streams, HttpServletResponse response, Runnable relay) {
+        if (!follow && !merged) {
+            relay.run();
+            return null;
+        }
+
+        String userName = getUserName();
+        StreamLimiter.Permit permit = follow ? streamLimiter.tryAcquire(userName, streams) : streamLimiter.tryAcquireTotal(streams);
+        if (permit == null) {
+            LOGGER.warn("LOG STREAM REFUSED :: USER: {}, OPEN: {}, TOTAL: {}", CommonUtils.loggerReplace(userName),
+                    streamLimiter.getOpenCount(userName), streamLimiter.getOpenTotal());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            return Constants.TOO_MANY_REQUESTS_RESULT_STATUS;
+        }
+
+        try {
+            relay.run();
+        } finally {
+            permit.close();
+        }
+        return null;
+    }
+
+    /**
+     * 인증 값은 요청 스레드에서 결정(Resolve credentials on the request thread)
+     */
+    private UpstreamTarget resolveTarget(boolean isAdmin) {
+        return isAdmin ? restTemplateService.resolveAdminTarget(Constants.TARGET_CP_MASTER_API)
+                : restTemplateService.resolveTarget(Constants.TARGET_CP_MASTER_API);
+    }
+
+    private Object getModel(boolean isAdmin, String reqUrl, Class<?> modelType) {
+        return isAdmin ? restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, reqUrl, modelType)
+                : restTemplateService.sendForModel(Constants.TARGET_CP_MASTER_API, reqUrl, modelType);
+    }
+
+    private static boolean isValidRange(Integer tailLines, Integer sinceSeconds) {
+        return (tailLines == null || tailLines >= 0) && (sinceSeconds == null || sinceSeconds > 0);
+    }
+
+    /**
+     * log subresource URL 생성(Build the log subresource url)
+     */
+    private String getPodsLogUrl(String namespace, String resourceName, String container, boolean follow,
+                                 Integer tailLines, Integer sinceSeconds, boolean timestamps) {
+        StringBuilder reqUrl = new StringBuilder(propertyService.getCpMasterApiListPodsGetUrl()
+                .replace("{namespace}", namespace)
+                .replace("{name}", resourceName))
+                .append("/log?follow=").append(follow);
+
+        if (container != null && !container.isEmpty()) {
+            reqUrl.append("&container=").append(UriUtils.encodeQueryParam(container, StandardCharsets.UTF_8));
+        }
+        if (tailLines != null) {
+            reqUrl.append("&tailLines=").append(tailLines);
+        }
+        if (sinceSeconds != null) {
+            reqUrl.append("&sinceSeconds=").append(sinceSeconds);
+        }
+        if (timestamps) {
+            reqUrl.append("&timestamps=true");
+        }
+        return reqUrl.toString();
+    }
+
+    /**
+     * upstream 응답을 client 로 전달(Relay the upstream response to the client)
+     */
+    private void relay(UpstreamTarget target, String reqUrl, boolean follow, HttpServletResponse response) {
+        restTemplateService.sendForLongStream(target, reqUrl, upstream -> {
+            prepare(response);
+            copy(upstream.getBody(), response.getOutputStream(), follow);
+            return null;
+        });
+    }
+
+    private static void prepare(HttpServletResponse response) {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(LOG_CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader(ACCEL_BUFFERING_HEADER, "no");
+    }
+
+    /**
+     * 고정 크기 버퍼로 복사, 읽은 만큼 즉시 flush(Copy through a fixed-size buffer, flushing whatever was read)
+     *
+     * client 가 끊기면 upstream connection 을 끊는다. 닫기만 하면 끝나지 않는 follow 응답을 끝까지 읽으려 하기 때문이다.
+     * (When the client goes away the upstream connection is aborted, since a plain close would try to drain a follow
+     * response that never ends.)
+     *
+     * @param upstream the upstream body
+     * @param client   the client output
+     * @param follow   whether the upstream is a follow, which gets the idle heartbeat
+     */
+    void copy(InputStream upstream, OutputStream client, boolean follow) {
+        byte[] buffer = new byte[bufferBytes];
+        ClientWriter writer = new ClientWriter(upstream, client);
+        if (follow && heartbeatSeconds > 0) {
+            writer.heartbeat = heartbeatExecutor.scheduleWithFixedDelay(writer, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        }
+
+        try {
+            while (true) {
+                int read;
+                try {
+                    read = upstream.read(buffer);
+                } catch (IOException exception) {
+                    if (!writer.clientClosed) {
+                        LOGGER.warn("LOG STREAM UPSTREAM CLOSED :: {}", CommonUtils.loggerReplace(exception.toString()));
+                    }
+                    abort(upstream);
+                    return;
+                }
+                if (read == -1) {
+                    return;
+                }
+
+                try {
+                    writer.write(buffer, read);
+                } catch (IOException exception) {
+                    writer.closed(exception);
+                    return;
+                }
+            }
+        } finally {
+            writer.cancel();
+        }
+    }
+
+    private static void abort(InputStream upstream) {
+        if (upstream instanceof ConnectionReleaseTrigger) {
+            try {
+                ((ConnectionReleaseTrigger) upstream).abortConnection();
+            } catch (IOException exception) {
+                LOGGER.debug("LOG STREAM ABORT FAILED :: {}", CommonUtils.loggerReplace(exception.toString()));
+            }
+        }
+    }
+
+    private static String getUserName() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return (authentication == null) ? Constants.NULL_REPLACE_TEXT : authentication.getName();
+    }
+
+
+    /**
+     * client 쓰기와 idle heartbeat 를 직렬화(Serializes the client writes and the idle heartbeat)
+     *
+     * heartbeat 는 별도 스레드에서 내용 없이 flush 만 하며, flush 에 실패하면 upstream 을 끊어 읽기에서 대기 중인 요청 스레드를 깨운다.
+     * (The heartbeat runs on its own thread and only flushes, writing no content; when the flush fails the upstream is
+     * aborted, which wakes the request thread blocked on the upstream read.)
+     */
+    private final class ClientWriter implements Runnable {
+        private final InputStream upstream;
+        private final OutputStream client;
+        private final Object lock = new Object();
+        private volatile long lastWriteNanos = System.nanoTime();
+        private volatile boolean clientClosed;
+        private volatile ScheduledFuture<?> heartbeat;
+
+        private ClientWriter(InputStream upstream, OutputStream client) {
+            this.upstream = upstream;
+            this.client = client;
+        }
+
+        private void write(byte[] buffer, int length) throws IOException {
+            synchronized (lock) {
+                client.write(buffer, 0, length);
+                client.flush();
+                lastWriteNanos = System.nanoTime();
+            }
+        }
+
+        @Override
+        public void run() {
+            if (System.nanoTime() - lastWriteNanos < TimeUnit.SECONDS.toNanos(heartbeatSeconds)) {
+                return;
+            }
+            try {
+                synchronized (lock) {
+                    client.flush();
+                    lastWriteNanos = System.nanoTime();
+                }
+            } catch (IOException exception) {
+                closed(exception);
+                cancel();
+            }
+        }
+
+        private void closed(IOException exception) {
+            if (!clientClosed) {
+                clientClosed = true;
+                LOGGER.info("LOG STREAM CLIENT CLOSED :: {}", CommonUtils.loggerReplace(exception.toString()));
+            }
+            abort(upstream);
+        }
+
+        private void cancel() {
+            ScheduledFuture<?> future = heartbeat;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+}
@@ -4,6 +4,8 @@ import lombok.Data;
 
 import java.util.List;
 
+import org.paasta.container.platform.api.common.model.CommonResultModel;
+
 /**
  * Pods Metric Model 클래스
  *
@@ -12,7 +14,7 @@ import java.util.List;
  * @since 2020.11.20
  */
 @Data
-public class PodsMetric {
+public class PodsMetric implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -0,0 +1,123 @@
+package org.paasta.container.platform.api.workloads.pods;
+
+import org.paasta.container.platform.api.common.model.CommonContainer;
+import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResourceRequirement;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pods Metric Index 클래스
+ *
+ * metrics API 응답을 (namespace, pod 이름) -> container 이름 -> 사용량으로 한 번 색인해 두고, Pod 목록에는 한 번의 순회로 병합한다.
+ * namespace 별로 캐시된 색인을 Pods 목록, Node 의 Pods 목록, Deployment/ReplicaSet selector 의 Pods 목록이 같이 사용한다.
+ * (Indexes a metrics API response once by (namespace, pod name) -> container name -> usage, so merging into a pod
+ * list is a single pass with hash lookups. The index cached per namespace is shared by the pods list, the pods of a
+ * node and the pods of a Deployment/ReplicaSet selector.)
+ *
+ * @version 1.0
+ */
+public final class PodsMetricIndex {
+
+    private static final String USAGE_CPU = "cpu";
+    private static final String USAGE_MEMORY = "memory";
+    private static final char KEY_SEPARATOR = '/';
+
+    private static final PodsMetricIndex EMPTY = new PodsMetricIndex(Collections.emptyMap());
+
+    private final Map<String, Map<String, ContainerUsage>> usages;
+
+    private PodsMetricIndex(Map<String, Map<String, ContainerUsage>> usages) {
+        this.usages = usages;
+    }
+
+    /**
+     * metrics 응답 색인(Index a metrics response)
+     *
+     * @param podsMetric the pods metric
+     * @return the pods metric index
+     */
+    public static PodsMetricIndex of(PodsMetric podsMetric) {
+        if (podsMetric == null || podsMetric.getItems() == null || podsMetric.getItems().isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<String, Map<String, ContainerUsage>> usages = new HashMap<>(podsMetric.getItems().size() * 2);
+        for (PodsUsage podsUsage : podsMetric.getItems()) {
+            if (podsUsage.getMetadata() == null || podsUsage.getContainers() == null) {
+                continue;
+            }
+
+            Map<String, ContainerUsage> containerUsages = usages.computeIfAbsent(podKey(podsUsage.getMetadata()), k -> new HashMap<>(4));
+            for (Containers containerUsage : podsUsage.getContainers()) {
+                if (containerUsage.getName() != null && containerUsage.getUsage() != null) {
+                    containerUsages.put(containerUsage.getName(), containerUsage.getUsage());
+                }
+            }
+        }
+
+        return new PodsMetricIndex(usages);
+    }
+
+    /**
+     * container 사용량 조회(Get the usage of a container)
+     *
+     * @param namespace     the namespace
+     * @param podName       the pod name
+     * @param containerName the container name
+     * @return the container usage, null when there is no metric
+     */
+    public ContainerUsage getUsage(String namespace, String podName, String containerName) {
+        Map<String, ContainerUsage> containerUsages = usages.get(podKey(namespace, podName));
+        return containerUsages == null ? null : containerUsages.get(containerName);
+    }
+
+    /**
+     * Pod 목록에 사용량 병합(Merge usages into the containers of a pod list)
+     *
+     * @param pods the pods
+     */
+    public void mergeInto(List<Pods> pods) {
+        if (usages.isEmpty() || pods == null) {
+            return;
+        }
+
+        for (Pods pod : pods) {
+            if (pod.getMetadata() == null || pod.getSpec() == null || pod.getSpec().getContainers() == null) {
+                continue;
+            }
+
+            Map<String, ContainerUsage> containerUsages = usages.get(podKey(pod.getMetadata()));
+            if (containerUsages == null) {
+                continue;
+            }
+
+            for (CommonContainer container : pod.getSpec().getContainers()) {
+                ContainerUsage containerUsage = containerUsages.get(container.getName());
+                if (containerUsage == null) {
+                    continue;
+                }
+
+                if (container.getResources() == null) {
+                    container.setResources(new CommonResourceRequirement());
+                }
+
+                Map<String, Object> usage = new HashMap<>(4);
+                usage.put(USAGE_CPU, containerUsage.getCpu());
+                usage.put(USAGE_MEMORY, containerUsage.getMemory());
+                container.getResources().setUsage(usage);
+            }
+        }
+    }
+
+    private static String podKey(CommonMetaData metadata) {
+        return podKey(metadata.getNamespace(), metadata.getName());
+    }
+
+    private static String podKey(String namespace, String podName) {
+        return (namespace == null ? "" : namespace) + KEY_SEPARATOR + podName;
+    }
+}
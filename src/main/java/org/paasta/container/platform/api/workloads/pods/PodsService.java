@@ -2,11 +2,13 @@ package org.paasta.container.platform.api.workloads.pods;
 
 
 import org.paasta.container.platform.api.common.*;
-import org.paasta.container.platform.api.common.model.CommonContainer;
+import org.paasta.container.platform.api.common.cache.RefreshAheadCache;
 import org.paasta.container.platform.api.common.model.CommonResourcesYaml;
 import org.paasta.container.platform.api.common.model.ResultStatus;
 import org.paasta.container.platform.api.workloads.pods.support.ContainerStatusesItem;
 import org.paasta.container.platform.api.workloads.pods.support.PodsStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
@@ -27,11 +29,13 @@ import java.util.stream.Collectors;
  */
 @Service
 public class PodsService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PodsService.class);
     private static final String STATUS_FIELD_NAME = "status";
 
     private final RestTemplateService restTemplateService;
     private final CommonService commonService;
     private final PropertyService propertyService;
+    private final RefreshAheadCache<String, PodsMetricIndex> podsMetricCache;
 
     /**
      * Instantiates a new Pods service
@@ -39,12 +43,15 @@ public class PodsService {
      * @param restTemplateService the rest template service
      * @param commonService       the common service
      * @param propertyService     the property service
+     * @param podsMetricCache     the pods metric cache
      */
     @Autowired
-    public PodsService(RestTemplateService restTemplateService, CommonService commonService, PropertyService propertyService) {
+    public PodsService(RestTemplateService restTemplateService, CommonService commonService, PropertyService propertyService,
+                       RefreshAheadCache<String, PodsMetricIndex> podsMetricCache) {
         this.restTemplateService = restTemplateService;
         this.commonService = commonService;
         this.propertyService = propertyService;
+        this.podsMetricCache = podsMetricCache;
     }
 
     /**
@@ -56,18 +63,16 @@ public class PodsService {
      * @param orderBy    the orderBy
      * @param order      the order
      * @param searchName the searchName
+     * @param continueToken the continueToken
      * @return the pods list
      */
-    public PodsList getPodsList(String namespace, int offset, int limit, String orderBy, String order, String searchName) {
+    public PodsList getPodsList(String namespace, int offset, int limit, String orderBy, String order, String searchName, String continueToken) {
 
-        HashMap responseMap = (HashMap) restTemplateService.send(Constants.TARGET_CP_MASTER_API,
-                propertyService.getCpMasterApiListPodsListUrl()
-                        .replace("{namespace}", namespace)
-                , HttpMethod.GET, null, Map.class);
-
-        PodsList podsList = commonService.setResultObject(responseMap, PodsList.class);
+        PodsList podsList = restTemplateService.sendForModel(Constants.TARGET_CP_MASTER_API,
+                commonService.setCursorParams(propertyService.getCpMasterApiListPodsListUrl()
+                        .replace("{namespace}", namespace), limit, orderBy, order, searchName, continueToken, false), PodsList.class);
         podsList = getPodsMetricList(namespace, podsList);
-        podsList = commonService.resourceListProcessing(podsList, offset, limit, orderBy, order, searchName, PodsList.class);
+        podsList = commonService.resourceListProcessing(podsList, offset, limit, orderBy, order, searchName, continueToken, false, PodsList.class);
 
         return (PodsList) commonService.setResultModel(podsList, Constants.RESULT_STATUS_SUCCESS);
     }
@@ -80,48 +85,38 @@ public class PodsService {
      * @return the pods list
      */
     public PodsList getPodsMetricList(String namespace, PodsList podsList) {
-        HashMap responseMap = (HashMap) restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API,
-                Constants.URI_METRIC_API_BASIC.replace("{namespace}", namespace)
-                , HttpMethod.GET, null, Map.class);
-        PodsMetric podsMetrics = commonService.setResultObject(responseMap, PodsMetric.class);
+        PodsMetricIndex podsMetricIndex;
+
+        try {
+            podsMetricIndex = podsMetricCache.get(namespace, this::loadPodsMetricIndex);
+        } catch (RuntimeException exception) {
+            // metrics-server 장애 시 사용량 없이 목록 반환(return the list without usage while metrics-server is unavailable)
+            LOGGER.warn("PODS METRIC UNAVAILABLE :: {}", CommonUtils.loggerReplace(exception.toString()));
+            return podsList;
+        }
 
-        getMergeMetric(podsList, podsMetrics);
+        podsMetricIndex.mergeInto(podsList.getItems());
 
         return podsList;
     }
 
     /**
-     * Pods Metric 정보 병합(Merge Pods Metric List)
+     * namespace Pod metrics 조회 후 색인(Load and index the pod metrics of a namespace)
      *
-     * @param podsList    the podsList
-     * @param podsMetrics the podsMetrics
+     * 실패 결과는 캐시하지 않도록 예외로 반환한다(failures are thrown so they are never cached)
+     *
+     * @param namespace the namespace
+     * @return the pods metric index
      */
-    public void getMergeMetric(PodsList podsList, PodsMetric podsMetrics) {
-        Pods pods = null;
-        PodsUsage podsUsage = null;
-        CommonContainer container = null;
-        Containers containerUsage = null;
-        HashMap hm = null;
-        for (int i = 0; i < podsList.getItems().size(); i++) {
-            pods = podsList.getItems().get(i);
-            for (int t = 0; t < podsMetrics.getItems().size(); t++) {
-                podsUsage = podsMetrics.getItems().get(t);
-                if (pods.getMetadata().getName().equals(podsUsage.getMetadata().getName())) {
-                    for (int u = 0; u < pods.getSpec().getContainers().size(); u++) {
-                        container = pods.getSpec().getContainers().get(u);
-                        for (int y = 0; y < podsUsage.getContainers().size(); y++) {
-                            containerUsage = podsUsage.getContainers().get(y);
-                            if (container.getName().equals(containerUsage.getName())) {
-                                hm = new HashMap();
-                                hm.put("cpu", containerUsage.getUsage().getCpu());
-                                hm.put("memory", containerUsage.getUsage().getMemory());
-                                container.getResources().setUsage(hm);
-                            }
-                        }
-                    }
-                }
-            }
+    private PodsMetricIndex loadPodsMetricIndex(String namespace) {
+        Object response = restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API,
+                Constants.URI_METRIC_API_BASIC.replace("{namespace}", namespace), PodsMetric.class);
+
+        if (!(response instanceof PodsMetric)) {
+            throw new IllegalStateException(response instanceof ResultStatus ? ((ResultStatus) response).getResultMessage() : namespace);
         }
+
+        return PodsMetricIndex.of((PodsMetric) response);
     }
 
     /**
@@ -134,23 +129,20 @@ public class PodsService {
      * @param orderBy    the orderBy
      * @param order      the order
      * @param searchName the searchName
+     * @param continueToken the continueToken
      * @return the pods list
      */
-    public Object getPodsListAdmin(String namespace, int offset, int limit, String orderBy, String order, String searchName) {
-        HashMap responseMap = null;
-
-        Object response = restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API,
-                propertyService.getCpMasterApiListPodsListUrl()
-                        .replace("{namespace}", namespace), HttpMethod.GET, null, Map.class);
+    public Object getPodsListAdmin(String namespace, int offset, int limit, String orderBy, String order, String searchName, String continueToken) {
+        Object response = restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API,
+                commonService.setCursorParams(propertyService.getCpMasterApiListPodsListUrl()
+                        .replace("{namespace}", namespace), limit, orderBy, order, searchName, continueToken, false), PodsListAdmin.class);
 
-        try {
-            responseMap = (HashMap) response;
-        } catch (Exception e) {
+        if (!(response instanceof PodsListAdmin)) {
             return response;
         }
 
-        PodsListAdmin podsListAdmin = commonService.setResultObject(responseMap, PodsListAdmin.class);
-        podsListAdmin = commonService.resourceListProcessing(podsListAdmin, offset, limit, orderBy, order, searchName, PodsListAdmin.class);
+        PodsListAdmin podsListAdmin = (PodsListAdmin) response;
+        podsListAdmin = commonService.resourceListProcessing(podsListAdmin, offset, limit, orderBy, order, searchName, continueToken, false, PodsListAdmin.class);
         podsListAdmin = restartCountProcessing(podsListAdmin);
 
 
@@ -173,10 +165,8 @@ public class PodsService {
      */
     PodsList getPodListWithLabelSelector(String namespace, String selector, String type, String ownerReferencesUid, int offset, int limit, String orderBy, String order, String searchName) {
         String requestSelector = "?labelSelector=" + selector;
-        HashMap resultMap = (HashMap) restTemplateService.send(Constants.TARGET_CP_MASTER_API,
-                propertyService.getCpMasterApiListPodsListUrl().replace("{namespace}", namespace) + requestSelector, HttpMethod.GET, null, Map.class);
-
-        PodsList podsList = commonService.setResultObject(resultMap, PodsList.class);
+        PodsList podsList = restTemplateService.sendForModel(Constants.TARGET_CP_MASTER_API,
+                propertyService.getCpMasterApiListPodsListUrl().replace("{namespace}", namespace) + requestSelector, PodsList.class);
         podsList = getPodsMetricList(namespace, podsList);
 
         // selector by replicaSets
@@ -207,20 +197,16 @@ public class PodsService {
      * @return the pods list
      */
     public Object getPodListWithLabelSelectorAdmin(String namespace, String selector, String type, String ownerReferencesUid, int offset, int limit, String orderBy, String order, String searchName) {
-        HashMap responseMap = null;
-
         String requestSelector = "?labelSelector=" + selector;
 
-        Object response = restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API,
-                propertyService.getCpMasterApiListPodsListUrl().replace("{namespace}", namespace) + requestSelector, HttpMethod.GET, null, Map.class);
+        Object response = restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API,
+                propertyService.getCpMasterApiListPodsListUrl().replace("{namespace}", namespace) + requestSelector, PodsListAdmin.class);
 
-        try {
-            responseMap = (HashMap) response;
-        } catch (Exception e) {
+        if (!(response instanceof PodsListAdmin)) {
             return response;
         }
 
-        PodsListAdmin podsListAdmin = commonService.setResultObject(responseMap, PodsListAdmin.class);
+        PodsListAdmin podsListAdmin = (PodsListAdmin) response;
 
         if (type.equals(Constants.REPLICASETS_FOR_SELECTOR)) {
             podsListAdmin = podsFIlterWithOwnerReferences(podsListAdmin, ownerReferencesUid);
@@ -247,10 +233,7 @@ public class PodsService {
         String requestURL = propertyService.getCpMasterApiListPodsListUrl().replace("{namespace}", namespace)
                 + "?fieldSelector=spec.nodeName=" + nodeName;
 
-        HashMap responseMap = (HashMap) restTemplateService.send(Constants.TARGET_CP_MASTER_API, requestURL,
-                HttpMethod.GET, null, Map.class);
-
-        PodsList podsList = commonService.setResultObject(responseMap, PodsList.class);
+        PodsList podsList = restTemplateService.sendForModel(Constants.TARGET_CP_MASTER_API, requestURL, PodsList.class);
         podsList = getPodsMetricList(namespace, podsList);
         podsList = commonService.resourceListProcessing(podsList, offset, limit, orderBy, order, searchName, PodsList.class);
 
@@ -272,7 +255,6 @@ public class PodsService {
      * @return the pods list
      */
     public Object getPodsListByNodeAdmin(String namespace, String nodeName, int offset, int limit, String orderBy, String order, String searchName) {
-        HashMap responseMap = null;
         String requestURL = null;
 
         if (namespace.toLowerCase().equals(Constants.ALL_NAMESPACES)) {
@@ -285,15 +267,13 @@ public class PodsService {
                     + commonService.generateFieldSelectorForPodsByNode(Constants.PARAM_QUERY_FIRST, nodeName); // fieldSelector for node name filter
         }
 
-        Object response = restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API, requestURL, HttpMethod.GET, null, Map.class);
+        Object response = restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, requestURL, PodsListAdmin.class);
 
-        try {
-            responseMap = (HashMap) response;
-        } catch (Exception e) {
+        if (!(response instanceof PodsListAdmin)) {
             return response;
         }
 
-        PodsListAdmin podsListAdmin = commonService.setResultObject(responseMap, PodsListAdmin.class);
+        PodsListAdmin podsListAdmin = (PodsListAdmin) response;
         podsListAdmin = commonService.resourceListProcessing(podsListAdmin, offset, limit, orderBy, order, searchName, PodsListAdmin.class);
         podsListAdmin = restartCountProcessing(podsListAdmin);
 
@@ -468,23 +448,19 @@ public class PodsService {
      * @param orderBy    the orderBy
      * @param order      the order
      * @param searchName the searchName
+     * @param continueToken the continueToken
      * @return the pods all list
      */
-    public Object getPodsListAllNamespacesAdmin(int offset, int limit, String orderBy, String order, String searchName) {
-        HashMap responseMap;
-
-        Object response = restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API,
-                propertyService.getCpMasterApiListPodsListAllNamespacesUrl() + commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_NAMESPACE)
-                , HttpMethod.GET, null, Map.class);
+    public Object getPodsListAllNamespacesAdmin(int offset, int limit, String orderBy, String order, String searchName, String continueToken) {
+        Object response = restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API,
+                commonService.setCursorParams(propertyService.getCpMasterApiListPodsListAllNamespacesUrl() + commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_NAMESPACE), limit, orderBy, order, searchName, continueToken, true), PodsListAdmin.class);
 
-        try {
-            responseMap = (HashMap) response;
-        } catch (Exception e) {
+        if (!(response instanceof PodsListAdmin)) {
             return response;
         }
 
-        PodsListAdmin podsListAdminList = commonService.setResultObject(responseMap, PodsListAdmin.class);
-        podsListAdminList = commonService.resourceListProcessing(podsListAdminList, offset, limit, orderBy, order, searchName, PodsListAdmin.class);
+        PodsListAdmin podsListAdminList = (PodsListAdmin) response;
+        podsListAdminList = commonService.resourceListProcessing(podsListAdminList, offset, limit, orderBy, order, searchName, continueToken, true, PodsListAdmin.class);
         podsListAdminList = restartCountProcessing(podsListAdminList);
 
 
@@ -2,6 +2,7 @@ package org.paasta.container.platform.api.workloads.pods;
 
 import lombok.Data;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 import java.util.List;
 
@@ -13,7 +14,7 @@ import java.util.List;
  * @since 2020.11.20
  */
 @Data
-public class PodsUsage {
+public class PodsUsage implements CommonResultModel {
     private String resultCode;
     private String resultMessage;
     private Integer httpStatusCode;
@@ -9,8 +9,10 @@ import org.paasta.container.platform.api.common.model.ResultStatus;
 import org.paasta.container.platform.api.common.util.ResourceExecuteManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
+import org.paasta.container.platform.api.workloads.pods.PodsLogService;
 import springfox.documentation.annotations.ApiIgnore;
 
+import javax.servlet.http.HttpServletResponse;
 import java.util.HashMap;
 
 /**
@@ -26,15 +28,18 @@ import java.util.HashMap;
 public class ReplicaSetsController {
 
     private final ReplicaSetsService replicaSetsService;
+    private final PodsLogService podsLogService;
 
     /**
      * Instantiates a new ReplicaSets controller
      *
      * @param replicaSetsService the replicaSets service
+     * @param podsLogService     the pods log service
      */
     @Autowired
-    public ReplicaSetsController(ReplicaSetsService replicaSetsService) {
+    public ReplicaSetsController(ReplicaSetsService replicaSetsService, PodsLogService podsLogService) {
         this.replicaSetsService = replicaSetsService;
+        this.podsLogService = podsLogService;
     }
 
     /**
@@ -47,6 +52,7 @@ public class ReplicaSetsController {
      * @param orderBy    the orderBy
      * @param order      the order
      * @param searchName the searchName
+     * @param continueToken the continueToken
      * @param isAdmin    the isAdmin
      * @return the deployments list
      */
@@ -58,7 +64,8 @@ public class ReplicaSetsController {
             @ApiImplicitParam(name = "limit", value = "한 페이지에 가져올 리소스 최대 수", required = false, dataType = "int", paramType = "query"),
             @ApiImplicitParam(name = "orderBy", value = "정렬 기준, 기본값 creationTime(생성날짜)", required = false, dataType = "string", paramType = "query"),
             @ApiImplicitParam(name = "order", value = "정렬 순서, 기본값 desc(내림차순)", required = false, dataType = "string", paramType = "query"),
-            @ApiImplicitParam(name = "searchName", value = "리소스 명 검색", required = false, dataType = "string", paramType = "query")
+            @ApiImplicitParam(name = "searchName", value = "리소스 명 검색", required = false, dataType = "string", paramType = "query"),
+            @ApiImplicitParam(name = "continue", value = "다음 목록 cursor, 빈 값이면 첫 page (cursor 방식 paging, limit 필수)", required = false, dataType = "string", paramType = "query")
     })
     @GetMapping
     public Object getReplicaSetsList(@PathVariable(value = "cluster") String cluster,
@@ -68,20 +75,21 @@ public class ReplicaSetsController {
                                      @RequestParam(required = false, defaultValue = "creationTime") String orderBy,
                                      @RequestParam(required = false, defaultValue = "") String order,
                                      @RequestParam(required = false, defaultValue = "") String searchName,
+                                     @RequestParam(required = false, name = "continue") String continueToken,
                                      @ApiIgnore @RequestParam(required = false, name = "isAdmin") boolean isAdmin) {
 
         if (namespace.toLowerCase().equals(Constants.ALL_NAMESPACES)) {
             if (isAdmin) {
-                return replicaSetsService.getReplicaSetsListAllNamespacesAdmin(offset, limit, orderBy, order, searchName);
+                return replicaSetsService.getReplicaSetsListAllNamespacesAdmin(offset, limit, orderBy, order, searchName, continueToken);
             } else {
                 return Constants.FORBIDDEN_ACCESS_RESULT_STATUS;
             }
         }
 
         if (isAdmin) {
-            return replicaSetsService.getReplicaSetsListAdmin(namespace, offset, limit, orderBy, order, searchName);
+            return replicaSetsService.getReplicaSetsListAdmin(namespace, offset, limit, orderBy, order, searchName, continueToken);
         }
-        return replicaSetsService.getReplicaSetsList(namespace, offset, limit, orderBy, order, searchName);
+        return replicaSetsService.getReplicaSetsList(namespace, offset, limit, orderBy, order, searchName, continueToken);
     }
 
 
@@ -110,6 +118,50 @@ public class ReplicaSetsController {
         return replicaSetsService.getReplicaSets(namespace, resourceName);
     }
 
+    /**
+     * ReplicaSets 로그 조회, 소속 Pod 로그를 시간 순으로 병합(Get ReplicaSets log, the logs of its pods merged in time order)
+     *
+     * 각 줄 앞에 "[pod/container] " 를 붙인 text/plain chunked 응답으로 전달한다.
+     * (Relayed as a chunked text/plain response with "[pod/container] " before each line.)
+     *
+     * @param cluster      the cluster
+     * @param namespace    the namespace
+     * @param resourceName the resource name
+     * @param container    the container
+     * @param follow       the follow
+     * @param tailLines    the tailLines
+     * @param sinceSeconds the sinceSeconds
+     * @param timestamps   the timestamps
+     * @param isAdmin      the isAdmin
+     * @param response     the response
+     * @return null when the log was written, otherwise the result status
+     */
+    @ApiOperation(value = "ReplicaSets 로그 조회(Get ReplicaSets log)", nickname = "getReplicaSetsLog")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "cluster", value = "클러스터 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "namespace", value = "네임스페이스 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "resourceName", value = "리소스 명", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = "container", value = "컨테이너 명, 생략하면 모든 컨테이너", required = false, dataType = "string", paramType = "query"),
+            @ApiImplicitParam(name = "follow", value = "로그 계속 수신 여부, 기본값 false", required = false, dataType = "boolean", paramType = "query"),
+            @ApiImplicitParam(name = "tailLines", value = "컨테이너별 마지막부터 가져올 줄 수", required = false, dataType = "int", paramType = "query"),
+            @ApiImplicitParam(name = "sinceSeconds", value = "현재로부터 가져올 기간(초)", required = false, dataType = "int", paramType = "query"),
+            @ApiImplicitParam(name = "timestamps", value = "줄마다 timestamp 표시 여부, 기본값 false", required = false, dataType = "boolean", paramType = "query")
+    })
+    @GetMapping(value = "/{resourceName:.+}/logs")
+    public Object getReplicaSetsLog(@PathVariable(value = "cluster") String cluster,
+                                    @PathVariable(value = "namespace") String namespace,
+                                    @PathVariable(value = "resourceName") String resourceName,
+                                    @RequestParam(required = false) String container,
+                                    @RequestParam(required = false, defaultValue = "false") boolean follow,
+                                    @RequestParam(required = false) Integer tailLines,
+                                    @RequestParam(required = false) Integer sinceSeconds,
+                                    @RequestParam(required = false, defaultValue = "false") boolean timestamps,
+                                    @ApiIgnore @RequestParam(required = false, name = "isAdmin") boolean isAdmin,
+                                    @ApiIgnore HttpServletResponse response) {
+
+        return podsLogService.streamReplicaSetsLog(namespace, resourceName, container, follow, tailLines, sinceSeconds, timestamps, isAdmin, response);
+    }
+
     /**
      * ReplicaSets YAML 조회(Get ReplicaSets yaml)
      *
@@ -2,6 +2,7 @@ package org.paasta.container.platform.api.workloads.replicaSets;
 
 import lombok.Data;
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 
 import java.util.List;
 import java.util.Map;
@@ -14,7 +15,7 @@ import java.util.Map;
  * @since 2020.09.10
  */
 @Data
-public class ReplicaSetsList {
+public class ReplicaSetsList implements CommonResultModel {
 
     private String resultCode;
     private String resultMessage;
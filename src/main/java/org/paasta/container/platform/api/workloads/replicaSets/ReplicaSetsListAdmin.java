@@ -9,6 +9,7 @@ import lombok.Data;
 
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
 import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonResultModel;
 import org.paasta.container.platform.api.common.model.CommonSpec;
 import org.paasta.container.platform.api.common.model.CommonStatus;
 
@@ -20,7 +21,7 @@ import org.paasta.container.platform.api.common.model.CommonStatus;
  * @since 2020.09.10
  */
 @Data
-public class ReplicaSetsListAdmin {
+public class ReplicaSetsListAdmin implements CommonResultModel {
 
     private String resultCode;
     private String resultMessage;
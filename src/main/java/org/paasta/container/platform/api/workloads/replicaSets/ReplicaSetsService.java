@@ -3,6 +3,7 @@ package org.paasta.container.platform.api.workloads.replicaSets;
 import org.paasta.container.platform.api.common.*;
 import org.paasta.container.platform.api.common.model.CommonResourcesYaml;
 import org.paasta.container.platform.api.common.model.ResultStatus;
+import org.paasta.container.platform.api.common.util.KeywordMatcher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
@@ -50,17 +51,18 @@ public class ReplicaSetsService {
      * @param orderBy    the orderBy
      * @param order      the order
      * @param searchName the searchName
+     * @param continueToken the continueToken
      * @return the replicaSets list
      */
-    public ReplicaSetsList getReplicaSetsList(String namespace, int offset, int limit, String orderBy, String order, String searchName) {
+    public ReplicaSetsList getReplicaSetsList(String namespace, int offset, int limit, String orderBy, String order, String searchName, String continueToken) {
 
         HashMap resultMap = (HashMap) restTemplateService.send(Constants.TARGET_CP_MASTER_API,
-                propertyService.getCpMasterApiListReplicaSetsListUrl()
-                        .replace("{namespace}", namespace)
+                commonService.setCursorParams(propertyService.getCpMasterApiListReplicaSetsListUrl()
+                        .replace("{namespace}", namespace), limit, orderBy, order, searchName, continueToken, false)
                 , HttpMethod.GET, null, Map.class);
 
         ReplicaSetsList replicaSetsList = commonService.setResultObject(resultMap, ReplicaSetsList.class);
-        replicaSetsList = commonService.resourceListProcessing(replicaSetsList, offset, limit, orderBy, order, searchName, ReplicaSetsList.class);
+        replicaSetsList = commonService.resourceListProcessing(replicaSetsList, offset, limit, orderBy, order, searchName, continueToken, false, ReplicaSetsList.class);
 
         return (ReplicaSetsList) commonService.setResultModel(replicaSetsList, Constants.RESULT_STATUS_SUCCESS);
     }
@@ -188,8 +190,9 @@ public class ReplicaSetsService {
 
             if (ownerReferencesName != null && !ownerReferencesName.trim().isEmpty()) {
                 // selector by deployments Name
+                KeywordMatcher ownerReferencesNameMatcher = KeywordMatcher.of(ownerReferencesName, KeywordMatcher.Mode.CONTAINS, false);
                 List<ReplicaSets> replicaSetsItemByName;
-                replicaSetsItemByName = replicaSetsList.getItems().stream().filter(x -> x.getMetadata().getName().matches("(?i).*" + ownerReferencesName + ".*")).collect(Collectors.toList());
+                replicaSetsItemByName = replicaSetsList.getItems().stream().filter(x -> ownerReferencesNameMatcher.matches(x.getMetadata().getName())).collect(Collectors.toList());
                 replicaSetsList.setItems(replicaSetsItemByName);
             }
 
@@ -248,14 +251,15 @@ public class ReplicaSetsService {
      * @param orderBy    the orderBy
      * @param order      the order
      * @param searchName the searchName
+     * @param continueToken the continueToken
      * @return the replicaSets list
      */
-    public Object getReplicaSetsListAdmin(String namespace, int offset, int limit, String orderBy, String order, String searchName) {
+    public Object getReplicaSetsListAdmin(String namespace, int offset, int limit, String orderBy, String order, String searchName, String continueToken) {
         HashMap responseMap = null;
 
         Object response = restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API,
-                propertyService.getCpMasterApiListReplicaSetsListUrl()
-                        .replace("{namespace}", namespace), HttpMethod.GET, null, Map.class);
+                commonService.setCursorParams(propertyService.getCpMasterApiListReplicaSetsListUrl()
+                        .replace("{namespace}", namespace), limit, orderBy, order, searchName, continueToken, false), HttpMethod.GET, null, Map.class);
 
         try {
             responseMap = (HashMap) response;
@@ -264,7 +268,7 @@ public class ReplicaSetsService {
         }
 
         ReplicaSetsListAdmin replicaSetsListAdmin = commonService.setResultObject(responseMap, ReplicaSetsListAdmin.class);
-        replicaSetsListAdmin = commonService.resourceListProcessing(replicaSetsListAdmin, offset, limit, orderBy, order, searchName, ReplicaSetsListAdmin.class);
+        replicaSetsListAdmin = commonService.resourceListProcessing(replicaSetsListAdmin, offset, limit, orderBy, order, searchName, continueToken, false, ReplicaSetsListAdmin.class);
 
         return commonService.setResultModel(replicaSetsListAdmin, Constants.RESULT_STATUS_SUCCESS);
     }
@@ -338,13 +342,14 @@ public class ReplicaSetsService {
      * @param orderBy    the orderBy
      * @param order      the order
      * @param searchName the searchName
+     * @param continueToken the continueToken
      * @return the replicaSets all list
      */
-    public Object getReplicaSetsListAllNamespacesAdmin(int offset, int limit, String orderBy, String order, String searchName) {
+    public Object getReplicaSetsListAllNamespacesAdmin(int offset, int limit, String orderBy, String order, String searchName, String continueToken) {
         HashMap responseMap;
 
         Object response = restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API,
-                propertyService.getCpMasterApiListReplicaSetsListAllNamespacesUrl() + commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_NAMESPACE)
+                commonService.setCursorParams(propertyService.getCpMasterApiListReplicaSetsListAllNamespacesUrl() + commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_NAMESPACE), limit, orderBy, order, searchName, continueToken, true)
                 , HttpMethod.GET, null, Map.class);
 
         try {
@@ -354,7 +359,7 @@ public class ReplicaSetsService {
         }
 
         ReplicaSetsListAdmin replicaSetsListAdmin = commonService.setResultObject(responseMap, ReplicaSetsListAdmin.class);
-        replicaSetsListAdmin = commonService.resourceListProcessing(replicaSetsListAdmin, offset, limit, orderBy, order, searchName, ReplicaSetsListAdmin.class);
+        replicaSetsListAdmin = commonService.resourceListProcessing(replicaSetsListAdmin, offset, limit, orderBy, order, searchName, continueToken, true, ReplicaSetsListAdmin.class);
 
         return commonService.setResultModel(replicaSetsListAdmin, Constants.RESULT_STATUS_SUCCESS);
     }
@@ -31,6 +31,8 @@ import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @RunWith(SpringRunner.class)
@@ -253,10 +255,8 @@ public class NamespacesServiceTest {
 
         //when
         when(propertyService.getCpMasterApiListNamespacesListUrl()).thenReturn("/api/v1/namespaces");
-        when(restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API, "/api/v1/namespaces"+
-                commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_CLUSTER), HttpMethod.GET, null, Map.class)).thenReturn(gResultAdminMap);
-
-        when(commonService.setResultObject(gResultAdminMap, NamespacesListAdmin.class)).thenReturn(gResultListAdminModel);
+        when(restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, "/api/v1/namespaces"+
+                commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_CLUSTER), NamespacesListAdmin.class)).thenReturn(gResultListAdminModel);
         when(commonService.resourceListProcessing(gResultListAdminModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, NamespacesListAdmin.class)).thenReturn(gResultListAdminModel);
         when(commonService.setResultModel(gResultListAdminModel, Constants.RESULT_STATUS_SUCCESS)).thenReturn(gFinalResultListAdminModel);
 
@@ -579,7 +579,9 @@ public class NamespacesServiceTest {
         NamespacesListAdmin namespacesListAdmin = new NamespacesListAdmin();
         namespacesListAdmin.setItems(items);
 
-        when(namespacesService.getNamespacesListAdmin(OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME)).thenReturn(namespacesListAdmin);
+        when(restTemplateService.sendAdminForModel(eq(Constants.TARGET_CP_MASTER_API), anyString(), eq(NamespacesListAdmin.class))).thenReturn(namespacesListAdmin);
+        when(commonService.resourceListProcessing(namespacesListAdmin, 0, 0, "name", "asc", "", NamespacesListAdmin.class)).thenReturn(namespacesListAdmin);
+        when(commonService.setResultModel(namespacesListAdmin, Constants.RESULT_STATUS_SUCCESS)).thenReturn(namespacesListAdmin);
         List<NamespacesListAdminItem> namespaceItem = namespacesListAdmin.getItems();
 
         List<String> returnNamespaceList = new ArrayList<>();
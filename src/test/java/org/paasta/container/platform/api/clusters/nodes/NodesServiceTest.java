@@ -1,26 +1,38 @@
 package org.paasta.container.platform.api.clusters.nodes;
 
+import com.google.gson.Gson;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.paasta.container.platform.api.common.CommonService;
 import org.paasta.container.platform.api.common.Constants;
 import org.paasta.container.platform.api.common.PropertyService;
 import org.paasta.container.platform.api.common.RestTemplateService;
+import org.paasta.container.platform.api.common.cache.RefreshAheadCache;
 import org.paasta.container.platform.api.common.model.*;
+import org.paasta.container.platform.api.metrics.NodesMetric;
+import org.paasta.container.platform.api.metrics.NodesUsage;
+import org.paasta.container.platform.api.workloads.pods.ContainerUsage;
 import org.springframework.http.HttpMethod;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(SpringRunner.class)
@@ -75,11 +87,13 @@ public class NodesServiceTest {
     @Mock
     PropertyService propertyService;
 
-    @InjectMocks
     NodesService nodesService;
 
     @Before
     public void setUp() throws Exception {
+        nodesService = new NodesService(restTemplateService, commonService, propertyService, new Gson(),
+                new RefreshAheadCache<>("nodesSummary", 1, 60, 0, Runnable::run), new RefreshAheadCache<>("nodesReady", 1, 10, 0, Runnable::run));
+
         gResultMap = new HashMap();
 
         gResultStatusModel = new ResultStatus();
@@ -239,4 +253,98 @@ public class NodesServiceTest {
         assertEquals(Constants.RESULT_STATUS_SUCCESS, result.getResultCode());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void getNodesReadyAdmin_OneNodeListSharedAcrossCalls() {
+        String nodesJson = "{\"kind\":\"NodeList\",\"items\":["
+                + "{\"metadata\":{\"name\":\"worker-1\"},\"status\":{\"conditions\":[{\"type\":\"Ready\",\"status\":\"True\"}]}},"
+                + "{\"metadata\":{\"name\":\"worker-2\"},\"status\":{\"conditions\":[{\"type\":\"Ready\",\"status\":\"Unknown\"}]}},"
+                + "{\"metadata\":{\"name\":\"worker-3\"},\"status\":{}}]}";
+
+        when(propertyService.getCpMasterApiListNodesListUrl()).thenReturn("/api/v1/nodes");
+        when(restTemplateService.sendAdminForReader(eq(Constants.TARGET_CP_MASTER_API), eq("/api/v1/nodes"), any()))
+                .thenAnswer(invocation -> invocation.<Function<Reader, Object>>getArgument(2).apply(new StringReader(nodesJson)));
+
+        Map<String, String> result = nodesService.getNodesReadyAdmin();
+        nodesService.getNodesReadyAdmin();
+
+        assertEquals(2, result.size());
+        assertEquals("True", result.get("worker-1"));
+        assertEquals("Unknown", result.get("worker-2"));
+        verify(restTemplateService, times(1)).sendAdminForReader(eq(Constants.TARGET_CP_MASTER_API), eq("/api/v1/nodes"), any());
+    }
+
+    @Test
+    public void getNodesSummaryAdmin_OnePassOverPods() {
+        String nodesJson = "{\"kind\":\"NodeList\",\"items\":["
+                + "{\"metadata\":{\"name\":\"worker-1\"},\"status\":{\"allocatable\":{\"cpu\":\"4\",\"memory\":\"8Gi\",\"pods\":\"110\"},"
+                + "\"conditions\":[{\"type\":\"MemoryPressure\",\"status\":\"False\"},{\"type\":\"Ready\",\"status\":\"True\"}]}},"
+                + "{\"metadata\":{\"name\":\"worker-2\"},\"status\":{\"allocatable\":{\"cpu\":\"2\",\"memory\":\"4Ti\",\"pods\":\"110\"}}}]}";
+        String podsJson = "{\"kind\":\"PodList\",\"metadata\":{\"resourceVersion\":\"1\"},\"items\":["
+                + pod("worker-1", "Running", "{\"requests\":{\"cpu\":\"500m\",\"memory\":\"1Gi\"},\"limits\":{\"cpu\":\"1\",\"memory\":\"2Gi\"}}",
+                "{\"requests\":{\"cpu\":\"1500m\"}}") + ","
+                + pod("worker-1", "Running", "{\"requests\":{\"cpu\":\"100m\",\"memory\":\"512Mi\"}}", null) + ","
+                + pod("worker-1", "Succeeded", "{\"requests\":{\"cpu\":\"2\"}}", null) + ","
+                + pod("worker-3", "Running", "{\"requests\":{\"cpu\":\"2\"}}", null) + "]}";
+
+        when(propertyService.getCpMasterApiListNodesListUrl()).thenReturn("/api/v1/nodes");
+        when(propertyService.getCpMasterApiListPodsListAllNamespacesUrl()).thenReturn("/api/v1/pods");
+        when(restTemplateService.sendAdminForReader(eq(Constants.TARGET_CP_MASTER_API), eq("/api/v1/nodes"), any()))
+                .thenAnswer(invocation -> invocation.<Function<Reader, Object>>getArgument(2).apply(new StringReader(nodesJson)));
+        when(restTemplateService.sendAdminForReader(eq(Constants.TARGET_CP_MASTER_API), eq("/api/v1/pods"), any()))
+                .thenAnswer(invocation -> invocation.<Function<Reader, Object>>getArgument(2).apply(new StringReader(podsJson)));
+        when(restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, Constants.URI_METRIC_API_NODES, NodesMetric.class))
+                .thenReturn(nodesMetric("worker-1", "1", "2Gi"));
+        when(commonService.setResultModel(any(NodesSummaryList.class), eq(Constants.RESULT_STATUS_SUCCESS)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        NodesSummaryList result = (NodesSummaryList) nodesService.getNodesSummaryAdmin();
+        nodesService.getNodesSummaryAdmin();
+
+        assertEquals(2, result.getItems().size());
+        NodesSummary worker1 = result.getItems().get(0);
+        assertEquals("worker-1", worker1.getName());
+        assertEquals("True", worker1.getReady());
+        assertEquals(2, worker1.getPodCount());
+        assertEquals(110, worker1.getPodCapacity());
+        // init container 1500m > container 500m
+        assertEquals(1600, worker1.getCpuRequests());
+        assertEquals(1000, worker1.getCpuLimits());
+        assertThat(worker1.getCpuRequestsPercent()).isEqualTo(40);
+        assertThat(worker1.getCpuUsage()).isEqualTo(1000L);
+        assertThat(worker1.getCpuUsagePercent()).isEqualTo(25);
+        assertEquals(1536L * 1024 * 1024, worker1.getMemoryRequests());
+        assertThat(worker1.getMemoryUsagePercent()).isEqualTo(25);
+
+        NodesSummary worker2 = result.getItems().get(1);
+        assertEquals(0, worker2.getPodCount());
+        assertNull(worker2.getReady());
+        assertNull(worker2.getCpuUsage());
+        assertThat(worker2.getCpuRequestsPercent()).isEqualTo(0);
+        // 2 TiB 를 넘는 allocatable(allocatable above 2 TiB)
+        assertEquals(4L * 1024 * 1024 * 1024 * 1024, worker2.getMemoryAllocatable());
+
+        verify(restTemplateService, times(1)).sendAdminForReader(eq(Constants.TARGET_CP_MASTER_API), eq("/api/v1/pods"), any());
+    }
+
+    private static String pod(String nodeName, String phase, String resources, String initResources) {
+        return "{\"metadata\":{\"name\":\"pod\",\"namespace\":\"ns\",\"labels\":{\"app\":\"nginx\"}},"
+                + "\"spec\":{\"nodeName\":\"" + nodeName + "\",\"containers\":[{\"name\":\"c\",\"resources\":" + resources + "}]"
+                + (initResources == null ? "" : ",\"initContainers\":[{\"name\":\"i\",\"resources\":" + initResources + "}]")
+                + "},\"status\":{\"phase\":\"" + phase + "\"}}";
+    }
+
+    private static NodesMetric nodesMetric(String nodeName, String cpu, String memory) {
+        CommonMetaData metadata = new CommonMetaData();
+        metadata.setName(nodeName);
+        ContainerUsage usage = new ContainerUsage();
+        usage.setCpu(cpu);
+        usage.setMemory(memory);
+        NodesUsage nodesUsage = new NodesUsage();
+        nodesUsage.setMetadata(metadata);
+        nodesUsage.setUsage(usage);
+
+        NodesMetric nodesMetric = new NodesMetric();
+        nodesMetric.setItems(new ArrayList<>(Collections.singletonList(nodesUsage)));
+        return nodesMetric;
+    }
+}
@@ -0,0 +1,335 @@
+package org.paasta.container.platform.api.common;
+
+import com.google.gson.Gson;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonStatusCode;
+import org.paasta.container.platform.api.common.model.ResultStatus;
+import org.paasta.container.platform.api.common.util.ListCursor;
+import org.paasta.container.platform.api.workloads.pods.Pods;
+import org.paasta.container.platform.api.workloads.pods.PodsList;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class CommonServiceTest {
+
+    @Mock
+    PropertyService propertyService;
+
+    CommonService commonService;
+
+    List<Pods> pods;
+
+    @Before
+    public void setUp() {
+        commonService = new CommonService(new Gson(), propertyService);
+
+        pods = new ArrayList<>();
+        pods.add(createPods("nginx-b", "ns-b", "2020-10-02T00:00:00Z"));
+        pods.add(createPods("Nginx-a", "ns-a", "2020-10-03T00:00:00Z"));
+        pods.add(createPods("redis-c", "ns-a", "2020-10-01T00:00:00Z"));
+        pods.add(createPods("nginx-d", "ns-c", "2020-10-03T00:00:00Z"));
+    }
+
+    @Test
+    public void setResultModel_Success() {
+        Pods resultModel = (Pods) commonService.setResultModel(new Pods(), Constants.RESULT_STATUS_SUCCESS);
+
+        assertEquals(Constants.RESULT_STATUS_SUCCESS, resultModel.getResultCode());
+        assertEquals(CommonStatusCode.OK.getMsg(), resultModel.getResultMessage());
+        assertEquals(Integer.valueOf(CommonStatusCode.OK.getCode()), resultModel.getHttpStatusCode());
+        assertEquals(CommonStatusCode.OK.getMsg(), resultModel.getDetailMessage());
+    }
+
+    @Test
+    public void setResultModel_Fail_KeepFailResult() {
+        Pods fail = new Pods();
+        fail.setResultCode(Constants.RESULT_STATUS_FAIL);
+        fail.setResultMessage("failed");
+
+        Pods resultModel = (Pods) commonService.setResultModel(fail, Constants.RESULT_STATUS_SUCCESS);
+
+        assertEquals(Constants.RESULT_STATUS_FAIL, resultModel.getResultCode());
+        assertEquals("failed", resultModel.getResultMessage());
+        assertNull(resultModel.getHttpStatusCode());
+    }
+
+    @Test
+    public void setResultModel_NotResultModel_ReturnAsIs() {
+        Map<String, Object> map = new HashMap<>();
+
+        assertSame(map, commonService.setResultModel(map, Constants.RESULT_STATUS_SUCCESS));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void setResultModelWithNextUrl_ResultStatus() {
+        ResultStatus resultStatus = (ResultStatus) commonService.setResultModelWithNextUrl(new ResultStatus(), Constants.RESULT_STATUS_SUCCESS, "/next");
+        assertEquals(Constants.RESULT_STATUS_SUCCESS, resultStatus.getResultCode());
+        assertEquals("/next", resultStatus.getNextActionUrl());
+
+        ResultStatus fail = new ResultStatus(Constants.RESULT_STATUS_FAIL, "failed", 500, "failed");
+        fail = (ResultStatus) commonService.setResultModelWithNextUrl(fail, Constants.RESULT_STATUS_SUCCESS, null);
+        assertEquals(Constants.RESULT_STATUS_FAIL, fail.getResultCode());
+        assertEquals(Constants.NULL_REPLACE_TEXT, fail.getNextActionUrl());
+    }
+
+    @Test
+    public void sortingListByCondition_Name() {
+        assertEquals(Arrays.asList("Nginx-a", "nginx-b", "nginx-d", "redis-c"), names(commonService.sortingListByCondition(pods, "name", "")));
+        assertEquals(Arrays.asList("redis-c", "nginx-d", "nginx-b", "Nginx-a"), names(commonService.sortingListByCondition(pods, "name", "desc")));
+    }
+
+    @Test
+    public void sortingListByCondition_Namespace_StableForEqualKeys() {
+        assertEquals(Arrays.asList("Nginx-a", "redis-c", "nginx-b", "nginx-d"), names(commonService.sortingListByCondition(pods, "namespace", "asc")));
+    }
+
+    @Test
+    public void sortingListByCondition_CreationTimestamp_DefaultDesc() {
+        assertEquals(Arrays.asList("Nginx-a", "nginx-d", "nginx-b", "redis-c"), names(commonService.sortingListByCondition(pods, "creationTime", "")));
+        assertEquals(Arrays.asList("redis-c", "nginx-b", "Nginx-a", "nginx-d"), names(commonService.sortingListByCondition(pods, "creationTime", "asc")));
+    }
+
+    @Test
+    public void searchKeywordForResourceName_CaseInsensitive() {
+        assertEquals(Arrays.asList("nginx-b", "Nginx-a", "nginx-d"), names(commonService.searchKeywordForResourceName(pods, "NGINX")));
+    }
+
+    @Test
+    public void searchKeywordForResourceName_MetacharactersAreLiteral() {
+        pods.add(createPods("app.(v1)+", "ns-a", "2020-10-04T00:00:00Z"));
+
+        assertEquals(Arrays.asList("app.(v1)+"), names(commonService.searchKeywordForResourceName(pods, ".(V1)+")));
+        assertEquals(0, commonService.searchKeywordForResourceName(pods, "(a+)+$").size());
+    }
+
+    @Test
+    public void searchKeywordForResourceName_PrefixAndGlob() {
+        assertEquals(Arrays.asList("nginx-b", "Nginx-a", "nginx-d"), names(commonService.searchKeywordForResourceName(pods, "nginx*")));
+        assertEquals(Arrays.asList("redis-c"), names(commonService.searchKeywordForResourceName(pods, "R*-?")));
+        assertEquals(Arrays.asList("redis-c"), names(commonService.searchKeywordForResourceName(pods, "*C")));
+        assertEquals(0, commonService.searchKeywordForResourceName(pods, "ginx*").size());
+    }
+
+    @Test
+    public void searchKeywordForResourceName_Labels() {
+        Map<String, String> labels = new HashMap<>();
+        labels.put("app", "redis");
+        labels.put("tier", "backend");
+        pods.get(2).getMetadata().setLabels(labels);
+
+        assertEquals(Arrays.asList("redis-c"), names(commonService.searchKeywordForResourceName(pods, "label:BACKEND")));
+        assertEquals(Arrays.asList("redis-c"), names(commonService.searchKeywordForResourceName(pods, "label:app=redis")));
+        assertEquals(0, commonService.searchKeywordForResourceName(pods, "label:app=nginx").size());
+    }
+
+    @Test
+    public void resourceListProcessing_FilterSortPage() {
+        PodsList podsList = new PodsList();
+        podsList.setItems(pods);
+
+        PodsList result = commonService.resourceListProcessing(podsList, 1, 2, "name", "asc", " nginx ", PodsList.class);
+
+        assertEquals(Arrays.asList("nginx-d"), names(result.getItems()));
+        assertEquals(Integer.valueOf(3), result.getItemMetaData().getAllItemCount());
+        assertEquals(Integer.valueOf(0), result.getItemMetaData().getRemainingItemCount());
+    }
+
+    @Test
+    public void resourceListProcessing_LabelKeyword_FilterByLabels() {
+        Map<String, String> labels = new HashMap<>();
+        labels.put("app", "nginx");
+        pods.get(0).getMetadata().setLabels(labels);
+        pods.get(3).getMetadata().setLabels(labels);
+        PodsList podsList = new PodsList();
+        podsList.setItems(pods);
+
+        PodsList result = commonService.resourceListProcessing(podsList, 0, 0, "name", "asc", "label:app=nginx", PodsList.class);
+
+        // 이름에 nginx 가 있어도 label 이 없으면 제외(Nginx-a has the name but not the label)
+        assertEquals(Arrays.asList("nginx-b", "nginx-d"), names(result.getItems()));
+        assertEquals(Integer.valueOf(2), result.getItemMetaData().getAllItemCount());
+    }
+
+    @Test
+    public void sortingPageByCondition_SameAsFullSortPages() {
+        Random random = new Random(7);
+        List<Pods> largeList = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            // 중복 key 포함(include duplicate keys to check ties)
+            largeList.add(createPods("pod-" + random.nextInt(300), "ns-" + random.nextInt(5), "2020-10-0" + random.nextInt(10) + "T00:00:00Z"));
+        }
+
+        int limit = 20;
+        for (String orderBy : Arrays.asList("name", "namespace", "creationTime")) {
+            for (String order : Arrays.asList("", "asc", "desc")) {
+                List<Pods> fullSort = commonService.sortingListByCondition(largeList, orderBy, order);
+
+                for (int offset = 0; offset * limit < largeList.size() + limit; offset++) {
+                    int fromIndex = Math.min(offset * limit, fullSort.size());
+                    int toIndex = Math.min(fromIndex + limit, fullSort.size());
+
+                    assertEquals(orderBy + " " + order + " " + offset, fullSort.subList(fromIndex, toIndex),
+                            commonService.sortingPageByCondition(largeList, orderBy, order, offset, limit));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void resourceListProcessing_FirstPage_ExactCounts() {
+        PodsList podsList = new PodsList();
+        podsList.setItems(pods);
+
+        PodsList result = commonService.resourceListProcessing(podsList, 0, 1, "name", "asc", "", PodsList.class);
+
+        assertEquals(Arrays.asList("Nginx-a"), names(result.getItems()));
+        assertEquals(Integer.valueOf(4), result.getItemMetaData().getAllItemCount());
+        assertEquals(Integer.valueOf(3), result.getItemMetaData().getRemainingItemCount());
+    }
+
+    @Test
+    public void setCursorParams_ApiServerOrder_PassLimitAndContinue() {
+        String url = "/api/v1/namespaces/ns-a/pods";
+
+        assertEquals(url + "?limit=2", commonService.setCursorParams(url, 2, "name", "", "", "", false));
+        assertEquals(url + "?limit=2&continue=eyJ2IjoibWV0YSJ9", commonService.setCursorParams(url, 2, "name", "asc", "",
+                ListCursor.ofApiServer(2, "eyJ2IjoibWV0YSJ9").encode(), false));
+        assertEquals("/api/v1/pods?fieldSelector=metadata.namespace!=kube-system&limit=2",
+                commonService.setCursorParams("/api/v1/pods?fieldSelector=metadata.namespace!=kube-system", 2, "namespace", "", "", "", true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setCursorParams_CraftedContinue_ThrowException() {
+        String crafted = Base64.getUrlEncoder().encodeToString("k:2:abc&watch=1&fieldSelector=metadata.name=x".getBytes(StandardCharsets.UTF_8));
+
+        commonService.setCursorParams("/api/v1/namespaces/ns-a/pods", 2, "name", "", "", crafted, false);
+    }
+
+    @Test
+    public void setCursorParams_CrossItemSortOrOffsetPaging_Unchanged() {
+        String url = "/api/v1/namespaces/ns-a/pods";
+
+        assertEquals(url, commonService.setCursorParams(url, 2, "name", "asc", "", null, false));
+        assertEquals(url, commonService.setCursorParams(url, 2, "creationTime", "", "", "", false));
+        assertEquals(url, commonService.setCursorParams(url, 2, "name", "desc", "", "", false));
+        assertEquals(url, commonService.setCursorParams(url, 2, "name", "asc", "nginx", "", false));
+        assertEquals(url, commonService.setCursorParams(url, 2, "name", "asc", "", "", true));
+    }
+
+    @Test
+    public void resourceListProcessing_Cursor_ApiServerPage() {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("continue", "eyJ2IjoibWV0YSJ9");
+        metadata.put("remainingItemCount", 5.0);
+
+        PodsList podsList = new PodsList();
+        podsList.setMetadata(metadata);
+        podsList.setItems(pods.subList(0, 2));
+
+        PodsList result = commonService.resourceListProcessing(podsList, 0, 2, "name", "", "", ListCursor.ofApiServer(2, "previous").encode(), false, PodsList.class);
+
+        assertEquals(Arrays.asList("nginx-b", "Nginx-a"), names(result.getItems()));
+        assertEquals(Integer.valueOf(9), result.getItemMetaData().getAllItemCount());
+        assertEquals(Integer.valueOf(5), result.getItemMetaData().getRemainingItemCount());
+
+        ListCursor next = ListCursor.decode(result.getItemMetaData().getContinue());
+        assertTrue(next.isApiServer());
+        assertEquals(4, next.getPosition());
+        assertEquals("eyJ2IjoibWV0YSJ9", next.getApiServerContinue());
+    }
+
+    @Test
+    public void resourceListProcessing_Cursor_SortedPagesCoverFullSort() {
+        List<Pods> collected = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+
+        while (cursor != null) {
+            PodsList podsList = new PodsList();
+            podsList.setItems(pods);
+
+            PodsList result = commonService.resourceListProcessing(podsList, 0, 3, "creationTime", "", "", cursor, false, PodsList.class);
+            collected.addAll(result.getItems());
+            assertEquals(Integer.valueOf(4), result.getItemMetaData().getAllItemCount());
+
+            cursor = result.getItemMetaData().getContinue();
+            pages++;
+        }
+
+        assertEquals(2, pages);
+        assertEquals(commonService.sortingListByCondition(pods, "creationTime", ""), collected);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void resourceListProcessing_Cursor_InvalidCursor() {
+        PodsList podsList = new PodsList();
+        podsList.setItems(pods);
+
+        commonService.resourceListProcessing(podsList, 0, 2, "creationTime", "", "", "not-a-cursor", false, PodsList.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void resourceListProcessing_Cursor_RequiresLimit() {
+        PodsList podsList = new PodsList();
+        podsList.setItems(pods);
+
+        commonService.resourceListProcessing(podsList, 0, 0, "name", "", "", "", false, PodsList.class);
+    }
+
+    @Test
+    public void resourceListProcessing_Cursor_LastApiServerPage() {
+        PodsList podsList = new PodsList();
+        podsList.setMetadata(new HashMap<>());
+        podsList.setItems(pods.subList(0, 1));
+
+        PodsList result = commonService.resourceListProcessing(podsList, 0, 2, "name", "", "", "", false, PodsList.class);
+
+        assertNull(result.getItemMetaData().getContinue());
+        assertNull(result.getItemMetaData().getAllItemCount());
+    }
+
+    @Test
+    public void getField_setField() {
+        PodsList podsList = new PodsList();
+        commonService.setField("items", podsList, pods);
+
+        assertEquals(pods, commonService.getField("items", podsList));
+    }
+
+    private Pods createPods(String name, String namespace, String creationTimestamp) {
+        CommonMetaData metadata = new CommonMetaData();
+        metadata.setName(name);
+        metadata.setNamespace(namespace);
+        metadata.setCreationTimestamp(creationTimestamp);
+
+        Pods pods = new Pods();
+        pods.setMetadata(metadata);
+        return pods;
+    }
+
+    private List<String> names(List<Pods> podsList) {
+        return podsList.stream().map(x -> x.getMetadata().getName()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,364 @@
+package org.paasta.container.platform.api.common;
+
+import com.google.gson.Gson;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.paasta.container.platform.api.adminToken.AdminToken;
+import org.paasta.container.platform.api.common.cache.RefreshAheadCache;
+import org.paasta.container.platform.api.common.cache.UserTokenKey;
+import org.paasta.container.platform.api.common.model.CommonStatusCode;
+import org.paasta.container.platform.api.common.model.CommonTable;
+import org.paasta.container.platform.api.common.model.ResultStatus;
+import org.paasta.container.platform.api.login.JwtUtil;
+import org.paasta.container.platform.api.users.Users;
+import org.paasta.container.platform.api.workloads.pods.PodsList;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class RestTemplateServiceTest {
+    private static final String CP_MASTER_API_URL = "https://cp-master:6443";
+    private static final String COMMON_API_URL = "http://common-api:3334";
+    private static final String USER_HEADER = "X-Test-User";
+    private static final String ADMIN_TOKEN_VALUE = "admin-token-value";
+    private static final int THREAD_COUNT = 16;
+    private static final int CALLS_PER_THREAD = 200;
+    private static final int NAMESPACE_COUNT = 8;
+
+    @Mock
+    RestTemplate restTemplate;
+
+    @Mock
+    RestTemplate commonApiRestTemplate;
+
+    @Mock
+    PropertyService propertyService;
+
+    @Mock
+    JwtUtil jwtUtil;
+
+    RestTemplateService restTemplateService;
+
+    @Before
+    public void setUp() {
+        RefreshAheadCache<String, AdminToken> adminTokenCache = new RefreshAheadCache<>("adminToken", 1, 600, 300, Runnable::run);
+        RefreshAheadCache<UserTokenKey, String> userTokenCache = new RefreshAheadCache<>("userToken", 100, 300, 0, Runnable::run);
+        restTemplateService = new RestTemplateService(restTemplate, commonApiRestTemplate, "admin", "PaaS-TA", propertyService, adminTokenCache, userTokenCache, new Gson());
+        ReflectionTestUtils.setField(restTemplateService, "jwtUtil", jwtUtil);
+
+        when(propertyService.getCpMasterApiUrl()).thenReturn(CP_MASTER_API_URL);
+        when(propertyService.getCommonApiUrl()).thenReturn(COMMON_API_URL);
+
+        when(jwtUtil.extractJwtFromRequest(any(HttpServletRequest.class)))
+                .thenAnswer(invocation -> ((HttpServletRequest) invocation.getArgument(0)).getHeader(USER_HEADER));
+        when(jwtUtil.getUsernameFromToken(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Common API : /clusters/{cluster}/namespaces/{namespace}/users/{userId} -> saToken "sa-{userId}-{namespace}"
+        when(commonApiRestTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(Users.class)))
+                .thenAnswer(invocation -> {
+                    String[] paths = invocation.<String>getArgument(0).split("/");
+                    Users users = new Users();
+                    users.setResultCode(Constants.RESULT_STATUS_SUCCESS);
+                    users.setSaToken("sa-" + paths[paths.length - 1] + "-" + paths[paths.length - 3]);
+                    return new ResponseEntity<>(users, HttpStatus.OK);
+                });
+
+        when(commonApiRestTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(AdminToken.class)))
+                .thenAnswer(invocation -> {
+                    AdminToken adminToken = new AdminToken();
+                    adminToken.setResultCode(Constants.RESULT_STATUS_SUCCESS);
+                    adminToken.setTokenValue(ADMIN_TOKEN_VALUE);
+                    return new ResponseEntity<>(adminToken, HttpStatus.OK);
+                });
+
+        // CP Master API : echo the authorization header and the full url
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(String.class)))
+                .thenAnswer(invocation -> {
+                    HttpEntity<?> entity = invocation.getArgument(2);
+                    String body = entity.getHeaders().getFirst("Authorization") + "|" + invocation.getArgument(0);
+                    return new ResponseEntity<>(body, HttpStatus.OK);
+                });
+    }
+
+    @After
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void resolveAdminTarget_CommonApi() {
+        UpstreamTarget target = restTemplateService.resolveAdminTarget(Constants.TARGET_COMMON_API);
+
+        assertEquals(Constants.TARGET_COMMON_API, target.getApi());
+        assertEquals(COMMON_API_URL, target.getBaseUrl());
+        assertEquals("Basic YWRtaW46UGFhUy1UQQ==", target.getAuthorization());
+    }
+
+    @Test
+    public void getAdminToken_Cached() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(ADMIN_TOKEN_VALUE, restTemplateService.getAdminToken().getTokenValue());
+        }
+
+        verify(commonApiRestTemplate, times(1)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(AdminToken.class));
+    }
+
+    @Test
+    public void sendAdmin_Unauthorized_InvalidatesAdminTokenAndRetries() {
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(Map.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.UNAUTHORIZED, "Unauthorized", null, null, null));
+
+        Object result = restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API, "/api/v1/namespaces", HttpMethod.GET, null, Map.class);
+
+        assertEquals(CommonStatusCode.UNAUTHORIZED.getCode(), ((ResultStatus) result).getHttpStatusCode());
+        // first token load, reload after the 401, one retry
+        verify(commonApiRestTemplate, times(2)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(AdminToken.class));
+        verify(restTemplate, times(2)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(Map.class));
+    }
+
+    @Test
+    public void sendAdminForModel_DecodesStreamIntoModel() {
+        String body = "{\"kind\":\"PodList\",\"metadata\":{\"resourceVersion\":\"1\"},\"items\":[" +
+                "{\"metadata\":{\"name\":\"pod-0\",\"namespace\":\"ns-0\",\"labels\":{\"app\":\"nginx\"}}," +
+                "\"spec\":{\"nodeName\":\"node-0\",\"containers\":[{\"name\":\"nginx\",\"image\":\"nginx:1.19\"}]}," +
+                "\"status\":{\"phase\":\"Running\"}}]}";
+        mockExecute(body.getBytes(StandardCharsets.UTF_8));
+
+        Object result = restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, "/api/v1/pods", PodsList.class);
+
+        assertTrue(result instanceof PodsList);
+        PodsList podsList = (PodsList) result;
+        assertEquals(1, podsList.getItems().size());
+        assertEquals("pod-0", podsList.getItems().get(0).getMetadata().getName());
+        assertEquals("node-0", podsList.getItems().get(0).getSpec().getNodeName());
+        assertEquals("Running", podsList.getItems().get(0).getStatus().getPhase());
+    }
+
+    @Test
+    public void sendAdminForModel_ErrorStatus_ReturnResultStatus() {
+        when(restTemplate.execute(anyString(), any(HttpMethod.class), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        Object result = restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, "/api/v1/namespaces/none/pods", PodsList.class);
+
+        assertTrue(result instanceof ResultStatus);
+        assertEquals(CommonStatusCode.NOT_FOUND.getCode(), ((ResultStatus) result).getHttpStatusCode());
+    }
+
+    @Test
+    public void countAdmin_RemainingItemCount() {
+        when(restTemplate.exchange(eq(CP_MASTER_API_URL + "/api/v1/pods?limit=1"), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(new ResponseEntity<>(list(1, 41L, "token"), HttpStatus.OK));
+
+        assertEquals(Integer.valueOf(42), restTemplateService.countAdmin(Constants.TARGET_CP_MASTER_API, "/api/v1/pods"));
+    }
+
+    @Test
+    public void countAdmin_NoRemainingItemCount_CountMetadataList() {
+        when(restTemplate.exchange(eq(CP_MASTER_API_URL + "/api/v1/pods?limit=1"), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(new ResponseEntity<>(list(1, null, "token"), HttpStatus.OK));
+        when(restTemplate.exchange(eq(CP_MASTER_API_URL + "/api/v1/pods"), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(new ResponseEntity<>(list(5, null, null), HttpStatus.OK));
+
+        assertEquals(Integer.valueOf(5), restTemplateService.countAdmin(Constants.TARGET_CP_MASTER_API, "/api/v1/pods"));
+    }
+
+    @Test
+    public void countAdmin_Selector_CountMetadataListInOneCall() {
+        String reqUrl = "/api/v1/namespaces?fieldSelector=metadata.name!=kube-system";
+        when(restTemplate.exchange(eq(CP_MASTER_API_URL + reqUrl), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+                .thenAnswer(invocation -> {
+                    HttpEntity<?> entity = invocation.getArgument(2);
+                    assertEquals(Constants.ACCEPT_TYPE_METADATA_LIST, entity.getHeaders().getFirst("ACCEPT"));
+                    return new ResponseEntity<>(list(7, null, null), HttpStatus.OK);
+                });
+
+        assertEquals(Integer.valueOf(7), restTemplateService.countAdmin(Constants.TARGET_CP_MASTER_API, reqUrl));
+        // selector 가 있으면 remainingItemCount 가 없으므로 limit=1 조회를 하지 않음(no limit=1 call, selectors never get remainingItemCount)
+        verify(restTemplate, times(1)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(Map.class));
+    }
+
+    @Test
+    public void countAdmin_LabelSelector_CountMetadataListInOneCall() {
+        String reqUrl = "/api/v1/namespaces/cp-namespace/pods?labelSelector=app%3Dweb";
+        when(restTemplate.exchange(eq(CP_MASTER_API_URL + reqUrl), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(new ResponseEntity<>(list(3, null, null), HttpStatus.OK));
+
+        assertEquals(Integer.valueOf(3), restTemplateService.countAdmin(Constants.TARGET_CP_MASTER_API, reqUrl));
+        verify(restTemplate, never()).exchange(contains("limit=1"), any(HttpMethod.class), any(HttpEntity.class), eq(Map.class));
+    }
+
+    @Test
+    public void sendAdminForTable_NotTable_ReturnNull() {
+        CommonTable table = new CommonTable();
+        table.setKind("PodList");
+        when(restTemplate.exchange(eq(CP_MASTER_API_URL + "/api/v1/pods?includeObject=None"), eq(HttpMethod.GET), any(HttpEntity.class), eq(CommonTable.class)))
+                .thenReturn(new ResponseEntity<>(table, HttpStatus.OK));
+
+        assertNull(restTemplateService.sendAdminForTable(Constants.TARGET_CP_MASTER_API, "/api/v1/pods"));
+
+        table.setKind(CommonTable.KIND_TABLE);
+        assertTrue(restTemplateService.sendAdminForTable(Constants.TARGET_CP_MASTER_API, "/api/v1/pods") instanceof CommonTable);
+    }
+
+    @Test
+    public void getUserSaToken_CachedPerUserAndNamespace() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals("sa-user-a-ns-0", restTemplateService.getUserSaToken("user-a", "ns-0"));
+            assertEquals("sa-user-a-ns-1", restTemplateService.getUserSaToken("user-a", "ns-1"));
+            assertEquals("sa-user-b-ns-0", restTemplateService.getUserSaToken("user-b", "ns-0"));
+        }
+
+        verify(commonApiRestTemplate, times(3)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(Users.class));
+    }
+
+    @Test
+    public void invalidateUserTokens_ReloadsOnlyThatUser() {
+        restTemplateService.getUserSaToken("user-a", "ns-0");
+        restTemplateService.getUserSaToken("user-a", "ns-1");
+        restTemplateService.getUserSaToken("user-b", "ns-0");
+
+        restTemplateService.invalidateUserTokens("user-a");
+
+        restTemplateService.getUserSaToken("user-a", "ns-0");
+        restTemplateService.getUserSaToken("user-a", "ns-1");
+        restTemplateService.getUserSaToken("user-b", "ns-0");
+
+        verify(commonApiRestTemplate, times(5)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(Users.class));
+    }
+
+    @Test
+    public void invalidateUserTokensInNamespace_ReloadsOnlyThatNamespace() {
+        restTemplateService.getUserSaToken("user-a", "ns-0");
+        restTemplateService.getUserSaToken("user-a", "ns-1");
+        restTemplateService.getUserSaToken("user-b", "ns-0");
+
+        restTemplateService.invalidateUserTokensInNamespace("ns-0");
+
+        restTemplateService.getUserSaToken("user-a", "ns-0");
+        restTemplateService.getUserSaToken("user-a", "ns-1");
+        restTemplateService.getUserSaToken("user-b", "ns-0");
+
+        verify(commonApiRestTemplate, times(5)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(Users.class));
+    }
+
+    @Test
+    public void send_ConcurrentUsers_NoCrossTalk() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger mismatchCount = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            String userId = "user-" + t;
+
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+
+                for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                    String namespace = "ns-" + (i % NAMESPACE_COUNT);
+                    String reqUrl = "/api/v1/namespaces/" + namespace + "/pods";
+
+                    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/clusters/cp-cluster/namespaces/" + namespace + "/pods");
+                    request.addHeader(USER_HEADER, userId);
+                    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+                    String result = restTemplateService.send(Constants.TARGET_CP_MASTER_API, reqUrl, HttpMethod.GET, null, String.class);
+
+                    if (!("Bearer sa-" + userId + "-" + namespace + "|" + CP_MASTER_API_URL + reqUrl).equals(result)) {
+                        mismatchCount.incrementAndGet();
+                    }
+                }
+
+                RequestContextHolder.resetRequestAttributes();
+                return null;
+            }));
+        }
+
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(0, mismatchCount.get());
+    }
+
+    @Test
+    public void send_ResolvedTarget_OffRequestThread() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/clusters/cp-cluster/namespaces/ns-0/pods");
+        request.addHeader(USER_HEADER, "user-a");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        UpstreamTarget target = restTemplateService.resolveTarget(Constants.TARGET_CP_MASTER_API);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        String result = executor.submit(() -> restTemplateService.send(target, "/api/v1/namespaces/ns-0/pods", HttpMethod.GET, null, String.class,
+                Constants.ACCEPT_TYPE_JSON, Constants.ACCEPT_TYPE_JSON)).get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertEquals("Bearer sa-user-a-ns-0|" + CP_MASTER_API_URL + "/api/v1/namespaces/ns-0/pods", result);
+    }
+
+    private static Map<String, Object> list(int itemCount, Long remainingItemCount, String continueToken) {
+        Map<String, Object> metadata = new HashMap<>();
+        if (remainingItemCount != null) {
+            metadata.put("remainingItemCount", remainingItemCount);
+        }
+        if (continueToken != null) {
+            metadata.put("continue", continueToken);
+        }
+
+        List<Object> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new HashMap<>());
+        }
+
+        Map<String, Object> list = new HashMap<>();
+        list.put("metadata", metadata);
+        list.put("items", items);
+        return list;
+    }
+
+    private void mockExecute(byte[] body) {
+        when(restTemplate.execute(anyString(), any(HttpMethod.class), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    MockClientHttpResponse response = new MockClientHttpResponse(body, HttpStatus.OK);
+                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    return invocation.<ResponseExtractor<?>>getArgument(3).extractData(response);
+                });
+    }
+}
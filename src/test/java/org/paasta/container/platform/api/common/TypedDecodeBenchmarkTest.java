@@ -0,0 +1,126 @@
+package org.paasta.container.platform.api.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.paasta.container.platform.api.workloads.pods.PodsList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 5,000 개 Pod 목록 응답에 대한 변환 방식 비교
+ * (Compares HashMap -> json -> model round-trip decoding with single-pass typed decoding on a 5,000-pod list)
+ */
+public class TypedDecodeBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TypedDecodeBenchmarkTest.class);
+    private static final int POD_COUNT = 5000;
+    private static final int WARM_UP_ITERATIONS = 5;
+    private static final int MEASURE_ITERATIONS = 10;
+
+    private final Gson gson = new Gson();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] podListBody;
+
+    @Before
+    public void setUp() {
+        podListBody = createPodListBody(POD_COUNT).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void singlePassDecoding_AllocatesLessThanRoundTrip() throws IOException {
+        Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        assertEquals(POD_COUNT, decodeRoundTrip().getItems().size());
+        assertEquals(POD_COUNT, decodeSinglePass().getItems().size());
+
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            decodeRoundTrip();
+            decodeSinglePass();
+        }
+
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            decodeRoundTrip();
+        }
+        long roundTripNanos = (System.nanoTime() - startTime) / MEASURE_ITERATIONS;
+        long roundTripBytes = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / MEASURE_ITERATIONS;
+
+        allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        startTime = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            decodeSinglePass();
+        }
+        long singlePassNanos = (System.nanoTime() - startTime) / MEASURE_ITERATIONS;
+        long singlePassBytes = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / MEASURE_ITERATIONS;
+
+        LOGGER.info("DECODE {} PODS :: ROUND-TRIP {} ms / {} KB, SINGLE-PASS {} ms / {} KB", POD_COUNT,
+                roundTripNanos / 1_000_000, roundTripBytes / 1024, singlePassNanos / 1_000_000, singlePassBytes / 1024);
+
+        assertTrue(singlePassBytes < roundTripBytes);
+    }
+
+    /**
+     * 기존 방식 : HashMap 으로 변환 후 Gson 으로 다시 직렬화/역직렬화
+     * (Previous path : RestTemplate decodes into HashMap, CommonService.setResultObject re-encodes and re-parses it)
+     */
+    private PodsList decodeRoundTrip() throws IOException {
+        HashMap responseMap = objectMapper.readValue(podListBody, HashMap.class);
+        return gson.fromJson(gson.toJson(responseMap), PodsList.class);
+    }
+
+    /**
+     * 응답 stream 을 모델로 바로 변환(RestTemplateService.sendForModel path)
+     */
+    private PodsList decodeSinglePass() throws IOException {
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(podListBody), StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, PodsList.class);
+        }
+    }
+
+    private String createPodListBody(int podCount) {
+        StringBuilder sb = new StringBuilder("{\"kind\":\"PodList\",\"apiVersion\":\"v1\",\"metadata\":{\"resourceVersion\":\"123456\"},\"items\":[");
+
+        for (int i = 0; i < podCount; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            String name = "nginx-deployment-66b6c48dd5-" + i;
+            String namespace = "ns-" + (i % 50);
+
+            sb.append("{\"metadata\":{\"name\":\"").append(name).append("\",\"generateName\":\"nginx-deployment-66b6c48dd5-\",")
+                    .append("\"namespace\":\"").append(namespace).append("\",\"uid\":\"uid-").append(i).append("\",")
+                    .append("\"resourceVersion\":\"").append(100000 + i).append("\",\"creationTimestamp\":\"2020-10-14T05:12:31Z\",")
+                    .append("\"labels\":{\"app\":\"nginx\",\"pod-template-hash\":\"66b6c48dd5\"},")
+                    .append("\"annotations\":{\"kubernetes.io/psp\":\"restricted\"},")
+                    .append("\"ownerReferences\":[{\"apiVersion\":\"apps/v1\",\"kind\":\"ReplicaSet\",\"name\":\"nginx-deployment-66b6c48dd5\",")
+                    .append("\"uid\":\"rs-uid\",\"controller\":true,\"blockOwnerDeletion\":true}]},")
+                    .append("\"spec\":{\"nodeName\":\"worker-").append(i % 20).append("\",\"restartPolicy\":\"Always\",")
+                    .append("\"dnsPolicy\":\"ClusterFirst\",\"serviceAccountName\":\"default\",\"terminationGracePeriodSeconds\":30,")
+                    .append("\"containers\":[{\"name\":\"nginx\",\"image\":\"nginx:1.19\",")
+                    .append("\"ports\":[{\"containerPort\":80,\"protocol\":\"TCP\"}],")
+                    .append("\"resources\":{\"limits\":{\"cpu\":\"500m\",\"memory\":\"128Mi\"},\"requests\":{\"cpu\":\"250m\",\"memory\":\"64Mi\"}}}]},")
+                    .append("\"status\":{\"phase\":\"Running\",\"podIP\":\"10.233.").append(i % 250).append('.').append(i % 200).append("\",")
+                    .append("\"qosClass\":\"Burstable\",\"containerStatuses\":[{\"name\":\"nginx\",\"ready\":true,\"restartCount\":0,")
+                    .append("\"image\":\"nginx:1.19\",\"containerID\":\"docker://").append(i).append("\"}]}}");
+        }
+
+        return sb.append("]}").toString();
+    }
+}
@@ -0,0 +1,83 @@
+package org.paasta.container.platform.api.common.concurrent;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class FanOutExecutorTest {
+
+    FanOutExecutor fanOutExecutor = new FanOutExecutor(4, 10, 300);
+
+    @After
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        fanOutExecutor.shutdown();
+    }
+
+    @Test
+    public void submit_RunConcurrently() {
+        FanOutExecutor.FanOut fanOut = fanOutExecutor.begin();
+        long startNanos = System.nanoTime();
+
+        Future<String> first = fanOut.submit(() -> sleepAndReturn(150, "first"));
+        Future<String> second = fanOut.submit(() -> sleepAndReturn(150, "second"));
+
+        assertEquals("first", fanOut.get("first", first, null));
+        assertEquals("second", fanOut.get("second", second, null));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) < 290);
+    }
+
+    @Test
+    public void get_Timeout_ReturnFallback() {
+        FanOutExecutor.FanOut fanOut = fanOutExecutor.begin();
+
+        Future<String> slow = fanOut.submit(() -> sleepAndReturn(2000, "slow"));
+        Future<String> fast = fanOut.submit(() -> "fast");
+
+        assertEquals("fast", fanOut.get("fast", fast, "fallback"));
+        assertEquals("fallback", fanOut.get("slow", slow, "fallback"));
+        assertTrue(slow.isCancelled());
+    }
+
+    @Test
+    public void get_Failure_ReturnFallback() {
+        FanOutExecutor.FanOut fanOut = fanOutExecutor.begin();
+
+        Future<String> failed = fanOut.submit(() -> {
+            throw new IllegalStateException("upstream unavailable");
+        });
+
+        assertEquals("fallback", fanOut.get("failed", failed, "fallback"));
+    }
+
+    @Test
+    public void submit_PropagateRequestAttributes() {
+        RequestAttributes requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        FanOutExecutor.FanOut fanOut = fanOutExecutor.begin();
+
+        Future<RequestAttributes> future = fanOut.submit(RequestContextHolder::getRequestAttributes);
+
+        assertSame(requestAttributes, fanOut.get("attributes", future, null));
+    }
+
+    private static String sleepAndReturn(long millis, String value) throws InterruptedException {
+        Thread.sleep(millis);
+        return value;
+    }
+}
@@ -0,0 +1,85 @@
+package org.paasta.container.platform.api.common.concurrent;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class StreamLimiterTest {
+
+    @Test
+    public void tryAcquire_PerUserLimit() {
+        StreamLimiter streamLimiter = new StreamLimiter(2, 10);
+
+        StreamLimiter.Permit first = streamLimiter.tryAcquire("user1");
+        StreamLimiter.Permit second = streamLimiter.tryAcquire("user1");
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNull(streamLimiter.tryAcquire("user1"));
+        assertNotNull(streamLimiter.tryAcquire("user2"));
+        assertEquals(2, streamLimiter.getOpenCount("user1"));
+        assertEquals(3, streamLimiter.getOpenTotal());
+
+        first.close();
+        first.close();
+
+        assertEquals(1, streamLimiter.getOpenCount("user1"));
+        assertNotNull(streamLimiter.tryAcquire("user1"));
+    }
+
+    @Test
+    public void tryAcquire_TotalLimit() {
+        StreamLimiter streamLimiter = new StreamLimiter(5, 2);
+
+        assertNotNull(streamLimiter.tryAcquire("user1"));
+        StreamLimiter.Permit permit = streamLimiter.tryAcquire("user2");
+        assertNull(streamLimiter.tryAcquire("user3"));
+        assertEquals(0, streamLimiter.getOpenCount("user3"));
+
+        permit.close();
+
+        assertEquals(1, streamLimiter.getOpenTotal());
+        assertEquals(0, streamLimiter.getOpenCount("user2"));
+        assertNotNull(streamLimiter.tryAcquire("user3"));
+    }
+
+    @Test
+    public void tryAcquire_Streams_ChargeTotalPerStream() {
+        StreamLimiter streamLimiter = new StreamLimiter(2, 10);
+
+        StreamLimiter.Permit merged = streamLimiter.tryAcquire("user1", 8);
+
+        assertNotNull(merged);
+        assertEquals(1, streamLimiter.getOpenCount("user1"));
+        assertEquals(8, streamLimiter.getOpenTotal());
+        assertNull(streamLimiter.tryAcquire("user2", 3));
+        assertEquals(8, streamLimiter.getOpenTotal());
+        assertNotNull(streamLimiter.tryAcquire("user2", 2));
+
+        merged.close();
+
+        assertEquals(2, streamLimiter.getOpenTotal());
+        assertEquals(0, streamLimiter.getOpenCount("user1"));
+    }
+
+    @Test
+    public void tryAcquireTotal_ChargeTotalOnly() {
+        StreamLimiter streamLimiter = new StreamLimiter(1, 10);
+
+        StreamLimiter.Permit merged = streamLimiter.tryAcquireTotal(8);
+
+        assertNotNull(merged);
+        assertEquals(8, streamLimiter.getOpenTotal());
+        assertNull(streamLimiter.tryAcquireTotal(3));
+        assertNull(streamLimiter.tryAcquire("user1", 3));
+        assertNotNull(streamLimiter.tryAcquire("user1", 2));
+
+        merged.close();
+        merged.close();
+
+        assertEquals(2, streamLimiter.getOpenTotal());
+        assertEquals(1, streamLimiter.getOpenCount("user1"));
+    }
+}
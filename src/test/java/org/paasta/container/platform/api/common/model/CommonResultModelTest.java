@@ -0,0 +1,64 @@
+package org.paasta.container.platform.api.common.model;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.paasta.container.platform.api.common.CommonService;
+import org.paasta.container.platform.api.common.Constants;
+import org.paasta.container.platform.api.users.Users;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class CommonResultModelTest {
+    private static final String BASE_PACKAGE = "org.paasta.container.platform.api";
+
+    @Test
+    public void models_WithResultSetters_ImplementCommonResultModel() throws Exception {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+
+        List<String> missing = new ArrayList<>();
+        int models = 0;
+
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            Class<?> type = ClassUtils.forName(candidate.getBeanClassName(), getClass().getClassLoader());
+
+            if (hasResultSetters(type)) {
+                models++;
+                if (!CommonResultModel.class.isAssignableFrom(type)) {
+                    missing.add(type.getName());
+                }
+            }
+        }
+
+        assertTrue(models > 0);
+        assertEquals(new ArrayList<String>(), missing);
+    }
+
+    @Test
+    public void setResultModel_Users_StampsResult() {
+        Users users = new Users();
+
+        new CommonService(null, null).setResultModel(users, Constants.RESULT_STATUS_SUCCESS);
+
+        assertEquals(Constants.RESULT_STATUS_SUCCESS, users.getResultCode());
+        assertEquals(Integer.valueOf(CommonStatusCode.OK.getCode()), users.getHttpStatusCode());
+    }
+
+    private static boolean hasResultSetters(Class<?> type) {
+        return ClassUtils.hasMethod(type, "setResultCode", String.class)
+                && ClassUtils.hasMethod(type, "setResultMessage", String.class)
+                && ClassUtils.hasMethod(type, "setHttpStatusCode", Integer.class)
+                && ClassUtils.hasMethod(type, "setDetailMessage", String.class);
+    }
+}
@@ -0,0 +1,78 @@
+package org.paasta.container.platform.api.common.util;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.paasta.container.platform.api.exception.ContainerPlatformException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class YamlDocumentReaderTest {
+
+    @Test
+    public void next_MarkerInsideValue_NotSplit() {
+        List<String> documents = read("kind: ConfigMap\n"
+                + "metadata:\n"
+                + "  name: cp-config\n"
+                + "data:\n"
+                + "  banner: \"--- welcome ---\"\n"
+                + "  script: |\n"
+                + "    ---\n"
+                + "    echo done\n"
+                + "---\n"
+                + "kind: Service\n"
+                + "metadata:\n"
+                + "  name: cp-service---v2\n", 1024);
+
+        assertEquals(2, documents.size());
+        assertEquals(2, YamlUtil.parseManifests(String.join("\n---\n", documents)).size());
+        assertEquals("cp-config", YamlUtil.parseManifest(documents.get(0)).getName());
+        assertEquals("    ---\n    echo done", documents.get(0).substring(documents.get(0).indexOf("    ---")));
+        assertEquals("cp-service---v2", YamlUtil.parseManifest(documents.get(1)).getName());
+    }
+
+    @Test
+    public void next_EmptyCommentAndEndMarkers_Skipped() {
+        List<String> documents = read("---\n"
+                + "# leading comment\n"
+                + "---\n"
+                + "\n"
+                + "--- kind: Pod\n"
+                + "metadata: {name: cp-pod}\n"
+                + "...\n"
+                + "# trailing comment\n"
+                + "---   \r\n"
+                + "%YAML 1.1\r\n"
+                + "---\r\n"
+                + "kind: Secret\r\n"
+                + "metadata: {name: cp-secret}\r\n"
+                + "\r\n", 1024);
+
+        assertEquals(2, documents.size());
+        assertEquals("kind: Pod\nmetadata: {name: cp-pod}", documents.get(0));
+        assertEquals("cp-pod", YamlUtil.parseManifest(documents.get(0)).getName());
+        assertEquals("%YAML 1.1\n---\nkind: Secret\nmetadata: {name: cp-secret}", documents.get(1));
+        assertEquals("Secret", YamlUtil.parseManifest(documents.get(1)).getKind());
+    }
+
+    @Test(expected = ContainerPlatformException.class)
+    public void next_DocumentOverMaxLength_ThrowException() {
+        read("kind: ConfigMap\nmetadata:\n  name: cp-config\ndata:\n  key: " + new String(new char[64]).replace('\0', 'x'), 32);
+    }
+
+    private static List<String> read(String yaml, int maxDocumentLength) {
+        List<String> documents = new ArrayList<>();
+        YamlDocumentReader reader = new YamlDocumentReader(new StringReader(yaml), maxDocumentLength);
+        while (reader.hasNext()) {
+            documents.add(reader.next());
+        }
+        return documents;
+    }
+}
@@ -0,0 +1,77 @@
+package org.paasta.container.platform.api.common.util;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.paasta.container.platform.api.exception.ContainerPlatformException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class YamlUtilTest {
+    private static final String MULTI_YAML = "apiVersion: v1\n"
+            + "kind: ConfigMap\n"
+            + "metadata:\n"
+            + "  name: cp-config\n"
+            + "  namespace: cp-namespace\n"
+            + "---\n"
+            + "apiVersion: v1\n"
+            + "kind: Service\n"
+            + "metadata:\n"
+            + "  name: cp-service\n";
+
+    @After
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void parseManifests_MultiDocument_Valid_ReturnManifests() {
+        List<YamlManifest> manifests = YamlUtil.parseManifests(MULTI_YAML);
+
+        assertEquals(2, manifests.size());
+        assertEquals("ConfigMap", manifests.get(0).getKind());
+        assertEquals("v1", manifests.get(0).getApiVersion());
+        assertEquals("cp-config", manifests.get(0).getName());
+        assertEquals("cp-namespace", manifests.get(0).getNamespace());
+        assertEquals("Service", manifests.get(1).getKind());
+        assertEquals("cp-service", manifests.get(1).getName());
+        assertNull(manifests.get(1).getNamespace());
+    }
+
+    @Test
+    public void parseManifests_SameRequest_ParsedOnce() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        List<YamlManifest> manifests = YamlUtil.parseManifests(MULTI_YAML);
+
+        assertSame(manifests, YamlUtil.parseManifests(MULTI_YAML));
+        assertNotSame(manifests, YamlUtil.parseManifests(MULTI_YAML.replace("cp-service", "cp-service-2")));
+    }
+
+    @Test(expected = ContainerPlatformException.class)
+    public void parseManifest_NoMetadata_ThrowException() {
+        YamlUtil.parseManifest("apiVersion: v1\nkind: ConfigMap\n");
+    }
+
+    @Test(expected = ContainerPlatformException.class)
+    public void parseManifest_InvalidYaml_ThrowException() {
+        YamlUtil.parseManifest("kind: [ConfigMap\nmetadata: {name: cp-config");
+    }
+
+    @Test(expected = ContainerPlatformException.class)
+    public void parseManifest_Tagged_ThrowException() {
+        YamlUtil.parseManifest("!!java.net.URL [\"http://example.com\"]\n");
+    }
+}
@@ -0,0 +1,238 @@
+package org.paasta.container.platform.api.common.watch;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.paasta.container.platform.api.common.Constants;
+import org.paasta.container.platform.api.common.RestTemplateService;
+import org.paasta.container.platform.api.common.UpstreamTarget;
+import org.paasta.container.platform.api.common.cache.RefreshAheadCache;
+import org.paasta.container.platform.api.workloads.pods.PodsList;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.client.ResponseExtractor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class ResourceWatchCacheManagerTest {
+    private static final String PODS_LIST = "{\"kind\":\"PodList\",\"apiVersion\":\"v1\",\"metadata\":{\"resourceVersion\":\"100\"},\"items\":["
+            + pod("ns-b", "nginx-1", "nginx", "node-1", "Running") + ","
+            + pod("ns-a", "redis-1", "redis", "node-2", "Running") + ","
+            + pod("ns-a", "nginx-2", "nginx", "node-2", "Pending") + "]}";
+
+    private static final UpstreamTarget ADMIN_TARGET = new UpstreamTarget(Constants.TARGET_CP_MASTER_API, "https://cp-master:6443", "Bearer admin");
+    private static final UpstreamTarget USER_TARGET = new UpstreamTarget(Constants.TARGET_CP_MASTER_API, "https://cp-master:6443", "Bearer user");
+
+    @Mock
+    RestTemplateService restTemplateService;
+
+    Gson gson = new Gson();
+
+    ResourceWatchCacheManager manager;
+
+    @Before
+    public void setUp() {
+        manager = createManager(true);
+        when(restTemplateService.resolveAdminTarget(Constants.TARGET_CP_MASTER_API)).thenReturn(ADMIN_TARGET);
+        when(restTemplateService.sendForStream(eq(ADMIN_TARGET), eq("/api/v1/pods"), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    MockClientHttpResponse response = new MockClientHttpResponse(PODS_LIST.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    return invocation.<ResponseExtractor<?>>getArgument(2).extractData(response);
+                });
+    }
+
+    @Test
+    public void parse_ListPathsAndSelectors() {
+        ListRequest all = ListRequest.parse("/api/v1/pods");
+        assertEquals(WatchResourceType.PODS, all.getType());
+        assertNull(all.getNamespace());
+
+        ListRequest namespaced = ListRequest.parse("/apis/apps/v1/namespaces/ns-a/deployments?labelSelector=app==nginx,!canary");
+        assertEquals(WatchResourceType.DEPLOYMENTS, namespaced.getType());
+        assertEquals("ns-a", namespaced.getNamespace());
+        assertEquals(2, namespaced.getLabelRequirements().size());
+
+        assertNotNull(ListRequest.parse("/api/v1/pods?fieldSelector=spec.nodeName=node-1,metadata.namespace!=kube-system"));
+        assertNotNull(ListRequest.parse("/api/v1/namespaces"));
+    }
+
+    @Test
+    public void parse_UnsupportedRequest_ReturnNull() {
+        assertNull(ListRequest.parse("/api/v1/namespaces/ns-a/pods/nginx-1"));
+        assertNull(ListRequest.parse("/api/v1/namespaces/ns-a"));
+        assertNull(ListRequest.parse("/api/v1/namespaces/ns-a/namespaces"));
+        assertNull(ListRequest.parse("/api/v1/namespaces/ns-a/events"));
+        assertNull(ListRequest.parse("/api/v1/pods?limit=10"));
+        assertNull(ListRequest.parse("/api/v1/pods?labelSelector=app in (nginx)"));
+        assertNull(ListRequest.parse("/api/v1/pods?fieldSelector=status.podIP=10.0.0.1"));
+    }
+
+    @Test
+    public void findList_AfterRelist_SortedAndFiltered() {
+        manager.relist(manager.getCache(WatchResourceType.PODS));
+
+        PodsList all = gson.fromJson(manager.findList(ADMIN_TARGET, "/api/v1/pods", false), PodsList.class);
+        assertEquals(Arrays.asList("ns-a/nginx-2", "ns-a/redis-1", "ns-b/nginx-1"), keys(all));
+
+        PodsList namespaced = gson.fromJson(manager.findList(ADMIN_TARGET, "/api/v1/namespaces/ns-a/pods?labelSelector=app=nginx", false), PodsList.class);
+        assertEquals(Arrays.asList("ns-a/nginx-2"), keys(namespaced));
+        assertEquals("Pending", namespaced.getItems().get(0).getStatus().getPhase());
+
+        PodsList byNode = gson.fromJson(manager.findList(ADMIN_TARGET, "/api/v1/pods?fieldSelector=spec.nodeName=node-2,status.phase!=Pending", false), PodsList.class);
+        assertEquals(Arrays.asList("ns-a/redis-1"), keys(byNode));
+
+        assertNull(manager.findList(ADMIN_TARGET, "/api/v1/namespaces/ns-a/services", false));
+    }
+
+    @Test
+    public void findList_NotSynced_ReturnNull() {
+        assertNull(manager.findList(ADMIN_TARGET, "/api/v1/pods", false));
+    }
+
+    @Test
+    public void findList_Disabled_ReturnNull() {
+        ResourceWatchCacheManager disabled = createManager(false);
+
+        assertNull(disabled.findList(ADMIN_TARGET, "/api/v1/pods", false));
+    }
+
+    @Test
+    public void applyEvent_AddModifyDeleteBookmark() {
+        ResourceWatchCache cache = manager.getCache(WatchResourceType.PODS);
+        manager.relist(cache);
+
+        assertTrue(manager.applyEvent(cache, event("ADDED", pod("ns-c", "nginx-3", "nginx", "node-1", "Running"), "101")));
+        assertTrue(manager.applyEvent(cache, event("MODIFIED", pod("ns-a", "nginx-2", "web", "node-2", "Running"), "102")));
+        assertTrue(manager.applyEvent(cache, event("DELETED", pod("ns-b", "nginx-1", "nginx", "node-1", "Running"), "103")));
+        assertTrue(manager.applyEvent(cache, event("BOOKMARK", "{\"kind\":\"Pod\",\"metadata\":{\"resourceVersion\":\"110\"}}", null)));
+
+        assertEquals("110", cache.getResourceVersion());
+        assertEquals(Arrays.asList("ns-a/nginx-2", "ns-a/redis-1", "ns-c/nginx-3"), keys(gson.fromJson(manager.findList(ADMIN_TARGET, "/api/v1/pods", false), PodsList.class)));
+        // 변경된 label 로 index 갱신(label index follows the modified labels)
+        assertEquals(Arrays.asList("ns-c/nginx-3"), keys(gson.fromJson(manager.findList(ADMIN_TARGET, "/api/v1/pods?labelSelector=app=nginx", false), PodsList.class)));
+        assertEquals(Arrays.asList("ns-a/nginx-2"), keys(gson.fromJson(manager.findList(ADMIN_TARGET, "/api/v1/pods?labelSelector=app=web", false), PodsList.class)));
+    }
+
+    @Test
+    public void listeners_NotifiedOfListAndEvents() {
+        List<String> notifications = new ArrayList<>();
+        manager.setListeners(Collections.singletonList(new ResourceWatchListener() {
+            @Override
+            public void onReplaced(WatchResourceType type, List<CachedResource> resources) {
+                notifications.add("replaced:" + resources.size());
+            }
+
+            @Override
+            public void onUpserted(WatchResourceType type, CachedResource resource) {
+                notifications.add("upserted:" + resource.getKey());
+            }
+
+            @Override
+            public void onDeleted(WatchResourceType type, CachedResource resource) {
+                notifications.add("deleted:" + resource.getKey());
+            }
+        }));
+        ResourceWatchCache cache = manager.getCache(WatchResourceType.PODS);
+
+        manager.relist(cache);
+        manager.applyEvent(cache, event("ADDED", pod("ns-c", "nginx-3", "nginx", "node-1", "Running"), "101"));
+        manager.applyEvent(cache, event("DELETED", pod("ns-b", "nginx-1", "nginx", "node-1", "Running"), "102"));
+        manager.applyEvent(cache, event("BOOKMARK", "{\"kind\":\"Pod\",\"metadata\":{\"resourceVersion\":\"110\"}}", null));
+
+        assertEquals(Arrays.asList("replaced:3", "upserted:ns-c/nginx-3", "deleted:ns-b/nginx-1"), notifications);
+    }
+
+    @Test
+    public void applyEvent_Gone_ExpireResourceVersion() {
+        ResourceWatchCache cache = manager.getCache(WatchResourceType.PODS);
+        manager.relist(cache);
+
+        assertFalse(manager.applyEvent(cache, event("ERROR", "{\"kind\":\"Status\",\"code\":410,\"reason\":\"Expired\"}", null)));
+
+        assertNull(cache.getResourceVersion());
+        // 다시 LIST 할 때까지 기존 목록으로 응답(served from the previous list until the relist)
+        assertNotNull(manager.findList(ADMIN_TARGET, "/api/v1/pods", false));
+    }
+
+    @Test
+    public void findList_User_AccessReviewAllowed() {
+        manager.relist(manager.getCache(WatchResourceType.PODS));
+        mockAccessReview(true);
+
+        assertNotNull(manager.findList(USER_TARGET, "/api/v1/namespaces/ns-a/pods", true));
+        assertNotNull(manager.findList(USER_TARGET, "/api/v1/namespaces/ns-a/pods?labelSelector=app=nginx", true));
+
+        verify(restTemplateService, times(1)).send(eq(USER_TARGET), eq(ResourceWatchCacheManager.SELF_SUBJECT_ACCESS_REVIEW_URL),
+                eq(HttpMethod.POST), any(), eq(Map.class), anyString(), anyString());
+    }
+
+    @Test
+    public void findList_User_AccessReviewDenied_ReturnNull() {
+        manager.relist(manager.getCache(WatchResourceType.PODS));
+        mockAccessReview(false);
+
+        assertNull(manager.findList(USER_TARGET, "/api/v1/namespaces/ns-b/pods", true));
+    }
+
+    private ResourceWatchCacheManager createManager(boolean enabled) {
+        return new ResourceWatchCacheManager(restTemplateService, new RefreshAheadCache<>("accessReview", 100, 30, 0, Runnable::run),
+                gson, enabled, "pods", 50, 120, 0, 0);
+    }
+
+    private void mockAccessReview(boolean allowed) {
+        when(restTemplateService.send(eq(USER_TARGET), eq(ResourceWatchCacheManager.SELF_SUBJECT_ACCESS_REVIEW_URL),
+                eq(HttpMethod.POST), any(), eq(Map.class), anyString(), anyString()))
+                .thenReturn(Collections.singletonMap("status", Collections.singletonMap("allowed", allowed)));
+    }
+
+    private static String pod(String namespace, String name, String app, String nodeName, String phase) {
+        return "{\"metadata\":{\"name\":\"" + name + "\",\"namespace\":\"" + namespace + "\",\"labels\":{\"app\":\"" + app + "\"}},"
+                + "\"spec\":{\"nodeName\":\"" + nodeName + "\"},\"status\":{\"phase\":\"" + phase + "\"}}";
+    }
+
+    private static JsonObject event(String type, String object, String resourceVersion) {
+        JsonObject event = new JsonObject();
+        event.addProperty("type", type);
+        JsonObject resource = JsonParser.parseString(object).getAsJsonObject();
+        if (resourceVersion != null) {
+            resource.getAsJsonObject("metadata").addProperty("resourceVersion", resourceVersion);
+        }
+        event.add("object", resource);
+        return event;
+    }
+
+    private static List<String> keys(PodsList podsList) {
+        return podsList.getItems().stream()
+                .map(x -> x.getMetadata().getNamespace() + "/" + x.getMetadata().getName())
+                .collect(Collectors.toList());
+    }
+}
@@ -178,13 +178,14 @@ public class CustomServicesServiceTest {
     public void getCustomServicesList_Valid_ReturnModel() {
         //when
         when(propertyService.getCpMasterApiListServicesListUrl()).thenReturn("/api/v1/namespaces/{namespace}/services");
+        when(commonService.setCursorParams("/api/v1/namespaces/" + NAMESPACE + "/services", LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null, false)).thenReturn("/api/v1/namespaces/" + NAMESPACE + "/services");
         when(restTemplateService.send(Constants.TARGET_CP_MASTER_API, "/api/v1/namespaces/" + NAMESPACE + "/services", HttpMethod.GET, null, Map.class)).thenReturn(gResultMap);
         when(commonService.setResultObject(gResultMap, CustomServicesList.class)).thenReturn(gResultListModel);
-        when(commonService.resourceListProcessing(gResultListModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, CustomServicesList.class)).thenReturn(gResultListModel);
+        when(commonService.resourceListProcessing(gResultListModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null, false, CustomServicesList.class)).thenReturn(gResultListModel);
         when(commonService.setResultModel(gResultListModel, Constants.RESULT_STATUS_SUCCESS)).thenReturn(gFinalResultListModel);
 
         //call method
-        CustomServicesList resultList = customServicesService.getCustomServicesList(NAMESPACE, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME);
+        CustomServicesList resultList = customServicesService.getCustomServicesList(NAMESPACE, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null);
 
         //compare result
         assertThat(resultList).isNotNull();
@@ -303,15 +304,16 @@ public class CustomServicesServiceTest {
     public void getCustomServicesListAdmin_Valid_ReturnModel() {
         //when
         when(propertyService.getCpMasterApiListServicesListUrl()).thenReturn("/api/v1/namespaces/{namespace}/services");
+        when(commonService.setCursorParams("/api/v1/namespaces/" + NAMESPACE + "/services", LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null, false)).thenReturn("/api/v1/namespaces/" + NAMESPACE + "/services");
         when(restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API, "/api/v1/namespaces/" + NAMESPACE + "/services", HttpMethod.GET, null, Map.class)).thenReturn(gResultAdminMap);
 
 
         when(commonService.setResultObject(gResultAdminMap, CustomServicesListAdmin.class)).thenReturn(gResultListAdminModel);
-        when(commonService.resourceListProcessing(gResultListAdminModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, CustomServicesListAdmin.class)).thenReturn(gResultListAdminModel);
+        when(commonService.resourceListProcessing(gResultListAdminModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null, false, CustomServicesListAdmin.class)).thenReturn(gResultListAdminModel);
         when(commonService.setResultModel(gResultListAdminModel, Constants.RESULT_STATUS_SUCCESS)).thenReturn(gFinalResultListAdminModel);
 
         //call method
-        CustomServicesListAdmin resultList = (CustomServicesListAdmin) customServicesService.getCustomServicesListAdmin(NAMESPACE, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME);
+        CustomServicesListAdmin resultList = (CustomServicesListAdmin) customServicesService.getCustomServicesListAdmin(NAMESPACE, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null);
 
         //compare result
         assertThat(resultList).isNotNull();
@@ -342,13 +344,14 @@ public class CustomServicesServiceTest {
 
         // ?fieldSelector=metadata.namespace!=kubernetes-dashboard,metadata.namespace!=kube-node-lease,metadata.namespace!=kube-public,metadata.namespace!=kube-system,metadata.namespace!=temp-namespace
         when(commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_NAMESPACE)).thenReturn(FIELD_SELECTOR);
+        when(commonService.setCursorParams("/api/v1/services?fieldSelector=metadata.namespace!=kubernetes-dashboard,metadata.namespace!=kube-node-lease,metadata.namespace!=kube-public,metadata.namespace!=kube-system,metadata.namespace!=temp-namespace", LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null, true)).thenReturn("/api/v1/services?fieldSelector=metadata.namespace!=kubernetes-dashboard,metadata.namespace!=kube-node-lease,metadata.namespace!=kube-public,metadata.namespace!=kube-system,metadata.namespace!=temp-namespace");
         when(restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API, "/api/v1/services?fieldSelector=metadata.namespace!=kubernetes-dashboard,metadata.namespace!=kube-node-lease,metadata.namespace!=kube-public,metadata.namespace!=kube-system,metadata.namespace!=temp-namespace", HttpMethod.GET, null, Map.class)).thenReturn(gResultAdminMap);
         when(commonService.setResultObject(gResultAdminMap, CustomServicesListAdmin.class)).thenReturn(gResultListAdminModel);
-        when(commonService.resourceListProcessing(gResultListAdminModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, CustomServicesListAdmin.class)).thenReturn(gResultListAdminModel);
+        when(commonService.resourceListProcessing(gResultListAdminModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null, true, CustomServicesListAdmin.class)).thenReturn(gResultListAdminModel);
         when(commonService.setResultModel(gResultListAdminModel, Constants.RESULT_STATUS_SUCCESS)).thenReturn(gFinalResultListAdminModel);
 
         //call method
-        CustomServicesListAdmin resultList = (CustomServicesListAdmin) customServicesService.getCustomServicesListAllNamespacesAdmin(OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME);
+        CustomServicesListAdmin resultList = (CustomServicesListAdmin) customServicesService.getCustomServicesListAllNamespacesAdmin(OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null);
 
         //compare result
         assertThat(resultList).isNotNull();
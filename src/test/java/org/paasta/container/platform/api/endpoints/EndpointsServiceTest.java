@@ -7,12 +7,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.paasta.container.platform.api.clusters.nodes.NodesAdmin;
 import org.paasta.container.platform.api.clusters.nodes.NodesService;
-import org.paasta.container.platform.api.clusters.nodes.support.NodesStatus;
 import org.paasta.container.platform.api.common.CommonService;
 import org.paasta.container.platform.api.common.Constants;
 import org.paasta.container.platform.api.common.PropertyService;
 import org.paasta.container.platform.api.common.RestTemplateService;
-import org.paasta.container.platform.api.common.model.CommonCondition;
 import org.paasta.container.platform.api.common.model.ResultStatus;
 import org.paasta.container.platform.api.endpoints.support.EndPointsDetailsItemAdmin;
 import org.paasta.container.platform.api.endpoints.support.EndpointAddress;
@@ -23,6 +21,7 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -123,21 +122,7 @@ public class EndpointsServiceTest {
 
         String nodeName = "paasta-cp-k8s-worker-001";
 
-        NodesAdmin nodesDetails = new NodesAdmin();
-        nodesDetails.setResultCode("SUCCESS");
-
-
-        NodesStatus nodesStatus = new NodesStatus();
-        List<CommonCondition> conditions = new ArrayList<>();
-
-        CommonCondition commonCondition = new CommonCondition();
-        commonCondition.setType("Ready");
-        commonCondition.setStatus("True");
-        conditions.add(commonCondition);
-        nodesStatus.setConditions(conditions);
-        nodesDetails.setStatus(nodesStatus);
-
-        when(nodesService.getNodesAdmin(nodeName)).thenReturn(nodesDetails);
+        when(nodesService.getNodesReadyAdmin()).thenReturn(Collections.singletonMap(nodeName, "True"));
 
 
         List<EndPointsDetailsItemAdmin> endPointsDetailsItemAdminsList = new ArrayList<>();
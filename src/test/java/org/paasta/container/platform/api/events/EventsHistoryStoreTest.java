@@ -0,0 +1,121 @@
+package org.paasta.container.platform.api.events;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class EventsHistoryStoreTest {
+    private static final Gson GSON = new Gson();
+
+    @Mock
+    EventsWatchHub eventsWatchHub;
+
+    @Test
+    public void onEvent_RepeatedEvents_AggregatedByReasonAndTemplate() {
+        EventsHistoryStore store = new EventsHistoryStore(eventsWatchHub, true, 20, 100, 3600);
+
+        store.onEvent("ADDED", event("e1", "Pod", "uid-a", "BackOff", "Back-off restarting failed container", 1, "2020-11-26T01:00:00Z", "2020-11-26T01:00:00Z"));
+        store.onEvent("MODIFIED", event("e1", "Pod", "uid-a", "BackOff", "Back-off restarting failed container", 3, "2020-11-26T01:00:00Z", "2020-11-26T01:05:00Z"));
+        store.onEvent("ADDED", event("e1", "Pod", "uid-a", "BackOff", "Back-off restarting failed container", 3, "2020-11-26T01:00:00Z", "2020-11-26T01:05:00Z"));
+        store.onEvent("ADDED", event("e2", "Pod", "uid-a", "FailedScheduling", "0/3 nodes are available: 3 Insufficient cpu.", 1, "2020-11-26T00:50:00Z", "2020-11-26T00:50:00Z"));
+        store.onEvent("ADDED", event("e3", "Pod", "uid-a", "FailedScheduling", "0/4 nodes are available: 4 Insufficient cpu.", 2, "2020-11-26T00:55:00Z", "2020-11-26T00:58:00Z"));
+        store.onEvent("ADDED", event("e4", "Pod", "uid-b", "Pulled", "Successfully pulled image", 1, "2020-11-26T01:00:00Z", "2020-11-26T01:00:00Z"));
+
+        List<EventsAdminItem> items = store.findEventsListAdmin("uid-a", null).getItems();
+
+        assertEquals(2, items.size());
+        assertEquals(3, (int) items.get(0).getCount());
+        assertEquals("2020-11-26T01:05:00Z", items.get(0).getLastTimestamp());
+        assertEquals(3, (int) items.get(1).getCount());
+        assertEquals("0/4 nodes are available: 4 Insufficient cpu.", items.get(1).getMessage());
+        assertEquals("2020-11-26T00:50:00Z", items.get(1).getFirstTimestamp());
+        assertEquals("2020-11-26T00:58:00Z", items.get(1).getLastTimestamp());
+        assertEquals(3, store.getEntryCount());
+    }
+
+    @Test
+    public void onEvent_RedeliveredAfterManyEvents_NotCountedTwice() {
+        EventsHistoryStore store = new EventsHistoryStore(eventsWatchHub, true, 2, 100, 3600);
+        store.onEvent("ADDED", event("backoff", "Pod", "uid-a", "BackOff", "Back-off restarting failed container", 5, "2020-11-26T01:00:00Z", "2020-11-26T01:05:00Z"));
+
+        // 4 * maxPerObject 보다 많은 다른 이벤트(more than 4 * maxPerObject other events)
+        for (int i = 0; i < 4 * 2 + 1; i++) {
+            store.onEvent("ADDED", event("pulled-" + i, "Pod", "uid-a", "Pulled", "Container image already present on machine", 1, "2020-11-26T01:00:00Z", "2020-11-26T01:00:00Z"));
+        }
+        // 재조회와 다음 MODIFIED(a relist and the next MODIFIED)
+        store.onEvent("ADDED", event("backoff", "Pod", "uid-a", "BackOff", "Back-off restarting failed container", 5, "2020-11-26T01:00:00Z", "2020-11-26T01:05:00Z"));
+        store.onEvent("MODIFIED", event("backoff", "Pod", "uid-a", "BackOff", "Back-off restarting failed container", 6, "2020-11-26T01:00:00Z", "2020-11-26T01:10:00Z"));
+
+        List<EventsAdminItem> items = store.findEventsListAdmin("uid-a", null).getItems();
+
+        assertEquals(2, items.size());
+        assertEquals(9, (int) items.get(0).getCount());
+        assertEquals(6, (int) items.get(1).getCount());
+        assertEquals("2020-11-26T01:10:00Z", items.get(1).getLastTimestamp());
+    }
+
+    @Test
+    public void findEventsListAdmin_Node_KeyedByName() {
+        EventsHistoryStore store = new EventsHistoryStore(eventsWatchHub, true, 20, 100, 3600);
+        store.onEvent("ADDED", event("e1", "Node", "worker-1", "NodeNotReady", "Node worker-1 status is now: NodeNotReady", 1, "2020-11-26T01:00:00Z", "2020-11-26T01:00:00Z"));
+
+        assertNotNull(store.findEventsListAdmin("worker-1", "node"));
+        assertNull(store.findEventsListAdmin("worker-1", null));
+    }
+
+    @Test
+    public void onEvent_OverTotal_EvictsLeastRecentlyUsedObject() {
+        EventsHistoryStore store = new EventsHistoryStore(eventsWatchHub, true, 2, 3, 3600);
+
+        store.onEvent("ADDED", event("e1", "Pod", "uid-a", "Pulled", "pulled", 1, "2020-11-26T01:00:00Z", "2020-11-26T01:00:00Z"));
+        store.onEvent("ADDED", event("e2", "Pod", "uid-a", "Created", "created", 1, "2020-11-26T01:00:00Z", "2020-11-26T01:00:00Z"));
+        store.onEvent("ADDED", event("e3", "Pod", "uid-a", "Started", "started", 1, "2020-11-26T01:00:00Z", "2020-11-26T01:00:00Z"));
+        store.onEvent("ADDED", event("e4", "Pod", "uid-b", "Pulled", "pulled", 1, "2020-11-26T01:00:00Z", "2020-11-26T01:00:00Z"));
+
+        // 리소스별 2개까지, uid-a 를 최근 사용으로(at most 2 per object; touch uid-a)
+        assertEquals(2, store.findEventsListAdmin("uid-a", null).getItems().size());
+        assertEquals(3, store.getEntryCount());
+
+        store.onEvent("ADDED", event("e5", "Pod", "uid-c", "Pulled", "pulled", 1, "2020-11-26T01:00:00Z", "2020-11-26T01:00:00Z"));
+
+        assertNull(store.findEventsListAdmin("uid-b", null));
+        assertNotNull(store.findEventsListAdmin("uid-a", null));
+        assertNotNull(store.findEventsListAdmin("uid-c", null));
+        assertEquals(2, store.getObjectCount());
+        assertEquals(3, store.getEntryCount());
+    }
+
+    @Test
+    public void findEventsListAdmin_Disabled_ReturnNull() {
+        EventsHistoryStore store = new EventsHistoryStore(eventsWatchHub, false, 20, 100, 3600);
+        store.start();
+        store.onEvent("ADDED", event("e1", "Pod", "uid-a", "Pulled", "pulled", 1, "2020-11-26T01:00:00Z", "2020-11-26T01:00:00Z"));
+
+        assertNull(store.findEventsListAdmin("uid-a", null));
+        verify(eventsWatchHub, never()).addListener(store);
+    }
+
+    private static JsonObject event(String uid, String kind, String involvedUid, String reason, String message, int count,
+                                    String firstTimestamp, String lastTimestamp) {
+        String involvedName = "Node".equals(kind) ? involvedUid : "pod-" + involvedUid;
+        return GSON.fromJson("{\"metadata\":{\"uid\":\"" + uid + "\",\"name\":\"" + uid + "\"},"
+                + "\"involvedObject\":{\"kind\":\"" + kind + "\",\"uid\":\"" + involvedUid + "\",\"name\":\"" + involvedName + "\"},"
+                + "\"reason\":\"" + reason + "\",\"message\":\"" + message + "\",\"count\":" + count + ","
+                + "\"source\":{\"component\":\"kubelet\",\"host\":\"worker-1\"},"
+                + "\"firstTimestamp\":\"" + firstTimestamp + "\",\"lastTimestamp\":\"" + lastTimestamp + "\"}", JsonObject.class);
+    }
+}
@@ -17,6 +17,10 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(SpringRunner.class)
@@ -44,6 +48,9 @@ public class EventsServiceTest {
     @Mock
     PropertyService propertyService;
 
+    @Mock
+    EventsHistoryStore eventsHistoryStore;
+
     @Mock
     EventsService eventsServiceMock;
 
@@ -107,6 +114,24 @@ public class EventsServiceTest {
         assertEquals(Constants.RESULT_STATUS_SUCCESS, resultList.getResultCode());
     }
 
+    /**
+     * Resource 의 Events Admin 목록 조회(Get Events Admin list) Test
+     * Events History Store 에서 응답
+     */
+    @Test
+    public void getEventsListAdmin_Held_ReturnHistory() {
+        // given
+        when(eventsHistoryStore.findEventsListAdmin(RESOURCE_UID, null)).thenReturn(gResultListAdminModel);
+        when(commonService.setResultModel(gResultListAdminModel, Constants.RESULT_STATUS_SUCCESS)).thenReturn(gFinalResultListAdminModel);
+
+        // when
+        EventsListAdmin resultList = (EventsListAdmin) eventsService.getEventsListAdmin(NAMESPACE, RESOURCE_UID, null);
+
+        // then
+        assertEquals(Constants.RESULT_STATUS_SUCCESS, resultList.getResultCode());
+        verify(restTemplateService, never()).sendAdmin(anyString(), anyString(), any(), any(), any());
+    }
+
     /**
      * 특정 Namespace 의 전체 Events 목록 조회(Get Events list in a Namespace) Test
      */
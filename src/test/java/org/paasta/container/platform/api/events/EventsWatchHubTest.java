@@ -0,0 +1,182 @@
+package org.paasta.container.platform.api.events;
+
+import com.google.gson.Gson;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.paasta.container.platform.api.common.Constants;
+import org.paasta.container.platform.api.common.PropertyService;
+import org.paasta.container.platform.api.common.RestTemplateService;
+import org.paasta.container.platform.api.common.UpstreamTarget;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class EventsWatchHubTest {
+    private static final String NAMESPACE = "cp-namespace";
+    private static final String EVENTS_URL = "/api/v1/namespaces/{namespace}/events";
+
+    @Mock
+    RestTemplateService restTemplateService;
+
+    @Mock
+    PropertyService propertyService;
+
+    EventsWatchHub eventsWatchHub;
+
+    UpstreamTarget target = new UpstreamTarget(Constants.TARGET_CP_MASTER_API, "https://cp-master", "Bearer admin");
+
+    BlockingQueue<String> watchBodies = new LinkedBlockingQueue<>();
+    List<String> watchUrls = new CopyOnWriteArrayList<>();
+    AtomicInteger listCount = new AtomicInteger();
+
+    @Before
+    public void setUp() {
+        eventsWatchHub = new EventsWatchHub(restTemplateService, propertyService, new Gson(), 60000, 50, 10, 3600, 3, 16, 2);
+        eventsWatchHub.start();
+
+        when(propertyService.getCpMasterApiListEventsListUrl()).thenReturn(EVENTS_URL);
+        when(propertyService.getCpMasterApiListEventsListAllNamespacesUrl()).thenReturn("/api/v1/events");
+        when(restTemplateService.resolveAdminTarget(Constants.TARGET_CP_MASTER_API)).thenReturn(target);
+        when(restTemplateService.sendForStream(eq(target), anyString(), any())).thenAnswer(invocation -> {
+            String reqUrl = invocation.getArgument(1);
+            ResponseExtractor<?> extractor = invocation.getArgument(2);
+            String body;
+
+            if (reqUrl.contains("watch=1")) {
+                watchUrls.add(reqUrl);
+                body = watchBodies.poll(2, TimeUnit.SECONDS);
+            } else {
+                body = "{\"metadata\":{\"resourceVersion\":\"" + (listCount.incrementAndGet() * 100) + "\"},\"items\":["
+                        + eventObject("99", "uid-listed") + "]}";
+            }
+            return extractor.extractData(new MockClientHttpResponse((body == null ? "" : body).getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+        });
+    }
+
+    @After
+    public void tearDown() {
+        eventsWatchHub.stop();
+    }
+
+    @Test
+    public void subscribe_OneWatchPerNamespace_FilteredPerSubscriber() throws Exception {
+        CapturingEmitter first = register("uid-a", null);
+        CapturingEmitter second = register("uid-b", null);
+
+        watchBodies.add(event("ADDED", "101", "uid-a") + event("ADDED", "102", "uid-b") + event("MODIFIED", "103", "uid-a"));
+
+        assertTrue(first.next().contains("id:101"));
+        assertTrue(first.next().contains("id:103"));
+        assertTrue(second.next().contains("id:102"));
+        assertNull(second.sent.poll(200, TimeUnit.MILLISECONDS));
+
+        assertEquals(1, listCount.get());
+        assertTrue(watchUrls.get(0).startsWith("/api/v1/namespaces/cp-namespace/events?watch=1"));
+        assertTrue(watchUrls.get(0).endsWith("&resourceVersion=100"));
+        assertEquals(2, eventsWatchHub.getSubscriberCount(NAMESPACE));
+    }
+
+    @Test
+    public void subscribe_LastEventId_ReplaysOrResets() throws Exception {
+        CapturingEmitter first = register(null, null);
+        watchBodies.add(event("ADDED", "101", "uid-a") + event("ADDED", "102", "uid-b") + event("ADDED", "103", "uid-a"));
+        first.next();
+        first.next();
+        first.next();
+
+        CapturingEmitter resumed = register("uid-a", "101");
+        assertTrue(resumed.next().contains("id:103"));
+        assertNull(resumed.sent.poll(200, TimeUnit.MILLISECONDS));
+
+        CapturingEmitter tooOld = register(null, "5");
+        String reset = tooOld.next();
+        assertTrue(reset.contains("event:" + EventsWatchHub.SSE_EVENT_RESET));
+        assertTrue(reset.contains("id:103"));
+    }
+
+    @Test
+    public void watch_Gone_ResetsSubscribersAndRelists() throws Exception {
+        CapturingEmitter first = register(null, null);
+        watchBodies.add("{\"type\":\"ERROR\",\"object\":{\"kind\":\"Status\",\"code\":410}}\n");
+
+        String reset = first.next();
+        assertTrue(reset.contains("event:" + EventsWatchHub.SSE_EVENT_RESET));
+        assertTrue(reset.contains("id:200"));
+
+        watchBodies.add(event("ADDED", "201", "uid-a"));
+        assertTrue(first.next().contains("id:201"));
+        assertTrue(watchUrls.get(1).endsWith("&resourceVersion=200"));
+    }
+
+    @Test
+    public void addListener_AllNamespacesWatch_NotifiesListedAndWatchedEvents() throws Exception {
+        BlockingQueue<String> notified = new LinkedBlockingQueue<>();
+        eventsWatchHub.addListener((type, event) -> notified.add(type + " " + event.getAsJsonObject("metadata").get("resourceVersion").getAsString()));
+
+        assertEquals("ADDED 99", notified.poll(2, TimeUnit.SECONDS));
+
+        watchBodies.add(event("MODIFIED", "101", "uid-a"));
+        assertEquals("MODIFIED 101", notified.poll(2, TimeUnit.SECONDS));
+        assertTrue(watchUrls.get(0).startsWith("/api/v1/events?watch=1"));
+        assertEquals(0, eventsWatchHub.getSubscriberCount(EventsWatchHub.ALL_NAMESPACES));
+    }
+
+    private CapturingEmitter register(String resourceUid, String lastEventId) {
+        CapturingEmitter emitter = new CapturingEmitter();
+        eventsWatchHub.register(NAMESPACE, new EventsWatchHub.EventsFilter(resourceUid, null), lastEventId, emitter);
+        return emitter;
+    }
+
+    private static String event(String type, String resourceVersion, String involvedUid) {
+        return "{\"type\":\"" + type + "\",\"object\":" + eventObject(resourceVersion, involvedUid) + "}\n";
+    }
+
+    private static String eventObject(String resourceVersion, String involvedUid) {
+        return "{\"metadata\":{\"name\":\"event-" + resourceVersion + "\",\"resourceVersion\":\"" + resourceVersion
+                + "\"},\"involvedObject\":{\"uid\":\"" + involvedUid + "\"},\"reason\":\"Pulled\"}";
+    }
+
+    static class CapturingEmitter extends SseEmitter {
+        final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                text.append(data.getData());
+            }
+            sent.add(text.toString());
+        }
+
+        String next() throws InterruptedException {
+            String text = sent.poll(2, TimeUnit.SECONDS);
+            assertTrue("no event sent", text != null);
+            return text;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package org.paasta.container.platform.api.metrics;
+
+import org.junit.Test;
+import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.workloads.pods.ContainerUsage;
+import org.paasta.container.platform.api.workloads.pods.Containers;
+import org.paasta.container.platform.api.workloads.pods.PodsMetric;
+import org.paasta.container.platform.api.workloads.pods.PodsUsage;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+public class MetricsTimeSeriesStoreTest {
+
+    private static final String NAMESPACE = "cp-namespace";
+
+    MetricsTimeSeriesStore metricsTimeSeriesStore = new MetricsTimeSeriesStore(30, 60, 300, 24, 100);
+
+    @Test
+    public void parseQuantity_Units() {
+        assertEquals(250_000, MetricsQuantity.parseCpuMicroCores("250m"));
+        assertEquals(123_457, MetricsQuantity.parseCpuMicroCores("123456789n"));
+        assertEquals(2_000_000, MetricsQuantity.parseCpuMicroCores("2"));
+        assertEquals(65_536, MetricsQuantity.parseMemoryKiB("64Mi"));
+        assertEquals(977, MetricsQuantity.parseMemoryKiB("1000k"));
+        assertEquals(MetricsQuantity.UNKNOWN, MetricsQuantity.parseMemoryKiB("bad"));
+    }
+
+    @Test
+    public void getPodTrend_RawSamplesSummedOverContainers() {
+        long now = alignedNow(30);
+        metricsTimeSeriesStore.recordPods(metric(pod("nginx-0", "app", "nginx", "100m", "64Mi", "10m", "8Mi")), now - 60);
+        metricsTimeSeriesStore.recordPods(metric(pod("nginx-0", "app", "nginx", "200m", "64Mi", "10m", "8Mi")), now - 30);
+        metricsTimeSeriesStore.recordPods(metric(pod("nginx-0", "app", "nginx", "300m", "64Mi", "10m", "8Mi")), now);
+
+        MetricsTrend trend = metricsTimeSeriesStore.getPodTrend(NAMESPACE, "nginx-0", 1, now);
+
+        assertEquals(30, trend.getStepSeconds());
+        assertThat(trend.getPoints()).extracting(MetricsTrendPoint::getCpuMillicores).containsExactly(110.0, 210.0, 310.0);
+        assertEquals(72L * 1024 * 1024, trend.getPoints().get(0).getMemoryBytes());
+        assertEquals(Instant.ofEpochSecond(now).toString(), trend.getPoints().get(2).getTimestamp());
+    }
+
+    @Test
+    public void getPodsTrend_MatchLabels() {
+        long now = alignedNow(30);
+        metricsTimeSeriesStore.recordPods(metric(pod("nginx-0", "app", "nginx", "100m", "64Mi"),
+                pod("nginx-1", "app", "nginx", "100m", "64Mi"), pod("redis-0", "app", "redis", "50m", "32Mi")), now);
+
+        assertThat(metricsTimeSeriesStore.getPodsTrend(MetricsTimeSeriesStore.KIND_DEPLOYMENT, NAMESPACE, "nginx",
+                Collections.singletonMap("app", "nginx"), 1, now).getPoints()).extracting(MetricsTrendPoint::getCpuMillicores).containsExactly(200.0);
+        assertThat(metricsTimeSeriesStore.getPodsTrend(MetricsTimeSeriesStore.KIND_DEPLOYMENT, NAMESPACE, "nginx",
+                null, 1, now).getPoints()).isEmpty();
+        assertThat(metricsTimeSeriesStore.getNamespaceTrend(NAMESPACE, 1, now).getPoints())
+                .extracting(MetricsTrendPoint::getSeriesCount).containsExactly(3);
+    }
+
+    @Test
+    public void getPodTrend_LongWindow_UseRollup() {
+        long now = alignedNow(300);
+        for (int i = 0; i < 20; i++) {
+            metricsTimeSeriesStore.recordPods(metric(pod("nginx-0", "app", "nginx", (i % 2 == 0 ? "100m" : "300m"), "64Mi")), now - 600 + i * 30);
+        }
+
+        MetricsTrend trend = metricsTimeSeriesStore.getPodTrend(NAMESPACE, "nginx-0", 24, now);
+
+        assertEquals(300, trend.getStepSeconds());
+        assertThat(trend.getPoints()).extracting(MetricsTrendPoint::getCpuMillicores).containsExactly(200.0, 200.0);
+    }
+
+    @Test
+    public void evictExpired_DropOldSeries() {
+        long now = alignedNow(30);
+        metricsTimeSeriesStore.recordPods(metric(pod("nginx-0", "app", "nginx", "100m", "64Mi")), now - 25 * 3600);
+        metricsTimeSeriesStore.recordPods(metric(pod("nginx-1", "app", "nginx", "100m", "64Mi")), now);
+
+        metricsTimeSeriesStore.evictExpired(now);
+
+        assertThat(metricsTimeSeriesStore.getNamespaceTrend(NAMESPACE, 1, now).getPoints())
+                .extracting(MetricsTrendPoint::getSeriesCount).containsExactly(1);
+    }
+
+    @Test
+    public void series_RingKeepsLatestSamples() {
+        MetricsSeries series = new MetricsSeries(3, 4, 60);
+        for (int time = 0; time < 150; time += 30) {
+            series.add(time, time, time);
+        }
+
+        long[] cpu = new long[5];
+        long[] memory = new long[5];
+        int[] present = new int[5];
+        series.accumulate(true, 0, 30, cpu, memory, present);
+
+        assertThat(present).containsExactly(0, 0, 1, 1, 1);
+        assertThat(cpu).containsExactly(0, 0, 60, 90, 120);
+
+        cpu = new long[3];
+        series.accumulate(false, 0, 60, cpu, new long[3], new int[3]);
+        assertThat(cpu).containsExactly(15, 75, 120);
+    }
+
+    private static long alignedNow(int step) {
+        long now = Instant.now().getEpochSecond() + 3600;
+        return now - now % step;
+    }
+
+    private static PodsMetric metric(PodsUsage... podsUsages) {
+        List<PodsUsage> items = new ArrayList<>();
+        Collections.addAll(items, podsUsages);
+        PodsMetric podsMetric = new PodsMetric();
+        podsMetric.setItems(items);
+        return podsMetric;
+    }
+
+    /**
+     * container 별 cpu, memory 쌍(usages given as cpu, memory pairs per container)
+     */
+    private static PodsUsage pod(String name, String labelKey, String labelValue, String... usages) {
+        Map<String, String> labels = new HashMap<>();
+        labels.put(labelKey, labelValue);
+        CommonMetaData metadata = new CommonMetaData();
+        metadata.setNamespace(NAMESPACE);
+        metadata.setName(name);
+        metadata.setLabels(labels);
+
+        List<Containers> containers = new ArrayList<>();
+        for (int i = 0; i < usages.length; i += 2) {
+            ContainerUsage usage = new ContainerUsage();
+            usage.setCpu(usages[i]);
+            usage.setMemory(usages[i + 1]);
+            Containers container = new Containers();
+            container.setName("container-" + i);
+            container.setUsage(usage);
+            containers.add(container);
+        }
+
+        PodsUsage podsUsage = new PodsUsage();
+        podsUsage.setMetadata(metadata);
+        podsUsage.setContainers(containers);
+        return podsUsage;
+    }
+}
@@ -0,0 +1,108 @@
+package org.paasta.container.platform.api.metrics;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.paasta.container.platform.api.common.CommonService;
+import org.paasta.container.platform.api.common.Constants;
+import org.paasta.container.platform.api.common.PropertyService;
+import org.paasta.container.platform.api.common.RestTemplateService;
+import org.paasta.container.platform.api.common.model.CommonLabelSelector;
+import org.paasta.container.platform.api.common.model.ResultStatus;
+import org.paasta.container.platform.api.workloads.deployments.Deployments;
+import org.paasta.container.platform.api.workloads.deployments.support.DeploymentsSpec;
+import org.paasta.container.platform.api.workloads.pods.Pods;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class MetricsTrendServiceTest {
+
+    private static final String NAMESPACE = "cp-namespace";
+    private static final String DEPLOYMENT_NAME = "nginx";
+    private static final String POD_NAME = "nginx-0";
+    private static final String DEPLOYMENTS_GET_URL = "/api/namespaces/{namespace}/deployments/{name}";
+    private static final String PODS_GET_URL = "/api/namespaces/{namespace}/pods/{name}";
+
+    @Mock
+    RestTemplateService restTemplateService;
+
+    @Mock
+    CommonService commonService;
+
+    @Mock
+    PropertyService propertyService;
+
+    @Spy
+    MetricsTimeSeriesStore metricsTimeSeriesStore = new MetricsTimeSeriesStore(30, 60, 300, 24, 100);
+
+    @InjectMocks
+    MetricsTrendService metricsTrendService;
+
+    @Before
+    public void setUp() {
+        when(propertyService.getCpMasterApiListDeploymentsGetUrl()).thenReturn(DEPLOYMENTS_GET_URL);
+        when(propertyService.getCpMasterApiListPodsGetUrl()).thenReturn(PODS_GET_URL);
+        when(commonService.setResultModel(any(MetricsTrend.class), eq(Constants.RESULT_STATUS_SUCCESS)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    public void getDeploymentTrend_UseSelectorMatchLabels() {
+        CommonLabelSelector selector = new CommonLabelSelector();
+        selector.setMatchLabels(Collections.singletonMap("app", DEPLOYMENT_NAME));
+        DeploymentsSpec spec = new DeploymentsSpec();
+        spec.setSelector(selector);
+        Deployments deployments = new Deployments();
+        deployments.setSpec(spec);
+        when(restTemplateService.sendForModel(Constants.TARGET_CP_MASTER_API, "/api/namespaces/" + NAMESPACE + "/deployments/" + DEPLOYMENT_NAME, Deployments.class))
+                .thenReturn(deployments);
+
+        MetricsTrend result = (MetricsTrend) metricsTrendService.getDeploymentTrend(NAMESPACE, DEPLOYMENT_NAME, 1, false);
+
+        assertEquals(MetricsTimeSeriesStore.KIND_DEPLOYMENT, result.getKind());
+        verify(metricsTimeSeriesStore).getPodsTrend(eq(MetricsTimeSeriesStore.KIND_DEPLOYMENT), eq(NAMESPACE), eq(DEPLOYMENT_NAME),
+                eq(Collections.singletonMap("app", DEPLOYMENT_NAME)), eq(1), anyLong());
+    }
+
+    @Test
+    public void getDeploymentTrend_Admin_NotFound_ReturnResultStatus() {
+        when(restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, "/api/namespaces/" + NAMESPACE + "/deployments/" + DEPLOYMENT_NAME, Deployments.class))
+                .thenReturn(Constants.NOT_FOUND_RESULT_STATUS);
+
+        Object result = metricsTrendService.getDeploymentTrend(NAMESPACE, DEPLOYMENT_NAME, 1, true);
+
+        assertEquals(Constants.NOT_FOUND_RESULT_STATUS, (ResultStatus) result);
+        verify(metricsTimeSeriesStore, never()).getPodsTrend(any(), any(), any(), any(), anyInt(), anyLong());
+    }
+
+    @Test
+    public void getPodTrend_User_CheckAccessWithUserToken() {
+        MetricsTrend result = (MetricsTrend) metricsTrendService.getPodTrend(NAMESPACE, POD_NAME, 1, false);
+
+        assertEquals(POD_NAME, result.getName());
+        verify(restTemplateService).sendForModel(Constants.TARGET_CP_MASTER_API, "/api/namespaces/" + NAMESPACE + "/pods/" + POD_NAME, Pods.class);
+    }
+
+    @Test
+    public void getPodTrend_Admin_SkipAccessCheck() {
+        metricsTrendService.getPodTrend(NAMESPACE, POD_NAME, 1, true);
+
+        verify(restTemplateService, never()).sendForModel(any(), any(), eq(Pods.class));
+    }
+}
@@ -0,0 +1,87 @@
+package org.paasta.container.platform.api.overview;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.paasta.container.platform.api.common.watch.CachedResource;
+import org.paasta.container.platform.api.common.watch.WatchResourceType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class OverviewAggregatorTest {
+
+    Gson gson = new Gson();
+
+    OverviewAggregator overviewAggregator = new OverviewAggregator();
+
+    @Test
+    public void getCounts_BeforeList_ReturnNull() {
+        assertNull(overviewAggregator.getCounts(WatchResourceType.PODS, null, null));
+    }
+
+    @Test
+    public void events_UpdateCountsIncrementally() {
+        overviewAggregator.onReplaced(WatchResourceType.PODS, Arrays.asList(
+                pod("ns-a", "nginx-0", "running"), pod("ns-a", "nginx-1", "waiting"), pod("kube-system", "dns-0", "running")));
+
+        assertCounts(2, 1, overviewAggregator.getCounts(WatchResourceType.PODS, null, null));
+        assertCounts(1, 1, overviewAggregator.getCounts(WatchResourceType.PODS, null, Collections.singletonList("kube-system")));
+
+        // waiting -> running, 추가, 삭제(waiting -> running, added, deleted)
+        overviewAggregator.onUpserted(WatchResourceType.PODS, pod("ns-a", "nginx-1", "running"));
+        overviewAggregator.onUpserted(WatchResourceType.PODS, pod("ns-b", "redis-0", "waiting"));
+        overviewAggregator.onDeleted(WatchResourceType.PODS, pod("ns-a", "nginx-0", "running"));
+
+        assertCounts(1, 0, overviewAggregator.getCounts(WatchResourceType.PODS, "ns-a", null));
+        assertCounts(0, 1, overviewAggregator.getCounts(WatchResourceType.PODS, "ns-b", null));
+        assertCounts(0, 0, overviewAggregator.getCounts(WatchResourceType.PODS, "ns-none", null));
+        assertCounts(2, 1, overviewAggregator.getCounts(WatchResourceType.PODS, null, null));
+    }
+
+    @Test
+    public void onReplaced_NamespacesCountedByName() {
+        overviewAggregator.onReplaced(WatchResourceType.NAMESPACES, Arrays.asList(
+                resource("{\"metadata\":{\"name\":\"ns-a\"}}"), resource("{\"metadata\":{\"name\":\"kube-system\"}}")));
+
+        assertEquals(1, overviewAggregator.getCounts(WatchResourceType.NAMESPACES, null, Collections.singletonList("kube-system")).getTotal());
+    }
+
+    @Test
+    public void isFailed_SameRulesAsUsage() {
+        assertTrue(OverviewAggregator.isFailed(WatchResourceType.PODS, resource("{\"metadata\":{\"name\":\"p\"},\"status\":{\"phase\":\"Pending\"}}")));
+        assertFalse(OverviewAggregator.isFailed(WatchResourceType.PODS, pod("ns-a", "p", "terminated")));
+        assertTrue(OverviewAggregator.isFailed(WatchResourceType.DEPLOYMENTS, resource(
+                "{\"metadata\":{\"name\":\"d\"},\"status\":{\"replicas\":2,\"availableReplicas\":1,\"unavailableReplicas\":1}}")));
+        assertFalse(OverviewAggregator.isFailed(WatchResourceType.DEPLOYMENTS, resource(
+                "{\"metadata\":{\"name\":\"d\"},\"status\":{\"replicas\":2,\"availableReplicas\":2}}")));
+        assertTrue(OverviewAggregator.isFailed(WatchResourceType.REPLICASETS, resource(
+                "{\"metadata\":{\"name\":\"r\"},\"status\":{\"replicas\":3,\"availableReplicas\":2}}")));
+        assertFalse(OverviewAggregator.isFailed(WatchResourceType.REPLICASETS, resource(
+                "{\"metadata\":{\"name\":\"r\"},\"status\":{\"replicas\":0}}")));
+    }
+
+    private static void assertCounts(int running, int failed, OverviewAggregator.Counts counts) {
+        assertEquals(running, counts.getRunning());
+        assertEquals(failed, counts.getFailed());
+    }
+
+    private CachedResource pod(String namespace, String name, String state) {
+        return resource("{\"metadata\":{\"name\":\"" + name + "\",\"namespace\":\"" + namespace + "\"},"
+                + "\"status\":{\"containerStatuses\":[{\"state\":{\"" + state + "\":{}}}]}}");
+    }
+
+    private CachedResource resource(String json) {
+        return CachedResource.of(gson, JsonParser.parseString(json).getAsJsonObject());
+    }
+}
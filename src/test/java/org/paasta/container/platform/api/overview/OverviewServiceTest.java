@@ -1,18 +1,29 @@
 package org.paasta.container.platform.api.overview;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.paasta.container.platform.api.clusters.namespaces.NamespacesListAdmin;
 import org.paasta.container.platform.api.clusters.namespaces.NamespacesService;
 import org.paasta.container.platform.api.common.CommonService;
 import org.paasta.container.platform.api.common.Constants;
 import org.paasta.container.platform.api.common.PropertyService;
 import org.paasta.container.platform.api.common.RestTemplateService;
+import org.paasta.container.platform.api.common.UpstreamTarget;
+import org.paasta.container.platform.api.common.concurrent.FanOutExecutor;
 import org.paasta.container.platform.api.common.model.CommonItemMetaData;
+import org.paasta.container.platform.api.common.model.CommonTable;
+import org.paasta.container.platform.api.common.model.CommonTableColumn;
+import org.paasta.container.platform.api.common.model.CommonTableRow;
 import org.paasta.container.platform.api.common.model.ResultStatus;
+import org.paasta.container.platform.api.common.watch.CachedResource;
+import org.paasta.container.platform.api.common.watch.ResourceWatchCacheManager;
+import org.paasta.container.platform.api.common.watch.WatchResourceType;
 import org.paasta.container.platform.api.users.UsersList;
 import org.paasta.container.platform.api.users.UsersModel;
 import org.paasta.container.platform.api.users.UsersService;
@@ -25,13 +36,18 @@ import org.paasta.container.platform.api.workloads.replicaSets.ReplicaSetsServic
 import org.springframework.http.HttpMethod;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @RunWith(SpringRunner.class)
@@ -40,6 +56,7 @@ public class OverviewServiceTest {
     private static final String CLUSTER = "test-cluster";
     private static final String NAMESPACE = "test-namespace";
     private static final String EMPTY = "";
+    private static final UpstreamTarget COMMON_API_TARGET = new UpstreamTarget(Constants.TARGET_COMMON_API, "http://common-api", "Basic common");
 
     private static Overview gFinalOverviewAllResultModel = null;
     private static Overview gFinalOverviewResultModel = null;
@@ -78,6 +95,15 @@ public class OverviewServiceTest {
     @Mock
     CommonService commonService;
 
+    @Mock
+    ResourceWatchCacheManager resourceWatchCacheManager;
+
+    @Mock
+    OverviewAggregator overviewAggregator;
+
+    @Spy
+    FanOutExecutor fanOutExecutor = new FanOutExecutor(4, 10, 5000);
+
     @InjectMocks
     OverviewService overviewService;
 
@@ -136,11 +162,11 @@ public class OverviewServiceTest {
                 .thenReturn(NAMESPACE);
         when(namespacesService.getNamespacesListAdmin(0,0,"creationTime", "desc", ""))
                 .thenReturn(gResultNamespacesListAdminModel);
-        when(deploymentsService.getDeploymentsListAdmin(NAMESPACE,0,0,"creationTime", "desc", ""))
+        when(deploymentsService.getDeploymentsListAdmin(NAMESPACE,0,0,"creationTime", "desc", "", null))
                 .thenReturn(gResultDeploymentsListAdminModel);
-        when(podsService.getPodsListAdmin(NAMESPACE,0,0,"creationTime", "desc", ""))
+        when(podsService.getPodsListAdmin(NAMESPACE,0,0,"creationTime", "desc", "", null))
                 .thenReturn(gResultPodsListAdminModel);
-        when(replicaSetsService.getReplicaSetsListAdmin(NAMESPACE,0,0,"creationTime", "desc", ""))
+        when(replicaSetsService.getReplicaSetsListAdmin(NAMESPACE,0,0,"creationTime", "desc", "", null))
                 .thenReturn(gResultReplicaSetsListAdminModel);
         when(restTemplateService.send(Constants.TARGET_COMMON_API, Constants.URI_COMMON_API_USERS_LIST_BY_NAMESPACE.
                 replace("{cluster:.+}", CLUSTER).replace("{namespace:.+}", NAMESPACE), HttpMethod.GET, null, UsersList.class))
@@ -152,11 +178,11 @@ public class OverviewServiceTest {
 
     @Test
     public void getOverview() {
-        when(deploymentsService.getDeploymentsListAdmin(NAMESPACE,0,0,"creationTime", "desc", ""))
+        when(deploymentsService.getDeploymentsListAdmin(NAMESPACE,0,0,"creationTime", "desc", "", null))
                 .thenReturn(gResultDeploymentsListAdminModel);
-        when(podsService.getPodsListAdmin(NAMESPACE,0,0,"creationTime", "desc", ""))
+        when(podsService.getPodsListAdmin(NAMESPACE,0,0,"creationTime", "desc", "", null))
                 .thenReturn(gResultPodsListAdminModel);
-        when(replicaSetsService.getReplicaSetsListAdmin(NAMESPACE,0,0,"creationTime", "desc", ""))
+        when(replicaSetsService.getReplicaSetsListAdmin(NAMESPACE,0,0,"creationTime", "desc", "", null))
                 .thenReturn(gResultReplicaSetsListAdminModel);
 
         when(restTemplateService.send(Constants.TARGET_COMMON_API, Constants.URI_COMMON_API_USERS_LIST_BY_NAMESPACE.
@@ -170,11 +196,11 @@ public class OverviewServiceTest {
 
     @Test
     public void getOverviewAdmin() {
-        when(deploymentsService.getDeploymentsListAllNamespacesAdmin(0,0,"creationTime", "desc", ""))
+        when(deploymentsService.getDeploymentsListAllNamespacesAdmin(0,0,"creationTime", "desc", "", null))
                 .thenReturn(gResultDeploymentsListAdminModel);
-        when(podsService.getPodsListAllNamespacesAdmin(0,0,"creationTime", "desc", ""))
+        when(podsService.getPodsListAllNamespacesAdmin(0,0,"creationTime", "desc", "", null))
                 .thenReturn(gResultPodsListAdminModel);
-        when(replicaSetsService.getReplicaSetsListAllNamespacesAdmin(0,0,"creationTime", "desc", ""))
+        when(replicaSetsService.getReplicaSetsListAllNamespacesAdmin(0,0,"creationTime", "desc", "", null))
                 .thenReturn(gResultReplicaSetsListAdminModel);
         when(restTemplateService.send(Constants.TARGET_COMMON_API, Constants.URI_COMMON_API_USERS_LIST_BY_NAMESPACE.
                 replace("{cluster:.+}", CLUSTER).replace("{namespace:.+}", NAMESPACE), HttpMethod.GET, null, UsersList.class))
@@ -184,4 +210,142 @@ public class OverviewServiceTest {
 
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getOverview_FetchConcurrently() {
+        mockOverviewLists();
+
+        Overview overview = overviewService.getOverview(CLUSTER, NAMESPACE);
+
+        assertThat(overview.getNamespacesCount()).isEqualTo(1);
+        assertThat(overview.getUsersCount()).isEqualTo(gResultUsersListModel.getItems().size());
+        assertEquals(gFinalOverviewResultModel.getPodsUsage(), overview.getPodsUsage());
+    }
+
+    @Test
+    public void getOverview_FailedCall_PartialResult() {
+        mockOverviewLists();
+        when(podsService.getPodsListAdmin(NAMESPACE,0,0,"creationTime", "desc", "", null))
+                .thenThrow(new IllegalStateException("upstream unavailable"));
+
+        Overview overview = overviewService.getOverview(CLUSTER, NAMESPACE);
+
+        assertThat(overview.getPodsCount()).isEqualTo(0);
+        assertThat(overview.getUsersCount()).isEqualTo(gResultUsersListModel.getItems().size());
+    }
+
+    private void mockOverviewLists() {
+        when(deploymentsService.getDeploymentsListAdmin(NAMESPACE,0,0,"creationTime", "desc", "", null))
+                .thenReturn(gResultDeploymentsListAdminModel);
+        when(podsService.getPodsListAdmin(NAMESPACE,0,0,"creationTime", "desc", "", null))
+                .thenReturn(gResultPodsListAdminModel);
+        when(replicaSetsService.getReplicaSetsListAdmin(NAMESPACE,0,0,"creationTime", "desc", "", null))
+                .thenReturn(gResultReplicaSetsListAdminModel);
+        when(restTemplateService.resolveTarget(Constants.TARGET_COMMON_API))
+                .thenReturn(COMMON_API_TARGET);
+        when(restTemplateService.send(COMMON_API_TARGET, Constants.URI_COMMON_API_USERS_LIST_BY_NAMESPACE.
+                replace("{cluster:.+}", CLUSTER).replace("{namespace:.+}", NAMESPACE), HttpMethod.GET, null, UsersList.class))
+                .thenReturn(gResultUsersListModel);
+        when(commonService.setResultModel(any(Overview.class), eq(Constants.RESULT_STATUS_SUCCESS)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    public void getOverview_SummaryQuery_TableProjection() {
+        mockOverviewLists();
+        ReflectionTestUtils.setField(overviewService, "summaryQueryEnabled", true);
+        when(propertyService.getCpMasterApiListDeploymentsListUrl()).thenReturn("/apis/apps/v1/namespaces/{namespace}/deployments");
+        when(propertyService.getCpMasterApiListPodsListUrl()).thenReturn("/api/v1/namespaces/{namespace}/pods");
+        when(propertyService.getCpMasterApiListReplicaSetsListUrl()).thenReturn("/apis/apps/v1/namespaces/{namespace}/replicasets");
+        when(restTemplateService.sendAdminForTable(Constants.TARGET_CP_MASTER_API, "/apis/apps/v1/namespaces/" + NAMESPACE + "/deployments"))
+                .thenReturn(table(new String[]{"Name", "Ready", "Up-to-date", "Available"},
+                        new Object[]{"nginx", "2/2", 2, 2}, new Object[]{"redis", "1/2", 2, 1}));
+        when(restTemplateService.sendAdminForTable(Constants.TARGET_CP_MASTER_API, "/api/v1/namespaces/" + NAMESPACE + "/pods"))
+                .thenReturn(table(new String[]{"Name", "Ready", "Status", "Restarts"},
+                        new Object[]{"nginx-0", "1/1", "Running", 0}, new Object[]{"nginx-1", "0/1", "CrashLoopBackOff", 3},
+                        new Object[]{"redis-0", "0/1", "Init:0/1", 0}, new Object[]{"job-0", "0/1", "Completed", 0}));
+        // Table 을 받지 못하면 목록 조회로 대체(falls back to the list without a Table)
+        when(restTemplateService.sendAdminForTable(Constants.TARGET_CP_MASTER_API, "/apis/apps/v1/namespaces/" + NAMESPACE + "/replicasets"))
+                .thenReturn(null);
+
+        Overview overview = overviewService.getOverview(CLUSTER, NAMESPACE);
+
+        assertThat(overview.getDeploymentsCount()).isEqualTo(2);
+        assertThat(overview.getDeploymentsUsage()).containsEntry("running", "50").containsEntry("failed", "50");
+        assertThat(overview.getPodsCount()).isEqualTo(4);
+        assertThat(overview.getPodsUsage()).containsEntry("running", "50").containsEntry("failed", "50");
+        assertThat(overview.getReplicaSetsUsage()).isEqualTo(gFinalOverviewResultModel.getReplicaSetsUsage());
+    }
+
+    @Test
+    public void getOverviewAll_SummaryQuery_CountNamespaces() {
+        ReflectionTestUtils.setField(overviewService, "summaryQueryEnabled", true);
+        when(restTemplateService.resolveTarget(Constants.TARGET_COMMON_API)).thenReturn(COMMON_API_TARGET);
+        when(propertyService.getDefaultNamespace()).thenReturn(NAMESPACE);
+        when(propertyService.getCpMasterApiListNamespacesListUrl()).thenReturn("/api/v1/namespaces");
+        when(commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_CLUSTER)).thenReturn("?fieldSelector=metadata.name!=kube-system");
+        when(restTemplateService.countAdmin(Constants.TARGET_CP_MASTER_API, "/api/v1/namespaces?fieldSelector=metadata.name!=kube-system"))
+                .thenReturn(7);
+        when(commonService.setResultModelWithNextUrl(any(Overview.class), eq(Constants.RESULT_STATUS_SUCCESS), eq("EMPTY")))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        Overview overview = overviewService.getOverviewAll(CLUSTER);
+
+        assertThat(overview.getNamespacesCount()).isEqualTo(7);
+    }
+
+    @Test
+    public void getOverviewAll_WatchCacheFresh_UseAggregates() {
+        ReflectionTestUtils.setField(overviewService, "ignoreNamespaceList", Arrays.asList("kube-system"));
+        when(restTemplateService.resolveTarget(Constants.TARGET_COMMON_API)).thenReturn(COMMON_API_TARGET);
+        when(propertyService.getDefaultNamespace()).thenReturn(NAMESPACE);
+        when(resourceWatchCacheManager.isFresh(any(WatchResourceType.class))).thenReturn(true);
+        when(overviewAggregator.getCounts(any(WatchResourceType.class), eq(null), eq(Arrays.asList("kube-system"))))
+                .thenReturn(null);
+        when(overviewAggregator.getCounts(WatchResourceType.NAMESPACES, null, Arrays.asList("kube-system")))
+                .thenReturn(counts(5, 0));
+        when(overviewAggregator.getCounts(WatchResourceType.PODS, null, Arrays.asList("kube-system")))
+                .thenReturn(counts(3, 1));
+        when(commonService.setResultModelWithNextUrl(any(Overview.class), eq(Constants.RESULT_STATUS_SUCCESS), eq("EMPTY")))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        Overview overview = overviewService.getOverviewAll(CLUSTER);
+
+        assertThat(overview.getNamespacesCount()).isEqualTo(5);
+        assertThat(overview.getPodsCount()).isEqualTo(4);
+        assertThat(overview.getPodsUsage()).containsEntry("running", "75").containsEntry("failed", "25");
+        // 집계 준비 전 유형은 목록 조회로 대체(types without aggregates yet fall back to the list)
+        assertThat(overview.getDeploymentsCount()).isEqualTo(0);
+    }
+
+    private static OverviewAggregator.Counts counts(int running, int failed) {
+        OverviewAggregator aggregator = new OverviewAggregator();
+        Gson gson = new Gson();
+        List<CachedResource> resources = new ArrayList<>();
+        for (int i = 0; i < running + failed; i++) {
+            String state = i < running ? "running" : "waiting";
+            resources.add(CachedResource.of(gson, JsonParser.parseString("{\"metadata\":{\"name\":\"pod-" + i + "\",\"namespace\":\"ns\"},"
+                    + "\"status\":{\"containerStatuses\":[{\"state\":{\"" + state + "\":{}}}]}}").getAsJsonObject()));
+        }
+        aggregator.onReplaced(WatchResourceType.PODS, resources);
+        return aggregator.getCounts(WatchResourceType.PODS, null, null);
+    }
+
+    private static CommonTable table(String[] columns, Object[]... rows) {
+        CommonTable table = new CommonTable();
+        table.setKind(CommonTable.KIND_TABLE);
+        table.setColumnDefinitions(new ArrayList<>());
+        for (String column : columns) {
+            CommonTableColumn columnDefinition = new CommonTableColumn();
+            columnDefinition.setName(column);
+            table.getColumnDefinitions().add(columnDefinition);
+        }
+        table.setRows(new ArrayList<>());
+        for (Object[] cells : rows) {
+            CommonTableRow row = new CommonTableRow();
+            row.setCells(Arrays.asList(cells));
+            table.getRows().add(row);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,126 @@
+package org.paasta.container.platform.api.workloads.pods;
+
+import org.junit.Test;
+import org.paasta.container.platform.api.common.model.CommonContainer;
+import org.paasta.container.platform.api.common.model.CommonResourceRequirement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 1,000 / 10,000 개 Pod 목록에 대한 metrics 병합 방식 비교
+ * (Compares the nested-loop metrics merge with the indexed join on 1,000 and 10,000 pod lists)
+ */
+public class MetricsMergeBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetricsMergeBenchmarkTest.class);
+    private static final int NAMESPACE_COUNT = 20;
+    private static final int WARM_UP_ITERATIONS = 2;
+    private static final int MEASURE_ITERATIONS = 3;
+
+    // 시간은 기록만 하고 비교하지 않음, 부하가 있는 CI 에서 결과가 흔들림(timings are logged, not asserted; they vary on loaded CI machines)
+    @Test
+    public void indexedJoin_1kPods() {
+        measure(1000);
+    }
+
+    @Test
+    public void indexedJoin_10kPods() {
+        measure(10000);
+    }
+
+    /**
+     * 두 방식의 결과 확인 후 병합 시간 기록(Check both merges give the same result, then log their merge time)
+     */
+    private void measure(int podCount) {
+        List<Pods> pods = createPods(podCount);
+        PodsMetric podsMetric = createMetric(podCount);
+
+        mergeNestedLoop(pods, podsMetric);
+        assertEquals("cpu-" + (podCount - 1), usageOf(pods.get(0)));
+        clearUsage(pods);
+        PodsMetricIndex.of(podsMetric).mergeInto(pods);
+        assertEquals("cpu-" + (podCount - 1), usageOf(pods.get(0)));
+
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            mergeNestedLoop(pods, podsMetric);
+            PodsMetricIndex.of(podsMetric).mergeInto(pods);
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            mergeNestedLoop(pods, podsMetric);
+        }
+        long nestedLoopNanos = (System.nanoTime() - startTime) / MEASURE_ITERATIONS;
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            PodsMetricIndex.of(podsMetric).mergeInto(pods);
+        }
+        long indexedNanos = (System.nanoTime() - startTime) / MEASURE_ITERATIONS;
+
+        LOGGER.info("MERGE METRICS {} PODS :: NESTED LOOP {} us, INDEXED JOIN {} us", podCount,
+                nestedLoopNanos / 1000, indexedNanos / 1000);
+    }
+
+    /**
+     * 기존 방식 : pod x metric x container x container usage 순회
+     * (Previous PodsService.getMergeMetric : pod x metric x container x container usage)
+     */
+    private static void mergeNestedLoop(List<Pods> pods, PodsMetric podsMetric) {
+        for (Pods pod : pods) {
+            for (PodsUsage podsUsage : podsMetric.getItems()) {
+                if (pod.getMetadata().getName().equals(podsUsage.getMetadata().getName())) {
+                    for (CommonContainer container : pod.getSpec().getContainers()) {
+                        for (Containers containerUsage : podsUsage.getContainers()) {
+                            if (container.getName().equals(containerUsage.getName())) {
+                                HashMap usage = new HashMap();
+                                usage.put("cpu", containerUsage.getUsage().getCpu());
+                                usage.put("memory", containerUsage.getUsage().getMemory());
+                                if (container.getResources() == null) {
+                                    container.setResources(new CommonResourceRequirement());
+                                }
+                                container.getResources().setUsage(usage);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Pods> createPods(int podCount) {
+        List<Pods> pods = new ArrayList<>(podCount);
+        for (int i = 0; i < podCount; i++) {
+            pods.add(PodsMetricIndexTest.pod("ns-" + (i % NAMESPACE_COUNT), "nginx-deployment-66b6c48dd5-" + i, "nginx"));
+        }
+        // metrics 응답은 Pod 목록과 다른 순서(metrics come back in a different order than the pod list)
+        Collections.reverse(pods);
+        return pods;
+    }
+
+    private static PodsMetric createMetric(int podCount) {
+        PodsMetric podsMetric = PodsMetricIndexTest.metric();
+        for (int i = 0; i < podCount; i++) {
+            podsMetric.getItems().add(PodsMetricIndexTest.usage("ns-" + (i % NAMESPACE_COUNT), "nginx-deployment-66b6c48dd5-" + i,
+                    "nginx", "cpu-" + i, "memory-" + i));
+        }
+        return podsMetric;
+    }
+
+    private static Object usageOf(Pods pod) {
+        return pod.getSpec().getContainers().get(0).getResources().getUsage().get("cpu");
+    }
+
+    private static void clearUsage(List<Pods> pods) {
+        for (Pods pod : pods) {
+            pod.getSpec().getContainers().get(0).setResources(null);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.paasta.container.platform.api.workloads.pods;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.paasta.container.platform.api.common.Constants;
+import org.paasta.container.platform.api.common.RestTemplateService;
+import org.paasta.container.platform.api.common.UpstreamTarget;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.client.ResponseExtractor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class PodsLogMergerTest {
+
+    @Mock
+    RestTemplateService restTemplateService;
+
+    UpstreamTarget target = new UpstreamTarget(Constants.TARGET_CP_MASTER_API, "https://cp-master", "Bearer token");
+
+    PodsLogMerger podsLogMerger;
+
+    @After
+    public void tearDown() {
+        podsLogMerger.shutdown();
+    }
+
+    @Test
+    public void merge_OrderByTimestampWithPrefix() {
+        podsLogMerger = new PodsLogMerger(restTemplateService, 4, 2, 1024, 5000, 1);
+        stubLog("/a", "2020-11-24T01:00:01Z a1\n2020-11-24T01:00:03.5Z a2\n2020-11-24T01:00:05Z a3\n");
+        stubLog("/b", "2020-11-24T01:00:02.123456789Z b1\n2020-11-24T01:00:03.25Z b2\n");
+
+        String merged = merge(false, source("web-0/nginx", "/a"), source("web-1/nginx", "/b"));
+
+        assertEquals("[web-0/nginx] a1\n[web-1/nginx] b1\n[web-1/nginx] b2\n[web-0/nginx] a2\n[web-0/nginx] a3\n", merged);
+    }
+
+    @Test
+    public void merge_BoundedLineAndQueue() {
+        podsLogMerger = new PodsLogMerger(restTemplateService, 4, 1, 16, 5000, 1);
+        StringBuilder log = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            log.append("2020-11-24T01:00:00Z line-").append(i).append("-").append("0123456789").append('\n');
+        }
+        stubLog("/a", log.toString());
+        stubLog("/b", "2020-11-24T01:00:01Z last\n");
+
+        String[] lines = merge(true, source("web-0/nginx", "/a"), source("web-1/nginx", "/b")).split("\n");
+
+        assertEquals(101, lines.length);
+        // timestamp 를 포함해 16 byte 로 잘림(truncated to 16 bytes including the timestamp)
+        assertEquals("[web-0/nginx] 2020-11-24T01:00", lines[0]);
+        assertEquals("[web-1/nginx] 2020-11-24T01:00", lines[100]);
+    }
+
+    @Test
+    public void merge_StreamFailed_WriteNoticeAndContinue() {
+        podsLogMerger = new PodsLogMerger(restTemplateService, 4, 4, 1024, 5000, 1);
+        stubLog("/a", "2020-11-24T01:00:01Z a1\n");
+        when(restTemplateService.sendForLongStream(eq(target), eq("/b"), any())).thenThrow(new IllegalStateException("forbidden"));
+
+        String merged = merge(false, source("web-0/nginx", "/a"), source("web-1/nginx", "/b"));
+
+        assertEquals("[web-1/nginx] log stream failed: forbidden\n[web-0/nginx] a1\n", merged);
+    }
+
+    @Test(timeout = 10000)
+    public void merge_FollowQuietClientClosed_HeartbeatEndsMerge() {
+        podsLogMerger = new PodsLogMerger(restTemplateService, 4, 4, 1024, 5000, 1);
+        PodsLogServiceTest.QuietInputStream quiet = new PodsLogServiceTest.QuietInputStream();
+        when(restTemplateService.sendForLongStream(eq(target), eq("/a"), any())).thenAnswer(invocation ->
+                invocation.<ResponseExtractor<Object>>getArgument(2).extractData(new MockClientHttpResponse(quiet, HttpStatus.OK)));
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        OutputStream closedClient = new OutputStream() {
+            @Override
+            public void write(int b) {
+                written.write(b);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        podsLogMerger.merge(target, Arrays.asList(source("web-0/nginx", "/a")), false, true, closedClient);
+
+        // 접두어 없는 줄을 쓰지 않음(no line without a prefix is written)
+        assertEquals(0, quiet.aborted.getCount());
+        assertEquals(0, written.size());
+    }
+
+    private String merge(boolean timestamps, PodsLogMerger.LogSource... sources) {
+        ByteArrayOutputStream client = new ByteArrayOutputStream();
+        podsLogMerger.merge(target, Arrays.asList(sources), timestamps, false, client);
+        return new String(client.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private void stubLog(String reqUrl, String log) {
+        when(restTemplateService.sendForLongStream(eq(target), eq(reqUrl), any())).thenAnswer(invocation ->
+                invocation.<ResponseExtractor<Object>>getArgument(2)
+                        .extractData(new MockClientHttpResponse(log.getBytes(StandardCharsets.UTF_8), HttpStatus.OK)));
+    }
+
+    private static PodsLogMerger.LogSource source(String prefix, String reqUrl) {
+        return new PodsLogMerger.LogSource(prefix, reqUrl);
+    }
+}
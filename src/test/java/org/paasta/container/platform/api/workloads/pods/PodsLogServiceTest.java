@@ -0,0 +1,281 @@
+package org.paasta.container.platform.api.workloads.pods;
+
+import org.apache.http.conn.ConnectionReleaseTrigger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.paasta.container.platform.api.common.Constants;
+import org.paasta.container.platform.api.common.PropertyService;
+import org.paasta.container.platform.api.common.RestTemplateService;
+import org.paasta.container.platform.api.common.UpstreamTarget;
+import org.paasta.container.platform.api.common.concurrent.StreamLimiter;
+import org.paasta.container.platform.api.common.model.CommonLabelSelector;
+import org.paasta.container.platform.api.workloads.deployments.Deployments;
+import org.paasta.container.platform.api.workloads.deployments.support.DeploymentsSpec;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.client.ResponseExtractor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(SpringRunner.class)
+@TestPropertySource("classpath:application.yml")
+public class PodsLogServiceTest {
+    private static final String NAMESPACE = "cp-namespace";
+    private static final String POD_NAME = "nginx-0";
+    private static final String LOG = "line 1\nline 2\n";
+
+    @Mock
+    RestTemplateService restTemplateService;
+
+    @Mock
+    PropertyService propertyService;
+
+    StreamLimiter streamLimiter = new StreamLimiter(1, 10);
+
+    PodsLogMerger podsLogMerger;
+
+    PodsLogService podsLogService;
+
+    UpstreamTarget target = new UpstreamTarget(Constants.TARGET_CP_MASTER_API, "https://cp-master", "Bearer token");
+
+    @Before
+    public void setUp() {
+        podsLogMerger = new PodsLogMerger(restTemplateService, 4, 4, 1024, 5000, 1);
+        podsLogService = new PodsLogService(restTemplateService, propertyService, streamLimiter, podsLogMerger, 4, 2, 1);
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user1", null));
+
+        when(propertyService.getCpMasterApiListPodsGetUrl()).thenReturn("/api/v1/namespaces/{namespace}/pods/{name}");
+        when(restTemplateService.resolveTarget(Constants.TARGET_CP_MASTER_API)).thenReturn(target);
+    }
+
+    @After
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        podsLogMerger.shutdown();
+        podsLogService.shutdown();
+    }
+
+    @Test
+    public void streamPodsLog_Follow_RelayBodyAndReleasePermit() {
+        String reqUrl = "/api/v1/namespaces/cp-namespace/pods/nginx-0/log?follow=true&container=nginx&tailLines=100&sinceSeconds=60";
+        when(restTemplateService.sendForLongStream(eq(target), eq(reqUrl), any())).thenAnswer(invocation -> {
+            assertEquals(1, streamLimiter.getOpenCount("user1"));
+            return invocation.<ResponseExtractor<Object>>getArgument(2)
+                    .extractData(new MockClientHttpResponse(LOG.getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+        });
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Object result = podsLogService.streamPodsLog(NAMESPACE, POD_NAME, "nginx", true, 100, 60, false, response);
+
+        assertNull(result);
+        assertEquals(LOG, new String(response.getContentAsByteArray(), StandardCharsets.UTF_8));
+        assertEquals("text/plain;charset=UTF-8", response.getContentType());
+        assertEquals(0, streamLimiter.getOpenTotal());
+    }
+
+    @Test
+    public void streamPodsLog_FollowLimitReached_TooManyRequests() {
+        MockHttpServletResponse refused = new MockHttpServletResponse();
+        when(restTemplateService.sendForLongStream(eq(target), anyString(), any())).thenAnswer(invocation -> {
+            // 같은 사용자의 두 번째 follow(a second follow of the same user)
+            assertSame(Constants.TOO_MANY_REQUESTS_RESULT_STATUS,
+                    podsLogService.streamPodsLog(NAMESPACE, POD_NAME, null, true, null, null, false, refused));
+            return null;
+        });
+
+        podsLogService.streamPodsLog(NAMESPACE, POD_NAME, null, true, null, null, false, new MockHttpServletResponse());
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), refused.getStatus());
+        assertEquals(0, streamLimiter.getOpenTotal());
+    }
+
+    @Test
+    public void streamPodsLog_InvalidTailLines_BadRequest() {
+        Object result = podsLogService.streamPodsLog(NAMESPACE, POD_NAME, null, false, -1, null, false, new MockHttpServletResponse());
+
+        assertSame(Constants.BAD_REQUEST_ACCESS_RESULT_STATUS, result);
+        verify(restTemplateService, never()).sendForLongStream(any(), anyString(), any());
+    }
+
+    @Test
+    public void streamDeploymentsLog_MergePodsMatchingSelector() {
+        stubDeployment();
+        stubLog("/api/v1/namespaces/cp-namespace/pods/web-0/log?follow=false&container=nginx&timestamps=true", "2020-11-24T01:00:02Z web-0 started\n");
+        stubLog("/api/v1/namespaces/cp-namespace/pods/web-0/log?follow=false&container=sidecar&timestamps=true", "2020-11-24T01:00:03Z sidecar started\n");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Object result = podsLogService.streamDeploymentsLog(NAMESPACE, "web", null, false, null, null, false, false, response);
+
+        // 최대 2개 stream, web-1 제외(at most two streams, web-1 left out)
+        assertNull(result);
+        assertEquals("1", response.getHeader("X-Log-Streams-Omitted"));
+        assertEquals("[web-0/nginx] web-0 started\n[web-0/sidecar] sidecar started\n",
+                new String(response.getContentAsByteArray(), StandardCharsets.UTF_8));
+        assertEquals(0, streamLimiter.getOpenTotal());
+    }
+
+    @Test
+    public void streamDeploymentsLog_NoFollowTotalLimitReached_TooManyRequests() {
+        stubDeployment();
+        // 병합 stream 2개 중 1개만 남음(room for only one of the two merged streams)
+        StreamLimiter.Permit held = streamLimiter.tryAcquireTotal(9);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Object result = podsLogService.streamDeploymentsLog(NAMESPACE, "web", null, false, null, null, false, false, response);
+
+        assertSame(Constants.TOO_MANY_REQUESTS_RESULT_STATUS, result);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        verify(restTemplateService, never()).sendForLongStream(any(), anyString(), any());
+
+        held.close();
+        assertEquals(0, streamLimiter.getOpenTotal());
+    }
+
+    @Test
+    public void streamDeploymentsLog_EmptySelector_BadRequest() {
+        Deployments deployments = new Deployments();
+        deployments.setSpec(new DeploymentsSpec());
+        when(propertyService.getCpMasterApiListDeploymentsGetUrl()).thenReturn("/apis/apps/v1/namespaces/{namespace}/deployments/{name}");
+        when(restTemplateService.sendForModel(eq(Constants.TARGET_CP_MASTER_API), anyString(), eq(Deployments.class))).thenReturn(deployments);
+
+        Object result = podsLogService.streamDeploymentsLog(NAMESPACE, "web", null, false, null, null, false, false, new MockHttpServletResponse());
+
+        assertSame(Constants.BAD_REQUEST_ACCESS_RESULT_STATUS, result);
+        verify(restTemplateService, never()).sendForModel(eq(Constants.TARGET_CP_MASTER_API), anyString(), eq(PodsList.class));
+    }
+
+    @Test
+    public void copy_ClientClosed_AbortUpstream() {
+        AbortableInputStream upstream = new AbortableInputStream(LOG.getBytes(StandardCharsets.UTF_8));
+        OutputStream closedClient = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        podsLogService.copy(upstream, closedClient, true);
+
+        assertTrue(upstream.aborted);
+    }
+
+    @Test(timeout = 10000)
+    public void copy_FollowQuietClientClosed_HeartbeatAbortsUpstream() {
+        QuietInputStream upstream = new QuietInputStream();
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        OutputStream closedClient = new OutputStream() {
+            @Override
+            public void write(int b) {
+                written.write(b);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // 조용한 upstream 읽기에서 멈춘 상태를 heartbeat 가 풀어 줌(the heartbeat releases the read blocked on a quiet upstream)
+        podsLogService.copy(upstream, closedClient, true);
+
+        // 로그 본문에는 아무것도 쓰지 않음(nothing is written into the log body)
+        assertEquals(0, upstream.aborted.getCount());
+        assertEquals(0, written.size());
+    }
+
+    private void stubDeployment() {
+        CommonLabelSelector selector = new CommonLabelSelector();
+        selector.setMatchLabels(Collections.singletonMap("app", "web"));
+        DeploymentsSpec spec = new DeploymentsSpec();
+        spec.setSelector(selector);
+        Deployments deployments = new Deployments();
+        deployments.setSpec(spec);
+
+        PodsList podsList = new PodsList();
+        podsList.setItems(Arrays.asList(PodsMetricIndexTest.pod(NAMESPACE, "web-1", "nginx"),
+                PodsMetricIndexTest.pod(NAMESPACE, "web-0", "nginx", "sidecar")));
+
+        when(propertyService.getCpMasterApiListDeploymentsGetUrl()).thenReturn("/apis/apps/v1/namespaces/{namespace}/deployments/{name}");
+        when(propertyService.getCpMasterApiListPodsListUrl()).thenReturn("/api/v1/namespaces/{namespace}/pods");
+        when(restTemplateService.sendForModel(Constants.TARGET_CP_MASTER_API, "/apis/apps/v1/namespaces/cp-namespace/deployments/web", Deployments.class))
+                .thenReturn(deployments);
+        when(restTemplateService.sendForModel(Constants.TARGET_CP_MASTER_API, "/api/v1/namespaces/cp-namespace/pods?labelSelector=app%3Dweb", PodsList.class))
+                .thenReturn(podsList);
+    }
+
+    private void stubLog(String reqUrl, String log) {
+        when(restTemplateService.sendForLongStream(eq(target), eq(reqUrl), any())).thenAnswer(invocation ->
+                invocation.<ResponseExtractor<Object>>getArgument(2)
+                        .extractData(new MockClientHttpResponse(log.getBytes(StandardCharsets.UTF_8), HttpStatus.OK)));
+    }
+
+    /**
+     * 끊길 때까지 아무것도 보내지 않는 follow upstream(A follow upstream that sends nothing until it is aborted)
+     */
+    static final class QuietInputStream extends InputStream implements ConnectionReleaseTrigger {
+        final CountDownLatch aborted = new CountDownLatch(1);
+
+        @Override
+        public int read() throws IOException {
+            try {
+                aborted.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("Connection aborted");
+        }
+
+        @Override
+        public void releaseConnection() {
+        }
+
+        @Override
+        public void abortConnection() {
+            aborted.countDown();
+        }
+    }
+
+    private static final class AbortableInputStream extends ByteArrayInputStream implements ConnectionReleaseTrigger {
+        private boolean aborted;
+
+        AbortableInputStream(byte[] buf) {
+            super(buf);
+        }
+
+        @Override
+        public void releaseConnection() {
+        }
+
+        @Override
+        public void abortConnection() {
+            aborted = true;
+        }
+    }
+}
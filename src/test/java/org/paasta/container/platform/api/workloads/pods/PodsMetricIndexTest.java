@@ -0,0 +1,85 @@
+package org.paasta.container.platform.api.workloads.pods;
+
+import org.junit.Test;
+import org.paasta.container.platform.api.common.model.CommonContainer;
+import org.paasta.container.platform.api.common.model.CommonMetaData;
+import org.paasta.container.platform.api.common.model.CommonSpec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class PodsMetricIndexTest {
+
+    @Test
+    public void mergeInto_MatchNamespacePodAndContainer() {
+        Pods pod = pod("ns-a", "nginx-0", "nginx", "sidecar");
+        Pods otherNamespacePod = pod("ns-b", "nginx-0", "nginx");
+        PodsMetric podsMetric = metric(usage("ns-a", "nginx-0", "nginx", "5m", "10Mi"), usage("ns-c", "nginx-0", "nginx", "7m", "20Mi"));
+
+        PodsMetricIndex.of(podsMetric).mergeInto(Arrays.asList(pod, otherNamespacePod));
+
+        assertEquals("5m", pod.getSpec().getContainers().get(0).getResources().getUsage().get("cpu"));
+        assertEquals("10Mi", pod.getSpec().getContainers().get(0).getResources().getUsage().get("memory"));
+        assertNull(pod.getSpec().getContainers().get(1).getResources());
+        assertNull(otherNamespacePod.getSpec().getContainers().get(0).getResources());
+    }
+
+    @Test
+    public void getUsage_NoMetric_ReturnNull() {
+        PodsMetricIndex index = PodsMetricIndex.of(metric(usage("ns-a", "nginx-0", "nginx", "5m", "10Mi")));
+
+        assertEquals("5m", index.getUsage("ns-a", "nginx-0", "nginx").getCpu());
+        assertNull(index.getUsage("ns-a", "nginx-0", "sidecar"));
+        assertNull(index.getUsage("ns-a", "nginx-1", "nginx"));
+        assertNull(PodsMetricIndex.of(null).getUsage("ns-a", "nginx-0", "nginx"));
+    }
+
+    static Pods pod(String namespace, String name, String... containerNames) {
+        CommonMetaData metadata = new CommonMetaData();
+        metadata.setNamespace(namespace);
+        metadata.setName(name);
+
+        List<CommonContainer> containers = new ArrayList<>();
+        for (String containerName : containerNames) {
+            CommonContainer container = new CommonContainer();
+            container.setName(containerName);
+            containers.add(container);
+        }
+        CommonSpec spec = new CommonSpec();
+        spec.setContainers(containers);
+
+        Pods pod = new Pods();
+        pod.setMetadata(metadata);
+        pod.setSpec(spec);
+        return pod;
+    }
+
+    static PodsUsage usage(String namespace, String name, String containerName, String cpu, String memory) {
+        CommonMetaData metadata = new CommonMetaData();
+        metadata.setNamespace(namespace);
+        metadata.setName(name);
+
+        ContainerUsage containerUsage = new ContainerUsage();
+        containerUsage.setCpu(cpu);
+        containerUsage.setMemory(memory);
+        Containers containers = new Containers();
+        containers.setName(containerName);
+        containers.setUsage(containerUsage);
+
+        PodsUsage podsUsage = new PodsUsage();
+        podsUsage.setMetadata(metadata);
+        podsUsage.setContainers(Collections.singletonList(containers));
+        return podsUsage;
+    }
+
+    static PodsMetric metric(PodsUsage... podsUsages) {
+        PodsMetric podsMetric = new PodsMetric();
+        podsMetric.setItems(new ArrayList<>(Arrays.asList(podsUsages)));
+        return podsMetric;
+    }
+}
@@ -10,6 +10,7 @@ import org.paasta.container.platform.api.common.CommonService;
 import org.paasta.container.platform.api.common.Constants;
 import org.paasta.container.platform.api.common.PropertyService;
 import org.paasta.container.platform.api.common.RestTemplateService;
+import org.paasta.container.platform.api.common.cache.RefreshAheadCache;
 import org.paasta.container.platform.api.common.model.*;
 import org.paasta.container.platform.api.workloads.pods.support.ContainerStatusesItem;
 import org.paasta.container.platform.api.workloads.pods.support.PodsStatus;
@@ -18,12 +19,16 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(SpringRunner.class)
@@ -93,6 +98,9 @@ public class PodsServiceTest {
     @Mock
     PropertyService propertyService;
 
+    @Spy
+    RefreshAheadCache<String, PodsMetricIndex> podsMetricCache = new RefreshAheadCache<>("podsMetric", 10, 60, 0, Runnable::run);
+
     @Spy
     @InjectMocks
     PodsService podsService;
@@ -236,15 +244,14 @@ public class PodsServiceTest {
     public void getPodsListAdmin_Valid_ReturnModel() {
         // given
         when(propertyService.getCpMasterApiListPodsListUrl()).thenReturn("/api/v1/namespaces/{namespace}/pods");
-        when(restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API, "/api/v1/namespaces/" + NAMESPACE + "/pods", HttpMethod.GET, null, Map.class))
-                .thenReturn(gResultMap);
-        when(commonService.setResultObject(gResultMap, PodsListAdmin.class)).thenReturn(gResultListAdminModel);
-        when(commonService.resourceListProcessing(gResultListAdminModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, PodsListAdmin.class)).thenReturn(gResultListAdminModel);
+        when(commonService.setCursorParams("/api/v1/namespaces/" + NAMESPACE + "/pods", LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null, false)).thenReturn("/api/v1/namespaces/" + NAMESPACE + "/pods");
+        when(restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, "/api/v1/namespaces/" + NAMESPACE + "/pods", PodsListAdmin.class)).thenReturn(gResultListAdminModel);
+        when(commonService.resourceListProcessing(gResultListAdminModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null, false, PodsListAdmin.class)).thenReturn(gResultListAdminModel);
         when(commonService.setResultModel(gResultListAdminModel, Constants.RESULT_STATUS_SUCCESS))
                 .thenReturn(gResultListAdminModel);
 
         // when
-        PodsListAdmin resultList = (PodsListAdmin) podsService.getPodsListAdmin(NAMESPACE, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME);
+        PodsListAdmin resultList = (PodsListAdmin) podsService.getPodsListAdmin(NAMESPACE, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null);
 
         // then
         assertEquals(gResultListAdminModel, resultList);
@@ -257,8 +264,7 @@ public class PodsServiceTest {
     public void getPodListWithLabelSelector_Valid_ReturnModel() {
         // given
         when(propertyService.getCpMasterApiListPodsListUrl()).thenReturn("/api/v1/namespaces/{namespace}/pods");
-        when(restTemplateService.send(Constants.TARGET_CP_MASTER_API, "/api/v1/namespaces/" + NAMESPACE + "/pods?labelSelector=" + SELECTOR, HttpMethod.GET, null, Map.class)).thenReturn(gResultMap);
-        when(commonService.setResultObject(gResultMap, PodsList.class)).thenReturn(gResultListModel);
+        when(restTemplateService.sendForModel(Constants.TARGET_CP_MASTER_API, "/api/v1/namespaces/" + NAMESPACE + "/pods?labelSelector=" + SELECTOR, PodsList.class)).thenReturn(gResultListModel);
         when(commonService.resourceListProcessing(gResultListModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, PodsList.class)).thenReturn(gResultListModel);
         when(commonService.setResultModel(gResultListModel, Constants.RESULT_STATUS_SUCCESS)).thenReturn(gResultListModel);
     }
@@ -271,8 +277,7 @@ public class PodsServiceTest {
         String type = "replicaSets";
         // given
         when(propertyService.getCpMasterApiListPodsListUrl()).thenReturn("/api/v1/namespaces/{namespace}/pods");
-        when(restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API, "/api/v1/namespaces/" + NAMESPACE + "/pods?labelSelector=" + SELECTOR, HttpMethod.GET, null, Map.class)).thenReturn(gResultMap);
-        when(commonService.setResultObject(gResultMap, PodsListAdmin.class)).thenReturn(gResultListAdminModel);
+        when(restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, "/api/v1/namespaces/" + NAMESPACE + "/pods?labelSelector=" + SELECTOR, PodsListAdmin.class)).thenReturn(gResultListAdminModel);
         when(commonService.resourceListProcessing(gResultListAdminModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, PodsListAdmin.class)).thenReturn(gResultListAdminModel);
         when(commonService.setResultModel(gResultListAdminModel, Constants.RESULT_STATUS_SUCCESS)).
                 thenReturn(gResultListAdminModel);
@@ -294,8 +299,7 @@ public class PodsServiceTest {
         String requestURL = "/api/v1/namespaces/" + NAMESPACE + "/pods?fieldSelector=spec.nodeName=" + NODE_NAME;
 
         when(propertyService.getCpMasterApiListPodsListUrl()).thenReturn("/api/v1/namespaces/{namespace}/pods");
-        when(restTemplateService.send(Constants.TARGET_CP_MASTER_API, requestURL, HttpMethod.GET, null, Map.class)).thenReturn(gResultMap);
-        when(commonService.setResultObject(gResultMap, PodsList.class)).thenReturn(gResultListModel);
+        when(restTemplateService.sendForModel(Constants.TARGET_CP_MASTER_API, requestURL, PodsList.class)).thenReturn(gResultListModel);
         when(commonService.resourceListProcessing(gResultListModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, PodsList.class)).thenReturn(gResultListModel);
         when(commonService.setResultModel(gResultListModel, Constants.RESULT_STATUS_SUCCESS)).thenReturn(gFinalResultListModel);
     }
@@ -312,8 +316,7 @@ public class PodsServiceTest {
 
         when(propertyService.getCpMasterApiListPodsListUrl()).thenReturn("/api/v1/namespaces/{namespace}/pods");
         when(commonService.generateFieldSelectorForPodsByNode(Constants.PARAM_QUERY_FIRST, NODE_NAME)).thenReturn("?fieldSelector=spec.nodeName=" + NODE_NAME);
-        when(restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API, requestURL, HttpMethod.GET, null, Map.class)).thenReturn(gResultMap);
-        when(commonService.setResultObject(gResultMap, PodsListAdmin.class)).thenReturn(gResultListAdminModel);
+        when(restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, requestURL, PodsListAdmin.class)).thenReturn(gResultListAdminModel);
         when(commonService.resourceListProcessing(gResultListAdminModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, PodsListAdmin.class)).thenReturn(gResultListAdminModel);
         when(commonService.setResultModel(gResultListAdminModel, Constants.RESULT_STATUS_SUCCESS))
                 .thenReturn(gResultListAdminModel);
@@ -340,8 +343,7 @@ public class PodsServiceTest {
         when(propertyService.getCpMasterApiListPodsListAllNamespacesUrl()).thenReturn("/api/v1/pods");
         when(commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_NAMESPACE)).thenReturn(ignoreNamesapceQuery);
         when(commonService.generateFieldSelectorForPodsByNode(Constants.PARAM_QUERY_AND, NODE_NAME)).thenReturn(nodeNameQuery);
-        when(restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API, requestURL, HttpMethod.GET, null, Map.class)).thenReturn(gResultMap);
-        when(commonService.setResultObject(gResultMap, PodsListAdmin.class)).thenReturn(gResultListAdminModel);
+        when(restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, requestURL, PodsListAdmin.class)).thenReturn(gResultListAdminModel);
         when(commonService.resourceListProcessing(gResultListAdminModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, PodsListAdmin.class)).thenReturn(gResultListAdminModel);
         when(commonService.setResultModel(gResultListAdminModel, Constants.RESULT_STATUS_SUCCESS))
                 .thenReturn(gResultListAdminModel);
@@ -536,18 +538,16 @@ public class PodsServiceTest {
                 .thenReturn("/api/v1/pods");
         when(commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_NAMESPACE))
                 .thenReturn(FIELD_SELECTOR);
-        when(restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API, "/api/v1/pods" + FIELD_SELECTOR, HttpMethod.GET, null, Map.class))
-                .thenReturn(gResultMap);
-        when(commonService.setResultObject(gResultMap, PodsListAdmin.class))
-                .thenReturn(gResultListAdminModel);
-        when(commonService.resourceListProcessing(gResultListAdminModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, PodsListAdmin.class))
+        when(commonService.setCursorParams("/api/v1/pods" + FIELD_SELECTOR, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null, true)).thenReturn("/api/v1/pods" + FIELD_SELECTOR);
+        when(restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, "/api/v1/pods" + FIELD_SELECTOR, PodsListAdmin.class)).thenReturn(gResultListAdminModel);
+        when(commonService.resourceListProcessing(gResultListAdminModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null, true, PodsListAdmin.class))
                 .thenReturn(gResultListAdminModel);
         when(commonService.setResultModel(gResultListAdminModel, Constants.RESULT_STATUS_SUCCESS))
                 .thenReturn(gResultListAdminModel);
 
 
         // when
-        PodsListAdmin resultList = (PodsListAdmin) podsService.getPodsListAllNamespacesAdmin(OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME);
+        PodsListAdmin resultList = (PodsListAdmin) podsService.getPodsListAllNamespacesAdmin(OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null);
 
         // then
         assertEquals(gResultListAdminModel, resultList);
@@ -567,14 +567,69 @@ public class PodsServiceTest {
 
 
     @Test
-    public void getMergeMetric_Valid_ReturnModel() {
-        podsService.getMergeMetric(gResultListModel, podsMetric);
+    public void mergeInto_Valid_ReturnModel() {
+        PodsMetricIndex.of(podsMetric).mergeInto(gResultListModel.getItems());
     }
 
     @Test
     public void getPodsMetricList_Valid_ReturnModel() {
-        when(restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API, "/apis/metrics.k8s.io/v1beta1/namespaces/"+ NAMESPACE + "/pods", HttpMethod.GET, null, Map.class)).thenReturn(gResultMap);
-        when(commonService.setResultObject(gResultMap, PodsMetric.class)).thenReturn(podsMetric);
+        when(restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, "/apis/metrics.k8s.io/v1beta1/namespaces/"+ NAMESPACE + "/pods", PodsMetric.class)).thenReturn(podsMetric);
+    }
+
+    @Test
+    public void getPodsMetricList_Cached_LoadOncePerNamespace() {
+        when(restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, "/apis/metrics.k8s.io/v1beta1/namespaces/" + NAMESPACE + "/pods", PodsMetric.class))
+                .thenReturn(PodsMetricIndexTest.metric(PodsMetricIndexTest.usage(NAMESPACE, PODS_NAME, containerUsageName, "5m", "10Mi")));
+
+        PodsList first = podsList(PodsMetricIndexTest.pod(NAMESPACE, PODS_NAME, containerUsageName));
+        PodsList second = podsList(PodsMetricIndexTest.pod(NAMESPACE, PODS_NAME, containerUsageName));
+        podsService.getPodsMetricList(NAMESPACE, first);
+        podsService.getPodsMetricList(NAMESPACE, second);
+
+        assertEquals("5m", second.getItems().get(0).getSpec().getContainers().get(0).getResources().getUsage().get("cpu"));
+        verify(restTemplateService, times(1)).sendAdminForModel(Constants.TARGET_CP_MASTER_API,
+                "/apis/metrics.k8s.io/v1beta1/namespaces/" + NAMESPACE + "/pods", PodsMetric.class);
+    }
+
+    @Test
+    public void getPodsMetricList_MetricsUnavailable_NotCached() {
+        when(restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, "/apis/metrics.k8s.io/v1beta1/namespaces/" + NAMESPACE + "/pods", PodsMetric.class))
+                .thenReturn(gResultStatusModel);
+
+        PodsList result = podsService.getPodsMetricList(NAMESPACE, podsList(PodsMetricIndexTest.pod(NAMESPACE, PODS_NAME, containerUsageName)));
+        podsService.getPodsMetricList(NAMESPACE, podsList(PodsMetricIndexTest.pod(NAMESPACE, PODS_NAME, containerUsageName)));
+
+        assertNull(result.getItems().get(0).getSpec().getContainers().get(0).getResources());
+        verify(restTemplateService, times(2)).sendAdminForModel(Constants.TARGET_CP_MASTER_API,
+                "/apis/metrics.k8s.io/v1beta1/namespaces/" + NAMESPACE + "/pods", PodsMetric.class);
+    }
+
+    @Test
+    public void getPodListByNodeAndSelector_ShareCachedMetricIndex() {
+        when(propertyService.getCpMasterApiListPodsListUrl()).thenReturn("/api/v1/namespaces/{namespace}/pods");
+        when(restTemplateService.sendAdminForModel(Constants.TARGET_CP_MASTER_API, "/apis/metrics.k8s.io/v1beta1/namespaces/" + NAMESPACE + "/pods", PodsMetric.class))
+                .thenReturn(PodsMetricIndexTest.metric(PodsMetricIndexTest.usage(NAMESPACE, PODS_NAME, containerUsageName, "5m", "10Mi")));
+        PodsList nodePods = podsList(PodsMetricIndexTest.pod(NAMESPACE, PODS_NAME, containerUsageName));
+        PodsList selectorPods = podsList(PodsMetricIndexTest.pod(NAMESPACE, PODS_NAME, containerUsageName));
+        when(restTemplateService.sendForModel(Constants.TARGET_CP_MASTER_API, "/api/v1/namespaces/" + NAMESPACE + "/pods?fieldSelector=spec.nodeName=" + NODE_NAME, PodsList.class))
+                .thenReturn(nodePods);
+        when(restTemplateService.sendForModel(Constants.TARGET_CP_MASTER_API, "/api/v1/namespaces/" + NAMESPACE + "/pods?labelSelector=" + SELECTOR, PodsList.class))
+                .thenReturn(selectorPods);
+
+        podsService.getPodListByNode(NAMESPACE, NODE_NAME, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME);
+        podsService.getPodListWithLabelSelector(NAMESPACE, SELECTOR, Constants.DEPLOYMENTS_FOR_SELECTOR, OWNER_REFERENCES_UID, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME);
+
+        // Node, Deployment 화면이 namespace 의 색인 하나를 같이 사용(the node and deployment views share the namespace's index)
+        assertEquals("5m", nodePods.getItems().get(0).getSpec().getContainers().get(0).getResources().getUsage().get("cpu"));
+        assertEquals("10Mi", selectorPods.getItems().get(0).getSpec().getContainers().get(0).getResources().getUsage().get("memory"));
+        verify(restTemplateService, times(1)).sendAdminForModel(Constants.TARGET_CP_MASTER_API,
+                "/apis/metrics.k8s.io/v1beta1/namespaces/" + NAMESPACE + "/pods", PodsMetric.class);
+    }
+
+    private static PodsList podsList(Pods... pods) {
+        PodsList podsList = new PodsList();
+        podsList.setItems(new ArrayList<>(Arrays.asList(pods)));
+        return podsList;
     }
 
 
@@ -146,13 +146,14 @@ public class ReplicaSetsServiceTest {
     public void getReplicaSetsList_Valid_ReturnModel() {
         // given
         when(propertyService.getCpMasterApiListReplicaSetsListUrl()).thenReturn("/apis/apps/v1/namespaces/{namespace}/replicasets");
+        when(commonService.setCursorParams("/apis/apps/v1/namespaces/" +NAMESPACE+ "/replicasets", LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null, false)).thenReturn("/apis/apps/v1/namespaces/" +NAMESPACE+ "/replicasets");
         when(restTemplateService.send(Constants.TARGET_CP_MASTER_API, "/apis/apps/v1/namespaces/" +NAMESPACE+ "/replicasets", HttpMethod.GET, null, Map.class)).thenReturn(gResultMap);
         when(commonService.setResultObject(gResultMap, ReplicaSetsList.class)).thenReturn(gResultListModel);
-        when(commonService.resourceListProcessing(gResultListModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, ReplicaSetsList.class)).thenReturn(gResultListModel);
+        when(commonService.resourceListProcessing(gResultListModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null, false, ReplicaSetsList.class)).thenReturn(gResultListModel);
         when(commonService.setResultModel(gResultListModel, Constants.RESULT_STATUS_SUCCESS)).thenReturn(gFinalResultListModel);
 
         // when
-        ReplicaSetsList resultList = replicaSetsService.getReplicaSetsList(NAMESPACE, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME);
+        ReplicaSetsList resultList = replicaSetsService.getReplicaSetsList(NAMESPACE, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null);
 
         // then
         assertEquals(Constants.RESULT_STATUS_SUCCESS, resultList.getResultCode());
@@ -281,13 +282,14 @@ public class ReplicaSetsServiceTest {
     public void getReplicaSetsListAdmin_Valid_ReturnModel() {
         // given
         when(propertyService.getCpMasterApiListReplicaSetsListUrl()).thenReturn("/apis/apps/v1/namespaces/{namespace}/replicasets");
+        when(commonService.setCursorParams("/apis/apps/v1/namespaces/" + NAMESPACE + "/replicasets", LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null, false)).thenReturn("/apis/apps/v1/namespaces/" + NAMESPACE + "/replicasets");
         when(restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API, "/apis/apps/v1/namespaces/" + NAMESPACE + "/replicasets", HttpMethod.GET, null, Map.class)).thenReturn(gResultMap);
         when(commonService.setResultObject(gResultMap, ReplicaSetsListAdmin.class)).thenReturn(gResultListAdminModel);
-        when(commonService.resourceListProcessing(gResultListAdminModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, ReplicaSetsListAdmin.class)).thenReturn(gResultListAdminModel);
+        when(commonService.resourceListProcessing(gResultListAdminModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null, false, ReplicaSetsListAdmin.class)).thenReturn(gResultListAdminModel);
         when(commonService.setResultModel(gResultListAdminModel, Constants.RESULT_STATUS_SUCCESS)).thenReturn(gFinalResultListAdminModel);
 
         // when
-        ReplicaSetsListAdmin resultList = (ReplicaSetsListAdmin) replicaSetsService.getReplicaSetsListAdmin(NAMESPACE, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME);
+        ReplicaSetsListAdmin resultList = (ReplicaSetsListAdmin) replicaSetsService.getReplicaSetsListAdmin(NAMESPACE, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null);
 
         // then
         assertEquals(Constants.RESULT_STATUS_SUCCESS, resultList.getResultCode());
@@ -373,13 +375,14 @@ public class ReplicaSetsServiceTest {
         // given
         when(propertyService.getCpMasterApiListReplicaSetsListAllNamespacesUrl()).thenReturn("/apis/apps/v1/replicasets");
         when(commonService.generateFieldSelectorForExceptNamespace(Constants.RESOURCE_NAMESPACE)).thenReturn(FIELD_SELECTOR);
+        when(commonService.setCursorParams("/apis/apps/v1/replicasets" + FIELD_SELECTOR, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null, true)).thenReturn("/apis/apps/v1/replicasets" + FIELD_SELECTOR);
         when(restTemplateService.sendAdmin(Constants.TARGET_CP_MASTER_API, "/apis/apps/v1/replicasets" + FIELD_SELECTOR, HttpMethod.GET, null, Map.class)).thenReturn(gResultMap);
         when(commonService.setResultObject(gResultMap, ReplicaSetsListAdmin.class)).thenReturn(gResultListAdminModel);
-        when(commonService.resourceListProcessing(gResultListAdminModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, ReplicaSetsListAdmin.class)).thenReturn(gResultListAdminModel);
+        when(commonService.resourceListProcessing(gResultListAdminModel, OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null, true, ReplicaSetsListAdmin.class)).thenReturn(gResultListAdminModel);
         when(commonService.setResultModel(gResultListAdminModel, Constants.RESULT_STATUS_SUCCESS)).thenReturn(gFinalResultListAdminModel);
 
         // when
-        ReplicaSetsListAdmin resultList =  (ReplicaSetsListAdmin) replicaSetsService.getReplicaSetsListAllNamespacesAdmin(OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME);
+        ReplicaSetsListAdmin resultList =  (ReplicaSetsListAdmin) replicaSetsService.getReplicaSetsListAllNamespacesAdmin(OFFSET, LIMIT, ORDER_BY, ORDER, SEARCH_NAME, null);
 
         // then
         assertEquals(gFinalResultListAdminModel, resultList);